@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * The entry point of {@code benchmarks.jar}. It runs JMH with the given options and, unless a result format is
+ * specified, writes the results in JSON to {@code jmh-result-VERSION.json}, so results of different releases can be
+ * compared side by side.
+ *
+ * @author Dmytro Nosan
+ */
+public final class BenchmarkMain {
+
+	private BenchmarkMain() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		List<String> options = new ArrayList<>(Arrays.asList(args));
+		if (!options.contains("-rf") && !options.contains("-rff") && !options.contains("-h")
+				&& !options.contains("-l") && !options.contains("-lp")) {
+			options.addAll(List.of("-rf", "json", "-rff", "jmh-result-" + getVersion() + ".json"));
+		}
+		Main.main(options.toArray(new String[0]));
+	}
+
+	private static String getVersion() throws IOException {
+		Properties properties = new Properties();
+		try (InputStream is = BenchmarkMain.class.getResourceAsStream("/benchmarks.properties")) {
+			properties.load(is);
+		}
+		return properties.getProperty("version");
+	}
+
+}
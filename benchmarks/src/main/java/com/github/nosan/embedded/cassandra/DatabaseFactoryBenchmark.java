@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link DefaultCassandraDatabaseFactory}: loading the recorded Cassandra 4.0 {@code cassandra.yaml},
+ * merging config properties (including dotted, nested names), and writing the merged configuration.
+ *
+ * @author Dmytro Nosan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatabaseFactoryBenchmark {
+
+	@Param({"10", "100"})
+	private int properties;
+
+	private Path workingDirectory;
+
+	private DefaultCassandraDatabaseFactory factory;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.workingDirectory = Files.createTempDirectory("database-factory-benchmark");
+		Files.createDirectories(this.workingDirectory.resolve("conf"));
+		try (InputStream is = DatabaseFactoryBenchmark.class.getResourceAsStream("/cassandra.yaml")) {
+			Files.copy(is, this.workingDirectory.resolve("conf/cassandra.yaml"));
+		}
+		Map<String, Object> configProperties = new LinkedHashMap<>();
+		configProperties.put("native_transport_port", 9042);
+		configProperties.put("storage_port", 7000);
+		configProperties.put("client_encryption_options.enabled", true);
+		configProperties.put("client_encryption_options.keystore", "conf/.keystore");
+		configProperties.put("seed_provider", List.of(Map.of("class_name",
+				"org.apache.cassandra.locator.SimpleSeedProvider", "parameters", List.of(Map.of("seeds",
+						"127.0.0.1:7000")))));
+		for (int i = configProperties.size(); i < this.properties; i++) {
+			configProperties.put("custom.group_" + (i % 10) + ".property\\.with\\.dots_" + i, "value-" + i);
+		}
+		Map<String, Object> systemProperties = new LinkedHashMap<>();
+		systemProperties.put("cassandra.jmx.local.port", 7199);
+		systemProperties.put("cassandra.superuser_setup_delay_ms", 0);
+		Set<String> jvmOptions = new LinkedHashSet<>(List.of("-Xmx512m", "-Xms512m"));
+		this.factory = new DefaultCassandraDatabaseFactory("benchmark", Version.parse("4.0.1"), Map.of(),
+				configProperties, systemProperties, jvmOptions);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(this.workingDirectory)) {
+			files = paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+		}
+		for (Path file : files) {
+			Files.delete(file);
+		}
+	}
+
+	@Benchmark
+	public CassandraDatabase create() throws Exception {
+		CassandraDatabase database = this.factory.create(this.workingDirectory);
+		Files.delete(database.getConfigurationFile());
+		return database;
+	}
+
+}
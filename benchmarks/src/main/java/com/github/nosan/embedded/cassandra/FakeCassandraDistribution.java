@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+
+import com.github.nosan.embedded.cassandra.commons.FileUtils;
+
+/**
+ * Generates a stand-in for an Apache Cassandra binary distribution: {@code bin/cassandra} is a shell script which
+ * replays the recorded {@code startup.log} with configurable delays and then waits for {@code SIGINT}; {@code lib}
+ * contains dummy jars, and {@code conf} the recorded {@code cassandra.yaml}.
+ *
+ * @author Dmytro Nosan
+ */
+final class FakeCassandraDistribution {
+
+	private final Version version;
+
+	private final int jars;
+
+	private final int jarSize;
+
+	private final Duration bootDelay;
+
+	private final Duration lineDelay;
+
+	private final Duration stopDelay;
+
+	FakeCassandraDistribution(Version version, int jars, int jarSize, Duration bootDelay, Duration lineDelay,
+			Duration stopDelay) {
+		this.version = version;
+		this.jars = jars;
+		this.jarSize = jarSize;
+		this.bootDelay = bootDelay;
+		this.lineDelay = lineDelay;
+		this.stopDelay = stopDelay;
+	}
+
+	/**
+	 * Returns the name of the archive, as published by Apache.
+	 *
+	 * @return the archive name
+	 */
+	String getArchiveName() {
+		return "apache-cassandra-" + this.version + "-bin.tar.gz";
+	}
+
+	/**
+	 * Writes the distribution into {@code directory} as {@code apache-cassandra-VERSION-bin.tar.gz} together with its
+	 * {@code .sha512} checksum.
+	 *
+	 * @param directory the target directory
+	 * @return the archive
+	 * @throws IOException if an I/O error occurs
+	 */
+	Path writeArchive(Path directory) throws IOException {
+		Path home = directory.resolve("apache-cassandra-" + this.version);
+		createHome(home);
+		Path archive = directory.resolve(getArchiveName());
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(home)) {
+			files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+		try (OutputStream os = Files.newOutputStream(archive);
+				TarArchiveOutputStream tar = new TarArchiveOutputStream(new GzipCompressorOutputStream(os))) {
+			tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+			for (Path file : files) {
+				TarArchiveEntry entry = new TarArchiveEntry(file, directory.relativize(file).toString());
+				if (file.endsWith("bin/cassandra")) {
+					entry.setMode(0755);
+				}
+				tar.putArchiveEntry(entry);
+				Files.copy(file, tar);
+				tar.closeArchiveEntry();
+			}
+		}
+		FileUtils.delete(home);
+		try {
+			Files.writeString(directory.resolve(getArchiveName() + ".sha512"),
+					FileUtils.checksum(archive, "SHA-512") + " " + getArchiveName());
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+		return archive;
+	}
+
+	private void createHome(Path home) throws IOException {
+		Files.createDirectories(home.resolve("bin"));
+		Files.createDirectories(home.resolve("conf"));
+		Files.createDirectories(home.resolve("lib"));
+		Files.createDirectories(home.resolve("doc"));
+		copyResource("/cassandra.yaml", home.resolve("conf/cassandra.yaml"));
+		copyResource("/startup.log", home.resolve("conf/startup.log"));
+		Files.writeString(home.resolve("conf/logback.xml"), "<configuration/>\n");
+		Files.writeString(home.resolve("bin/cassandra"), createScript());
+		Files.writeString(home.resolve("doc/README.txt"), "Stand-in distribution generated by StartupHarness.\n");
+		Random random = new Random(42);
+		for (int i = 0; i < this.jars; i++) {
+			writeJar(home.resolve(String.format("lib/dependency-%03d.jar", i)), random);
+		}
+	}
+
+	private String createScript() {
+		return "#!/bin/sh\n"
+				+ "# Stand-in for bin/cassandra generated by StartupHarness.\n"
+				+ "trap 'sleep " + seconds(this.stopDelay) + "; exit 0' INT TERM\n"
+				+ "sleep " + seconds(this.bootDelay) + "\n"
+				+ "while IFS= read -r line; do\n"
+				+ "  echo \"$line\"\n"
+				+ (this.lineDelay.isZero() ? "" : "  sleep " + seconds(this.lineDelay) + "\n")
+				+ "done < \"$(dirname \"$0\")/../conf/startup.log\"\n"
+				+ "while :; do\n"
+				+ "  sleep 0.05\n"
+				+ "done\n";
+	}
+
+	private void writeJar(Path jar, Random random) throws IOException {
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		byte[] bytes = new byte[this.jarSize / 2 + random.nextInt(this.jarSize)];
+		random.nextBytes(bytes);
+		try (JarOutputStream os = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+			os.putNextEntry(new JarEntry("data.bin"));
+			os.write(bytes);
+			os.closeEntry();
+		}
+	}
+
+	private static void copyResource(String name, Path target) throws IOException {
+		try (InputStream is = FakeCassandraDistribution.class.getResourceAsStream(name)) {
+			Files.write(target, is.readAllBytes());
+		}
+	}
+
+	private static String seconds(Duration duration) {
+		return String.format(Locale.ENGLISH, "%.3f", duration.toMillis() / 1000.0);
+	}
+
+	@Override
+	public String toString() {
+		return "FakeCassandraDistribution{" + "version=" + this.version + ", jars=" + this.jars + ", jarSize="
+				+ this.jarSize + ", bootDelay=" + this.bootDelay + ", lineDelay=" + this.lineDelay + ", stopDelay="
+				+ this.stopDelay + '}';
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link NativeTransportParser} and {@link StartupParser} line matching over a recorded Cassandra
+ * 4.0 startup log ({@code startup.log}).
+ *
+ * @author Dmytro Nosan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogParserBenchmark {
+
+	private String[] lines;
+
+	private CassandraDatabase database;
+
+	@Setup
+	public void setUp() throws IOException {
+		try (InputStream is = LogParserBenchmark.class.getResourceAsStream("/startup.log")) {
+			this.lines = new String(is.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+		}
+		ProcessWrapper.Output output = new ProcessWrapper.Output() {
+
+			@Override
+			public void attach(Consumer<? super String> consumer) {
+			}
+
+			@Override
+			public void detach(Consumer<? super String> consumer) {
+			}
+
+		};
+		Version version = Version.parse("4.0.1");
+		Map<String, Object> configProperties = Map.of("native_transport_port", 9042);
+		this.database = (CassandraDatabase) Proxy.newProxyInstance(CassandraDatabase.class.getClassLoader(),
+				new Class<?>[]{CassandraDatabase.class}, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "getVersion":
+							return version;
+						case "getConfigProperties":
+							return configProperties;
+						case "getStdOut":
+						case "getStdErr":
+							return output;
+						default:
+							throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+
+	@Benchmark
+	public boolean nativeTransportParser() {
+		try (NativeTransportParser parser = new NativeTransportParser(this.database)) {
+			for (String line : this.lines) {
+				parser.accept(line);
+			}
+			return parser.isStarted();
+		}
+	}
+
+	@Benchmark
+	public boolean startupParser() {
+		try (StartupParser parser = new StartupParser(this.database)) {
+			for (String line : this.lines) {
+				parser.accept(line);
+			}
+			return parser.isComplete();
+		}
+	}
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.helpers.NOPLogger;
+
+import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
+import com.github.nosan.embedded.cassandra.commons.FileUtils;
+import com.github.nosan.embedded.cassandra.commons.web.JdkHttpClient;
+
+/**
+ * Measures where {@link Cassandra#start()} and {@link Cassandra#stop()} spend their time, without a real Cassandra.
+ *
+ * <p>The harness generates a {@link FakeCassandraDistribution}, serves it from a local HTTP server and runs
+ * build, start, ready and stop loops at the requested concurrency. Each lifecycle is split into phases:</p>
+ * <ul>
+ * <li>{@code download}: download and checksum verification of the archive</li>
+ * <li>{@code extract}: extraction of the archive</li>
+ * <li>{@code copy}: copying the distribution into the working directory</li>
+ * <li>{@code customize}: working directory customizers</li>
+ * <li>{@code config}: rendering {@code cassandra.yaml} and the process environment</li>
+ * <li>{@code spawn}: starting the process</li>
+ * <li>{@code ready}: waiting for the native transport and {@code Startup complete}</li>
+ * <li>{@code stop}: stopping the process</li>
+ * <li>{@code destroy}: deleting the working directory</li>
+ * </ul>
+ *
+ * <p>Options, all optional: {@code --iterations=20 --warmup=2 --concurrency=1 --version=4.0.1 --jars=100
+ * --jar-size=262144 --boot-delay=300ms --line-delay=0ms --stop-delay=0ms --warm=false}. With {@code --warm=true}
+ * all iterations share one download directory, so only the first one downloads and extracts the archive.</p>
+ *
+ * <pre>{@code
+ * java -cp target/benchmarks.jar com.github.nosan.embedded.cassandra.StartupHarness --concurrency=4
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ */
+public final class StartupHarness {
+
+	private final Map<String, String> options;
+
+	private final Version version;
+
+	private final Path directory;
+
+	private final Map<Phase, List<Long>> samples = new EnumMap<>(Phase.class);
+
+	private URI archiveUri;
+
+	private StartupHarness(Map<String, String> options) throws IOException {
+		this.options = options;
+		this.version = Version.parse(option("version", "4.0.1"));
+		this.directory = Files.createTempDirectory("startup-harness");
+		for (Phase phase : Phase.values()) {
+			this.samples.put(phase, new ArrayList<>());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = new LinkedHashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Option: '" + arg + "' must have a format --name=value");
+			}
+			options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+		}
+		StartupHarness harness = new StartupHarness(options);
+		try {
+			harness.run();
+		}
+		finally {
+			FileUtils.delete(harness.directory);
+		}
+	}
+
+	private void run() throws Exception {
+		FakeCassandraDistribution distribution = new FakeCassandraDistribution(this.version,
+				Integer.parseInt(option("jars", "100")), Integer.parseInt(option("jar-size", "262144")),
+				duration(option("boot-delay", "300ms")), duration(option("line-delay", "0ms")),
+				duration(option("stop-delay", "0ms")));
+		Path archive = distribution.writeArchive(Files.createDirectory(this.directory.resolve("www")));
+		System.out.printf("Distribution: %s (%d KB)%n", distribution, Files.size(archive) / 1024);
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			Path file = archive.resolveSibling(exchange.getRequestURI().getPath().substring(1));
+			if (!Files.isRegularFile(file)) {
+				exchange.sendResponseHeaders(404, -1);
+				exchange.close();
+				return;
+			}
+			exchange.sendResponseHeaders(200, Files.size(file));
+			try (OutputStream os = exchange.getResponseBody()) {
+				Files.copy(file, os);
+			}
+		});
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		try {
+			this.archiveUri = URI.create("http://localhost:" + server.getAddress().getPort() + "/"
+					+ distribution.getArchiveName());
+			int warmup = Integer.parseInt(option("warmup", "2"));
+			int iterations = Integer.parseInt(option("iterations", "20"));
+			int concurrency = Integer.parseInt(option("concurrency", "1"));
+			Path sharedDownloadDirectory = Boolean.parseBoolean(option("warm", "false"))
+					? Files.createDirectory(this.directory.resolve("download")) : null;
+			ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+			try {
+				execute(executor, warmup, sharedDownloadDirectory, false);
+				long start = System.nanoTime();
+				execute(executor, iterations, sharedDownloadDirectory, true);
+				Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+				report(iterations, concurrency, elapsed);
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+		finally {
+			server.stop(0);
+			((ExecutorService) server.getExecutor()).shutdownNow();
+		}
+	}
+
+	private void execute(ExecutorService executor, int iterations, Path sharedDownloadDirectory, boolean record)
+			throws Exception {
+		List<Future<Map<Phase, Long>>> futures = new ArrayList<>();
+		for (int i = 0; i < iterations; i++) {
+			int iteration = i;
+			futures.add(executor.submit(() -> runOnce(iteration, sharedDownloadDirectory)));
+		}
+		for (Future<Map<Phase, Long>> future : futures) {
+			Map<Phase, Long> sample = future.get();
+			if (record) {
+				synchronized (this.samples) {
+					sample.forEach((phase, nanos) -> this.samples.get(phase).add(nanos));
+				}
+			}
+		}
+	}
+
+	private Map<Phase, Long> runOnce(int iteration, Path sharedDownloadDirectory) throws Exception {
+		Map<Phase, Long> sample = new EnumMap<>(Phase.class);
+		Path runDirectory = Files.createTempDirectory(this.directory, "run-");
+		Path downloadDirectory = (sharedDownloadDirectory != null) ? sharedDownloadDirectory
+				: Files.createDirectory(runDirectory.resolve("download"));
+		Path workingDirectory = Files.createDirectory(runDirectory.resolve("working"));
+		LocalDirectoryProvider provider = new LocalDirectoryProvider(downloadDirectory);
+		WorkingDirectoryInitializer initializer = (directory, version) -> {
+			long start = System.nanoTime();
+			Path cassandraDirectory = provider.getDirectory(version);
+			long fetched = System.nanoTime() - start;
+			sample.put(Phase.DOWNLOAD, fetched - provider.extractNanos);
+			sample.put(Phase.EXTRACT, provider.extractNanos);
+			start = System.nanoTime();
+			DefaultWorkingDirectoryInitializer.CopyStrategy.REPLACE_EXISTING.copy(cassandraDirectory, directory);
+			sample.put(Phase.COPY, System.nanoTime() - start);
+		};
+		WorkingDirectoryCustomizer resource = WorkingDirectoryCustomizer.addResource(
+				new ClassPathResource("cassandra.yaml"), "conf/cassandra-custom.yaml");
+		WorkingDirectoryCustomizer customizer = (directory, version) -> {
+			long start = System.nanoTime();
+			resource.customize(directory, version);
+			sample.put(Phase.CUSTOMIZE, System.nanoTime() - start);
+		};
+		WorkingDirectoryDestroyer destroyer = (directory, version) -> {
+			long start = System.nanoTime();
+			WorkingDirectoryDestroyer.deleteAll().destroy(directory, version);
+			sample.put(Phase.DESTROY, System.nanoTime() - start);
+		};
+		String name = "harness-" + iteration;
+		Map<String, Object> configProperties = new LinkedHashMap<>();
+		configProperties.put("native_transport_port", 9042);
+		configProperties.put("storage_port", 7000);
+		Set<String> jvmOptions = new LinkedHashSet<>(List.of("-Xmx512m"));
+		CassandraDatabaseFactory databaseFactory = new TimedDatabaseFactory(new DefaultCassandraDatabaseFactory(
+				name, this.version, new LinkedHashMap<>(), configProperties, new LinkedHashMap<>(), jvmOptions),
+				sample);
+		Cassandra cassandra = new DefaultCassandra(name, this.version, workingDirectory, false, initializer,
+				destroyer, Duration.ofMinutes(1), Set.of(customizer), databaseFactory, NOPLogger.NOP_LOGGER);
+		try {
+			long start = System.nanoTime();
+			cassandra.start();
+			long spawned = sample.remove(Phase.READY);
+			sample.put(Phase.READY, System.nanoTime() - spawned);
+			sample.put(Phase.TOTAL_START, System.nanoTime() - start);
+		}
+		finally {
+			cassandra.stop();
+			FileUtils.delete(runDirectory);
+		}
+		return sample;
+	}
+
+	private void report(int iterations, int concurrency, Duration elapsed) {
+		System.out.printf("%nIterations: %d, concurrency: %d, elapsed: %d ms%n%n", iterations, concurrency,
+				elapsed.toMillis());
+		System.out.printf("%-12s %8s %10s %10s %10s%n", "phase", "count", "p50 ms", "p99 ms", "max ms");
+		for (Phase phase : Phase.values()) {
+			List<Long> values = new ArrayList<>(this.samples.get(phase));
+			if (values.isEmpty()) {
+				continue;
+			}
+			values.sort(null);
+			System.out.printf("%-12s %8d %10.2f %10.2f %10.2f%n", phase.toString(), values.size(),
+					percentile(values, 50), percentile(values, 99), values.get(values.size() - 1) / 1e6);
+		}
+	}
+
+	private static double percentile(List<Long> sorted, double percentile) {
+		int rank = (int) Math.ceil(percentile / 100 * sorted.size());
+		return sorted.get(Math.max(rank, 1) - 1) / 1e6;
+	}
+
+	private String option(String name, String defaultValue) {
+		return this.options.getOrDefault(name, defaultValue);
+	}
+
+	private static Duration duration(String value) {
+		if (value.endsWith("ms")) {
+			return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+		}
+		if (value.endsWith("s")) {
+			return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+		return Duration.ofMillis(Long.parseLong(value));
+	}
+
+	private enum Phase {
+
+		DOWNLOAD, EXTRACT, COPY, CUSTOMIZE, CONFIG, SPAWN, READY, STOP, DESTROY, TOTAL_START;
+
+		@Override
+		public String toString() {
+			return name().toLowerCase(Locale.ENGLISH).replace('_', '-');
+		}
+
+	}
+
+	private final class LocalDirectoryProvider extends WebCassandraDirectoryProvider {
+
+		private volatile long extractNanos;
+
+		LocalDirectoryProvider(Path downloadDirectory) {
+			super(new JdkHttpClient(), downloadDirectory);
+		}
+
+		@Override
+		protected List<CassandraPackage> getCassandraPackages(Version version) {
+			URI checksum = URI.create(StartupHarness.this.archiveUri + ".sha512");
+			String name = Path.of(StartupHarness.this.archiveUri.getPath()).getFileName().toString();
+			return List.of(new CassandraPackage(name, StartupHarness.this.archiveUri, Map.of("SHA-512", checksum)));
+		}
+
+		@Override
+		protected void extract(Path archiveFile, Path destination) throws IOException {
+			long start = System.nanoTime();
+			super.extract(archiveFile, destination);
+			this.extractNanos = System.nanoTime() - start;
+		}
+
+	}
+
+	private static final class TimedDatabaseFactory implements CassandraDatabaseFactory {
+
+		private final CassandraDatabaseFactory delegate;
+
+		private final Map<Phase, Long> sample;
+
+		TimedDatabaseFactory(CassandraDatabaseFactory delegate, Map<Phase, Long> sample) {
+			this.delegate = delegate;
+			this.sample = sample;
+		}
+
+		@Override
+		public CassandraDatabase create(Path workingDirectory) throws Exception {
+			long start = System.nanoTime();
+			CassandraDatabase database = this.delegate.create(workingDirectory);
+			this.sample.put(Phase.CONFIG, System.nanoTime() - start);
+			return (CassandraDatabase) Proxy.newProxyInstance(CassandraDatabase.class.getClassLoader(),
+					new Class<?>[]{CassandraDatabase.class}, (proxy, method, args) -> {
+						long invoked = System.nanoTime();
+						Object result;
+						try {
+							result = method.invoke(database, args);
+						}
+						catch (InvocationTargetException ex) {
+							throw ex.getCause();
+						}
+						if (method.getName().equals("start")) {
+							this.sample.put(Phase.SPAWN, System.nanoTime() - invoked);
+							// the start of the ready phase; replaced by its duration once start() returns
+							this.sample.put(Phase.READY, System.nanoTime());
+						}
+						else if (method.getName().equals("stop")) {
+							this.sample.put(Phase.STOP, System.nanoTime() - invoked);
+						}
+						return result;
+					});
+		}
+
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.nosan.embedded.cassandra.commons.FileUtils;
+import com.github.nosan.embedded.cassandra.commons.FileUtilsBenchmark;
+
+/**
+ * JMH benchmarks for the {@code tar.gz} extraction of {@link WebCassandraDirectoryProvider} over an archive shaped
+ * like a Cassandra distribution.
+ *
+ * @author Dmytro Nosan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TarExtractionBenchmark {
+
+	private final ExtractingDirectoryProvider provider = new ExtractingDirectoryProvider();
+
+	private Path directory;
+
+	private Path archive;
+
+	private Path destination;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("tar-extraction-benchmark");
+		Path tree = FileUtilsBenchmark.createTree(this.directory.resolve("apache-cassandra-4.0.1"), new Random(42));
+		this.archive = this.directory.resolve("apache-cassandra-4.0.1-bin.tar.gz");
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(tree)) {
+			files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+		try (OutputStream os = Files.newOutputStream(this.archive);
+				TarArchiveOutputStream tar = new TarArchiveOutputStream(new GzipCompressorOutputStream(os))) {
+			tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+			for (Path file : files) {
+				TarArchiveEntry entry = new TarArchiveEntry(file, this.directory.relativize(file).toString());
+				tar.putArchiveEntry(entry);
+				Files.copy(file, tar);
+				tar.closeArchiveEntry();
+			}
+		}
+		FileUtils.delete(tree);
+	}
+
+	@Setup(Level.Invocation)
+	public void createDestination() throws IOException {
+		this.destination = Files.createDirectory(this.directory.resolve("extracted"));
+	}
+
+	@TearDown(Level.Invocation)
+	public void deleteDestination() throws IOException {
+		FileUtils.delete(this.destination);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtils.delete(this.directory);
+	}
+
+	@Benchmark
+	public Path extract() throws IOException {
+		this.provider.extract(this.archive, this.destination);
+		return this.destination;
+	}
+
+	private static final class ExtractingDirectoryProvider extends WebCassandraDirectoryProvider {
+
+		@Override
+		protected void extract(Path archiveFile, Path destination) throws IOException {
+			super.extract(archiveFile, destination);
+		}
+
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.commons;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link FileUtils}: copying and deleting a directory tree shaped like a Cassandra distribution,
+ * and checksumming a large file.
+ *
+ * @author Dmytro Nosan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileUtilsBenchmark {
+
+	private Path directory;
+
+	private Path tree;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("file-utils-benchmark");
+		this.tree = createTree(this.directory.resolve("apache-cassandra"), new Random(42));
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		FileUtils.delete(this.directory);
+	}
+
+	@Benchmark
+	public boolean copyAndDelete() throws IOException {
+		Path target = this.directory.resolve("copy");
+		FileUtils.copy(this.tree, target);
+		return FileUtils.delete(target);
+	}
+
+	@Benchmark
+	public String checksum(Checksum checksum) throws IOException, NoSuchAlgorithmException {
+		return FileUtils.checksum(checksum.file, checksum.algorithm);
+	}
+
+	/**
+	 * Creates a tree similar to a Cassandra distribution: a few hundred files spread over {@code bin}, {@code conf},
+	 * {@code lib}, {@code pylib} and {@code tools}, from a few bytes to a few megabytes.
+	 *
+	 * @param root the root directory
+	 * @param random the source of file contents
+	 * @return the root directory
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static Path createTree(Path root, Random random) throws IOException {
+		String[] directories = {"bin", "conf", "lib", "lib/sigar-bin", "pylib/cqlshlib", "tools/bin", "doc"};
+		for (int i = 0; i < 350; i++) {
+			Path directory = root.resolve(directories[i % directories.length]);
+			Files.createDirectories(directory);
+			int size = (i % 50 == 0) ? 2 * 1024 * 1024 : 256 + random.nextInt(64 * 1024);
+			byte[] bytes = new byte[size];
+			random.nextBytes(bytes);
+			Files.write(directory.resolve("file-" + i), bytes);
+		}
+		return root;
+	}
+
+	/**
+	 * A 64 MB file of random bytes.
+	 */
+	@State(Scope.Benchmark)
+	public static class Checksum {
+
+		@Param({"SHA-256", "SHA-512", "MD5"})
+		private String algorithm;
+
+		private Path file;
+
+		@Setup
+		public void setUp() throws IOException {
+			this.file = Files.createTempFile("file-utils-benchmark", ".bin");
+			byte[] bytes = new byte[64 * 1024 * 1024];
+			new Random(42).nextBytes(bytes);
+			Files.write(this.file, bytes);
+		}
+
+		@TearDown
+		public void tearDown() throws IOException {
+			Files.delete(this.file);
+		}
+
+	}
+
+}
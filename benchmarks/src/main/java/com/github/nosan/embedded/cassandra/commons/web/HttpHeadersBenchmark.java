@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.commons.web;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link HttpHeaders} over a recorded set of response headers of an Apache mirror.
+ *
+ * @author Dmytro Nosan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpHeadersBenchmark {
+
+	private static final Map<String, List<String>> RESPONSE_HEADERS = Map.ofEntries(
+			Map.entry("Date", List.of("Wed, 15 Sep 2021 10:12:15 GMT")),
+			Map.entry("Server", List.of("Apache")),
+			Map.entry("Last-Modified", List.of("Mon, 30 Aug 2021 16:20:45 GMT")),
+			Map.entry("ETag", List.of("\"2a5b2c7-5cac8a5cfc0a5\"")),
+			Map.entry("Accept-Ranges", List.of("bytes")),
+			Map.entry("Content-Length", List.of("44396167")),
+			Map.entry("Cache-Control", List.of("max-age=86400", "public")),
+			Map.entry("Expires", List.of("Thu, 16 Sep 2021 10:12:15 GMT")),
+			Map.entry("Strict-Transport-Security", List.of("max-age=31536000")),
+			Map.entry("Content-Type", List.of("application/x-gzip")),
+			Map.entry("Via", List.of("1.1 varnish", "1.1 varnish")),
+			Map.entry("X-Served-By", List.of("cache-fra19121-FRA")),
+			Map.entry("X-Cache", List.of("MISS")),
+			Map.entry("Connection", List.of("keep-alive")));
+
+	private HttpHeaders headers;
+
+	@Setup
+	public void setUp() {
+		this.headers = HttpHeaders.copyOf(RESPONSE_HEADERS);
+	}
+
+	@Benchmark
+	public HttpHeaders copyOf() {
+		return HttpHeaders.copyOf(RESPONSE_HEADERS);
+	}
+
+	@Benchmark
+	public HttpHeaders add() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("Accept", "*/*");
+		headers.add("User-Agent", "Embedded-Cassandra");
+		headers.add("Accept-Encoding", "gzip");
+		headers.add("Accept-Encoding", "deflate");
+		headers.set("Range", "bytes=0-");
+		return headers;
+	}
+
+	@Benchmark
+	public Optional<String> getFirstIgnoreCase() {
+		return this.headers.getFirst("content-length");
+	}
+
+	@Benchmark
+	public boolean containsKeyIgnoreCase() {
+		return this.headers.containsKey("LAST-MODIFIED");
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.nosan.embedded.cassandra.commons.FileSystemResource;
+
+/**
+ * JMH benchmarks for sequential vs. parallel parsing of a {@link DefaultCqlDataSet} made of many files.
+ *
+ * @author Dmytro Nosan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CqlDataSetBenchmark {
+
+	@Param({"8", "48"})
+	private int scripts;
+
+	@Param({"2000"})
+	private int statements;
+
+	private Path directory;
+
+	private CqlDataSet sequential;
+
+	private CqlDataSet parallel;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("cql-data-set-benchmark");
+		String script = ParserBenchmark.createScript(this.statements);
+		CqlDataSet.Builder sequential = CqlDataSet.builder();
+		CqlDataSet.Builder parallel = CqlDataSet.builder().parallel();
+		for (int i = 0; i < this.scripts; i++) {
+			Path file = Files.writeString(this.directory.resolve("script-" + i + ".cql"), script,
+					StandardCharsets.UTF_8);
+			sequential.addResource(new FileSystemResource(file), StandardCharsets.UTF_8);
+			parallel.addResource(new FileSystemResource(file), StandardCharsets.UTF_8);
+		}
+		this.sequential = sequential.build();
+		this.parallel = parallel.build();
+	}
+
+	@Setup(Level.Invocation)
+	public void clearCache() {
+		StatementsCache.getInstance().clear();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (Stream<Path> paths = Files.walk(this.directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(files::add);
+		}
+		for (Path file : files) {
+			Files.delete(file);
+		}
+	}
+
+	@Benchmark
+	public List<String> sequential() {
+		return this.sequential.getStatements();
+	}
+
+	@Benchmark
+	public List<String> parallel() {
+		return this.parallel.getStatements();
+	}
+
+}
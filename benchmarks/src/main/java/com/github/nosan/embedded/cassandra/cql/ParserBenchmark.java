@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for {@link Parser} over large DML-heavy scripts.
+ *
+ * @author Dmytro Nosan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+	@Param({"1000", "100000"})
+	private int statements;
+
+	private String script;
+
+	@Setup
+	public void setUp() {
+		this.script = createScript(this.statements);
+	}
+
+	@Benchmark
+	public List<String> parseString() {
+		return new Parser(this.script).getStatements();
+	}
+
+	@Benchmark
+	public List<String> parseReader() {
+		return new Parser(new StringReader(this.script)).getStatements();
+	}
+
+	@Benchmark
+	public void streamReader(Blackhole blackhole) {
+		Parser parser = new Parser(new StringReader(this.script));
+		String statement;
+		while ((statement = parser.nextStatement()) != null) {
+			blackhole.consume(statement);
+		}
+	}
+
+	static String createScript(int statements) {
+		StringBuilder script = new StringBuilder(statements * 128);
+		script.append("CREATE TABLE IF NOT EXISTS test.users (id int, name text, bio text, PRIMARY KEY (id));\n");
+		for (int i = 0; i < statements; i++) {
+			if (i % 100 == 0) {
+				script.append("-- batch ").append(i / 100).append('\n');
+				script.append("/* generated\n   fixture */\n");
+			}
+			script.append("INSERT INTO test.users (id, name, bio) VALUES (").append(i)
+					.append(", 'user-").append(i).append("', 'It''s user #").append(i)
+					.append(" -- not a comment; still a literal');\n");
+		}
+		return script.toString();
+	}
+
+}
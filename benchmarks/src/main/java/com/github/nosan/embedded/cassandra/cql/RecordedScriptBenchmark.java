@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link Parser} over a recorded fixture script ({@code fixtures.cql}) with user-defined types,
+ * collections, {@code $$} strings and comments.
+ *
+ * @author Dmytro Nosan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordedScriptBenchmark {
+
+	private String script;
+
+	@Setup
+	public void setUp() throws IOException {
+		try (InputStream is = RecordedScriptBenchmark.class.getResourceAsStream("/fixtures.cql")) {
+			this.script = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@Benchmark
+	public List<String> parseString() {
+		return new Parser(this.script).getStatements();
+	}
+
+	@Benchmark
+	public List<String> parseReader() {
+		return new Parser(new StringReader(this.script)).getStatements();
+	}
+
+	@Benchmark
+	public List<String> parseUncached() {
+		StatementsCache.getInstance().clear();
+		return new StringCqlScript(this.script).getStatements();
+	}
+
+}
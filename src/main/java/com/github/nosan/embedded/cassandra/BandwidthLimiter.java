@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token-bucket limiter of download bandwidth. A single instance can be shared by any number of downloads, e.g.
+ * all {@link WebCassandraDirectoryProvider}s of a JVM, which then share its bandwidth.
+ *
+ * <p>The bucket holds up to {@code burst} bytes and is refilled with {@code bytesPerSecond} bytes per second. A
+ * download that takes more bytes than the bucket holds waits until they have been refilled; the bytes are reserved
+ * up front, so concurrent downloads are served in the order they asked.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * static final BandwidthLimiter LIMITER = BandwidthLimiter.of(2 * 1024 * 1024); // 2 MB/s for the whole JVM
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @see WebCassandraDirectoryProvider#getBandwidthLimiter()
+ * @since 5.1.0
+ */
+public final class BandwidthLimiter {
+
+	private static final BandwidthLimiter UNLIMITED = new BandwidthLimiter(Long.MAX_VALUE, Long.MAX_VALUE);
+
+	private final long bytesPerSecond;
+
+	private final long burst;
+
+	private double tokens;
+
+	private long lastRefill = System.nanoTime();
+
+	private BandwidthLimiter(long bytesPerSecond, long burst) {
+		this.bytesPerSecond = bytesPerSecond;
+		this.burst = burst;
+		this.tokens = burst;
+	}
+
+	/**
+	 * Creates a new {@link BandwidthLimiter} that allows a burst of one second's worth of bytes.
+	 *
+	 * @param bytesPerSecond the bandwidth in bytes per second
+	 * @return a new limiter
+	 * @throws IllegalArgumentException if {@code bytesPerSecond} is not positive
+	 */
+	public static BandwidthLimiter of(long bytesPerSecond) {
+		return of(bytesPerSecond, bytesPerSecond);
+	}
+
+	/**
+	 * Creates a new {@link BandwidthLimiter}.
+	 *
+	 * @param bytesPerSecond the bandwidth in bytes per second
+	 * @param burst the maximum number of bytes that may be taken at once without waiting
+	 * @return a new limiter
+	 * @throws IllegalArgumentException if {@code bytesPerSecond} or {@code burst} is not positive
+	 */
+	public static BandwidthLimiter of(long bytesPerSecond, long burst) {
+		if (bytesPerSecond <= 0) {
+			throw new IllegalArgumentException("Bytes Per Second must be positive");
+		}
+		if (burst <= 0) {
+			throw new IllegalArgumentException("Burst must be positive");
+		}
+		return new BandwidthLimiter(bytesPerSecond, burst);
+	}
+
+	/**
+	 * Returns a limiter that never waits.
+	 *
+	 * @return an unlimited limiter
+	 */
+	public static BandwidthLimiter unlimited() {
+		return UNLIMITED;
+	}
+
+	/**
+	 * Returns the bandwidth in bytes per second.
+	 *
+	 * @return the bandwidth, or {@link Long#MAX_VALUE} if unlimited
+	 */
+	public long getBytesPerSecond() {
+		return this.bytesPerSecond;
+	}
+
+	/**
+	 * Takes the given number of bytes from the bucket, waiting until they are available.
+	 *
+	 * @param bytes the number of bytes
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	public void acquire(long bytes) throws InterruptedException {
+		if (this == UNLIMITED || bytes <= 0) {
+			return;
+		}
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			this.tokens = Math.min(this.burst, this.tokens + (now - this.lastRefill) / 1_000_000_000.0
+					* this.bytesPerSecond);
+			this.lastRefill = now;
+			this.tokens -= bytes;
+			waitNanos = (this.tokens < 0) ? (long) (-this.tokens / this.bytesPerSecond * 1_000_000_000.0) : 0;
+		}
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	@Override
+	public String toString() {
+		if (this == UNLIMITED) {
+			return "BandwidthLimiter{unlimited}";
+		}
+		return "BandwidthLimiter{" + "bytesPerSecond=" + this.bytesPerSecond + ", burst=" + this.burst + '}';
+	}
+
+}
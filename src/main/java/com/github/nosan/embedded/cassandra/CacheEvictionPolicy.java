@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+/**
+ * Limits of the Cassandra distribution cache of {@link WebCassandraDirectoryProvider}. Once the cache holds more
+ * bytes or more versions than allowed, the least recently used versions are evicted.
+ *
+ * @author Dmytro Nosan
+ * @see CassandraCacheManager
+ * @since 5.1.0
+ */
+public final class CacheEvictionPolicy {
+
+	private static final CacheEvictionPolicy UNLIMITED = new CacheEvictionPolicy(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+	private final long maxBytes;
+
+	private final int maxVersions;
+
+	private CacheEvictionPolicy(long maxBytes, int maxVersions) {
+		this.maxBytes = maxBytes;
+		this.maxVersions = maxVersions;
+	}
+
+	/**
+	 * Creates a new {@link CacheEvictionPolicy}.
+	 *
+	 * @param maxBytes the maximum total size of the cached versions in bytes
+	 * @param maxVersions the maximum number of cached versions
+	 * @return a new policy
+	 * @throws IllegalArgumentException if {@code maxBytes} is negative or {@code maxVersions} is less than {@code 1}
+	 */
+	public static CacheEvictionPolicy of(long maxBytes, int maxVersions) {
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException("Max Bytes must not be negative");
+		}
+		if (maxVersions < 1) {
+			throw new IllegalArgumentException("Max Versions must be positive");
+		}
+		return new CacheEvictionPolicy(maxBytes, maxVersions);
+	}
+
+	/**
+	 * Creates a new {@link CacheEvictionPolicy} that limits the total size of the cached versions.
+	 *
+	 * @param maxBytes the maximum total size of the cached versions in bytes
+	 * @return a new policy
+	 * @throws IllegalArgumentException if {@code maxBytes} is negative
+	 */
+	public static CacheEvictionPolicy ofMaxBytes(long maxBytes) {
+		return of(maxBytes, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new {@link CacheEvictionPolicy} that limits the number of cached versions.
+	 *
+	 * @param maxVersions the maximum number of cached versions
+	 * @return a new policy
+	 * @throws IllegalArgumentException if {@code maxVersions} is less than {@code 1}
+	 */
+	public static CacheEvictionPolicy ofMaxVersions(int maxVersions) {
+		return of(Long.MAX_VALUE, maxVersions);
+	}
+
+	/**
+	 * Returns a policy that never evicts anything.
+	 *
+	 * @return an unlimited policy
+	 */
+	public static CacheEvictionPolicy unlimited() {
+		return UNLIMITED;
+	}
+
+	/**
+	 * Returns whether this policy ever evicts anything.
+	 *
+	 * @return {@code true} if this policy is unlimited
+	 */
+	public boolean isUnlimited() {
+		return this.maxBytes == Long.MAX_VALUE && this.maxVersions == Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the maximum total size of the cached versions in bytes.
+	 *
+	 * @return the maximum size
+	 */
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * Returns the maximum number of cached versions.
+	 *
+	 * @return the maximum number of versions
+	 */
+	public int getMaxVersions() {
+		return this.maxVersions;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheEvictionPolicy{" + "maxBytes=" + this.maxBytes + ", maxVersions=" + this.maxVersions + '}';
+	}
+
+}
@@ -88,6 +88,8 @@ public class CassandraBuilder {
 
 	private WorkingDirectoryInitializer workingDirectoryInitializer;
 
+	private CassandraMetrics metrics;
+
 	/**
 	 * Creates a new {@link  CassandraBuilder}.
 	 */
@@ -143,11 +145,12 @@ public class CassandraBuilder {
 				this.workingDirectoryCustomizers);
 		workingDirectoryCustomizers.removeIf(Objects::isNull);
 		Map<String, Object> configProperties = new LinkedHashMap<>(this.configProperties);
+		CassandraMetrics metrics = (this.metrics != null) ? this.metrics : CassandraMetrics.noop();
 		CassandraDatabaseFactory databaseFactory = new DefaultCassandraDatabaseFactory(name, version,
 				environmentVariables, configProperties, systemProperties, jvmOptions);
 		return new DefaultCassandra(name, version, workingDirectory.normalize().toAbsolutePath(),
 				this.registerShutdownHook, workingDirectoryInitializer, workingDirectoryDestroyer, startupTimeout,
-				workingDirectoryCustomizers, databaseFactory, logger);
+				workingDirectoryCustomizers, databaseFactory, logger, metrics);
 	}
 
 	/**
@@ -252,6 +255,22 @@ public class CassandraBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the {@link CassandraMetrics} which observe how long each phase of {@link Cassandra#start()} and
+	 * {@link Cassandra#stop()} takes and how many bytes it processes.
+	 * <p>Defaults to {@link CassandraMetrics#noop()}.
+	 *
+	 * @param metrics the metrics
+	 * @return this builder
+	 * @see InMemoryCassandraMetrics
+	 * @since 5.1.0
+	 */
+	public CassandraBuilder metrics(CassandraMetrics metrics) {
+		Objects.requireNonNull(metrics, "Metrics must not be null");
+		this.metrics = metrics;
+		return this;
+	}
+
 	/**
 	 * Sets the Cassandra configuration file path.
 	 * <p>
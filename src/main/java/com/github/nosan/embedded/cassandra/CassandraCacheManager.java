@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.commons.FileLock;
+import com.github.nosan.embedded.cassandra.commons.FileUtils;
+
+/**
+ * Manages the Cassandra distribution cache in the download directory of {@link WebCassandraDirectoryProvider}, i.e.
+ * {@code <directory>/.embedded-cassandra/<version>}.
+ *
+ * <p>Each use of a version is recorded with {@link #touch(Version)} as the modification time of a
+ * {@code .last-used} file. {@link #evict(Version...)} then removes the least recently used versions until the cache
+ * fits into its {@link CacheEvictionPolicy}. A version is only removed if the {@link FileLock} of its directory can
+ * be acquired exclusively, so versions which are being downloaded, stored or held by a
+ * {@link CassandraDirectoryProvider#acquire(Version) lease} are never removed. Versions which have not been
+ * completely downloaded are neither counted nor removed. An evicted version leaves an empty directory with its lock
+ * file behind.</p>
+ *
+ * @author Dmytro Nosan
+ * @see WebCassandraDirectoryProvider#getCacheEvictionPolicy()
+ * @since 5.1.0
+ */
+public final class CassandraCacheManager {
+
+	private static final Logger log = LoggerFactory.getLogger(CassandraCacheManager.class);
+
+	private final Path cacheDirectory;
+
+	private final CacheEvictionPolicy policy;
+
+	/**
+	 * Creates a new {@link CassandraCacheManager}.
+	 *
+	 * @param downloadDirectory the download directory (must not be {@code null})
+	 * @param policy the eviction policy (must not be {@code null})
+	 * @throws NullPointerException if {@code downloadDirectory} or {@code policy} is {@code null}
+	 */
+	public CassandraCacheManager(Path downloadDirectory, CacheEvictionPolicy policy) {
+		Objects.requireNonNull(downloadDirectory, "Download Directory must not be null");
+		Objects.requireNonNull(policy, "Policy must not be null");
+		this.cacheDirectory = downloadDirectory.resolve(".embedded-cassandra").normalize().toAbsolutePath();
+		this.policy = policy;
+	}
+
+	/**
+	 * Records that the given version has just been used.
+	 *
+	 * @param version the Cassandra version (must not be {@code null})
+	 * @throws IOException if an I/O error occurs
+	 * @throws NullPointerException if {@code version} is {@code null}
+	 */
+	public void touch(Version version) throws IOException {
+		Objects.requireNonNull(version, "Version must not be null");
+		Path versionDirectory = this.cacheDirectory.resolve(version.toString());
+		if (!Files.isDirectory(versionDirectory)) {
+			return;
+		}
+		Path lastUsedFile = versionDirectory.resolve(".last-used");
+		FileTime now = FileTime.from(Instant.now());
+		try {
+			Files.setLastModifiedTime(lastUsedFile, now);
+		}
+		catch (NoSuchFileException ex) {
+			Files.write(lastUsedFile, new byte[0]);
+		}
+	}
+
+	/**
+	 * Removes the least recently used versions until the cache fits into the policy.
+	 *
+	 * @param keep the versions which must not be removed, e.g. the one which is about to be used
+	 * @return the removed versions
+	 * @throws IOException if the cache cannot be listed
+	 */
+	public List<Version> evict(Version... keep) throws IOException {
+		Objects.requireNonNull(keep, "Keep must not be null");
+		List<Version> evicted = new ArrayList<>();
+		if (this.policy.isUnlimited() || !Files.isDirectory(this.cacheDirectory)) {
+			return evicted;
+		}
+		Set<Version> retained = Arrays.stream(keep).collect(Collectors.toSet());
+		List<Entry> entries = getEntries();
+		long totalBytes = entries.stream().mapToLong(entry -> entry.bytes).sum();
+		int count = entries.size();
+		entries.sort(Comparator.comparing((Entry entry) -> entry.lastUsed));
+		for (Entry entry : entries) {
+			if (totalBytes <= this.policy.getMaxBytes() && count <= this.policy.getMaxVersions()) {
+				break;
+			}
+			if (retained.contains(entry.version)) {
+				continue;
+			}
+			if (remove(entry)) {
+				log.info("Evicted Cassandra ''{}'' ({} bytes) from ''{}''", entry.version, entry.bytes,
+						this.cacheDirectory);
+				totalBytes -= entry.bytes;
+				count--;
+				evicted.add(entry.version);
+			}
+		}
+		return evicted;
+	}
+
+	@Override
+	public String toString() {
+		return "CassandraCacheManager{" + "cacheDirectory=" + this.cacheDirectory + ", policy=" + this.policy + '}';
+	}
+
+	private List<Entry> getEntries() throws IOException {
+		List<Entry> entries = new ArrayList<>();
+		try (Stream<Path> stream = Files.list(this.cacheDirectory)) {
+			for (Path directory : (Iterable<Path>) stream::iterator) {
+				Version version;
+				try {
+					version = Version.parse(directory.getFileName().toString());
+				}
+				catch (IllegalArgumentException ex) {
+					continue;
+				}
+				Path successFile = directory.resolve(".success");
+				if (!Files.isRegularFile(successFile)) {
+					continue;
+				}
+				Path lastUsedFile = directory.resolve(".last-used");
+				try {
+					FileTime lastUsed = Files.getLastModifiedTime(Files.exists(lastUsedFile) ? lastUsedFile
+							: successFile);
+					entries.add(new Entry(version, directory, lastUsed, size(directory)));
+				}
+				catch (IOException ex) {
+					log.debug("Cassandra ''{}'' could not be inspected", directory, ex);
+				}
+			}
+		}
+		return entries;
+	}
+
+	// Everything is deleted while the lock is held. The lock file and its directory are kept, so that processes
+	// which wait for the lock keep excluding each other.
+	private boolean remove(Entry entry) {
+		Path lockFile = entry.directory.resolve(".lock");
+		try (FileLock fileLock = FileLock.of(lockFile)) {
+			if (!fileLock.tryLock(0, TimeUnit.MILLISECONDS)) {
+				log.debug("Cassandra ''{}'' is in use and cannot be evicted", entry.directory);
+				return false;
+			}
+			Files.deleteIfExists(entry.directory.resolve(".success"));
+			try (Stream<Path> stream = Files.list(entry.directory)) {
+				for (Path path : (Iterable<Path>) stream::iterator) {
+					if (!path.equals(lockFile)) {
+						FileUtils.delete(path);
+					}
+				}
+			}
+		}
+		catch (IOException ex) {
+			log.warn("Cassandra ''{}'' could not be evicted", entry.directory, ex);
+			return false;
+		}
+		return true;
+	}
+
+	private static long size(Path directory) throws IOException {
+		long[] bytes = {0};
+		Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				bytes[0] += attrs.size();
+				return FileVisitResult.CONTINUE;
+			}
+
+		});
+		return bytes[0];
+	}
+
+	private static final class Entry {
+
+		private final Version version;
+
+		private final Path directory;
+
+		private final FileTime lastUsed;
+
+		private final long bytes;
+
+		Entry(Version version, Path directory, FileTime lastUsed, long bytes) {
+			this.version = version;
+			this.directory = directory;
+			this.lastUsed = lastUsed;
+			this.bytes = bytes;
+		}
+
+	}
+
+}
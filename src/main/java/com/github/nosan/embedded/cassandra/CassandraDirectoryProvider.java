@@ -16,8 +16,10 @@
 
 package com.github.nosan.embedded.cassandra;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Objects;
 
 /**
  * Provides the path to the Cassandra directory based on a specified version.
@@ -37,4 +39,67 @@ public interface CassandraDirectoryProvider {
 	 */
 	Path getDirectory(Version version) throws IOException;
 
+	/**
+	 * Returns the path to the Cassandra directory for the specified version and keeps the directory from being
+	 * removed, e.g. evicted from a cache, until the returned {@link Lease} is closed.
+	 * <p>The default implementation returns the directory of {@link #getDirectory(Version)} with a lease that does
+	 * not hold anything.
+	 *
+	 * @param version the Cassandra version
+	 * @return the lease of the Cassandra directory
+	 * @throws IOException if an I/O error occurs
+	 * @since 5.1.0
+	 */
+	default Lease acquire(Version version) throws IOException {
+		return new Lease(getDirectory(version), () -> {
+		});
+	}
+
+	/**
+	 * A Cassandra directory which is kept from being removed until the lease is closed.
+	 *
+	 * @since 5.1.0
+	 */
+	final class Lease implements Closeable {
+
+		private final Path directory;
+
+		private final Closeable resource;
+
+		/**
+		 * Creates a new {@link Lease}.
+		 *
+		 * @param directory the Cassandra directory (must not be {@code null})
+		 * @param resource the resource which keeps the directory, released when the lease is closed (must not be
+		 * {@code null})
+		 * @throws NullPointerException if {@code directory} or {@code resource} is {@code null}
+		 */
+		public Lease(Path directory, Closeable resource) {
+			Objects.requireNonNull(directory, "Directory must not be null");
+			Objects.requireNonNull(resource, "Resource must not be null");
+			this.directory = directory;
+			this.resource = resource;
+		}
+
+		/**
+		 * Returns the Cassandra directory.
+		 *
+		 * @return the Cassandra directory
+		 */
+		public Path getDirectory() {
+			return this.directory;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.resource.close();
+		}
+
+		@Override
+		public String toString() {
+			return "Lease{" + "directory=" + this.directory + '}';
+		}
+
+	}
+
 }
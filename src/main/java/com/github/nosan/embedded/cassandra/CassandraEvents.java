@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted by the {@link Cassandra} lifecycle.
+ *
+ * <p>Events are disabled unless a recording enables them, e.g. with
+ * {@code jcmd <pid> JFR.start settings=profile}. Their names start with {@code com.github.nosan.embedded.cassandra},
+ * so that they can be correlated with GC and I/O events of the same recording. A disabled event costs no more than
+ * an allocation which is usually eliminated by the JIT compiler.</p>
+ *
+ * @author Dmytro Nosan
+ */
+final class CassandraEvents {
+
+	private static final String CATEGORY = "Embedded Cassandra";
+
+	private CassandraEvents() {
+	}
+
+	/**
+	 * {@link Cassandra#start()}.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.Start")
+	@Label("Cassandra Start")
+	@Category({CATEGORY, "Lifecycle"})
+	@StackTrace(false)
+	static final class Start extends Event {
+
+		@Label("Name")
+		String name;
+
+		@Label("Version")
+		String version;
+
+		@Label("Working Directory")
+		String workingDirectory;
+
+	}
+
+	/**
+	 * {@link Cassandra#stop()}.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.Stop")
+	@Label("Cassandra Stop")
+	@Category({CATEGORY, "Lifecycle"})
+	@StackTrace(false)
+	static final class Stop extends Event {
+
+		@Label("Name")
+		String name;
+
+		@Label("Version")
+		String version;
+
+	}
+
+	/**
+	 * Rendering {@code cassandra.yaml}, system properties and environment variables.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.Configure")
+	@Label("Cassandra Configure")
+	@Category({CATEGORY, "Lifecycle"})
+	@StackTrace(false)
+	static final class Configure extends Event {
+
+		@Label("Name")
+		String name;
+
+		@Label("Version")
+		String version;
+
+	}
+
+	/**
+	 * Spawning the Cassandra process.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.Spawn")
+	@Label("Cassandra Spawn")
+	@Category({CATEGORY, "Process"})
+	@StackTrace(false)
+	static final class Spawn extends Event {
+
+		@Label("Name")
+		String name;
+
+		@Label("Version")
+		String version;
+
+		@Label("Command")
+		String command;
+
+		@Label("Process Id")
+		long pid;
+
+	}
+
+	/**
+	 * Waiting for Cassandra to become ready.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.Ready")
+	@Label("Cassandra Ready")
+	@Description("Waiting for the native transport and the startup to complete")
+	@Category({CATEGORY, "Process"})
+	@StackTrace(false)
+	static final class Ready extends Event {
+
+		@Label("Name")
+		String name;
+
+		@Label("Version")
+		String version;
+
+		@Label("Port")
+		int port;
+
+		@Label("Ready")
+		boolean ready;
+
+	}
+
+	/**
+	 * Stopping the Cassandra process.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.ProcessStop")
+	@Label("Cassandra Process Stop")
+	@Category({CATEGORY, "Process"})
+	@StackTrace(false)
+	static final class ProcessStop extends Event {
+
+		@Label("Name")
+		String name;
+
+		@Label("Version")
+		String version;
+
+		@Label("Process Id")
+		long pid;
+
+		@Label("Forced")
+		@Description("Whether the process had to be killed with SIGKILL or destroyed")
+		boolean forced;
+
+	}
+
+	/**
+	 * Downloading a Cassandra archive.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.Download")
+	@Label("Cassandra Download")
+	@Category({CATEGORY, "Distribution"})
+	@StackTrace(false)
+	static final class Download extends Event {
+
+		@Label("Version")
+		String version;
+
+		@Label("URI")
+		String uri;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+	}
+
+	/**
+	 * Verifying the checksums of a downloaded archive.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.Verify")
+	@Label("Cassandra Checksum Verification")
+	@Category({CATEGORY, "Distribution"})
+	@StackTrace(false)
+	static final class Verify extends Event {
+
+		@Label("Version")
+		String version;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+	}
+
+	/**
+	 * Extracting a downloaded archive.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.Extract")
+	@Label("Cassandra Extract")
+	@Category({CATEGORY, "Distribution"})
+	@StackTrace(false)
+	static final class Extract extends Event {
+
+		@Label("Version")
+		String version;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+		@Label("Files")
+		long fileCount;
+
+	}
+
+}
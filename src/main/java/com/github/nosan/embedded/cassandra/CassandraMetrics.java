@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+
+/**
+ * A callback interface to observe the lifecycle of a {@link Cassandra} instance: how long each {@link Phase} takes
+ * and how many bytes it processes.
+ *
+ * <p>Events are emitted by {@link Cassandra#start()} and {@link Cassandra#stop()}, and, while these are running, by
+ * {@link WebCassandraDirectoryProvider} (download, checksum verification, extraction) and
+ * {@link DefaultWorkingDirectoryInitializer} (copying). Implementations must be thread-safe, as several instances
+ * may be started concurrently.</p>
+ *
+ * <p>By default, {@link #noop()} is used, and no timing or counting takes place.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * InMemoryCassandraMetrics metrics = new InMemoryCassandraMetrics();
+ * Cassandra cassandra = new CassandraBuilder().metrics(metrics).build();
+ * cassandra.start();
+ * Duration download = metrics.getTotalTime(CassandraMetrics.Phase.DOWNLOAD);
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @see InMemoryCassandraMetrics
+ * @see CassandraBuilder#metrics(CassandraMetrics)
+ * @since 5.1.0
+ */
+public interface CassandraMetrics {
+
+	/**
+	 * Returns metrics that ignore all events.
+	 *
+	 * @return the no-op metrics
+	 */
+	static CassandraMetrics noop() {
+		return NoopCassandraMetrics.INSTANCE;
+	}
+
+	/**
+	 * Records the duration of a phase.
+	 *
+	 * @param phase the phase
+	 * @param duration the duration of the phase
+	 */
+	void recordTime(Phase phase, Duration duration);
+
+	/**
+	 * Records the number of bytes processed by a phase, e.g. downloaded, extracted or copied.
+	 *
+	 * @param phase the phase
+	 * @param bytes the number of bytes
+	 */
+	void recordBytes(Phase phase, long bytes);
+
+	/**
+	 * The lifecycle phases.
+	 */
+	enum Phase {
+
+		/**
+		 * Initializing the working directory: {@link WorkingDirectoryInitializer},
+		 * {@link WorkingDirectoryCustomizer}s and the configuration.
+		 */
+		INIT,
+
+		/**
+		 * Downloading a Cassandra archive.
+		 */
+		DOWNLOAD,
+
+		/**
+		 * Verifying the checksum of a downloaded archive.
+		 */
+		VERIFY,
+
+		/**
+		 * Extracting a downloaded archive.
+		 */
+		EXTRACT,
+
+		/**
+		 * Copying Cassandra into the working directory.
+		 */
+		COPY,
+
+		/**
+		 * Running {@link WorkingDirectoryCustomizer}s.
+		 */
+		CUSTOMIZE,
+
+		/**
+		 * Rendering {@code cassandra.yaml}, system properties and environment variables.
+		 */
+		CONFIGURE,
+
+		/**
+		 * Starting the Cassandra process.
+		 */
+		START,
+
+		/**
+		 * Waiting for Cassandra to become ready.
+		 */
+		AWAIT,
+
+		/**
+		 * Stopping the Cassandra process.
+		 */
+		STOP,
+
+		/**
+		 * Running the {@link WorkingDirectoryDestroyer}.
+		 */
+		DESTROY
+
+	}
+
+}
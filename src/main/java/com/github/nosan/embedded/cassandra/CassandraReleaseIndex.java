@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.commons.StreamUtils;
+import com.github.nosan.embedded.cassandra.commons.web.HttpClient;
+import com.github.nosan.embedded.cassandra.commons.web.HttpHeaders;
+import com.github.nosan.embedded.cassandra.commons.web.HttpRequest;
+import com.github.nosan.embedded.cassandra.commons.web.HttpResponse;
+
+/**
+ * An index of the released Cassandra versions, scraped from the directory listing of a mirror and used to resolve
+ * {@link VersionRange version ranges} such as {@code 4.1.x} to concrete versions.
+ *
+ * <p>The index is cached in a small properties file. Within the time-to-live the cached index is used without any
+ * request; after that it is revalidated with a conditional request ({@code If-None-Match} and
+ * {@code If-Modified-Since}), so an unchanged listing is not downloaded again. If the listing cannot be fetched, a
+ * stale cached index is used, so resolution also works offline once the index has been cached.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * CassandraReleaseIndex releaseIndex = new CassandraReleaseIndex(new JdkHttpClient(),
+ *         Paths.get(System.getProperty("user.home")));
+ * Version version = releaseIndex.resolve("4.1.x");
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public class CassandraReleaseIndex {
+
+	/**
+	 * The default listing: {@code archive.apache.org}, which keeps all versions.
+	 */
+	public static final URI DEFAULT_LISTING_URI = URI.create("https://archive.apache.org/dist/cassandra/");
+
+	/**
+	 * The default time-to-live of the cached index.
+	 */
+	public static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+	private static final Logger log = LoggerFactory.getLogger(CassandraReleaseIndex.class);
+
+	private static final Pattern HREF_PATTERN = Pattern.compile("href=\"(?:[^\"]*/)?([0-9]+\\.[0-9]+[^/\"]*)/\"");
+
+	private static final String VERSIONS = "versions";
+
+	private static final String FETCHED_AT = "fetched-at";
+
+	private static final String ETAG = "etag";
+
+	private static final String LAST_MODIFIED = "last-modified";
+
+	private final HttpClient httpClient;
+
+	private final PropertiesFile cacheFile;
+
+	private final URI listingUri;
+
+	private final Duration ttl;
+
+	/**
+	 * Creates a new {@link CassandraReleaseIndex} with {@link #DEFAULT_LISTING_URI} and {@link #DEFAULT_TTL}, cached
+	 * in {@code .embedded-cassandra/releases.properties} of the given download directory.
+	 *
+	 * @param httpClient the HTTP client to use (must not be {@code null})
+	 * @param downloadDirectory the download directory (must not be {@code null})
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public CassandraReleaseIndex(HttpClient httpClient, Path downloadDirectory) {
+		this(httpClient, Objects.requireNonNull(downloadDirectory, "Download Directory must not be null")
+				.resolve(".embedded-cassandra").resolve("releases.properties"), DEFAULT_LISTING_URI, DEFAULT_TTL);
+	}
+
+	/**
+	 * Creates a new {@link CassandraReleaseIndex}.
+	 *
+	 * @param httpClient the HTTP client to use (must not be {@code null})
+	 * @param cacheFile the file to cache the index in (must not be {@code null})
+	 * @param listingUri the URI of the directory listing with one sub-directory per version (must not be
+	 * {@code null})
+	 * @param ttl how long the cached index is used without revalidation (must not be {@code null})
+	 * @throws NullPointerException if any argument is {@code null}
+	 * @throws IllegalArgumentException if {@code ttl} is negative
+	 */
+	public CassandraReleaseIndex(HttpClient httpClient, Path cacheFile, URI listingUri, Duration ttl) {
+		Objects.requireNonNull(httpClient, "HTTP Client must not be null");
+		Objects.requireNonNull(cacheFile, "Cache File must not be null");
+		Objects.requireNonNull(listingUri, "Listing URI must not be null");
+		Objects.requireNonNull(ttl, "TTL must not be null");
+		if (ttl.isNegative()) {
+			throw new IllegalArgumentException("TTL must not be negative");
+		}
+		this.httpClient = httpClient;
+		this.cacheFile = new PropertiesFile(cacheFile, "release index");
+		this.listingUri = listingUri;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Resolves the given version or version range. A concrete version is returned as is, without consulting the
+	 * index.
+	 *
+	 * @param version a version, e.g. {@code 4.1.5}, or a version range, e.g. {@code 4.1.x} (must not be
+	 * {@code null})
+	 * @return the resolved version
+	 * @throws NullPointerException if {@code version} is {@code null}
+	 * @throws IllegalArgumentException if {@code version} is neither a version nor a version range
+	 * @throws IllegalStateException if no released version is contained in the range
+	 * @throws IOException if the index is not cached and cannot be fetched
+	 * @see VersionRange
+	 */
+	public Version resolve(String version) throws IOException {
+		Objects.requireNonNull(version, "Version must not be null");
+		if (VersionRange.isRange(version)) {
+			return resolve(VersionRange.parse(version));
+		}
+		return Version.parse(version);
+	}
+
+	/**
+	 * Resolves the given version range to the highest released version it contains.
+	 *
+	 * @param range the version range (must not be {@code null})
+	 * @return the resolved version
+	 * @throws NullPointerException if {@code range} is {@code null}
+	 * @throws IllegalStateException if no released version is contained in the range
+	 * @throws IOException if the index is not cached and cannot be fetched
+	 */
+	public Version resolve(VersionRange range) throws IOException {
+		Objects.requireNonNull(range, "Version Range must not be null");
+		List<Version> versions = getVersions();
+		Version version = range.select(versions).orElseThrow(() -> new IllegalStateException(
+				"No released Cassandra version matches '" + range + "'. Released versions: " + versions));
+		log.debug("Resolved Cassandra version range ''{}'' to ''{}''", range, version);
+		return version;
+	}
+
+	/**
+	 * Gets the released versions, in ascending order.
+	 *
+	 * @return the released versions
+	 * @throws IOException if the index is not cached and cannot be fetched
+	 */
+	public synchronized List<Version> getVersions() throws IOException {
+		Properties cache = this.cacheFile.load();
+		List<Version> cached = parseVersions(cache.getProperty(VERSIONS, ""));
+		long now = System.currentTimeMillis();
+		if (!cached.isEmpty() && now - PropertiesFile.getLong(cache, FETCHED_AT) < this.ttl.toMillis()) {
+			return cached;
+		}
+		HttpHeaders headers = new HttpHeaders();
+		if (!cached.isEmpty()) {
+			String etag = cache.getProperty(ETAG);
+			if (etag != null) {
+				headers.set("If-None-Match", etag);
+			}
+			String lastModified = cache.getProperty(LAST_MODIFIED);
+			if (lastModified != null) {
+				headers.set("If-Modified-Since", lastModified);
+			}
+		}
+		try (HttpResponse response = this.httpClient.send(new HttpRequest(this.listingUri, "GET", headers))) {
+			if (response.getStatus() == 304 && !cached.isEmpty()) {
+				cache.setProperty(FETCHED_AT, Long.toString(now));
+				this.cacheFile.save(cache);
+				return cached;
+			}
+			if (response.getStatus() != 200) {
+				throw new IOException(String.format("Could not fetch the Cassandra release index. Error: %s",
+						response));
+			}
+			String listing;
+			try (InputStream is = response.getInputStream()) {
+				listing = StreamUtils.toString(is, StandardCharsets.UTF_8);
+			}
+			List<Version> versions = parseListing(listing);
+			if (versions.isEmpty()) {
+				throw new IOException("No Cassandra versions found in the listing: '" + this.listingUri + "'");
+			}
+			Properties index = new Properties();
+			index.setProperty(VERSIONS, join(versions));
+			index.setProperty(FETCHED_AT, Long.toString(now));
+			response.getHeaders().getFirst("ETag").ifPresent(etag -> index.setProperty(ETAG, etag));
+			response.getHeaders().getFirst("Last-Modified")
+					.ifPresent(lastModified -> index.setProperty(LAST_MODIFIED, lastModified));
+			this.cacheFile.save(index);
+			return versions;
+		}
+		catch (IOException ex) {
+			if (cached.isEmpty()) {
+				throw ex;
+			}
+			log.warn("Could not refresh the Cassandra release index from ''{}'', using the cached one. Error: {}",
+					this.listingUri, ex.toString());
+			return cached;
+		}
+	}
+
+	static List<Version> parseListing(String listing) {
+		TreeSet<Version> versions = new TreeSet<>();
+		Matcher matcher = HREF_PATTERN.matcher(listing);
+		while (matcher.find()) {
+			try {
+				versions.add(Version.parse(matcher.group(1)));
+			}
+			catch (IllegalArgumentException ex) {
+				// not a version directory
+			}
+		}
+		return Collections.unmodifiableList(new ArrayList<>(versions));
+	}
+
+	private static List<Version> parseVersions(String versions) {
+		TreeSet<Version> result = new TreeSet<>();
+		for (String version : versions.split(",")) {
+			if (!version.trim().isEmpty()) {
+				try {
+					result.add(Version.parse(version));
+				}
+				catch (IllegalArgumentException ex) {
+					// ignore a corrupt entry
+				}
+			}
+		}
+		return Collections.unmodifiableList(new ArrayList<>(result));
+	}
+
+	private static String join(List<Version> versions) {
+		StringBuilder builder = new StringBuilder();
+		for (Version version : versions) {
+			if (builder.length() > 0) {
+				builder.append(',');
+			}
+			builder.append(version);
+		}
+		return builder.toString();
+	}
+
+}
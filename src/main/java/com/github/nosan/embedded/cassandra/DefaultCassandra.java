@@ -60,6 +60,8 @@ class DefaultCassandra implements Cassandra {
 
 	private final Logger logger;
 
+	private final CassandraMetrics metrics;
+
 	private volatile boolean started = false;
 
 	private volatile boolean running = false;
@@ -75,6 +77,16 @@ class DefaultCassandra implements Cassandra {
 			WorkingDirectoryDestroyer workingDirectoryDestroyer, Duration startupTimeout,
 			Set<WorkingDirectoryCustomizer> workingDirectoryCustomizers,
 			CassandraDatabaseFactory databaseFactory, Logger logger) {
+		this(name, version, workingDirectory, registerShutdownHook, workingDirectoryInitializer,
+				workingDirectoryDestroyer, startupTimeout, workingDirectoryCustomizers, databaseFactory, logger,
+				CassandraMetrics.noop());
+	}
+
+	DefaultCassandra(String name, Version version, Path workingDirectory, boolean registerShutdownHook,
+			WorkingDirectoryInitializer workingDirectoryInitializer,
+			WorkingDirectoryDestroyer workingDirectoryDestroyer, Duration startupTimeout,
+			Set<WorkingDirectoryCustomizer> workingDirectoryCustomizers,
+			CassandraDatabaseFactory databaseFactory, Logger logger, CassandraMetrics metrics) {
 		this.name = name;
 		this.version = version;
 		this.startupTimeout = startupTimeout;
@@ -85,6 +97,7 @@ class DefaultCassandra implements Cassandra {
 		this.databaseFactory = databaseFactory;
 		this.workingDirectoryCustomizers = Collections.unmodifiableSet(workingDirectoryCustomizers);
 		this.logger = logger;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -95,11 +108,19 @@ class DefaultCassandra implements Cassandra {
 		this.settings = null;
 		this.running = false;
 		this.database = null;
+		CassandraEvents.Start event = new CassandraEvents.Start();
+		event.begin();
 		init();
 		doStart();
 		await();
 		//if a database was stopped outside this class.
 		this.database.onExit().thenRun(this::doStop);
+		if (event.shouldCommit()) {
+			event.name = this.name;
+			event.version = this.version.toString();
+			event.workingDirectory = this.workingDirectory.toString();
+			event.commit();
+		}
 	}
 
 	@Override
@@ -107,7 +128,14 @@ class DefaultCassandra implements Cassandra {
 		if (!this.started) {
 			return;
 		}
+		CassandraEvents.Stop event = new CassandraEvents.Stop();
+		event.begin();
 		doStop();
+		if (event.shouldCommit()) {
+			event.name = this.name;
+			event.version = this.version.toString();
+			event.commit();
+		}
 	}
 
 	@Override
@@ -147,19 +175,40 @@ class DefaultCassandra implements Cassandra {
 
 	private void init() {
 		Version version = this.version;
+		CassandraMetrics metrics = this.metrics;
+		boolean enabled = MetricsContext.isEnabled(metrics);
+		CassandraMetrics previous = (enabled) ? MetricsContext.set(metrics) : null;
+		long start = System.nanoTime();
 		try {
 			Files.createDirectories(this.workingDirectory);
 			this.workingDirectoryInitializer.init(this.workingDirectory, version);
+			long customize = System.nanoTime();
 			for (WorkingDirectoryCustomizer workingDirectoryCustomizer : this.workingDirectoryCustomizers) {
 				workingDirectoryCustomizer.customize(this.workingDirectory, version);
 			}
+			MetricsContext.recordTime(metrics, CassandraMetrics.Phase.CUSTOMIZE, customize);
+			long configure = System.nanoTime();
+			CassandraEvents.Configure event = new CassandraEvents.Configure();
+			event.begin();
 			this.database = this.databaseFactory.create(this.workingDirectory);
+			MetricsContext.recordTime(metrics, CassandraMetrics.Phase.CONFIGURE, configure);
+			if (event.shouldCommit()) {
+				event.name = this.name;
+				event.version = version.toString();
+				event.commit();
+			}
 		}
 		catch (Exception ex) {
 			destroyWorkingDirectory();
 			throw new CassandraException(
 					String.format("Unable to initialize %s. Caused by: %s", this, ex), ex);
 		}
+		finally {
+			MetricsContext.recordTime(metrics, CassandraMetrics.Phase.INIT, start);
+			if (enabled) {
+				MetricsContext.restore(previous);
+			}
+		}
 	}
 
 	private void doStart() {
@@ -167,7 +216,9 @@ class DefaultCassandra implements Cassandra {
 			try {
 				this.started = true;
 				addShutdownHook();
+				long start = System.nanoTime();
 				this.database.start();
+				MetricsContext.recordTime(this.metrics, CassandraMetrics.Phase.START, start);
 			}
 			catch (Exception ex) {
 				try {
@@ -190,7 +241,9 @@ class DefaultCassandra implements Cassandra {
 			CassandraDatabase database = this.database;
 			if (database != null) {
 				try {
+					long start = System.nanoTime();
 					database.stop();
+					MetricsContext.recordTime(this.metrics, CassandraMetrics.Phase.STOP, start);
 				}
 				catch (Exception ex) {
 					throw new CassandraException(
@@ -210,6 +263,8 @@ class DefaultCassandra implements Cassandra {
 		Duration timeout = this.startupTimeout;
 		database.getStdOut().attach(this.logger::info);
 		database.getStdErr().attach(this.logger::error);
+		CassandraEvents.Ready event = new CassandraEvents.Ready();
+		event.begin();
 		try (OutputCollector outputCollector = new OutputCollector(database);
 				NativeTransportParser nativeTransport = new NativeTransportParser(database);
 				ErrorCollector errorCollector = new ErrorCollector(database);
@@ -240,6 +295,10 @@ class DefaultCassandra implements Cassandra {
 					database.getConfigurationFile(), database.getWorkingDirectory(), database.getJvmOptions(),
 					database.getSystemProperties(), database.getEnvironmentVariables(), database.getConfigProperties());
 			this.running = true;
+			MetricsContext.recordTime(this.metrics, CassandraMetrics.Phase.AWAIT, start);
+			event.ready = true;
+			Integer port = nativeTransport.getPort();
+			event.port = (port != null) ? port : 0;
 		}
 		catch (Exception ex) {
 			try {
@@ -254,6 +313,13 @@ class DefaultCassandra implements Cassandra {
 			throw new CassandraException(
 					String.format("Unable to await %s. Caused by: %s", this, ex), ex);
 		}
+		finally {
+			if (event.shouldCommit()) {
+				event.name = this.name;
+				event.version = this.version.toString();
+				event.commit();
+			}
+		}
 	}
 
 	private void addShutdownHook() {
@@ -279,7 +345,9 @@ class DefaultCassandra implements Cassandra {
 
 	private void destroyWorkingDirectory() {
 		try {
+			long start = System.nanoTime();
 			this.workingDirectoryDestroyer.destroy(this.workingDirectory, this.version);
+			MetricsContext.recordTime(this.metrics, CassandraMetrics.Phase.DESTROY, start);
 		}
 		catch (Exception ex) {
 			log.error("Working directory: ''{}'' could not be destroyed", this.workingDirectory, ex);
@@ -20,28 +20,26 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.BiPredicate;
 
 import com.github.nosan.embedded.cassandra.commons.FileUtils;
 
 /**
- * The default implementation of {@link WorkingDirectoryInitializer} retrieves the Cassandra directory from the
- * {@link CassandraDirectoryProvider} and copies all files from the retrieved directory into the working directory,
+ * The default implementation of {@link WorkingDirectoryInitializer} acquires the Cassandra directory from the
+ * {@link CassandraDirectoryProvider}, which keeps it while it is copied, and copies all files from the acquired
+ * directory into the working directory,
  * except for the <b>javadoc</b>, <b>doc</b>, and <b>licenses</b> directories. By default, it replaces any existing
- * files in the working directory.
+ * files in the working directory. Use {@link CopyStrategy#replaceExisting(DistributionProfile)} or
+ * {@link CopyStrategy#skipExisting(DistributionProfile)} to copy less, e.g. with
+ * {@link DistributionProfile#server()}.
  *
  * @author Dmytro Nosan
  * @since 4.0.0
  */
 public class DefaultWorkingDirectoryInitializer implements WorkingDirectoryInitializer {
 
-	private static final Set<String> SKIP_DIRECTORIES = Collections.unmodifiableSet(
-			new LinkedHashSet<>(Arrays.asList("javadoc", "doc", "licenses")));
-
 	private final CassandraDirectoryProvider cassandraDirectoryProvider;
 
 	private final CopyStrategy copyStrategy;
@@ -76,9 +74,12 @@ public class DefaultWorkingDirectoryInitializer implements WorkingDirectoryIniti
 	public final void init(Path workingDirectory, Version version) throws IOException {
 		Objects.requireNonNull(workingDirectory, "Working Directory must not be null");
 		Objects.requireNonNull(version, "Version must not be null");
-		Path cassandraDirectory = this.cassandraDirectoryProvider.getDirectory(version);
-		Objects.requireNonNull(cassandraDirectory, "Cassandra Directory must not be null");
-		this.copyStrategy.copy(cassandraDirectory, workingDirectory);
+		try (CassandraDirectoryProvider.Lease lease = this.cassandraDirectoryProvider.acquire(version)) {
+			Objects.requireNonNull(lease, "Lease must not be null");
+			long start = System.nanoTime();
+			this.copyStrategy.copy(lease.getDirectory(), workingDirectory);
+			MetricsContext.recordTime(MetricsContext.get(), CassandraMetrics.Phase.COPY, start);
+		}
 	}
 
 	/**
@@ -89,24 +90,47 @@ public class DefaultWorkingDirectoryInitializer implements WorkingDirectoryIniti
 		/**
 		 * Replaces a destination file if it exists.
 		 */
-		CopyStrategy REPLACE_EXISTING = (cassandraDirectory, workingDirectory) -> FileUtils.copy(cassandraDirectory,
-				workingDirectory, (path, attributes) -> {
-					if (attributes.isDirectory()) {
-						return !SKIP_DIRECTORIES.contains(path.getFileName().toString());
-					}
-					return true;
-				}, StandardCopyOption.REPLACE_EXISTING);
+		CopyStrategy REPLACE_EXISTING = replaceExisting(DistributionProfile.defaults());
 
 		/**
 		 * Skips copying if a destination file already exists.
 		 */
-		CopyStrategy SKIP_EXISTING = (cassandraDirectory, workingDirectory) -> FileUtils.copy(cassandraDirectory,
-				workingDirectory, (path, attributes) -> {
-					if (attributes.isDirectory()) {
-						return !SKIP_DIRECTORIES.contains(path.getFileName().toString());
-					}
-					return !Files.exists(workingDirectory.resolve(cassandraDirectory.relativize(path)));
-				});
+		CopyStrategy SKIP_EXISTING = skipExisting(DistributionProfile.defaults());
+
+		/**
+		 * Creates a strategy that copies the content kept by the given profile and replaces a destination file if it
+		 * exists.
+		 *
+		 * @param profile the distribution profile
+		 * @return a new strategy
+		 * @since 5.1.0
+		 */
+		static CopyStrategy replaceExisting(DistributionProfile profile) {
+			Objects.requireNonNull(profile, "Distribution Profile must not be null");
+			return (cassandraDirectory, workingDirectory) -> FileUtils.copy(cassandraDirectory, workingDirectory,
+					counting((path, attributes) -> profile.isIncluded(cassandraDirectory.relativize(path),
+							attributes.isDirectory())), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		/**
+		 * Creates a strategy that copies the content kept by the given profile and skips copying if a destination
+		 * file already exists.
+		 *
+		 * @param profile the distribution profile
+		 * @return a new strategy
+		 * @since 5.1.0
+		 */
+		static CopyStrategy skipExisting(DistributionProfile profile) {
+			Objects.requireNonNull(profile, "Distribution Profile must not be null");
+			return (cassandraDirectory, workingDirectory) -> FileUtils.copy(cassandraDirectory, workingDirectory,
+					counting((path, attributes) -> {
+						Path relativePath = cassandraDirectory.relativize(path);
+						if (!profile.isIncluded(relativePath, attributes.isDirectory())) {
+							return false;
+						}
+						return attributes.isDirectory() || !Files.exists(workingDirectory.resolve(relativePath));
+					}));
+		}
 
 		/**
 		 * Copies Cassandra files into the working directory.
@@ -117,6 +141,20 @@ public class DefaultWorkingDirectoryInitializer implements WorkingDirectoryIniti
 		 */
 		void copy(Path cassandraDirectory, Path workingDirectory) throws IOException;
 
+		private static BiPredicate<Path, BasicFileAttributes> counting(BiPredicate<Path, BasicFileAttributes> filter) {
+			CassandraMetrics metrics = MetricsContext.get();
+			if (!MetricsContext.isEnabled(metrics)) {
+				return filter;
+			}
+			return (path, attributes) -> {
+				boolean copy = filter.test(path, attributes);
+				if (copy && attributes.isRegularFile()) {
+					metrics.recordBytes(CassandraMetrics.Phase.COPY, attributes.size());
+				}
+				return copy;
+			};
+		}
+
 	}
 
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Declares which content of a Cassandra distribution is kept, both when an archive is extracted by
+ * {@link WebCassandraDirectoryProvider} and when a working directory is initialized by
+ * {@link DefaultWorkingDirectoryInitializer}.
+ *
+ * <p>Patterns use the {@code glob} syntax of {@link java.nio.file.FileSystem#getPathMatcher(String)}. A pattern
+ * without a {@code /} matches a file or directory name at any depth, e.g. {@code doc}; a pattern with a {@code /}
+ * matches a path relative to the Cassandra home, e.g. {@code bin/cqlsh*}. A matched directory matches its whole
+ * content. A file is kept if it does not match any exclude pattern and, unless there are no include patterns, it
+ * matches an include pattern.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * DistributionProfile profile = DistributionProfile.server().exclude("conf/*.ps1");
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public final class DistributionProfile {
+
+	private static final DistributionProfile FULL = new DistributionProfile(Collections.emptyList(),
+			Collections.emptyList());
+
+	private static final DistributionProfile DEFAULTS = new DistributionProfile(Collections.emptyList(),
+			Arrays.asList("javadoc", "doc", "licenses"));
+
+	private static final DistributionProfile SERVER = DEFAULTS.exclude("pylib", "tools", "bin/cqlsh*", "bin/*.bat",
+			"bin/*.ps1", "lib/*.zip");
+
+	private final List<String> includes;
+
+	private final List<String> excludes;
+
+	private final List<Glob> includeGlobs;
+
+	private final List<Glob> excludeGlobs;
+
+	private DistributionProfile(List<String> includes, List<String> excludes) {
+		this.includes = Collections.unmodifiableList(new ArrayList<>(includes));
+		this.excludes = Collections.unmodifiableList(new ArrayList<>(excludes));
+		this.includeGlobs = Glob.of(this.includes);
+		this.excludeGlobs = Glob.of(this.excludes);
+	}
+
+	/**
+	 * Creates a new {@link DistributionProfile}.
+	 *
+	 * @param includes the include patterns, or an empty collection to include everything (must not be {@code null})
+	 * @param excludes the exclude patterns (must not be {@code null})
+	 * @return a new profile
+	 * @throws NullPointerException if {@code includes} or {@code excludes} is {@code null}
+	 * @throws IllegalArgumentException if a pattern is invalid
+	 */
+	public static DistributionProfile of(Collection<String> includes, Collection<String> excludes) {
+		Objects.requireNonNull(includes, "Includes must not be null");
+		Objects.requireNonNull(excludes, "Excludes must not be null");
+		return new DistributionProfile(new ArrayList<>(includes), new ArrayList<>(excludes));
+	}
+
+	/**
+	 * Returns a profile that keeps the whole distribution.
+	 *
+	 * @return the full profile
+	 */
+	public static DistributionProfile full() {
+		return FULL;
+	}
+
+	/**
+	 * Returns a profile that drops the <b>javadoc</b>, <b>doc</b> and <b>licenses</b> directories.
+	 *
+	 * @return the default profile
+	 */
+	public static DistributionProfile defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Returns a profile that keeps only what is needed to run a Cassandra node: in addition to
+	 * {@link #defaults()}, it drops {@code cqlsh} with its <b>pylib</b> and bundled driver, the <b>tools</b> directory
+	 * and Windows scripts.
+	 *
+	 * @return the server profile
+	 */
+	public static DistributionProfile server() {
+		return SERVER;
+	}
+
+	/**
+	 * Returns a copy of this profile with the given include patterns added.
+	 *
+	 * @param patterns the patterns to add
+	 * @return a new profile
+	 * @throws IllegalArgumentException if a pattern is invalid
+	 */
+	public DistributionProfile include(String... patterns) {
+		List<String> includes = new ArrayList<>(this.includes);
+		includes.addAll(Arrays.asList(patterns));
+		return new DistributionProfile(includes, this.excludes);
+	}
+
+	/**
+	 * Returns a copy of this profile with the given exclude patterns added.
+	 *
+	 * @param patterns the patterns to add
+	 * @return a new profile
+	 * @throws IllegalArgumentException if a pattern is invalid
+	 */
+	public DistributionProfile exclude(String... patterns) {
+		List<String> excludes = new ArrayList<>(this.excludes);
+		excludes.addAll(Arrays.asList(patterns));
+		return new DistributionProfile(this.includes, excludes);
+	}
+
+	/**
+	 * Returns the include patterns.
+	 *
+	 * @return the include patterns, empty if everything is included
+	 */
+	public List<String> getIncludes() {
+		return this.includes;
+	}
+
+	/**
+	 * Returns the exclude patterns.
+	 *
+	 * @return the exclude patterns
+	 */
+	public List<String> getExcludes() {
+		return this.excludes;
+	}
+
+	/**
+	 * Tests whether the given path is kept by this profile. A directory is kept unless it is excluded, so that
+	 * included files inside it can be reached.
+	 *
+	 * @param path the path relative to the Cassandra home (must not be {@code null})
+	 * @param directory whether the path is a directory
+	 * @return {@code true} if the path is kept
+	 * @throws NullPointerException if {@code path} is {@code null}
+	 */
+	public boolean isIncluded(Path path, boolean directory) {
+		Objects.requireNonNull(path, "Path must not be null");
+		if (isExcluded(path)) {
+			return false;
+		}
+		return directory || this.includeGlobs.isEmpty() || matches(this.includeGlobs, path);
+	}
+
+	boolean isExcluded(Path path) {
+		return matches(this.excludeGlobs, path);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (other == null || getClass() != other.getClass()) {
+			return false;
+		}
+		DistributionProfile that = (DistributionProfile) other;
+		return this.includes.equals(that.includes) && this.excludes.equals(that.excludes);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.includes, this.excludes);
+	}
+
+	@Override
+	public String toString() {
+		return "DistributionProfile{" + "includes=" + this.includes + ", excludes=" + this.excludes + '}';
+	}
+
+	private static boolean matches(List<Glob> globs, Path path) {
+		for (int i = 0; i < path.getNameCount(); i++) {
+			Path name = path.getName(i);
+			Path prefix = path.subpath(0, i + 1);
+			for (Glob glob : globs) {
+				if (glob.matcher.matches(glob.nameOnly ? name : prefix)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static final class Glob {
+
+		private final PathMatcher matcher;
+
+		private final boolean nameOnly;
+
+		private Glob(String pattern) {
+			Objects.requireNonNull(pattern, "Pattern must not be null");
+			this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+			this.nameOnly = !pattern.contains("/");
+		}
+
+		static List<Glob> of(List<String> patterns) {
+			List<Glob> globs = new ArrayList<>(patterns.size());
+			for (String pattern : patterns) {
+				globs.add(new Glob(pattern));
+			}
+			return Collections.unmodifiableList(globs);
+		}
+
+	}
+
+}
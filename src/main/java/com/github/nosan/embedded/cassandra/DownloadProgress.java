@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A snapshot of the progress of downloading a Cassandra archive.
+ *
+ * @author Dmytro Nosan
+ * @see DownloadProgressListener
+ * @since 5.1.0
+ */
+public final class DownloadProgress {
+
+	private final URI uri;
+
+	private final long bytesRead;
+
+	private final long totalBytes;
+
+	private final Duration elapsed;
+
+	private final boolean completed;
+
+	/**
+	 * Creates a new {@link DownloadProgress}.
+	 *
+	 * @param uri the URI being downloaded (must not be {@code null})
+	 * @param bytesRead the number of bytes which have been read so far
+	 * @param totalBytes the size of the archive, or {@code -1} if it is unknown
+	 * @param elapsed the time elapsed since downloading started (must not be {@code null})
+	 * @param completed whether the download has completed
+	 * @throws NullPointerException if {@code uri} or {@code elapsed} is {@code null}
+	 */
+	public DownloadProgress(URI uri, long bytesRead, long totalBytes, Duration elapsed, boolean completed) {
+		Objects.requireNonNull(uri, "URI must not be null");
+		Objects.requireNonNull(elapsed, "Elapsed must not be null");
+		this.uri = uri;
+		this.bytesRead = bytesRead;
+		this.totalBytes = totalBytes;
+		this.elapsed = elapsed;
+		this.completed = completed;
+	}
+
+	/**
+	 * Returns the URI being downloaded.
+	 *
+	 * @return the URI
+	 */
+	public URI getUri() {
+		return this.uri;
+	}
+
+	/**
+	 * Returns the number of bytes which have been read so far.
+	 *
+	 * @return the number of bytes
+	 */
+	public long getBytesRead() {
+		return this.bytesRead;
+	}
+
+	/**
+	 * Returns the size of the archive.
+	 *
+	 * @return the size, or {@code -1} if it is unknown
+	 */
+	public long getTotalBytes() {
+		return this.totalBytes;
+	}
+
+	/**
+	 * Returns the time elapsed since downloading started.
+	 *
+	 * @return the elapsed time
+	 */
+	public Duration getElapsed() {
+		return this.elapsed;
+	}
+
+	/**
+	 * Returns the average download rate in bytes per second.
+	 *
+	 * @return the rate, or {@code 0} if no time has elapsed
+	 */
+	public double getRate() {
+		long nanos = this.elapsed.toNanos();
+		if (nanos <= 0) {
+			return 0;
+		}
+		return this.bytesRead / (nanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * Returns the estimated time until the download completes, based on the average rate.
+	 *
+	 * @return the estimated remaining time, or an empty {@link Optional} if the size of the archive is unknown or
+	 * nothing has been read yet
+	 */
+	public Optional<Duration> getEta() {
+		if (this.completed) {
+			return Optional.of(Duration.ZERO);
+		}
+		double rate = getRate();
+		if (this.totalBytes < 0 || rate <= 0) {
+			return Optional.empty();
+		}
+		return Optional.of(Duration.ofNanos((long) (Math.max(this.totalBytes - this.bytesRead, 0) / rate
+				* 1_000_000_000.0)));
+	}
+
+	/**
+	 * Returns whether the download has completed.
+	 *
+	 * @return {@code true} if the download has completed
+	 */
+	public boolean isCompleted() {
+		return this.completed;
+	}
+
+	@Override
+	public String toString() {
+		return "DownloadProgress{" + "uri=" + this.uri + ", bytesRead=" + this.bytesRead + ", totalBytes="
+				+ this.totalBytes + ", elapsed=" + this.elapsed + ", rate=" + String.format("%.0f B/s", getRate())
+				+ ", completed=" + this.completed + '}';
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+/**
+ * A listener that is notified about the progress of downloading a Cassandra archive. It is called on the
+ * downloading thread, at most once per {@link #DEFAULT_INTERVAL_MILLIS} milliseconds and once more when the download
+ * has completed, so it should return quickly.
+ *
+ * @author Dmytro Nosan
+ * @see WebCassandraDirectoryProvider#getProgressListener()
+ * @since 5.1.0
+ */
+@FunctionalInterface
+public interface DownloadProgressListener {
+
+	/**
+	 * The minimum interval between two progress notifications of a download, in milliseconds.
+	 */
+	long DEFAULT_INTERVAL_MILLIS = 250;
+
+	/**
+	 * Called when a download has progressed.
+	 *
+	 * @param progress the current progress
+	 */
+	void onProgress(DownloadProgress progress);
+
+	/**
+	 * Returns a listener that does nothing.
+	 *
+	 * @return a no-op listener
+	 */
+	static DownloadProgressListener noop() {
+		return progress -> {
+		};
+	}
+
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.FileNotFoundException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.commons.FileUtils;
+import com.github.nosan.embedded.cassandra.commons.web.HttpClient;
+import com.github.nosan.embedded.cassandra.commons.web.HttpHeaders;
+import com.github.nosan.embedded.cassandra.commons.web.HttpRequest;
+import com.github.nosan.embedded.cassandra.commons.web.HttpResponse;
+
+/**
+ * Downloads an archive from a primary URI and, if the primary download is too slow according to a
+ * {@link HedgingPolicy}, races it against a download from a secondary URI. If the secondary mirror supports range
+ * requests, it only downloads the bytes the primary one has not received yet.
+ *
+ * <p>A cancelled download fails on its next write; a download that is blocked on a read ends once the read times
+ * out.</p>
+ *
+ * @author Dmytro Nosan
+ */
+final class HedgedDownload implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(HedgedDownload.class);
+
+	private final WebCassandraDirectoryProvider provider;
+
+	private final HttpClient httpClient;
+
+	private final Version version;
+
+	private final HedgingPolicy policy;
+
+	private final List<Path> files = new ArrayList<>();
+
+	private final ExecutorService executor;
+
+	private URI winner;
+
+	HedgedDownload(WebCassandraDirectoryProvider provider, HttpClient httpClient, Version version,
+			HedgingPolicy policy) {
+		this.provider = provider;
+		this.httpClient = httpClient;
+		this.version = version;
+		this.policy = policy;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(2, runnable -> {
+			Thread thread = new Thread(runnable, "download-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Downloads the archive.
+	 *
+	 * @param primary the URI to download from
+	 * @param primaryFile the file the primary download is written to via {@code primaryStream}
+	 * @param primaryStream the stream of the primary download
+	 * @param secondary the URI to hedge with
+	 * @return the file holding the archive, either {@code primaryFile} or a file that is deleted on {@link #close()}
+	 * @throws IOException if neither download succeeded
+	 */
+	Path download(URI primary, Path primaryFile, OutputStream primaryStream, URI secondary) throws IOException {
+		Transfer primaryTransfer = new Transfer(primaryStream);
+		CompletableFuture<Long> primaryDownload = CompletableFuture.supplyAsync(() -> {
+			try {
+				this.provider.download(this.httpClient, this.version, primary, primaryTransfer);
+				return 0L;
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}, this.executor);
+		long windowNanos = this.policy.getWindow().toNanos();
+		long minBytes = (long) (this.policy.getMinThroughput() * (windowNanos / 1_000_000_000.0));
+		long lastBytes = 0;
+		while (true) {
+			try {
+				primaryDownload.get(windowNanos, TimeUnit.NANOSECONDS);
+				this.winner = primary;
+				return primaryFile;
+			}
+			catch (TimeoutException ex) {
+				long bytes = primaryTransfer.bytes.get();
+				if (bytes - lastBytes < minBytes) {
+					break;
+				}
+				lastBytes = bytes;
+			}
+			catch (ExecutionException ex) {
+				throw unwrap(ex);
+			}
+			catch (InterruptedException ex) {
+				primaryTransfer.cancel();
+				throw interrupted(ex);
+			}
+		}
+		long offset = primaryTransfer.bytes.get();
+		log.warn("Downloading from ''{}'' is slower than {} B/s, hedging with ''{}'' from byte {}", primary,
+				this.policy.getMinThroughput(), secondary, offset);
+		Path secondaryFile = createFile(primaryFile);
+		OutputStream secondaryStream = Files.newOutputStream(secondaryFile, StandardOpenOption.WRITE);
+		Transfer secondaryTransfer = new Transfer(secondaryStream);
+		CompletableFuture<Long> secondaryDownload = CompletableFuture.supplyAsync(() -> {
+			try (secondaryStream) {
+				return download(secondary, offset, secondaryTransfer);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}, this.executor);
+		CompletableFuture<Long> first;
+		try {
+			first = firstSuccessful(primaryDownload, secondaryDownload).get();
+		}
+		catch (ExecutionException ex) {
+			throw unwrap(ex);
+		}
+		catch (InterruptedException ex) {
+			primaryTransfer.cancel();
+			secondaryTransfer.cancel();
+			throw interrupted(ex);
+		}
+		if (first == primaryDownload) {
+			secondaryTransfer.cancel();
+			log.info("Download from ''{}'' won", primary);
+			this.winner = primary;
+			return primaryFile;
+		}
+		primaryTransfer.cancel();
+		log.info("Download from ''{}'' won", secondary);
+		this.winner = secondary;
+		long start = secondaryDownload.join();
+		if (start == 0) {
+			return secondaryFile;
+		}
+		Path archiveFile = createFile(primaryFile);
+		try (FileChannel target = FileChannel.open(archiveFile, StandardOpenOption.WRITE);
+				FileChannel head = FileChannel.open(primaryFile, StandardOpenOption.READ);
+				FileChannel tail = FileChannel.open(secondaryFile, StandardOpenOption.READ)) {
+			transfer(head, 0, start, target);
+			transfer(tail, 0, tail.size(), target);
+		}
+		return archiveFile;
+	}
+
+	/**
+	 * Returns the URI of the download that won.
+	 *
+	 * @return the URI, or {@code null} if no download has completed
+	 */
+	URI getWinner() {
+		return this.winner;
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+		for (Path file : this.files) {
+			try {
+				FileUtils.delete(file);
+			}
+			catch (IOException ex) {
+				//ignore
+			}
+		}
+	}
+
+	private long download(URI uri, long offset, OutputStream os) throws IOException {
+		if (offset == 0) {
+			this.provider.download(this.httpClient, this.version, uri, os);
+			return 0;
+		}
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Range", "bytes=" + offset + "-");
+		try (HttpResponse response = this.httpClient.send(new HttpRequest(uri, "GET", headers))) {
+			long start;
+			if (response.getStatus() == 206 && response.getHeaders().getFirst("Content-Range")
+					.filter(range -> range.startsWith("bytes " + offset + "-")).isPresent()) {
+				log.info("Resuming download of Apache Cassandra: ''{}'' from URI: ''{}'' at byte {}", this.version,
+						response.getUri(), offset);
+				start = offset;
+			}
+			else if (response.getStatus() == 200) {
+				log.info("Downloading Apache Cassandra: ''{}'' from URI: ''{}''. Range requests are not supported",
+						this.version, response.getUri());
+				start = 0;
+			}
+			else {
+				throw new FileNotFoundException(String.format("Could not download a file. Error: %s", response));
+			}
+			long totalBytes = response.getHeaders().getFirst("Content-Length").map(Long::parseLong).orElse(-1L);
+			try (InputStream is = response.getInputStream()) {
+				this.provider.transfer(response.getUri(), is, os, totalBytes);
+			}
+			return start;
+		}
+	}
+
+	private Path createFile(Path primaryFile) throws IOException {
+		Path file = Files.createTempFile(primaryFile.getParent(), "", "-" + primaryFile.getFileName());
+		this.files.add(file);
+		return file;
+	}
+
+	private static void transfer(FileChannel source, long position, long count, FileChannel target)
+			throws IOException {
+		long transferred = 0;
+		while (transferred < count) {
+			transferred += source.transferTo(position + transferred, count - transferred, target);
+		}
+	}
+
+	private static CompletableFuture<CompletableFuture<Long>> firstSuccessful(CompletableFuture<Long> primary,
+			CompletableFuture<Long> secondary) {
+		CompletableFuture<CompletableFuture<Long>> result = new CompletableFuture<>();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		for (CompletableFuture<Long> download : List.of(primary, secondary)) {
+			download.whenComplete((start, ex) -> {
+				if (ex == null) {
+					result.complete(download);
+				}
+				else if (!failure.compareAndSet(null, ex)) {
+					Throwable first = failure.get();
+					first.addSuppressed(ex);
+					result.completeExceptionally(first);
+				}
+			});
+		}
+		return result;
+	}
+
+	private static IOException unwrap(ExecutionException ex) {
+		Throwable cause = ex.getCause();
+		if (cause instanceof UncheckedIOException) {
+			return ((UncheckedIOException) cause).getCause();
+		}
+		if (cause instanceof IOException) {
+			return (IOException) cause;
+		}
+		return new IOException(cause);
+	}
+
+	private static InterruptedIOException interrupted(InterruptedException ex) {
+		Thread.currentThread().interrupt();
+		InterruptedIOException exception = new InterruptedIOException("Interrupted while downloading");
+		exception.initCause(ex);
+		return exception;
+	}
+
+	private static final class Transfer extends FilterOutputStream {
+
+		private final AtomicLong bytes = new AtomicLong();
+
+		private volatile boolean cancelled;
+
+		Transfer(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			checkCancelled();
+			this.out.write(b);
+			this.bytes.incrementAndGet();
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			checkCancelled();
+			this.out.write(b, off, len);
+			this.bytes.addAndGet(len);
+		}
+
+		void cancel() {
+			this.cancelled = true;
+		}
+
+		private void checkCancelled() throws IOException {
+			if (this.cancelled) {
+				throw new InterruptedIOException("Download has been cancelled");
+			}
+		}
+
+	}
+
+}
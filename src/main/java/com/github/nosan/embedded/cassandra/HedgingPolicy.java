@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A policy for hedging slow downloads. If the throughput of a download stays below {@link #getMinThroughput()}
+ * bytes per second for a whole {@link #getWindow() window}, a parallel request is started on the next package URI.
+ * The first download to complete wins and the other one is cancelled.
+ *
+ * @author Dmytro Nosan
+ * @see WebCassandraDirectoryProvider
+ * @since 5.1.0
+ */
+public final class HedgingPolicy {
+
+	private static final HedgingPolicy DISABLED = new HedgingPolicy(0, Duration.ZERO);
+
+	private final long minThroughput;
+
+	private final Duration window;
+
+	private HedgingPolicy(long minThroughput, Duration window) {
+		this.minThroughput = minThroughput;
+		this.window = window;
+	}
+
+	/**
+	 * Creates a new {@link HedgingPolicy}.
+	 *
+	 * @param minThroughput the minimum acceptable throughput in bytes per second
+	 * @param window the period over which the throughput is measured (must not be {@code null})
+	 * @return a new policy
+	 * @throws NullPointerException if {@code window} is {@code null}
+	 * @throws IllegalArgumentException if {@code minThroughput} or {@code window} is not positive
+	 */
+	public static HedgingPolicy of(long minThroughput, Duration window) {
+		Objects.requireNonNull(window, "Window must not be null");
+		if (minThroughput <= 0) {
+			throw new IllegalArgumentException("Min Throughput must be positive");
+		}
+		if (window.isNegative() || window.isZero()) {
+			throw new IllegalArgumentException("Window must be positive");
+		}
+		return new HedgingPolicy(minThroughput, window);
+	}
+
+	/**
+	 * Returns a policy that never hedges.
+	 *
+	 * @return a disabled policy
+	 */
+	public static HedgingPolicy disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Returns whether downloads are hedged at all.
+	 *
+	 * @return {@code true} if this policy is enabled
+	 */
+	public boolean isEnabled() {
+		return this.minThroughput > 0;
+	}
+
+	/**
+	 * Returns the minimum acceptable throughput in bytes per second.
+	 *
+	 * @return the minimum throughput
+	 */
+	public long getMinThroughput() {
+		return this.minThroughput;
+	}
+
+	/**
+	 * Returns the period over which the throughput is measured.
+	 *
+	 * @return the window
+	 */
+	public Duration getWindow() {
+		return this.window;
+	}
+
+	@Override
+	public String toString() {
+		if (!isEnabled()) {
+			return "HedgingPolicy{disabled}";
+		}
+		return "HedgingPolicy{" + "minThroughput=" + this.minThroughput + ", window=" + this.window + '}';
+	}
+
+}
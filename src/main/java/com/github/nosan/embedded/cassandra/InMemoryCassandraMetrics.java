@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link CassandraMetrics} that keep every recorded duration in memory, for use in tests and benchmarks.
+ *
+ * <p>All methods are thread-safe.</p>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public final class InMemoryCassandraMetrics implements CassandraMetrics {
+
+	private final Map<Phase, Histogram> histograms = new EnumMap<>(Phase.class);
+
+	/**
+	 * Creates a new, empty {@link InMemoryCassandraMetrics}.
+	 */
+	public InMemoryCassandraMetrics() {
+		for (Phase phase : Phase.values()) {
+			this.histograms.put(phase, new Histogram());
+		}
+	}
+
+	@Override
+	public void recordTime(Phase phase, Duration duration) {
+		Objects.requireNonNull(phase, "Phase must not be null");
+		Objects.requireNonNull(duration, "Duration must not be null");
+		this.histograms.get(phase).recordTime(duration.toNanos());
+	}
+
+	@Override
+	public void recordBytes(Phase phase, long bytes) {
+		Objects.requireNonNull(phase, "Phase must not be null");
+		this.histograms.get(phase).recordBytes(bytes);
+	}
+
+	/**
+	 * Returns the number of recorded durations of the given phase.
+	 *
+	 * @param phase the phase
+	 * @return the number of durations
+	 */
+	public int getCount(Phase phase) {
+		return this.histograms.get(phase).getCount();
+	}
+
+	/**
+	 * Returns the sum of the recorded durations of the given phase.
+	 *
+	 * @param phase the phase
+	 * @return the total duration, {@link Duration#ZERO} if nothing has been recorded
+	 */
+	public Duration getTotalTime(Phase phase) {
+		return Duration.ofNanos(this.histograms.get(phase).getTotal());
+	}
+
+	/**
+	 * Returns the recorded duration of the given phase at the given percentile, using the nearest-rank method.
+	 *
+	 * @param phase the phase
+	 * @param percentile the percentile, between {@code 0} (exclusive) and {@code 100} (inclusive)
+	 * @return the duration, {@link Duration#ZERO} if nothing has been recorded
+	 * @throws IllegalArgumentException if {@code percentile} is out of range
+	 */
+	public Duration getPercentile(Phase phase, double percentile) {
+		if (percentile <= 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be in range (0, 100]");
+		}
+		long[] sorted = this.histograms.get(phase).getSortedTimes();
+		if (sorted.length == 0) {
+			return Duration.ZERO;
+		}
+		int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+		return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+	}
+
+	/**
+	 * Returns the longest recorded duration of the given phase.
+	 *
+	 * @param phase the phase
+	 * @return the maximum duration, {@link Duration#ZERO} if nothing has been recorded
+	 */
+	public Duration getMaxTime(Phase phase) {
+		return getPercentile(phase, 100);
+	}
+
+	/**
+	 * Returns the sum of the recorded bytes of the given phase.
+	 *
+	 * @param phase the phase
+	 * @return the number of bytes
+	 */
+	public long getBytes(Phase phase) {
+		return this.histograms.get(phase).getBytes();
+	}
+
+	/**
+	 * Discards all recorded values.
+	 */
+	public void reset() {
+		this.histograms.values().forEach(Histogram::reset);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("InMemoryCassandraMetrics{");
+		for (Phase phase : Phase.values()) {
+			int count = getCount(phase);
+			long bytes = getBytes(phase);
+			if (count == 0 && bytes == 0) {
+				continue;
+			}
+			if (builder.charAt(builder.length() - 1) != '{') {
+				builder.append(", ");
+			}
+			builder.append(phase).append("=[count=").append(count).append(", total=").append(getTotalTime(phase))
+					.append(", p50=").append(getPercentile(phase, 50)).append(", max=").append(getMaxTime(phase))
+					.append(", bytes=").append(bytes).append(']');
+		}
+		return builder.append('}').toString();
+	}
+
+	private static final class Histogram {
+
+		private long[] times = new long[8];
+
+		private int count;
+
+		private long total;
+
+		private long bytes;
+
+		synchronized void recordTime(long nanos) {
+			if (this.count == this.times.length) {
+				this.times = Arrays.copyOf(this.times, this.count * 2);
+			}
+			this.times[this.count++] = nanos;
+			this.total += nanos;
+		}
+
+		synchronized void recordBytes(long bytes) {
+			this.bytes += bytes;
+		}
+
+		synchronized int getCount() {
+			return this.count;
+		}
+
+		synchronized long getTotal() {
+			return this.total;
+		}
+
+		synchronized long getBytes() {
+			return this.bytes;
+		}
+
+		synchronized long[] getSortedTimes() {
+			long[] sorted = Arrays.copyOf(this.times, this.count);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+		synchronized void reset() {
+			this.times = new long[8];
+			this.count = 0;
+			this.total = 0;
+			this.bytes = 0;
+		}
+
+	}
+
+}
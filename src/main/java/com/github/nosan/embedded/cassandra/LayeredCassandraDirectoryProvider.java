@@ -0,0 +1,223 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link CassandraDirectoryProvider} that consults a chain of tiers, e.g. a local cache, then shared read-only
+ * stores, then the web. The directory of the first tier that provides the version is returned.
+ *
+ * <p>When a lower tier provides the version, every writable {@link LocalCassandraDirectoryProvider} above it is
+ * populated asynchronously from a {@link CassandraDirectoryProvider#acquire(Version) lease} of the lower tier, so the
+ * next lookup is served by the upper tier. A lower tier which keeps another {@link DistributionProfile} than the
+ * upper one does not populate it. The returned directory does not wait for that, and lookups of tiers that
+ * already hold a verified copy do not take any lock.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * Path home = Paths.get(System.getProperty("user.home"));
+ * CassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(
+ *         new LocalCassandraDirectoryProvider(home),
+ *         new LocalCassandraDirectoryProvider(Paths.get("/mnt/cassandra"), true),
+ *         new WebCassandraDirectoryProvider(home));
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @see LocalCassandraDirectoryProvider
+ * @since 5.1.0
+ */
+public class LayeredCassandraDirectoryProvider implements CassandraDirectoryProvider {
+
+	private static final Logger log = LoggerFactory.getLogger(LayeredCassandraDirectoryProvider.class);
+
+	private final List<CassandraDirectoryProvider> tiers;
+
+	private final Executor executor;
+
+	private final Set<String> populating = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Creates a new {@link LayeredCassandraDirectoryProvider} which populates upper tiers on a background thread.
+	 *
+	 * @param tiers the tiers, from the upper to the lower one (must not be {@code null})
+	 * @throws NullPointerException if {@code tiers} or any tier is {@code null}
+	 * @throws IllegalArgumentException if {@code tiers} is empty
+	 */
+	public LayeredCassandraDirectoryProvider(CassandraDirectoryProvider... tiers) {
+		this(Arrays.asList(Objects.requireNonNull(tiers, "Tiers must not be null")));
+	}
+
+	/**
+	 * Creates a new {@link LayeredCassandraDirectoryProvider} which populates upper tiers on a background thread.
+	 *
+	 * @param tiers the tiers, from the upper to the lower one (must not be {@code null})
+	 * @throws NullPointerException if {@code tiers} or any tier is {@code null}
+	 * @throws IllegalArgumentException if {@code tiers} is empty
+	 */
+	public LayeredCassandraDirectoryProvider(List<? extends CassandraDirectoryProvider> tiers) {
+		this(tiers, createExecutor());
+	}
+
+	/**
+	 * Creates a new {@link LayeredCassandraDirectoryProvider}.
+	 *
+	 * @param tiers the tiers, from the upper to the lower one (must not be {@code null})
+	 * @param executor the executor which populates upper tiers (must not be {@code null})
+	 * @throws NullPointerException if {@code tiers}, any tier or {@code executor} is {@code null}
+	 * @throws IllegalArgumentException if {@code tiers} is empty
+	 */
+	public LayeredCassandraDirectoryProvider(List<? extends CassandraDirectoryProvider> tiers, Executor executor) {
+		Objects.requireNonNull(tiers, "Tiers must not be null");
+		Objects.requireNonNull(executor, "Executor must not be null");
+		if (tiers.isEmpty()) {
+			throw new IllegalArgumentException("Tiers must not be empty");
+		}
+		for (CassandraDirectoryProvider tier : tiers) {
+			Objects.requireNonNull(tier, "Tier must not be null");
+		}
+		this.tiers = List.copyOf(tiers);
+		this.executor = executor;
+	}
+
+	@Override
+	public Path getDirectory(Version version) throws IOException {
+		return provide(version, tier -> tier.getDirectory(version));
+	}
+
+	/**
+	 * Acquires the Cassandra directory from the first tier that provides the version, which keeps it until the lease
+	 * is closed.
+	 *
+	 * @param version the Cassandra version
+	 * @return the lease of the Cassandra directory
+	 * @throws IOException if none of the tiers provides the version
+	 * @since 5.1.0
+	 */
+	@Override
+	public Lease acquire(Version version) throws IOException {
+		return provide(version, tier -> tier.acquire(version));
+	}
+
+	@Override
+	public String toString() {
+		return "LayeredCassandraDirectoryProvider{" + "tiers=" + this.tiers + '}';
+	}
+
+	private <T> T provide(Version version, Lookup<T> lookup) throws IOException {
+		Objects.requireNonNull(version, "Version must not be null");
+		List<IOException> failures = new ArrayList<>();
+		for (int i = 0; i < this.tiers.size(); i++) {
+			CassandraDirectoryProvider tier = this.tiers.get(i);
+			T result;
+			try {
+				result = lookup.get(tier);
+			}
+			catch (IOException ex) {
+				log.debug("Cassandra ''{}'' is not provided by ''{}''", version, tier, ex);
+				failures.add(ex);
+				continue;
+			}
+			populate(i, version);
+			return result;
+		}
+		IOException exception = new IOException(String.format("Unable to provide Cassandra Directory for a"
+				+ " version: '%s'. None of the tiers %s provides it", version, this.tiers));
+		failures.forEach(exception::addSuppressed);
+		throw exception;
+	}
+
+	private void populate(int index, Version version) {
+		for (int i = 0; i < index; i++) {
+			CassandraDirectoryProvider tier = this.tiers.get(i);
+			if (!(tier instanceof LocalCassandraDirectoryProvider)) {
+				continue;
+			}
+			LocalCassandraDirectoryProvider local = (LocalCassandraDirectoryProvider) tier;
+			String key = i + ":" + version;
+			if (local.isReadOnly() || local.isPresent(version) || !this.populating.add(key)) {
+				continue;
+			}
+			try {
+				CassandraDirectoryProvider source = this.tiers.get(index);
+				this.executor.execute(() -> {
+					// The source is acquired, so that it is not removed while it is being copied.
+					try (Lease lease = source.acquire(version)) {
+						local.store(version, lease.getDirectory(), getDistributionProfile(source));
+					}
+					catch (Exception ex) {
+						log.warn("Cassandra ''{}'' could not be stored into ''{}''", version, local, ex);
+					}
+					finally {
+						this.populating.remove(key);
+					}
+				});
+			}
+			catch (RejectedExecutionException ex) {
+				this.populating.remove(key);
+				log.warn("Cassandra ''{}'' could not be stored into ''{}''", version, local, ex);
+			}
+		}
+	}
+
+	// Directories of other providers are considered full distributions.
+	private static DistributionProfile getDistributionProfile(CassandraDirectoryProvider tier) {
+		if (tier instanceof WebCassandraDirectoryProvider) {
+			return ((WebCassandraDirectoryProvider) tier).getDistributionProfile();
+		}
+		if (tier instanceof LocalCassandraDirectoryProvider) {
+			return ((LocalCassandraDirectoryProvider) tier).getDistributionProfile();
+		}
+		if (tier instanceof PrefetchingCassandraDirectoryProvider) {
+			return getDistributionProfile(((PrefetchingCassandraDirectoryProvider) tier).getDelegate());
+		}
+		return DistributionProfile.full();
+	}
+
+	private static Executor createExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "cassandra-directory-populator");
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private interface Lookup<T> {
+
+		T get(CassandraDirectoryProvider tier) throws IOException;
+
+	}
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.commons.FileLock;
+import com.github.nosan.embedded.cassandra.commons.FileUtils;
+
+/**
+ * A {@link CassandraDirectoryProvider} that looks up Cassandra directories which are already present in a local or
+ * shared (e.g. NFS or a pre-baked image) directory. It never downloads anything; a version that is not present fails
+ * with a {@link FileNotFoundException}.
+ *
+ * <p>The directory has the same layout as the download directory of {@link WebCassandraDirectoryProvider}:
+ * {@code <directory>/.embedded-cassandra/<version>/apache-cassandra-<version>}, next to a {@code .success} marker
+ * which is written only once the distribution has been verified and completely copied, and a {@code .profile} file
+ * with the {@link #getDistributionProfile() profile} of the stored content. Lookups only check these files, so they
+ * do not take any lock.</p>
+ *
+ * <p>Unless it is read-only, the directory can be populated with {@link #store(Version, Path)}, which is what
+ * {@link LayeredCassandraDirectoryProvider} does for the upper tiers of a chain.</p>
+ *
+ * @author Dmytro Nosan
+ * @see LayeredCassandraDirectoryProvider
+ * @since 5.1.0
+ */
+public class LocalCassandraDirectoryProvider implements CassandraDirectoryProvider {
+
+	private static final Logger log = LoggerFactory.getLogger(LocalCassandraDirectoryProvider.class);
+
+	private final Path directory;
+
+	private final boolean readOnly;
+
+	/**
+	 * Creates a new writable {@link LocalCassandraDirectoryProvider}.
+	 *
+	 * @param directory the directory (must not be {@code null})
+	 * @throws NullPointerException if {@code directory} is {@code null}
+	 */
+	public LocalCassandraDirectoryProvider(Path directory) {
+		this(directory, false);
+	}
+
+	/**
+	 * Creates a new {@link LocalCassandraDirectoryProvider}.
+	 *
+	 * @param directory the directory (must not be {@code null})
+	 * @param readOnly whether the directory must not be populated
+	 * @throws NullPointerException if {@code directory} is {@code null}
+	 */
+	public LocalCassandraDirectoryProvider(Path directory, boolean readOnly) {
+		Objects.requireNonNull(directory, "Directory must not be null");
+		this.directory = directory;
+		this.readOnly = readOnly;
+	}
+
+	/**
+	 * Returns the directory.
+	 *
+	 * @return the directory
+	 */
+	public Path getRootDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Returns whether the directory must not be populated.
+	 *
+	 * @return {@code true} if this provider is read-only
+	 */
+	public boolean isReadOnly() {
+		return this.readOnly;
+	}
+
+	@Override
+	public Path getDirectory(Version version) throws IOException {
+		Objects.requireNonNull(version, "Version must not be null");
+		Path cassandraDirectory = getCassandraDirectory(version);
+		if (isPresent(version)) {
+			return cassandraDirectory;
+		}
+		throw new FileNotFoundException(String.format("Cassandra directory: '%s' is not found", cassandraDirectory));
+	}
+
+	/**
+	 * Provides the Cassandra directory like {@link #getDirectory(Version)}. Unless this provider is read-only, a
+	 * shared lock is held on it until the lease is closed, so that a {@link CassandraCacheManager} does not evict it
+	 * meanwhile.
+	 *
+	 * @param version the Cassandra version
+	 * @return the lease of the Cassandra directory
+	 * @throws IOException if an I/O error occurs
+	 * @since 5.1.0
+	 */
+	@Override
+	public Lease acquire(Version version) throws IOException {
+		Path cassandraDirectory = getDirectory(version);
+		if (this.readOnly) {
+			return new Lease(cassandraDirectory, () -> {
+			});
+		}
+		Path lockFile = getVersionDirectory(version).resolve(".lock");
+		FileLock fileLock = FileLock.of(lockFile);
+		try {
+			if (!fileLock.tryLock(FileLock.Mode.SHARED, 5, TimeUnit.MINUTES)) {
+				throw new IOException(String.format("Unable to provide Cassandra Directory for a version: '%s'."
+						+ " File lock could not be acquired for a file: '%s'", version, lockFile));
+			}
+			if (isPresent(version)) {
+				return new Lease(cassandraDirectory, fileLock::close);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			fileLock.close();
+			throw ex;
+		}
+		fileLock.close();
+		throw new FileNotFoundException(String.format("Cassandra directory: '%s' is not found", cassandraDirectory));
+	}
+
+	/**
+	 * Checks whether a verified copy of the given version is present.
+	 *
+	 * @param version the Cassandra version (must not be {@code null})
+	 * @return {@code true} if the version is present
+	 * @throws NullPointerException if {@code version} is {@code null}
+	 */
+	public boolean isPresent(Version version) {
+		Objects.requireNonNull(version, "Version must not be null");
+		Path versionDirectory = getVersionDirectory(version);
+		if (!Files.exists(versionDirectory.resolve(".success")) || !Files.isDirectory(getCassandraDirectory(version))) {
+			return false;
+		}
+		Path profileFile = versionDirectory.resolve(".profile");
+		try {
+			return !Files.exists(profileFile) || String.join("", Files.readAllLines(profileFile))
+					.equals(getDistributionProfile().toString());
+		}
+		catch (IOException ex) {
+			log.debug("Profile ''{}'' could not be read", profileFile, ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Copies the given Cassandra directory into this directory, unless the version is already present or another
+	 * process is storing it. The files are copied into a temporary directory first, so a partially copied version is
+	 * never visible. The given directory is considered a {@link DistributionProfile#full() full} distribution.
+	 *
+	 * @param version the Cassandra version (must not be {@code null})
+	 * @param cassandraHome the Cassandra directory to copy (must not be {@code null})
+	 * @return {@code true} if the version has been stored, {@code false} if it was already present or is being
+	 * stored by someone else
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalStateException if this provider is read-only
+	 * @throws NullPointerException if {@code version} or {@code cassandraHome} is {@code null}
+	 */
+	public boolean store(Version version, Path cassandraHome) throws IOException {
+		return store(version, cassandraHome, DistributionProfile.full());
+	}
+
+	/**
+	 * Copies the given Cassandra directory, which has been extracted with the given profile, into this directory.
+	 * Only the content kept by {@link #getDistributionProfile()} is copied, and that profile is recorded next to the
+	 * version. A directory extracted with a profile which is neither {@link DistributionProfile#full()} nor the
+	 * profile of this provider may lack files, and is not stored.
+	 *
+	 * @param version the Cassandra version (must not be {@code null})
+	 * @param cassandraHome the Cassandra directory to copy (must not be {@code null})
+	 * @param profile the profile which the Cassandra directory has been extracted with (must not be {@code null})
+	 * @return {@code true} if the version has been stored, {@code false} if it was already present, is being stored
+	 * by someone else or has been extracted with another profile
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalStateException if this provider is read-only
+	 * @throws NullPointerException if {@code version}, {@code cassandraHome} or {@code profile} is {@code null}
+	 * @since 5.1.0
+	 */
+	public boolean store(Version version, Path cassandraHome, DistributionProfile profile) throws IOException {
+		Objects.requireNonNull(version, "Version must not be null");
+		Objects.requireNonNull(cassandraHome, "Cassandra Home must not be null");
+		Objects.requireNonNull(profile, "Distribution Profile must not be null");
+		if (this.readOnly) {
+			throw new IllegalStateException(String.format("Directory: '%s' is read-only", this.directory));
+		}
+		DistributionProfile target = getDistributionProfile();
+		if (!profile.equals(DistributionProfile.full()) && !profile.equals(target)) {
+			log.info("Cassandra ''{}'' is not stored into ''{}''. It has been extracted with ''{}'' instead of ''{}''",
+					version, this.directory, profile, target);
+			return false;
+		}
+		if (isPresent(version)) {
+			return false;
+		}
+		Path versionDirectory = getVersionDirectory(version);
+		Files.createDirectories(versionDirectory);
+		try (FileLock fileLock = FileLock.of(versionDirectory.resolve(".lock"))) {
+			if (!fileLock.tryLock(0, TimeUnit.MILLISECONDS) || isPresent(version)) {
+				return false;
+			}
+			log.info("Storing Cassandra ''{}'' into ''{}''...", version, this.directory);
+			Path tempDirectory = Files.createTempDirectory(versionDirectory,
+					String.format("apache-cassandra-%s-", version));
+			try {
+				Path cassandraDirectory = getCassandraDirectory(version);
+				FileUtils.copy(cassandraHome, tempDirectory, (path, attributes) -> target.isIncluded(
+						cassandraHome.relativize(path), attributes.isDirectory()), StandardCopyOption.REPLACE_EXISTING);
+				Files.deleteIfExists(versionDirectory.resolve(".success"));
+				FileUtils.delete(cassandraDirectory);
+				Files.move(tempDirectory, cassandraDirectory, StandardCopyOption.ATOMIC_MOVE);
+				Files.write(versionDirectory.resolve(".profile"), Collections.singleton(target.toString()));
+				Files.write(versionDirectory.resolve(".success"),
+						Collections.singleton(ZonedDateTime.now().toString()));
+				log.info("Cassandra ''{}'' is stored into ''{}''", version, this.directory);
+				return true;
+			}
+			finally {
+				FileUtils.delete(tempDirectory);
+			}
+		}
+	}
+
+	/**
+	 * Gets the profile of the distribution content which is kept in this directory.
+	 * <p>Subclasses may override this method to keep a leaner distribution, e.g. {@link DistributionProfile#server()}.
+	 * The profile is recorded next to each stored version, and a version which was stored with another profile is
+	 * not present. Versions without a recorded profile are present as they are.
+	 *
+	 * @return the distribution profile
+	 * @since 5.1.0
+	 */
+	protected DistributionProfile getDistributionProfile() {
+		return DistributionProfile.defaults();
+	}
+
+	@Override
+	public String toString() {
+		return "LocalCassandraDirectoryProvider{" + "directory=" + this.directory + ", readOnly=" + this.readOnly
+				+ '}';
+	}
+
+	private Path getVersionDirectory(Version version) {
+		return this.directory.resolve(".embedded-cassandra").resolve(version.toString()).normalize()
+				.toAbsolutePath();
+	}
+
+	private Path getCassandraDirectory(Version version) {
+		return getVersionDirectory(version).resolve(String.format("apache-cassandra-%s", version));
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+
+/**
+ * Holds the {@link CassandraMetrics} of the {@link Cassandra} lifecycle running on the current thread, so that
+ * components such as {@link WebCassandraDirectoryProvider} can report their phases without being configured
+ * separately.
+ *
+ * @author Dmytro Nosan
+ */
+final class MetricsContext {
+
+	private static final ThreadLocal<CassandraMetrics> CURRENT = new ThreadLocal<>();
+
+	private MetricsContext() {
+	}
+
+	/**
+	 * Returns the metrics of the current thread.
+	 *
+	 * @return the metrics, or {@link CassandraMetrics#noop()} if none are set
+	 */
+	static CassandraMetrics get() {
+		CassandraMetrics metrics = CURRENT.get();
+		return (metrics != null) ? metrics : CassandraMetrics.noop();
+	}
+
+	/**
+	 * Checks whether the given metrics record anything.
+	 *
+	 * @param metrics the metrics
+	 * @return {@code true} if {@code metrics} are not {@link CassandraMetrics#noop()}
+	 */
+	static boolean isEnabled(CassandraMetrics metrics) {
+		return metrics != NoopCassandraMetrics.INSTANCE;
+	}
+
+	/**
+	 * Sets the metrics of the current thread.
+	 *
+	 * @param metrics the metrics
+	 * @return the previous metrics, to be passed to {@link #restore(CassandraMetrics)}
+	 */
+	static CassandraMetrics set(CassandraMetrics metrics) {
+		CassandraMetrics previous = CURRENT.get();
+		CURRENT.set(metrics);
+		return previous;
+	}
+
+	/**
+	 * Restores the metrics returned by {@link #set(CassandraMetrics)}.
+	 *
+	 * @param previous the previous metrics
+	 */
+	static void restore(CassandraMetrics previous) {
+		if (previous != null) {
+			CURRENT.set(previous);
+		}
+		else {
+			CURRENT.remove();
+		}
+	}
+
+	/**
+	 * Records the time elapsed since {@code start} if the metrics are enabled.
+	 *
+	 * @param metrics the metrics
+	 * @param phase the phase
+	 * @param start the start of the phase, from {@link System#nanoTime()}
+	 */
+	static void recordTime(CassandraMetrics metrics, CassandraMetrics.Phase phase, long start) {
+		if (isEnabled(metrics)) {
+			metrics.recordTime(phase, Duration.ofNanos(System.nanoTime() - start));
+		}
+	}
+
+}
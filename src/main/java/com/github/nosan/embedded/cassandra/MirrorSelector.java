@@ -0,0 +1,265 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.commons.web.HttpClient;
+import com.github.nosan.embedded.cassandra.commons.web.HttpRequest;
+import com.github.nosan.embedded.cassandra.commons.web.HttpResponse;
+
+/**
+ * Orders download URIs by how well their mirrors have served previous downloads.
+ *
+ * <p>All candidates are probed concurrently with a {@code HEAD} request, so mirrors that do not have the requested
+ * file (e.g. old versions which are only kept on the archive) are moved to the end without paying a failed download
+ * first. A probe that does not answer within the probe timeout counts as unavailable. The remaining candidates are
+ * ordered by the history recorded with {@link #recordSuccess(URI, long, Duration)} and {@link #recordFailure(URI)}:
+ * mirrors with fewer consecutive failures come first, then those with a higher observed throughput. Ties keep the
+ * order of the candidates.</p>
+ *
+ * <p>The history is kept per mirror, i.e. per scheme and authority of a URI, and is persisted to a small properties
+ * file, so it survives between JVMs.</p>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public final class MirrorSelector {
+
+	/**
+	 * The default time to wait for the probes of all candidates.
+	 */
+	public static final Duration DEFAULT_PROBE_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final Logger log = LoggerFactory.getLogger(MirrorSelector.class);
+
+	private static final double SMOOTHING = 0.3;
+
+	private final HttpClient httpClient;
+
+	private final PropertiesFile statsFile;
+
+	private final Duration probeTimeout;
+
+	private final Object monitor = new Object();
+
+	/**
+	 * Creates a new {@link MirrorSelector} with {@link #DEFAULT_PROBE_TIMEOUT}.
+	 *
+	 * @param httpClient the http client used to probe mirrors (must not be {@code null})
+	 * @param statsFile the file the history is persisted to (must not be {@code null})
+	 * @throws NullPointerException if {@code httpClient} or {@code statsFile} is {@code null}
+	 */
+	public MirrorSelector(HttpClient httpClient, Path statsFile) {
+		this(httpClient, statsFile, DEFAULT_PROBE_TIMEOUT);
+	}
+
+	/**
+	 * Creates a new {@link MirrorSelector}.
+	 *
+	 * @param httpClient the http client used to probe mirrors (must not be {@code null})
+	 * @param statsFile the file the history is persisted to (must not be {@code null})
+	 * @param probeTimeout the time to wait for the probes of all candidates (must not be {@code null})
+	 * @throws NullPointerException if any argument is {@code null}
+	 * @throws IllegalArgumentException if {@code probeTimeout} is negative
+	 */
+	public MirrorSelector(HttpClient httpClient, Path statsFile, Duration probeTimeout) {
+		Objects.requireNonNull(httpClient, "HTTP Client must not be null");
+		Objects.requireNonNull(statsFile, "Stats File must not be null");
+		Objects.requireNonNull(probeTimeout, "Probe Timeout must not be null");
+		if (probeTimeout.isNegative()) {
+			throw new IllegalArgumentException("Probe Timeout must not be negative");
+		}
+		this.httpClient = httpClient;
+		this.statsFile = new PropertiesFile(statsFile, "mirror stats");
+		this.probeTimeout = probeTimeout;
+	}
+
+	/**
+	 * Probes the given candidates concurrently and orders them, best first.
+	 *
+	 * @param candidates the URIs of the same file on different mirrors (must not be {@code null})
+	 * @return the ordered candidates
+	 * @throws NullPointerException if {@code candidates} is {@code null}
+	 */
+	public List<URI> select(List<URI> candidates) {
+		Objects.requireNonNull(candidates, "Candidates must not be null");
+		if (candidates.size() < 2) {
+			return new ArrayList<>(candidates);
+		}
+		List<CompletableFuture<Boolean>> probes = new ArrayList<>();
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(candidates.size(), runnable -> {
+			Thread thread = new Thread(runnable, "mirror-probe-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			for (URI candidate : candidates) {
+				HttpRequest request = new HttpRequest(candidate, "HEAD");
+				probes.add(CompletableFuture.completedFuture(request)
+						.thenComposeAsync(this.httpClient::sendAsync, executor)
+						.thenApply(MirrorSelector::isAvailable)
+						.exceptionally(ex -> {
+							log.debug("Mirror probe ''{}'' failed", candidate, ex);
+							return false;
+						}));
+			}
+			long deadline = System.nanoTime() + this.probeTimeout.toNanos();
+			Properties stats = this.statsFile.load();
+			List<Candidate> ordered = new ArrayList<>();
+			for (int i = 0; i < candidates.size(); i++) {
+				URI uri = candidates.get(i);
+				String mirror = getMirror(uri);
+				ordered.add(new Candidate(uri, i, getAvailability(uri, probes.get(i), deadline),
+						PropertiesFile.getLong(stats, mirror + ".failures"),
+						PropertiesFile.getDouble(stats, mirror + ".throughput")));
+			}
+			ordered.sort(Comparator.comparing((Candidate candidate) -> !candidate.available)
+					.thenComparingLong(candidate -> candidate.failures)
+					.thenComparing(Comparator.comparingDouble((Candidate candidate) -> candidate.throughput).reversed())
+					.thenComparingInt(candidate -> candidate.index));
+			List<URI> result = new ArrayList<>();
+			for (Candidate candidate : ordered) {
+				result.add(candidate.uri);
+			}
+			log.debug("Mirrors ordered: {}", ordered);
+			return result;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Records a successful download from the mirror of the given URI.
+	 *
+	 * @param uri the downloaded URI (must not be {@code null})
+	 * @param bytes the number of downloaded bytes
+	 * @param elapsed the time the download took (must not be {@code null})
+	 * @throws NullPointerException if {@code uri} or {@code elapsed} is {@code null}
+	 */
+	public void recordSuccess(URI uri, long bytes, Duration elapsed) {
+		Objects.requireNonNull(uri, "URI must not be null");
+		Objects.requireNonNull(elapsed, "Elapsed must not be null");
+		String mirror = getMirror(uri);
+		double sample = bytes / Math.max(elapsed.toNanos() / 1_000_000_000.0, 0.001);
+		synchronized (this.monitor) {
+			Properties stats = this.statsFile.load();
+			double throughput = PropertiesFile.getDouble(stats, mirror + ".throughput");
+			throughput = (throughput > 0) ? (1 - SMOOTHING) * throughput + SMOOTHING * sample : sample;
+			stats.setProperty(mirror + ".throughput", String.format(Locale.ROOT, "%.0f", throughput));
+			stats.setProperty(mirror + ".failures", "0");
+			this.statsFile.save(stats);
+		}
+	}
+
+	/**
+	 * Records a failed download from the mirror of the given URI.
+	 *
+	 * @param uri the URI that could not be downloaded (must not be {@code null})
+	 * @throws NullPointerException if {@code uri} is {@code null}
+	 */
+	public void recordFailure(URI uri) {
+		Objects.requireNonNull(uri, "URI must not be null");
+		String mirror = getMirror(uri);
+		synchronized (this.monitor) {
+			Properties stats = this.statsFile.load();
+			long failures = PropertiesFile.getLong(stats, mirror + ".failures");
+			stats.setProperty(mirror + ".failures", Long.toString(failures + 1));
+			this.statsFile.save(stats);
+		}
+	}
+
+	private static boolean getAvailability(URI uri, CompletableFuture<Boolean> probe, long deadline) {
+		try {
+			return probe.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException ex) {
+			log.debug("Mirror probe ''{}'' timed out", uri);
+			return false;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		catch (ExecutionException ex) {
+			return false;
+		}
+	}
+
+	private static boolean isAvailable(HttpResponse response) {
+		try (response) {
+			return response.getStatus() >= 200 && response.getStatus() < 400;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	private static String getMirror(URI uri) {
+		return uri.getScheme() + "://" + uri.getRawAuthority();
+	}
+
+	private static final class Candidate {
+
+		private final URI uri;
+
+		private final int index;
+
+		private final boolean available;
+
+		private final long failures;
+
+		private final double throughput;
+
+		Candidate(URI uri, int index, boolean available, long failures, double throughput) {
+			this.uri = uri;
+			this.index = index;
+			this.available = available;
+			this.failures = failures;
+			this.throughput = throughput;
+		}
+
+		@Override
+		public String toString() {
+			return this.uri + " (available=" + this.available + ", failures=" + this.failures + ", throughput="
+					+ String.format(Locale.ROOT, "%.0f", this.throughput) + " B/s)";
+		}
+
+	}
+
+}
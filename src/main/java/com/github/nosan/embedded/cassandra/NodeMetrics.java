@@ -0,0 +1,360 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A point-in-time snapshot of the server-side metrics of a running Cassandra node, as read by
+ * {@link NodeMetricsCollector}.
+ *
+ * <p>Counters (request counts, GC counts and times) are cumulative since the node started, so the difference
+ * between two snapshots gives the activity of the interval between them. Latency percentiles are those reported by
+ * Cassandra, which are computed over a decaying reservoir of recent requests.</p>
+ *
+ * @author Dmytro Nosan
+ * @see NodeMetricsCollector
+ * @since 5.1.0
+ */
+public final class NodeMetrics {
+
+	private final Instant timestamp;
+
+	private final Latency readLatency;
+
+	private final Latency writeLatency;
+
+	private final long pendingCompactions;
+
+	private final MemoryUsage heap;
+
+	private final Map<String, GarbageCollector> garbageCollectors;
+
+	private final Map<String, ThreadPool> threadPools;
+
+	NodeMetrics(Instant timestamp, Latency readLatency, Latency writeLatency, long pendingCompactions,
+			MemoryUsage heap, Map<String, GarbageCollector> garbageCollectors, Map<String, ThreadPool> threadPools) {
+		this.timestamp = timestamp;
+		this.readLatency = readLatency;
+		this.writeLatency = writeLatency;
+		this.pendingCompactions = pendingCompactions;
+		this.heap = heap;
+		this.garbageCollectors = Collections.unmodifiableMap(new LinkedHashMap<>(garbageCollectors));
+		this.threadPools = Collections.unmodifiableMap(new LinkedHashMap<>(threadPools));
+	}
+
+	/**
+	 * Returns the time at which this snapshot was taken.
+	 *
+	 * @return the timestamp
+	 */
+	public Instant getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * Returns the coordinator read latency ({@code ClientRequest/Read/Latency}).
+	 *
+	 * @return the read latency, never {@code null}
+	 */
+	public Latency getReadLatency() {
+		return this.readLatency;
+	}
+
+	/**
+	 * Returns the coordinator write latency ({@code ClientRequest/Write/Latency}).
+	 *
+	 * @return the write latency, never {@code null}
+	 */
+	public Latency getWriteLatency() {
+		return this.writeLatency;
+	}
+
+	/**
+	 * Returns the estimated number of pending compactions ({@code Compaction/PendingTasks}).
+	 *
+	 * @return the number of pending compactions
+	 */
+	public long getPendingCompactions() {
+		return this.pendingCompactions;
+	}
+
+	/**
+	 * Returns the heap memory usage of the node.
+	 *
+	 * @return the heap memory usage, or {@code null} if it is not available
+	 */
+	public MemoryUsage getHeap() {
+		return this.heap;
+	}
+
+	/**
+	 * Returns the garbage collectors of the node, by name.
+	 *
+	 * @return the garbage collectors, never {@code null}
+	 */
+	public Map<String, GarbageCollector> getGarbageCollectors() {
+		return this.garbageCollectors;
+	}
+
+	/**
+	 * Returns the total number of garbage collections of all collectors.
+	 *
+	 * @return the number of collections
+	 */
+	public long getGcCount() {
+		return this.garbageCollectors.values().stream().mapToLong(GarbageCollector::getCount).sum();
+	}
+
+	/**
+	 * Returns the total time spent in garbage collections of all collectors.
+	 *
+	 * @return the collection time
+	 */
+	public Duration getGcTime() {
+		return this.garbageCollectors.values().stream().map(GarbageCollector::getTime).reduce(Duration.ZERO,
+				Duration::plus);
+	}
+
+	/**
+	 * Returns the thread pools of the node, by name, e.g. {@code MutationStage} or {@code ReadStage}.
+	 *
+	 * @return the thread pools, never {@code null}
+	 */
+	public Map<String, ThreadPool> getThreadPools() {
+		return this.threadPools;
+	}
+
+	/**
+	 * Returns the total number of pending tasks of all thread pools.
+	 *
+	 * @return the number of pending tasks
+	 */
+	public long getPendingTasks() {
+		return this.threadPools.values().stream().mapToLong(ThreadPool::getPendingTasks).sum();
+	}
+
+	@Override
+	public String toString() {
+		return "NodeMetrics{" + "timestamp=" + this.timestamp + ", readLatency=" + this.readLatency
+				+ ", writeLatency=" + this.writeLatency + ", pendingCompactions=" + this.pendingCompactions
+				+ ", heap=" + this.heap + ", garbageCollectors=" + this.garbageCollectors.values() + ", pendingTasks="
+				+ getPendingTasks() + '}';
+	}
+
+	/**
+	 * A latency histogram.
+	 */
+	public static final class Latency {
+
+		static final Latency EMPTY = new Latency(0, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO,
+				Duration.ZERO);
+
+		private final long count;
+
+		private final Duration mean;
+
+		private final Duration p50;
+
+		private final Duration p95;
+
+		private final Duration p99;
+
+		private final Duration max;
+
+		Latency(long count, Duration mean, Duration p50, Duration p95, Duration p99, Duration max) {
+			this.count = count;
+			this.mean = mean;
+			this.p50 = p50;
+			this.p95 = p95;
+			this.p99 = p99;
+			this.max = max;
+		}
+
+		/**
+		 * Returns the number of requests since the node started.
+		 *
+		 * @return the number of requests
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Returns the mean latency.
+		 *
+		 * @return the mean
+		 */
+		public Duration getMean() {
+			return this.mean;
+		}
+
+		/**
+		 * Returns the median latency.
+		 *
+		 * @return the 50th percentile
+		 */
+		public Duration getP50() {
+			return this.p50;
+		}
+
+		/**
+		 * Returns the 95th percentile latency.
+		 *
+		 * @return the 95th percentile
+		 */
+		public Duration getP95() {
+			return this.p95;
+		}
+
+		/**
+		 * Returns the 99th percentile latency.
+		 *
+		 * @return the 99th percentile
+		 */
+		public Duration getP99() {
+			return this.p99;
+		}
+
+		/**
+		 * Returns the maximum latency.
+		 *
+		 * @return the maximum
+		 */
+		public Duration getMax() {
+			return this.max;
+		}
+
+		@Override
+		public String toString() {
+			return "Latency{" + "count=" + this.count + ", mean=" + this.mean + ", p50=" + this.p50 + ", p95="
+					+ this.p95 + ", p99=" + this.p99 + ", max=" + this.max + '}';
+		}
+
+	}
+
+	/**
+	 * The statistics of a garbage collector.
+	 */
+	public static final class GarbageCollector {
+
+		private final String name;
+
+		private final long count;
+
+		private final Duration time;
+
+		GarbageCollector(String name, long count, Duration time) {
+			this.name = Objects.requireNonNull(name, "Name must not be null");
+			this.count = count;
+			this.time = time;
+		}
+
+		/**
+		 * Returns the name of the collector, e.g. {@code G1 Young Generation}.
+		 *
+		 * @return the name
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Returns the number of collections since the node started.
+		 *
+		 * @return the number of collections
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Returns the time spent in collections since the node started.
+		 *
+		 * @return the collection time
+		 */
+		public Duration getTime() {
+			return this.time;
+		}
+
+		@Override
+		public String toString() {
+			return "GarbageCollector{" + "name='" + this.name + '\'' + ", count=" + this.count + ", time="
+					+ this.time + '}';
+		}
+
+	}
+
+	/**
+	 * The backlog of a thread pool.
+	 */
+	public static final class ThreadPool {
+
+		private final String name;
+
+		private final long activeTasks;
+
+		private final long pendingTasks;
+
+		ThreadPool(String name, long activeTasks, long pendingTasks) {
+			this.name = Objects.requireNonNull(name, "Name must not be null");
+			this.activeTasks = activeTasks;
+			this.pendingTasks = pendingTasks;
+		}
+
+		/**
+		 * Returns the name of the thread pool, e.g. {@code MutationStage}.
+		 *
+		 * @return the name
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Returns the number of tasks being executed.
+		 *
+		 * @return the number of active tasks
+		 */
+		public long getActiveTasks() {
+			return this.activeTasks;
+		}
+
+		/**
+		 * Returns the number of queued tasks.
+		 *
+		 * @return the number of pending tasks
+		 */
+		public long getPendingTasks() {
+			return this.pendingTasks;
+		}
+
+		@Override
+		public String toString() {
+			return "ThreadPool{" + "name='" + this.name + '\'' + ", activeTasks=" + this.activeTasks
+					+ ", pendingTasks=" + this.pendingTasks + '}';
+		}
+
+	}
+
+}
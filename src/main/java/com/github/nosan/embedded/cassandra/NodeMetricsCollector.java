@@ -0,0 +1,354 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServerConnection;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads {@link NodeMetrics} snapshots of a running Cassandra node over JMX.
+ *
+ * <p>The JMX connection is opened on the first {@link #poll()} and reused by the following ones, and the names of
+ * the thread pool and garbage collector MBeans are looked up only once, so polling costs a handful of round trips.
+ * If the connection is lost, e.g. because the node has been restarted, the next poll reconnects.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * try (NodeMetricsCollector collector = NodeMetricsCollector.of(cassandra.getSettings())) {
+ *     NodeMetrics before = collector.poll();
+ *     // run the workload
+ *     NodeMetrics after = collector.poll();
+ *     long writes = after.getWriteLatency().getCount() - before.getWriteLatency().getCount();
+ *     Duration p99 = after.getWriteLatency().getP99();
+ * }
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @see NodeMetrics
+ * @since 5.1.0
+ */
+public final class NodeMetricsCollector implements AutoCloseable {
+
+	/**
+	 * The JMX port Cassandra uses unless {@code cassandra.jmx.local.port} or {@code cassandra.jmx.remote.port} is
+	 * set.
+	 */
+	public static final int DEFAULT_JMX_PORT = 7199;
+
+	private static final Logger log = LoggerFactory.getLogger(NodeMetricsCollector.class);
+
+	private static final String[] LATENCY_ATTRIBUTES = {"Count", "Mean", "50thPercentile", "95thPercentile",
+			"99thPercentile", "Max", "DurationUnit"};
+
+	private static final ObjectName READ_LATENCY = objectName(
+			"org.apache.cassandra.metrics:type=ClientRequest,scope=Read,name=Latency");
+
+	private static final ObjectName WRITE_LATENCY = objectName(
+			"org.apache.cassandra.metrics:type=ClientRequest,scope=Write,name=Latency");
+
+	private static final ObjectName PENDING_COMPACTIONS = objectName(
+			"org.apache.cassandra.metrics:type=Compaction,name=PendingTasks");
+
+	private static final ObjectName MEMORY = objectName("java.lang:type=Memory");
+
+	private static final ObjectName GARBAGE_COLLECTORS = objectName("java.lang:type=GarbageCollector,*");
+
+	private static final ObjectName THREAD_POOLS = objectName("org.apache.cassandra.metrics:type=ThreadPools,*");
+
+	private final JMXServiceURL url;
+
+	private JMXConnector connector;
+
+	private MBeanServerConnection connection;
+
+	private Set<ObjectName> garbageCollectors;
+
+	private Map<String, ObjectName[]> threadPools;
+
+	/**
+	 * Creates a new {@link NodeMetricsCollector}.
+	 *
+	 * @param address the address the JMX server of the node listens on (must not be {@code null})
+	 * @param port the JMX port of the node
+	 * @throws NullPointerException if {@code address} is {@code null}
+	 * @throws IllegalArgumentException if {@code port} is not a valid port
+	 */
+	public NodeMetricsCollector(InetAddress address, int port) {
+		Objects.requireNonNull(address, "Address must not be null");
+		if (port < 1 || port > 65535) {
+			throw new IllegalArgumentException("Port: '" + port + "' is invalid");
+		}
+		String host = address.getHostAddress();
+		if (host.indexOf(':') != -1) {
+			host = "[" + host + "]";
+		}
+		try {
+			this.url = new JMXServiceURL(
+					String.format("service:jmx:rmi:///jndi/rmi://%s:%d/jmxrmi", host, port));
+		}
+		catch (MalformedURLException ex) {
+			throw new IllegalArgumentException("Address: '" + address + "' is invalid", ex);
+		}
+	}
+
+	/**
+	 * Creates a {@link NodeMetricsCollector} for the node with the given settings. The port is taken from the
+	 * {@code cassandra.jmx.local.port} system property, or from {@code cassandra.jmx.remote.port}, and defaults to
+	 * {@link #DEFAULT_JMX_PORT}.
+	 *
+	 * @param settings the settings of a running node (must not be {@code null})
+	 * @return a new {@link NodeMetricsCollector}
+	 * @throws NullPointerException if {@code settings} is {@code null}
+	 * @see Cassandra#getSettings()
+	 */
+	public static NodeMetricsCollector of(Settings settings) {
+		Objects.requireNonNull(settings, "Settings must not be null");
+		Map<String, String> systemProperties = settings.getSystemProperties();
+		String localPort = systemProperties.get("cassandra.jmx.local.port");
+		if (localPort != null) {
+			return new NodeMetricsCollector(InetAddress.getLoopbackAddress(), Integer.parseInt(localPort.trim()));
+		}
+		String remotePort = systemProperties.get("cassandra.jmx.remote.port");
+		if (remotePort != null) {
+			InetAddress address = settings.getAddress();
+			return new NodeMetricsCollector((address != null) ? address : InetAddress.getLoopbackAddress(),
+					Integer.parseInt(remotePort.trim()));
+		}
+		return new NodeMetricsCollector(InetAddress.getLoopbackAddress(), DEFAULT_JMX_PORT);
+	}
+
+	/**
+	 * Takes a snapshot of the metrics of the node, connecting to it if necessary. Metrics the node does not expose
+	 * (yet) are reported as zero.
+	 *
+	 * @return the snapshot
+	 * @throws IOException if the node cannot be reached
+	 */
+	public synchronized NodeMetrics poll() throws IOException {
+		if (this.connection != null) {
+			try {
+				return read(this.connection);
+			}
+			catch (IOException ex) {
+				log.debug("JMX connection to ''{}'' has been lost. Reconnecting...", this.url, ex);
+				disconnect();
+			}
+		}
+		return read(connect());
+	}
+
+	/**
+	 * Closes the JMX connection, if any. A following {@link #poll()} reconnects.
+	 *
+	 * @throws IOException if the connection cannot be closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		JMXConnector connector = this.connector;
+		this.connector = null;
+		this.connection = null;
+		if (connector != null) {
+			connector.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "NodeMetricsCollector{" + "url=" + this.url + '}';
+	}
+
+	private MBeanServerConnection connect() throws IOException {
+		JMXConnector connector = JMXConnectorFactory.connect(this.url);
+		try {
+			this.connection = connector.getMBeanServerConnection();
+		}
+		catch (IOException ex) {
+			connector.close();
+			throw ex;
+		}
+		this.connector = connector;
+		return this.connection;
+	}
+
+	private void disconnect() {
+		try {
+			close();
+		}
+		catch (IOException ex) {
+			log.debug("JMX connection to ''{}'' could not be closed", this.url, ex);
+		}
+	}
+
+	private NodeMetrics read(MBeanServerConnection connection) throws IOException {
+		Instant timestamp = Instant.now();
+		LatencyAttributes read = readLatency(connection, READ_LATENCY);
+		LatencyAttributes write = readLatency(connection, WRITE_LATENCY);
+		long pendingCompactions = toLong(getAttribute(connection, PENDING_COMPACTIONS, "Value"));
+		Object heap = getAttribute(connection, MEMORY, "HeapMemoryUsage");
+		Map<String, NodeMetrics.GarbageCollector> garbageCollectors = new LinkedHashMap<>();
+		for (ObjectName name : getGarbageCollectorNames(connection)) {
+			Map<String, Object> attributes = getAttributes(connection, name, "Name", "CollectionCount",
+					"CollectionTime");
+			String gcName = Objects.toString(attributes.get("Name"), name.getKeyProperty("name"));
+			garbageCollectors.put(gcName, new NodeMetrics.GarbageCollector(gcName,
+					toLong(attributes.get("CollectionCount")),
+					Duration.ofMillis(toLong(attributes.get("CollectionTime")))));
+		}
+		Map<String, NodeMetrics.ThreadPool> threadPools = new LinkedHashMap<>();
+		for (Map.Entry<String, ObjectName[]> entry : getThreadPoolNames(connection).entrySet()) {
+			ObjectName[] names = entry.getValue();
+			long active = (names[0] != null) ? toLong(getAttribute(connection, names[0], "Value")) : 0;
+			long pending = (names[1] != null) ? toLong(getAttribute(connection, names[1], "Value")) : 0;
+			threadPools.put(entry.getKey(), new NodeMetrics.ThreadPool(entry.getKey(), active, pending));
+		}
+		return new NodeMetrics(timestamp, read.toLatency(), write.toLatency(), pendingCompactions,
+				(heap instanceof CompositeData) ? MemoryUsage.from((CompositeData) heap) : null, garbageCollectors,
+				threadPools);
+	}
+
+	private Set<ObjectName> getGarbageCollectorNames(MBeanServerConnection connection) throws IOException {
+		Set<ObjectName> names = this.garbageCollectors;
+		if (names == null) {
+			names = new TreeSet<>(connection.queryNames(GARBAGE_COLLECTORS, null));
+			this.garbageCollectors = names;
+		}
+		return names;
+	}
+
+	private Map<String, ObjectName[]> getThreadPoolNames(MBeanServerConnection connection) throws IOException {
+		Map<String, ObjectName[]> names = this.threadPools;
+		if (names == null || names.isEmpty()) {
+			names = new LinkedHashMap<>();
+			for (ObjectName name : new TreeSet<>(connection.queryNames(THREAD_POOLS, null))) {
+				String scope = name.getKeyProperty("scope");
+				String metric = name.getKeyProperty("name");
+				if (scope == null) {
+					continue;
+				}
+				if ("ActiveTasks".equals(metric)) {
+					names.computeIfAbsent(scope, key -> new ObjectName[2])[0] = name;
+				}
+				else if ("PendingTasks".equals(metric)) {
+					names.computeIfAbsent(scope, key -> new ObjectName[2])[1] = name;
+				}
+			}
+			this.threadPools = names;
+		}
+		return names;
+	}
+
+	private static LatencyAttributes readLatency(MBeanServerConnection connection, ObjectName name)
+			throws IOException {
+		return new LatencyAttributes(getAttributes(connection, name, LATENCY_ATTRIBUTES));
+	}
+
+	private static Object getAttribute(MBeanServerConnection connection, ObjectName name, String attribute)
+			throws IOException {
+		return getAttributes(connection, name, attribute).get(attribute);
+	}
+
+	private static Map<String, Object> getAttributes(MBeanServerConnection connection, ObjectName name,
+			String... attributes) throws IOException {
+		Map<String, Object> values = new LinkedHashMap<>();
+		try {
+			AttributeList list = connection.getAttributes(name, attributes);
+			for (Attribute attribute : list.asList()) {
+				values.put(attribute.getName(), attribute.getValue());
+			}
+		}
+		catch (InstanceNotFoundException ex) {
+			// not registered (yet)
+		}
+		catch (JMException ex) {
+			throw new IOException("Could not read attributes " + List.of(attributes) + " of " + name, ex);
+		}
+		return values;
+	}
+
+	private static long toLong(Object value) {
+		return (value instanceof Number) ? ((Number) value).longValue() : 0;
+	}
+
+	private static ObjectName objectName(String name) {
+		try {
+			return new ObjectName(name);
+		}
+		catch (MalformedObjectNameException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static final class LatencyAttributes {
+
+		private final Map<String, Object> attributes;
+
+		private final TimeUnit unit;
+
+		LatencyAttributes(Map<String, Object> attributes) {
+			this.attributes = attributes;
+			Object unit = attributes.get("DurationUnit");
+			this.unit = (unit != null) ? TimeUnit.valueOf(unit.toString().toUpperCase(Locale.ROOT))
+					: TimeUnit.MICROSECONDS;
+		}
+
+		NodeMetrics.Latency toLatency() {
+			if (this.attributes.isEmpty()) {
+				return NodeMetrics.Latency.EMPTY;
+			}
+			return new NodeMetrics.Latency(toLong(this.attributes.get("Count")), duration("Mean"),
+					duration("50thPercentile"), duration("95thPercentile"), duration("99thPercentile"),
+					duration("Max"));
+		}
+
+		private Duration duration(String attribute) {
+			Object value = this.attributes.get(attribute);
+			if (!(value instanceof Number)) {
+				return Duration.ZERO;
+			}
+			return Duration.ofNanos((long) (((Number) value).doubleValue() * this.unit.toNanos(1)));
+		}
+
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link CassandraDirectoryProvider} that acquires versions of another provider in the background, so the download
+ * and extraction happen off the critical path.
+ *
+ * <p>{@link #prefetch(Version)} starts acquiring a version on a background thread. A later
+ * {@link #getDirectory(Version)} of the same version joins the in-flight prefetch instead of starting its own. Once a
+ * prefetch has completed, {@link #getDirectory(Version)} calls the delegate, which returns the already acquired
+ * directory. A failed prefetch is logged and retried by the next {@link #getDirectory(Version)}.</p>
+ *
+ * <p>Prefetching with a {@link WebCassandraDirectoryProvider} also benefits other instances that share its download
+ * directory, even in other JVMs: they wait for the lock of the version and then find it extracted.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * PrefetchingCassandraDirectoryProvider directoryProvider = new PrefetchingCassandraDirectoryProvider(
+ *         new WebCassandraDirectoryProvider());
+ * directoryProvider.prefetch(Version.parse("4.1.5"));
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public class PrefetchingCassandraDirectoryProvider implements CassandraDirectoryProvider {
+
+	private static final Logger log = LoggerFactory.getLogger(PrefetchingCassandraDirectoryProvider.class);
+
+	private final CassandraDirectoryProvider delegate;
+
+	private final Executor executor;
+
+	private final ConcurrentMap<Version, CompletableFuture<Path>> prefetches = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link PrefetchingCassandraDirectoryProvider} which prefetches on daemon threads.
+	 *
+	 * @param delegate the provider to prefetch from (must not be {@code null})
+	 * @throws NullPointerException if {@code delegate} is {@code null}
+	 */
+	public PrefetchingCassandraDirectoryProvider(CassandraDirectoryProvider delegate) {
+		this(delegate, createExecutor());
+	}
+
+	/**
+	 * Creates a new {@link PrefetchingCassandraDirectoryProvider}.
+	 *
+	 * @param delegate the provider to prefetch from (must not be {@code null})
+	 * @param executor the executor to prefetch on (must not be {@code null})
+	 * @throws NullPointerException if {@code delegate} or {@code executor} is {@code null}
+	 */
+	public PrefetchingCassandraDirectoryProvider(CassandraDirectoryProvider delegate, Executor executor) {
+		Objects.requireNonNull(delegate, "Delegate must not be null");
+		Objects.requireNonNull(executor, "Executor must not be null");
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+	/**
+	 * Starts acquiring the given version in the background, unless it is already being prefetched.
+	 *
+	 * @param version the version to prefetch (must not be {@code null})
+	 * @return a future of the Cassandra directory
+	 * @throws NullPointerException if {@code version} is {@code null}
+	 */
+	public CompletableFuture<Path> prefetch(Version version) {
+		Objects.requireNonNull(version, "Version must not be null");
+		CompletableFuture<Path> prefetch = new CompletableFuture<>();
+		CompletableFuture<Path> existing = this.prefetches.putIfAbsent(version, prefetch);
+		if (existing != null) {
+			return existing;
+		}
+		log.info("Prefetching Cassandra ''{}''", version);
+		try {
+			this.executor.execute(() -> {
+				try {
+					prefetch.complete(this.delegate.getDirectory(version));
+				}
+				catch (Throwable ex) {
+					log.warn("Could not prefetch Cassandra ''{}''", version, ex);
+					prefetch.completeExceptionally(ex);
+				}
+				finally {
+					this.prefetches.remove(version, prefetch);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.prefetches.remove(version, prefetch);
+			prefetch.completeExceptionally(ex);
+		}
+		return prefetch;
+	}
+
+	@Override
+	public Path getDirectory(Version version) throws IOException {
+		Objects.requireNonNull(version, "Version must not be null");
+		Path directory = join(version);
+		return (directory != null) ? directory : this.delegate.getDirectory(version);
+	}
+
+	/**
+	 * Joins an in-flight prefetch of the given version, if any, and then acquires the version from the delegate.
+	 *
+	 * @param version the Cassandra version
+	 * @return the lease of the Cassandra directory
+	 * @throws IOException if an I/O error occurs
+	 * @since 5.1.0
+	 */
+	@Override
+	public Lease acquire(Version version) throws IOException {
+		Objects.requireNonNull(version, "Version must not be null");
+		join(version);
+		return this.delegate.acquire(version);
+	}
+
+	CassandraDirectoryProvider getDelegate() {
+		return this.delegate;
+	}
+
+	private Path join(Version version) throws IOException {
+		CompletableFuture<Path> prefetch = this.prefetches.get(version);
+		if (prefetch != null) {
+			try {
+				return prefetch.get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				InterruptedIOException exception = new InterruptedIOException(
+						"Interrupted while waiting for the prefetch of Cassandra: " + version);
+				exception.initCause(ex);
+				throw exception;
+			}
+			catch (ExecutionException ex) {
+				log.debug("Prefetch of Cassandra ''{}'' failed, retrying", version, ex.getCause());
+			}
+		}
+		return null;
+	}
+
+	private static Executor createExecutor() {
+		return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 30, TimeUnit.SECONDS, new SynchronousQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "cassandra-directory-prefetcher");
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+}
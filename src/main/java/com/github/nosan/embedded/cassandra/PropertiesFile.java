@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.commons.FileUtils;
+
+/**
+ * A small properties file that is read leniently and replaced atomically, so that concurrent readers, even in other
+ * JVMs, never observe a partially written file. Failures are logged and otherwise ignored, as the file only holds
+ * data that can be recomputed.
+ *
+ * @author Dmytro Nosan
+ */
+final class PropertiesFile {
+
+	private static final Logger log = LoggerFactory.getLogger(PropertiesFile.class);
+
+	private final Path file;
+
+	private final String description;
+
+	/**
+	 * Creates a new {@link PropertiesFile}.
+	 *
+	 * @param file the file
+	 * @param description the description of the file used in the file header and in log messages
+	 */
+	PropertiesFile(Path file, String description) {
+		this.file = file;
+		this.description = description;
+	}
+
+	/**
+	 * Loads the properties, or returns empty properties if the file does not exist or cannot be read.
+	 *
+	 * @return the properties
+	 */
+	Properties load() {
+		Properties properties = new Properties();
+		if (Files.exists(this.file)) {
+			try (InputStream is = Files.newInputStream(this.file)) {
+				properties.load(is);
+			}
+			catch (IOException | IllegalArgumentException ex) {
+				log.debug("Embedded Cassandra {} ''{}'' could not be read", this.description, this.file, ex);
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Writes the properties to a temporary file next to the file and atomically moves it into place.
+	 *
+	 * @param properties the properties to save
+	 */
+	void save(Properties properties) {
+		Path tempFile = null;
+		try {
+			Path directory = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			tempFile = Files.createTempFile(directory, "", ".tmp");
+			try (OutputStream os = Files.newOutputStream(tempFile)) {
+				properties.store(os, "Embedded Cassandra " + this.description);
+			}
+			Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex) {
+			log.debug("Embedded Cassandra {} ''{}'' could not be written", this.description, this.file, ex);
+			try {
+				FileUtils.delete(tempFile);
+			}
+			catch (IOException ignore) {
+				//ignore
+			}
+		}
+	}
+
+	/**
+	 * Returns the value of the given property as a {@code long}, or {@code 0} if it is absent or malformed.
+	 *
+	 * @param properties the properties
+	 * @param name the name of the property
+	 * @return the value
+	 */
+	static long getLong(Properties properties, String name) {
+		try {
+			return Long.parseLong(properties.getProperty(name, "0"));
+		}
+		catch (NumberFormatException ex) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the value of the given property as a {@code double}, or {@code 0} if it is absent or malformed.
+	 *
+	 * @param properties the properties
+	 * @param name the name of the property
+	 * @return the value
+	 */
+	static double getDouble(Properties properties, String name) {
+		try {
+			return Double.parseDouble(properties.getProperty(name, "0"));
+		}
+		catch (NumberFormatException ex) {
+			return 0;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.file.toString();
+	}
+
+}
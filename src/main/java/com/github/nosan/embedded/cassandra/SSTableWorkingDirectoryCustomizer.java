@@ -0,0 +1,429 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.Yaml;
+
+import com.github.nosan.embedded.cassandra.commons.FileSystemResource;
+import com.github.nosan.embedded.cassandra.commons.FileUtils;
+import com.github.nosan.embedded.cassandra.commons.Resource;
+import com.github.nosan.embedded.cassandra.commons.StringUtils;
+import com.github.nosan.embedded.cassandra.cql.CqlStatement;
+import com.github.nosan.embedded.cassandra.cql.CqlStatementClassifier;
+
+/**
+ * A {@link WorkingDirectoryCustomizer} that writes rows of a single table directly into SSTables in the working
+ * directory before Cassandra is started.
+ *
+ * <p>SSTables are written with Cassandra's own {@code CQLSSTableWriter}, loaded from the {@code lib} directory of
+ * the working directory in a separate JVM, so no Cassandra classes are required on the application classpath and
+ * Cassandra's static state and required JVM options ({@code conf/jvmNN-clients.options}) do not leak into the
+ * application. The JVM of {@link #withJavaHome(Path) the given Java home} is used, which defaults to {@code java.home},
+ * the same JVM Cassandra is started with unless {@code JAVA_HOME} is configured. Rows are handed over via Java
+ * serialization, so all values must be {@link java.io.Serializable}.</p>
+ *
+ * <p>Files are written to {@code KEYSPACE/TABLE-ID} in the first of the {@code data_file_directories} of
+ * {@code conf/cassandra.yaml} in the working directory, or of the {@link #withConfigFile(Resource) given config file}
+ * if Cassandra is configured with a different one. Relative directories are resolved against the working directory,
+ * and {@code data/data} is used if no data directories are configured. A {@code data_file_directories} property
+ * set directly on the builder is not visible to this customizer; use a config file instead.</p>
+ *
+ * <p>Cassandra only picks up the SSTables of a table whose id matches the directory name. After startup, the
+ * keyspace has to be created and the table created with {@link #getSchema()}, which is the given schema with an
+ * explicit {@code ID}. No rows are sent over the network.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * SSTableWorkingDirectoryCustomizer users = new SSTableWorkingDirectoryCustomizer(
+ *         "CREATE TABLE test.users (id int PRIMARY KEY, name text)",
+ *         "INSERT INTO test.users (id, name) VALUES (?, ?)", rows);
+ * Cassandra cassandra = new CassandraBuilder().addWorkingDirectoryCustomizers(users).build();
+ * cassandra.start();
+ * // CREATE KEYSPACE test ...; then users.getSchema()
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public class SSTableWorkingDirectoryCustomizer implements WorkingDirectoryCustomizer {
+
+	private static final Logger log = LoggerFactory.getLogger(SSTableWorkingDirectoryCustomizer.class);
+
+	private static final List<String> DEFAULT_JVM_OPTIONS = List.of("-Djdk.attach.allowAttachSelf=true",
+			"--add-exports", "java.base/jdk.internal.misc=ALL-UNNAMED",
+			"--add-exports", "java.base/jdk.internal.ref=ALL-UNNAMED",
+			"--add-exports", "java.base/sun.nio.ch=ALL-UNNAMED",
+			"--add-exports", "java.sql/java.sql=ALL-UNNAMED",
+			"--add-opens", "java.base/java.lang.module=ALL-UNNAMED",
+			"--add-opens", "java.base/jdk.internal.loader=ALL-UNNAMED",
+			"--add-opens", "java.base/jdk.internal.ref=ALL-UNNAMED",
+			"--add-opens", "java.base/jdk.internal.reflect=ALL-UNNAMED",
+			"--add-opens", "java.base/jdk.internal.math=ALL-UNNAMED",
+			"--add-opens", "java.base/jdk.internal.module=ALL-UNNAMED",
+			"--add-opens", "java.base/jdk.internal.util.jar=ALL-UNNAMED",
+			"--add-opens", "java.base/java.io=ALL-UNNAMED",
+			"--add-opens", "java.base/java.nio=ALL-UNNAMED",
+			"--add-opens", "java.base/sun.nio.ch=ALL-UNNAMED");
+
+	private final String schema;
+
+	private final String insert;
+
+	private final Iterable<? extends List<?>> rows;
+
+	private final UUID tableId;
+
+	private final String keyspace;
+
+	private final String table;
+
+	private final Path javaHome;
+
+	private final Resource configFile;
+
+	/**
+	 * Creates a new {@link SSTableWorkingDirectoryCustomizer} with a table id derived from the table name.
+	 *
+	 * @param schema the {@code CREATE TABLE} statement; the table name must be qualified with a keyspace (must not be
+	 * {@code null})
+	 * @param insert the {@code INSERT} statement with bind markers used for each row (must not be {@code null})
+	 * @param rows the rows to write, each a list of bind values in the order of the {@code insert} bind markers (must
+	 * not be {@code null})
+	 * @throws NullPointerException if any argument is {@code null}
+	 * @throws IllegalArgumentException if {@code schema} is not a {@code CREATE TABLE} statement with a keyspace
+	 */
+	public SSTableWorkingDirectoryCustomizer(String schema, String insert, Iterable<? extends List<?>> rows) {
+		this(schema, insert, rows, null);
+	}
+
+	/**
+	 * Creates a new {@link SSTableWorkingDirectoryCustomizer}.
+	 *
+	 * @param schema the {@code CREATE TABLE} statement; the table name must be qualified with a keyspace (must not be
+	 * {@code null})
+	 * @param insert the {@code INSERT} statement with bind markers used for each row (must not be {@code null})
+	 * @param rows the rows to write, each a list of bind values in the order of the {@code insert} bind markers (must
+	 * not be {@code null})
+	 * @param tableId the table id, or {@code null} to derive it from the keyspace and table names
+	 * @throws NullPointerException if {@code schema}, {@code insert} or {@code rows} is {@code null}
+	 * @throws IllegalArgumentException if {@code schema} is not a {@code CREATE TABLE} statement with a keyspace
+	 */
+	public SSTableWorkingDirectoryCustomizer(String schema, String insert, Iterable<? extends List<?>> rows,
+			UUID tableId) {
+		Objects.requireNonNull(schema, "Schema must not be null");
+		Objects.requireNonNull(insert, "Insert must not be null");
+		Objects.requireNonNull(rows, "Rows must not be null");
+		CqlStatement statement = new CqlStatementClassifier().classify(schema);
+		if (statement.getKind() != CqlStatement.Kind.DDL || statement.getKeyspace().isEmpty()
+				|| statement.getTable().isEmpty()) {
+			throw new IllegalArgumentException("Schema: '" + schema + "' is not a CREATE TABLE statement"
+					+ " with a keyspace-qualified table name");
+		}
+		this.keyspace = statement.getKeyspace().get();
+		this.table = statement.getTable().get();
+		this.schema = schema;
+		this.insert = insert;
+		this.rows = rows;
+		this.tableId = (tableId != null) ? tableId : UUID.nameUUIDFromBytes(
+				(this.keyspace + "." + this.table).getBytes(StandardCharsets.UTF_8));
+		this.javaHome = null;
+		this.configFile = null;
+	}
+
+	private SSTableWorkingDirectoryCustomizer(SSTableWorkingDirectoryCustomizer customizer, Path javaHome,
+			Resource configFile) {
+		this.schema = customizer.schema;
+		this.insert = customizer.insert;
+		this.rows = customizer.rows;
+		this.tableId = customizer.tableId;
+		this.keyspace = customizer.keyspace;
+		this.table = customizer.table;
+		this.javaHome = javaHome;
+		this.configFile = configFile;
+	}
+
+	/**
+	 * Returns a copy of this customizer that writes SSTables with the JVM of the given Java home. This should be the
+	 * {@code JAVA_HOME} Cassandra is started with, if it is configured.
+	 *
+	 * @param javaHome the Java home (must not be {@code null})
+	 * @return a new customizer
+	 * @throws NullPointerException if {@code javaHome} is {@code null}
+	 */
+	public SSTableWorkingDirectoryCustomizer withJavaHome(Path javaHome) {
+		Objects.requireNonNull(javaHome, "Java home must not be null");
+		return new SSTableWorkingDirectoryCustomizer(this, javaHome, this.configFile);
+	}
+
+	/**
+	 * Returns a copy of this customizer that resolves {@code data_file_directories} from the given config file
+	 * instead of {@code conf/cassandra.yaml} in the working directory. This should be the config file Cassandra is
+	 * started with, if it is configured.
+	 *
+	 * @param configFile the config file (must not be {@code null})
+	 * @return a new customizer
+	 * @throws NullPointerException if {@code configFile} is {@code null}
+	 */
+	public SSTableWorkingDirectoryCustomizer withConfigFile(Resource configFile) {
+		Objects.requireNonNull(configFile, "Config file must not be null");
+		return new SSTableWorkingDirectoryCustomizer(this, this.javaHome, configFile);
+	}
+
+	/**
+	 * Returns the {@code CREATE TABLE} statement with an explicit {@code ID}, which must be executed after Cassandra
+	 * has started so that the written SSTables are picked up.
+	 *
+	 * @return the schema statement
+	 */
+	public String getSchema() {
+		String schema = this.schema.strip();
+		if (schema.endsWith(";")) {
+			schema = schema.substring(0, schema.length() - 1).strip();
+		}
+		String options = schema.substring(indexOfColumns(schema));
+		String keyword = options.toUpperCase(Locale.ENGLISH).matches("(?s).*\\bWITH\\b.*") ? " AND" : " WITH";
+		return schema + keyword + " ID = " + this.tableId;
+	}
+
+	/**
+	 * Returns the id of the table.
+	 *
+	 * @return the table id
+	 */
+	public UUID getTableId() {
+		return this.tableId;
+	}
+
+	@Override
+	public void customize(Path workingDirectory, Version version) throws IOException {
+		Objects.requireNonNull(workingDirectory, "Working directory must not be null");
+		Objects.requireNonNull(version, "Version must not be null");
+		Path tableDirectory = getTableDirectory(workingDirectory);
+		Files.createDirectories(tableDirectory);
+		Path temporaryDirectory = Files.createTempDirectory("sstable-");
+		try {
+			Path data = temporaryDirectory.resolve("rows.bin");
+			long count = writeData(data);
+			Path output = temporaryDirectory.resolve("output.log");
+			List<String> command = getCommand(getJavaHome(), workingDirectory, tableDirectory, data);
+			log.info("Writing {} rows for ''{}.{}'' into ''{}''", count, this.keyspace, this.table, tableDirectory);
+			log.debug("Execute {}", command);
+			Process process = new ProcessBuilder(command).redirectErrorStream(true)
+					.redirectOutput(output.toFile()).start();
+			int exitCode = waitFor(process);
+			if (exitCode != 0) {
+				throw new IllegalStateException(String.format("Unable to write SSTables for '%s.%s'. Exit code: %d."
+						+ " Output: %s", this.keyspace, this.table, exitCode, Files.readString(output)));
+			}
+		}
+		finally {
+			FileUtils.delete(temporaryDirectory);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SSTableWorkingDirectoryCustomizer{" + "keyspace='" + this.keyspace + '\'' + ", table='" + this.table
+				+ '\'' + ", tableId=" + this.tableId + ", javaHome=" + this.javaHome + ", configFile="
+				+ this.configFile + '}';
+	}
+
+	Path getTableDirectory(Path workingDirectory) throws IOException {
+		return getDataDirectory(workingDirectory).resolve(this.keyspace)
+				.resolve(this.table + "-" + this.tableId.toString().replace("-", ""));
+	}
+
+	private Path getDataDirectory(Path workingDirectory) throws IOException {
+		Resource configFile = this.configFile;
+		if (configFile == null) {
+			Path path = workingDirectory.resolve("conf").resolve("cassandra.yaml");
+			if (!Files.isRegularFile(path)) {
+				return workingDirectory.resolve("data").resolve("data");
+			}
+			configFile = new FileSystemResource(path);
+		}
+		Map<?, ?> properties;
+		try (InputStream is = configFile.getInputStream()) {
+			properties = new Yaml().loadAs(is, Map.class);
+		}
+		Object directories = (properties != null) ? properties.get("data_file_directories") : null;
+		if (directories instanceof List && !((List<?>) directories).isEmpty()) {
+			return workingDirectory.resolve(String.valueOf(((List<?>) directories).get(0)));
+		}
+		if (directories instanceof String && StringUtils.hasText((String) directories)) {
+			return workingDirectory.resolve((String) directories);
+		}
+		return workingDirectory.resolve("data").resolve("data");
+	}
+
+	private Path getJavaHome() {
+		if (this.javaHome != null) {
+			return this.javaHome;
+		}
+		return Paths.get(System.getProperty("java.home"));
+	}
+
+	private long writeData(Path data) throws IOException {
+		long count = 0;
+		try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(data));
+				ObjectOutputStream out = new ObjectOutputStream(os)) {
+			out.writeObject(this.schema);
+			out.writeObject(this.insert);
+			for (List<?> row : this.rows) {
+				out.writeObject(new ArrayList<>(row));
+				count++;
+				if (count % 1000 == 0) {
+					out.reset();
+				}
+			}
+			out.writeObject(null);
+		}
+		return count;
+	}
+
+	private static List<String> getCommand(Path javaHome, Path workingDirectory, Path tableDirectory, Path data)
+			throws IOException {
+		List<String> command = new ArrayList<>();
+		command.add(javaHome.resolve("bin").resolve("java").toString());
+		command.addAll(getJvmOptions(workingDirectory.resolve("conf"), getJavaVersion(javaHome)));
+		command.add("-cp");
+		command.add(getClasspath(workingDirectory.resolve("lib")));
+		command.add(SSTableWriterMain.class.getName());
+		command.add(tableDirectory.toString());
+		command.add(data.toString());
+		return command;
+	}
+
+	private static List<String> getJvmOptions(Path conf, int javaVersion) throws IOException {
+		Path options = conf.resolve("jvm" + javaVersion + "-clients.options");
+		if (javaVersion <= 0 || !Files.isRegularFile(options)) {
+			return DEFAULT_JVM_OPTIONS;
+		}
+		List<String> jvmOptions = new ArrayList<>();
+		for (String line : Files.readAllLines(options)) {
+			String option = line.strip();
+			if (StringUtils.hasText(option) && !option.startsWith("#")) {
+				jvmOptions.addAll(Arrays.asList(option.split("\\s+")));
+			}
+		}
+		return jvmOptions;
+	}
+
+	private static int getJavaVersion(Path javaHome) throws IOException {
+		if (javaHome.equals(Paths.get(System.getProperty("java.home")))) {
+			return Runtime.version().feature();
+		}
+		Path release = javaHome.resolve("release");
+		if (!Files.isRegularFile(release)) {
+			return -1;
+		}
+		for (String line : Files.readAllLines(release)) {
+			if (line.startsWith("JAVA_VERSION=")) {
+				String version = line.substring("JAVA_VERSION=".length()).replace("\"", "").strip();
+				try {
+					return Runtime.Version.parse(version).feature();
+				}
+				catch (IllegalArgumentException ex) {
+					return -1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static String getClasspath(Path lib) throws IOException {
+		if (!Files.isDirectory(lib)) {
+			throw new IllegalStateException("Directory: '" + lib + "' does not exist");
+		}
+		List<String> classpath = new ArrayList<>();
+		classpath.add(getCodeSource().toString());
+		try (Stream<Path> files = Files.list(lib)) {
+			files.filter(file -> file.getFileName().toString().endsWith(".jar")).sorted()
+					.forEach(jar -> classpath.add(jar.toString()));
+		}
+		return String.join(File.pathSeparator, classpath);
+	}
+
+	private static Path getCodeSource() {
+		try {
+			return Paths.get(SSTableWriterMain.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		}
+		catch (URISyntaxException ex) {
+			throw new IllegalStateException("Unable to locate the code source of " + SSTableWriterMain.class, ex);
+		}
+	}
+
+	private static int waitFor(Process process) throws IOException {
+		try {
+			return process.waitFor();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			process.destroyForcibly();
+			throw new IOException("Interrupted while waiting for SSTables to be written", ex);
+		}
+	}
+
+	private static int indexOfColumns(String schema) {
+		int depth = 0;
+		char quote = 0;
+		for (int i = 0; i < schema.length(); i++) {
+			char c = schema.charAt(i);
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			}
+			else if (c == '\'' || c == '"') {
+				quote = c;
+			}
+			else if (c == '(') {
+				depth++;
+			}
+			else if (c == ')') {
+				depth--;
+				if (depth == 0) {
+					return i + 1;
+				}
+			}
+		}
+		return schema.length();
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * The entry point of the JVM forked by {@link SSTableWorkingDirectoryCustomizer}. It runs with Cassandra's
+ * {@code lib} directory on the classpath and writes the rows read from a data file with {@code CQLSSTableWriter}.
+ *
+ * <p>Arguments: the table directory and the data file. The data file holds the schema, the insert statement and the
+ * rows, written with {@link java.io.ObjectOutputStream} and terminated by {@code null}.</p>
+ *
+ * @author Dmytro Nosan
+ */
+final class SSTableWriterMain {
+
+	static final String WRITER_CLASS_NAME = "org.apache.cassandra.io.sstable.CQLSSTableWriter";
+
+	private SSTableWriterMain() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String directory = args[0];
+		try (InputStream is = new BufferedInputStream(Files.newInputStream(Paths.get(args[1])));
+				ObjectInputStream data = new ObjectInputStream(is)) {
+			String schema = (String) data.readObject();
+			String insert = (String) data.readObject();
+			Class<?> writerClass = Class.forName(WRITER_CLASS_NAME);
+			Object builder = writerClass.getMethod("builder").invoke(null);
+			builder = invoke(builder, "inDirectory", directory);
+			builder = invoke(builder, "forTable", schema);
+			builder = invoke(builder, "using", insert);
+			Method addRow = writerClass.getMethod("addRow", List.class);
+			try (Closeable writer = (Closeable) builder.getClass().getMethod("build").invoke(builder)) {
+				Object row;
+				while ((row = data.readObject()) != null) {
+					addRow.invoke(writer, row);
+				}
+			}
+		}
+		// CQLSSTableWriter may leave non-daemon threads behind.
+		System.exit(0);
+	}
+
+	private static Object invoke(Object target, String name, String argument) throws Exception {
+		return target.getClass().getMethod(name, String.class).invoke(target, argument);
+	}
+
+}
@@ -64,7 +64,17 @@ class UnixCassandraDatabase extends AbstractCassandraDatabase {
 			command.add("-R");
 		}
 		command.add("-f");
-		return start(getName(), processBuilder.command(command));
+		CassandraEvents.Spawn event = new CassandraEvents.Spawn();
+		event.begin();
+		ProcessWrapper process = start(getName(), processBuilder.command(command));
+		if (event.shouldCommit()) {
+			event.name = getName();
+			event.version = getVersion().toString();
+			event.command = String.join(" ", command);
+			event.pid = process.getPid();
+			event.commit();
+		}
+		return process;
 	}
 
 	@Override
@@ -73,13 +83,26 @@ class UnixCassandraDatabase extends AbstractCassandraDatabase {
 		processBuilder.directory(getWorkingDirectory().toFile());
 		processBuilder.environment().putAll(getEnvironmentVariables());
 		long pid = process.getPid();
-		if (pid > 0 && kill(processBuilder, pid) == 0 && process.waitFor(10, TimeUnit.SECONDS)) {
-			return;
+		CassandraEvents.ProcessStop event = new CassandraEvents.ProcessStop();
+		event.begin();
+		try {
+			if (pid > 0 && kill(processBuilder, pid) == 0 && process.waitFor(10, TimeUnit.SECONDS)) {
+				return;
+			}
+			event.forced = true;
+			if (pid > 0 && sigkill(processBuilder, pid) == 0 && process.waitFor(10, TimeUnit.SECONDS)) {
+				return;
+			}
+			process.destroy();
 		}
-		if (pid > 0 && sigkill(processBuilder, pid) == 0 && process.waitFor(10, TimeUnit.SECONDS)) {
-			return;
+		finally {
+			if (event.shouldCommit()) {
+				event.name = getName();
+				event.version = getVersion().toString();
+				event.pid = pid;
+				event.commit();
+			}
 		}
-		process.destroy();
 	}
 
 	void setExecutable(Path executable) throws IOException {
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A range of Cassandra {@link Version versions}, resolved to a concrete version by
+ * {@link CassandraReleaseIndex#resolve(VersionRange)}.
+ *
+ * <p>The following forms are supported:</p>
+ * <ul>
+ * <li>{@code latest} or {@code *}: any version</li>
+ * <li>{@code 4.x}, {@code 4.1.x} (or {@code 4.*}, {@code 4.1.*}): any version of a major or a minor release</li>
+ * <li>{@code [4.0,4.1)}, {@code (4.0.5,]}, {@code [4.1.2,4.1.4]}: an interval, where {@code [} and {@code ]} include
+ * the bound, {@code (} and {@code )} exclude it, and a missing bound is unbounded</li>
+ * </ul>
+ *
+ * <p>Versions with a label, e.g. {@code 5.0-beta1}, are never contained in a range.</p>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public final class VersionRange {
+
+	private static final Pattern WILDCARD_PATTERN = Pattern.compile("^([0-9]+)(\\.([0-9]+))?\\.[xX*]$");
+
+	private static final Pattern INTERVAL_PATTERN = Pattern.compile("^([\\[(])([^,]*),([^,]*)([])])$");
+
+	private final String range;
+
+	private final Version lower;
+
+	private final boolean lowerInclusive;
+
+	private final Version upper;
+
+	private final boolean upperInclusive;
+
+	private VersionRange(String range, Version lower, boolean lowerInclusive, Version upper,
+			boolean upperInclusive) {
+		this.range = range;
+		this.lower = lower;
+		this.lowerInclusive = lowerInclusive;
+		this.upper = upper;
+		this.upperInclusive = upperInclusive;
+	}
+
+	/**
+	 * Parses a {@link VersionRange} from the given string.
+	 *
+	 * @param range the range to parse
+	 * @return the parsed range
+	 * @throws IllegalArgumentException if the range is blank or invalid
+	 */
+	public static VersionRange parse(String range) throws IllegalArgumentException {
+		if (range == null || range.trim().isEmpty()) {
+			throw new IllegalArgumentException("Version Range must not be null or blank");
+		}
+		String value = range.trim();
+		if (value.equalsIgnoreCase("latest") || value.equals("*")) {
+			return new VersionRange(value, null, false, null, false);
+		}
+		Matcher wildcard = WILDCARD_PATTERN.matcher(value);
+		if (wildcard.find()) {
+			int major = Integer.parseInt(wildcard.group(1));
+			if (wildcard.group(3) == null) {
+				return new VersionRange(value, Version.parse(major + ".0"), true, Version.parse((major + 1) + ".0"),
+						false);
+			}
+			int minor = Integer.parseInt(wildcard.group(3));
+			return new VersionRange(value, Version.parse(major + "." + minor), true,
+					Version.parse(major + "." + (minor + 1)), false);
+		}
+		Matcher interval = INTERVAL_PATTERN.matcher(value);
+		if (interval.find()) {
+			try {
+				Version lower = parseBound(interval.group(2));
+				Version upper = parseBound(interval.group(3));
+				if (lower != null && upper != null && lower.compareTo(upper) > 0) {
+					throw new IllegalArgumentException("Version Range '" + range + "' is empty");
+				}
+				return new VersionRange(value, lower, interval.group(1).equals("["), upper,
+						interval.group(4).equals("]"));
+			}
+			catch (IllegalArgumentException ex) {
+				throw new IllegalArgumentException("Version Range '" + range + "' is invalid", ex);
+			}
+		}
+		throw new IllegalArgumentException("Version Range '" + range + "' is invalid");
+	}
+
+	/**
+	 * Tests whether the given string is a version range rather than a concrete version.
+	 *
+	 * @param range the string to test
+	 * @return {@code true} if the string can be parsed by {@link #parse(String)}
+	 */
+	public static boolean isRange(String range) {
+		try {
+			parse(range);
+			return true;
+		}
+		catch (IllegalArgumentException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Tests whether the given version is contained in this range.
+	 *
+	 * @param version the version to test (must not be {@code null})
+	 * @return {@code true} if the version is contained in this range
+	 * @throws NullPointerException if {@code version} is {@code null}
+	 */
+	public boolean contains(Version version) {
+		Objects.requireNonNull(version, "Version must not be null");
+		if (version.getLabel().isPresent()) {
+			return false;
+		}
+		if (this.lower != null) {
+			int cmp = version.compareTo(this.lower);
+			if (cmp < 0 || (cmp == 0 && !this.lowerInclusive)) {
+				return false;
+			}
+		}
+		if (this.upper != null) {
+			int cmp = version.compareTo(this.upper);
+			return cmp < 0 || (cmp == 0 && this.upperInclusive);
+		}
+		return true;
+	}
+
+	/**
+	 * Selects the highest of the given versions that is contained in this range.
+	 *
+	 * @param versions the versions to select from (must not be {@code null})
+	 * @return the highest contained version, or empty if none is contained
+	 * @throws NullPointerException if {@code versions} is {@code null}
+	 */
+	public Optional<Version> select(Collection<? extends Version> versions) {
+		Objects.requireNonNull(versions, "Versions must not be null");
+		Version selected = null;
+		for (Version version : versions) {
+			if (contains(version) && (selected == null || version.compareTo(selected) > 0)) {
+				selected = version;
+			}
+		}
+		return Optional.ofNullable(selected);
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (other == null || getClass() != other.getClass()) {
+			return false;
+		}
+		VersionRange that = (VersionRange) other;
+		return this.range.equals(that.range);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.range.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return this.range;
+	}
+
+	private static Version parseBound(String bound) {
+		return bound.trim().isEmpty() ? null : Version.parse(bound);
+	}
+
+}
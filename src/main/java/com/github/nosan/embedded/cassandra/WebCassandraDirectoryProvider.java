@@ -17,11 +17,14 @@
 package com.github.nosan.embedded.cassandra;
 
 import java.io.FileNotFoundException;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -30,16 +33,25 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.apache.commons.compress.archivers.ArchiveEntry;
@@ -70,6 +82,15 @@ import com.github.nosan.embedded.cassandra.commons.web.JdkHttpClient;
  */
 public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider {
 
+	/**
+	 * The default mirrors: {@code downloads.apache.org}, which keeps only the supported versions, and
+	 * {@code archive.apache.org}, which keeps all of them.
+	 *
+	 * @since 5.1.0
+	 */
+	public static final List<URI> DEFAULT_MIRRORS = List.of(URI.create("https://downloads.apache.org/cassandra"),
+			URI.create("https://archive.apache.org/dist/cassandra"));
+
 	protected static final String[] ALGORITHMS = {"SHA-512", "SHA-256", "SHA-1", "MD5"};
 
 	private static final Logger log = LoggerFactory.getLogger(WebCassandraDirectoryProvider.class);
@@ -78,6 +99,10 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 
 	private final Path downloadDirectory;
 
+	private final List<URI> mirrors;
+
+	private final MirrorSelector mirrorSelector;
+
 	/**
 	 * Creates a new {@link WebCassandraDirectoryProvider} with {@link JdkHttpClient} and {@code user.home} directory.
 	 */
@@ -111,10 +136,29 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 	 * @param downloadDirectory the download directory
 	 */
 	public WebCassandraDirectoryProvider(HttpClient httpClient, Path downloadDirectory) {
+		this(httpClient, downloadDirectory, DEFAULT_MIRRORS);
+	}
+
+	/**
+	 * Creates a new {@link WebCassandraDirectoryProvider} with provided {@link HttpClient}, download directory and
+	 * mirrors. A mirror is a base URI under which an archive is found as
+	 * {@code <mirror>/<version>/apache-cassandra-<version>-bin.tar.gz}, along with its checksums. Mirrors are tried
+	 * in the order chosen by a {@link MirrorSelector}, whose history is kept in the download directory.
+	 *
+	 * @param httpClient http client to use
+	 * @param downloadDirectory the download directory
+	 * @param mirrors the mirrors to download from, e.g. a corporate one followed by {@link #DEFAULT_MIRRORS}
+	 * @since 5.1.0
+	 */
+	public WebCassandraDirectoryProvider(HttpClient httpClient, Path downloadDirectory, List<URI> mirrors) {
 		Objects.requireNonNull(httpClient, "HTTP Client must not be null");
 		Objects.requireNonNull(downloadDirectory, "Download Directory must not be null");
+		Objects.requireNonNull(mirrors, "Mirrors must not be null");
 		this.httpClient = httpClient;
 		this.downloadDirectory = downloadDirectory;
+		this.mirrors = List.copyOf(mirrors);
+		this.mirrorSelector = new MirrorSelector(httpClient,
+				downloadDirectory.resolve(".embedded-cassandra").resolve("mirrors.properties"));
 	}
 
 	@Override
@@ -123,15 +167,25 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 		Path downloadDirectory = this.downloadDirectory.resolve(".embedded-cassandra").resolve(version.toString());
 
 		Path successFile = downloadDirectory.resolve(".success").normalize().toAbsolutePath();
+		Path profileFile = downloadDirectory.resolve(".profile").normalize().toAbsolutePath();
 		Path cassandraDirectory = downloadDirectory.resolve(String.format("apache-cassandra-%s", version))
 				.normalize().toAbsolutePath();
+		DistributionProfile profile = getDistributionProfile();
+
+		Path lockFile = downloadDirectory.resolve(".lock").normalize().toAbsolutePath();
 
-		if (Files.exists(successFile) && Files.exists(cassandraDirectory)) {
-			return cassandraDirectory;
+		if (isInitialized(successFile, profileFile, cassandraDirectory, profile)) {
+			// A shared lock keeps the version from being evicted or re-extracted while it is checked.
+			try (FileLock fileLock = FileLock.of(lockFile)) {
+				if (fileLock.tryLock(FileLock.Mode.SHARED, 0, TimeUnit.MILLISECONDS)
+						&& isInitialized(successFile, profileFile, cassandraDirectory, profile)) {
+					touch(version, false);
+					return cassandraDirectory;
+				}
+			}
 		}
 		log.info("Cassandra directory: ''{}'' is not found. Initializing...", cassandraDirectory);
 		Files.createDirectories(downloadDirectory);
-		Path lockFile = downloadDirectory.resolve(".lock").normalize().toAbsolutePath();
 
 		try (FileLock fileLock = FileLock.of(lockFile)) {
 			log.info("Acquires a lock to the file ''{}''...", lockFile);
@@ -140,9 +194,16 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 						+ " File lock could not be acquired for a file: '%s'", version, lockFile));
 			}
 
-			if (Files.exists(successFile) && Files.exists(cassandraDirectory)) {
+			if (isInitialized(successFile, profileFile, cassandraDirectory, profile)) {
+				touch(version, false);
 				return cassandraDirectory;
 			}
+			if (Files.exists(cassandraDirectory)) {
+				log.info("Cassandra directory: ''{}'' was not extracted with ''{}''. Re-initializing...",
+						cassandraDirectory, profile);
+				Files.deleteIfExists(successFile);
+				FileUtils.delete(cassandraDirectory);
+			}
 
 			List<CassandraPackage> cassandraPackages = getCassandraPackages(version);
 			if (cassandraPackages.isEmpty()) {
@@ -150,13 +211,19 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 						+ " for a version: '%s'. No Packages!", version));
 			}
 			List<Exception> failures = new ArrayList<>();
-			for (CassandraPackage cassandraPackage : cassandraPackages) {
+			for (int i = 0; i < cassandraPackages.size(); i++) {
+				CassandraPackage cassandraPackage = cassandraPackages.get(i);
+				CassandraPackage hedgePackage = (i + 1 < cassandraPackages.size()) ? cassandraPackages.get(i + 1)
+						: null;
 				try {
-					downloadAndExtract(version, downloadDirectory, cassandraDirectory, cassandraPackage);
+					downloadAndExtract(version, downloadDirectory, cassandraDirectory, profile, cassandraPackage,
+							hedgePackage);
 					if (!Thread.currentThread().isInterrupted()) {
+						Files.write(profileFile, Collections.singleton(profile.toString()));
 						Files.write(successFile, Collections.singleton(ZonedDateTime.now().toString()));
 					}
 					log.info("Cassandra directory: ''{}'' is initialized.", cassandraDirectory);
+					touch(version, true);
 					return cassandraDirectory;
 				}
 				catch (Exception ex) {
@@ -174,6 +241,46 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 		}
 	}
 
+	/**
+	 * Provides the Cassandra directory like {@link #getDirectory(Version)} and holds a shared lock on it until the
+	 * lease is closed, so that a {@link CassandraCacheManager} does not evict it meanwhile. A version which has been
+	 * evicted before the lock was acquired is provided once again.
+	 *
+	 * @param version the Cassandra version
+	 * @return the lease of the Cassandra directory
+	 * @throws IOException if an I/O error occurs
+	 * @since 5.1.0
+	 */
+	@Override
+	public final Lease acquire(Version version) throws IOException {
+		Objects.requireNonNull(version, "Version must not be null");
+		Path downloadDirectory = this.downloadDirectory.resolve(".embedded-cassandra").resolve(version.toString());
+		Path successFile = downloadDirectory.resolve(".success").normalize().toAbsolutePath();
+		Path profileFile = downloadDirectory.resolve(".profile").normalize().toAbsolutePath();
+		Path lockFile = downloadDirectory.resolve(".lock").normalize().toAbsolutePath();
+		DistributionProfile profile = getDistributionProfile();
+		for (int attempt = 0; attempt < 2; attempt++) {
+			Path cassandraDirectory = getDirectory(version);
+			FileLock fileLock = FileLock.of(lockFile);
+			try {
+				if (!fileLock.tryLock(FileLock.Mode.SHARED, 5, TimeUnit.MINUTES)) {
+					throw new IOException(String.format("Unable to provide Cassandra Directory for a version: '%s'."
+							+ " File lock could not be acquired for a file: '%s'", version, lockFile));
+				}
+				if (isInitialized(successFile, profileFile, cassandraDirectory, profile)) {
+					return new Lease(cassandraDirectory, fileLock::close);
+				}
+			}
+			catch (IOException | RuntimeException ex) {
+				fileLock.close();
+				throw ex;
+			}
+			fileLock.close();
+		}
+		throw new IOException(String.format("Unable to provide Cassandra Directory for a version: '%s'."
+				+ " It has been removed while being acquired", version));
+	}
+
 	/**
 	 * Gets Cassandra packages to download.
 	 * <p>Subclasses may override this method and return their packages to download.
@@ -182,13 +289,19 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 	 * @return the list of packages
 	 */
 	protected List<CassandraPackage> getCassandraPackages(Version version) {
+		String name = String.format("apache-cassandra-%1$s-bin.tar.gz", version);
+		List<URI> candidates = new ArrayList<>();
+		for (URI mirror : this.mirrors) {
+			String base = mirror.toString();
+			if (base.endsWith("/")) {
+				base = base.substring(0, base.length() - 1);
+			}
+			candidates.add(URI.create(String.format("%s/%s/%s", base, version, name)));
+		}
 		List<CassandraPackage> packages = new ArrayList<>();
-		packages.add(createPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
-				String.format("https://downloads.apache.org/cassandra"
-						+ "/%1$s/apache-cassandra-%1$s-bin.tar.gz", version)));
-		packages.add(createPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
-				String.format("https://archive.apache.org/dist/cassandra/%1$s/"
-						+ "apache-cassandra-%1$s-bin.tar.gz", version)));
+		for (URI uri : this.mirrorSelector.select(candidates)) {
+			packages.add(createPackage(name, uri.toString()));
+		}
 		return packages;
 	}
 
@@ -204,6 +317,19 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 		return fileLock.tryLock(5, TimeUnit.MINUTES);
 	}
 
+	/**
+	 * Gets the policy for hedging a slow download with a parallel download of the next package.
+	 * <p>Subclasses may override this method to change the policy or to disable hedging. By default, a download is
+	 * hedged if it receives less than 64 KB per second for 10 seconds. Hedging is not used while
+	 * {@link #getBandwidthLimiter()} limits the bandwidth.
+	 *
+	 * @return the hedging policy
+	 * @since 5.1.0
+	 */
+	protected HedgingPolicy getHedgingPolicy() {
+		return HedgingPolicy.of(64 * 1024, Duration.ofSeconds(10));
+	}
+
 	/**
 	 * Downloads the archive file from the provided URI and writes it into the provided output stream.
 	 * <p>Subclasses may override this method and implement their logic for downloading.
@@ -221,22 +347,8 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 						+ " It takes a while...", version, response.getUri());
 				long totalBytes = response.getHeaders().getFirst("Content-Length")
 						.map(Long::parseLong).orElse(-1L);
-				long readBytes = 0;
-				int lastPercent = 0;
-				byte[] buffer = new byte[8192];
 				try (InputStream is = response.getInputStream()) {
-					int read;
-					while ((read = is.read(buffer)) != -1) {
-						os.write(buffer, 0, read);
-						if (totalBytes > 0) {
-							readBytes += read;
-							int percent = (int) (readBytes * 100 / totalBytes);
-							if (percent - lastPercent >= 10 || percent == 100) {
-								log.info("{} / {} {}%", readBytes, totalBytes, percent);
-								lastPercent = percent;
-							}
-						}
-					}
+					transfer(response.getUri(), is, os, totalBytes);
 				}
 			}
 			else {
@@ -245,15 +357,65 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 		}
 	}
 
+	/**
+	 * Gets the limits of the distribution cache in the download directory.
+	 * <p>Subclasses may override this method to limit the cache. Once a version has been downloaded, the least
+	 * recently used versions beyond the limits are evicted, see {@link CassandraCacheManager}.
+	 *
+	 * @return the cache eviction policy
+	 * @since 5.1.0
+	 */
+	protected CacheEvictionPolicy getCacheEvictionPolicy() {
+		return CacheEvictionPolicy.unlimited();
+	}
+
+	/**
+	 * Gets the profile of the distribution content which is kept in the download directory.
+	 * <p>Subclasses may override this method to store a leaner distribution, e.g. {@link DistributionProfile#server()}.
+	 * The profile is recorded next to each extracted version, and a version which was extracted with another profile
+	 * is downloaded and extracted again. Versions without a recorded profile are kept as they are.
+	 *
+	 * @return the distribution profile
+	 * @since 5.1.0
+	 */
+	protected DistributionProfile getDistributionProfile() {
+		return DistributionProfile.defaults();
+	}
+
+	/**
+	 * Gets the listener which is notified about the progress of downloads.
+	 * <p>Subclasses may override this method to report the progress, e.g. to a CI system.
+	 *
+	 * @return the progress listener
+	 * @since 5.1.0
+	 */
+	protected DownloadProgressListener getProgressListener() {
+		return DownloadProgressListener.noop();
+	}
+
+	/**
+	 * Gets the limiter of download bandwidth.
+	 * <p>Subclasses may override this method to limit the bandwidth. Return the same {@link BandwidthLimiter} from
+	 * all providers to limit the bandwidth of the whole JVM.
+	 *
+	 * @return the bandwidth limiter
+	 * @since 5.1.0
+	 */
+	protected BandwidthLimiter getBandwidthLimiter() {
+		return BandwidthLimiter.unlimited();
+	}
+
 	/**
 	 * Extracts the given archive file into the given destination directory.
-	 * <p>Subclasses may override this method and implement their logic for extraction.
+	 * <p>Subclasses may override this method and implement their logic for extraction. Files excluded by
+	 * {@link #getDistributionProfile()}, relative to the archive root or to its top-level directory, are not extracted.
 	 *
 	 * @param archiveFile the archive file to extract
 	 * @param destination the directory to which to extract the files (already created)
 	 * @throws IOException an I/O error occurs
 	 */
 	protected void extract(Path archiveFile, Path destination) throws IOException {
+		DistributionProfile profile = getDistributionProfile();
 		try (ArchiveInputStream<? extends ArchiveEntry> archiveInputStream = createArchiveInputStream(archiveFile)) {
 			ArchiveEntry entry;
 			while ((entry = archiveInputStream.getNextEntry()) != null) {
@@ -261,6 +423,9 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 				if (!entryPath.startsWith(destination)) {
 					throw new IOException("Bad zip entry [" + entry.getName() + "]");
 				}
+				if (isExcluded(profile, destination.relativize(entryPath))) {
+					continue;
+				}
 				if (entry.isDirectory()) {
 					Files.createDirectories(entryPath);
 				}
@@ -286,20 +451,156 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 		return new TarArchiveInputStream(new GzipCompressorInputStream(Files.newInputStream(archiveFile)));
 	}
 
+	void transfer(URI uri, InputStream is, OutputStream os, long totalBytes) throws IOException {
+		DownloadProgressListener listener = getProgressListener();
+		BandwidthLimiter limiter = getBandwidthLimiter();
+		long start = System.nanoTime();
+		long interval = TimeUnit.MILLISECONDS.toNanos(DownloadProgressListener.DEFAULT_INTERVAL_MILLIS);
+		long nextProgress = start + interval;
+		long readBytes = 0;
+		int lastPercent = 0;
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = is.read(buffer)) != -1) {
+			try {
+				limiter.acquire(read);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				InterruptedIOException exception = new InterruptedIOException("Interrupted while downloading: " + uri);
+				exception.initCause(ex);
+				throw exception;
+			}
+			os.write(buffer, 0, read);
+			readBytes += read;
+			if (totalBytes > 0) {
+				int percent = (int) (readBytes * 100 / totalBytes);
+				if (percent - lastPercent >= 10 || percent == 100) {
+					log.info("{} / {} {}%", readBytes, totalBytes, percent);
+					lastPercent = percent;
+				}
+			}
+			long now = System.nanoTime();
+			if (now - nextProgress >= 0) {
+				listener.onProgress(new DownloadProgress(uri, readBytes, totalBytes, Duration.ofNanos(now - start),
+						false));
+				nextProgress = now + interval;
+			}
+		}
+		listener.onProgress(new DownloadProgress(uri, readBytes, totalBytes,
+				Duration.ofNanos(System.nanoTime() - start), true));
+	}
+
+	/**
+	 * Returns {@link #getHedgingPolicy()}, or a disabled policy if {@link #getBandwidthLimiter()} limits the
+	 * bandwidth: a limited download is slow by design, and the throughput it measures includes the time spent waiting
+	 * for the limiter, so it would always be hedged, doubling the traffic the limiter is meant to bound.
+	 */
+	HedgingPolicy getEffectiveHedgingPolicy() {
+		HedgingPolicy hedgingPolicy = getHedgingPolicy();
+		if (hedgingPolicy.isEnabled() && getBandwidthLimiter().getBytesPerSecond() != Long.MAX_VALUE) {
+			log.debug("Hedging is disabled, as the bandwidth is limited by {}", getBandwidthLimiter());
+			return HedgingPolicy.disabled();
+		}
+		return hedgingPolicy;
+	}
+
+	private void touch(Version version, boolean evict) {
+		try {
+			CassandraCacheManager cacheManager = new CassandraCacheManager(this.downloadDirectory,
+					getCacheEvictionPolicy());
+			cacheManager.touch(version);
+			if (evict) {
+				cacheManager.evict(version);
+			}
+		}
+		catch (Exception ex) {
+			log.warn("Cassandra cache ''{}'' could not be maintained", this.downloadDirectory, ex);
+		}
+	}
+
 	private void downloadAndExtract(Version version, Path downloadDirectory, Path cassandraDirectory,
-			CassandraPackage cassandraPackage) throws IOException, NoSuchAlgorithmException {
+			DistributionProfile profile, CassandraPackage cassandraPackage, CassandraPackage hedgePackage)
+			throws IOException, NoSuchAlgorithmException {
 		Path downloadFile = Files.createTempFile(downloadDirectory, "", "-" + cassandraPackage.getName())
 				.normalize().toAbsolutePath();
-		try (OutputStream outputStream = Files.newOutputStream(downloadFile, StandardOpenOption.WRITE)) {
-			download(this.httpClient, version, cassandraPackage.getUri(), outputStream);
-			verifyChecksums(this.httpClient, downloadFile, cassandraPackage);
+		CassandraMetrics metrics = MetricsContext.get();
+		HedgingPolicy hedgingPolicy = getEffectiveHedgingPolicy();
+		boolean hedge = hedgePackage != null && hedgingPolicy.isEnabled()
+				&& !hedgePackage.getUri().equals(cassandraPackage.getUri());
+		try (Checksums checksums = Checksums.fetch(this.httpClient, cassandraPackage);
+				OutputStream outputStream = Files.newOutputStream(downloadFile, StandardOpenOption.WRITE);
+				HedgedDownload hedgedDownload = hedge ? new HedgedDownload(this, this.httpClient, version,
+						hedgingPolicy) : null) {
+			long start = System.nanoTime();
+			CassandraEvents.Download downloadEvent = new CassandraEvents.Download();
+			downloadEvent.begin();
+			Path archiveFile = downloadFile;
+			URI downloadUri = cassandraPackage.getUri();
+			try {
+				if (hedgedDownload != null) {
+					archiveFile = hedgedDownload.download(downloadUri, downloadFile, checksums.digest(outputStream),
+							hedgePackage.getUri());
+					downloadUri = hedgedDownload.getWinner();
+				}
+				else {
+					download(this.httpClient, version, downloadUri, checksums.digest(outputStream));
+				}
+			}
+			catch (IOException ex) {
+				this.mirrorSelector.recordFailure(cassandraPackage.getUri());
+				throw ex;
+			}
+			long elapsed = System.nanoTime() - start;
+			MetricsContext.recordTime(metrics, CassandraMetrics.Phase.DOWNLOAD, start);
+			downloadEvent.end();
+			if (!downloadUri.equals(cassandraPackage.getUri())) {
+				this.mirrorSelector.recordFailure(cassandraPackage.getUri());
+				checksums.compute(archiveFile);
+			}
+			CassandraEvents.Verify verifyEvent = new CassandraEvents.Verify();
+			outputStream.flush();
+			long downloadSize = Files.size(archiveFile);
+			metrics.recordBytes(CassandraMetrics.Phase.DOWNLOAD, downloadSize);
+			this.mirrorSelector.recordSuccess(downloadUri, downloadSize, Duration.ofNanos(elapsed));
+			if (downloadEvent.shouldCommit()) {
+				downloadEvent.version = version.toString();
+				downloadEvent.uri = downloadUri.toString();
+				downloadEvent.bytes = downloadSize;
+				downloadEvent.commit();
+			}
+			start = System.nanoTime();
+			verifyEvent.begin();
+			verifyChecksums(checksums, cassandraPackage);
+			MetricsContext.recordTime(metrics, CassandraMetrics.Phase.VERIFY, start);
+			if (verifyEvent.shouldCommit()) {
+				verifyEvent.version = version.toString();
+				verifyEvent.bytes = downloadSize;
+				verifyEvent.commit();
+			}
 			Path extractDirectory = Files.createTempDirectory(downloadDirectory,
 					String.format("apache-cassandra-%s-", version)).normalize().toAbsolutePath();
 			try {
 				log.info("Extracting...");
-				extract(downloadFile, extractDirectory);
+				start = System.nanoTime();
+				CassandraEvents.Extract extractEvent = new CassandraEvents.Extract();
+				extractEvent.begin();
+				extract(archiveFile, extractDirectory);
+				MetricsContext.recordTime(metrics, CassandraMetrics.Phase.EXTRACT, start);
+				extractEvent.end();
+				if (MetricsContext.isEnabled(metrics) || extractEvent.shouldCommit()) {
+					DirectorySize size = DirectorySize.of(extractDirectory);
+					metrics.recordBytes(CassandraMetrics.Phase.EXTRACT, size.bytes);
+					if (extractEvent.shouldCommit()) {
+						extractEvent.version = version.toString();
+						extractEvent.bytes = size.bytes;
+						extractEvent.fileCount = size.files;
+						extractEvent.commit();
+					}
+				}
 				Path cassandraHome = findCassandraHome(extractDirectory);
-				FileUtils.copy(cassandraHome, cassandraDirectory, StandardCopyOption.REPLACE_EXISTING);
+				FileUtils.copy(cassandraHome, cassandraDirectory, (path, attributes) -> profile.isIncluded(
+						cassandraHome.relativize(path), attributes.isDirectory()), StandardCopyOption.REPLACE_EXISTING);
 			}
 			finally {
 				deleteSilently(extractDirectory);
@@ -310,35 +611,27 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 		}
 	}
 
-	private void verifyChecksums(HttpClient httpClient, Path archiveFile, CassandraPackage cassandraPackage)
-			throws IOException, NoSuchAlgorithmException {
+	private void verifyChecksums(Checksums checksums, CassandraPackage cassandraPackage) throws IOException {
 		log.info("Verifying checksum...");
-		Map<String, URI> checksums = cassandraPackage.getChecksums();
-		if (checksums.isEmpty()) {
+		if (cassandraPackage.getChecksums().isEmpty()) {
 			log.warn("No checksum defined for ''{}'', skipping verification.", cassandraPackage.getName());
 			return;
 		}
-		for (Map.Entry<String, URI> checksum : checksums.entrySet()) {
-			String algo = checksum.getKey();
-			URI uri = checksum.getValue();
-			try (HttpResponse response = httpClient.send(new HttpRequest(uri))) {
-				if (response.getStatus() == 200) {
-					String expected;
-					try (InputStream stream = response.getInputStream()) {
-						expected = StreamUtils.toString(stream, Charset.defaultCharset()).trim();
-					}
-					String[] tokens = expected.split("\\s+");
-					String actual = FileUtils.checksum(archiveFile, algo);
-					if (tokens.length == 2) {
-						verify(actual + " " + cassandraPackage.getName(), tokens[0] + " " + tokens[1]);
-					}
-					else {
-						verify(actual, tokens[0]);
-					}
-					log.info("Checksums are identical");
-					return;
-				}
+		for (String algo : checksums.getAlgorithms()) {
+			String expected = checksums.getExpected(algo);
+			if (expected == null) {
+				continue;
+			}
+			String[] tokens = expected.split("\\s+");
+			String actual = checksums.getActual(algo);
+			if (tokens.length == 2) {
+				verify(actual + " " + cassandraPackage.getName(), tokens[0] + " " + tokens[1]);
 			}
+			else {
+				verify(actual, tokens[0]);
+			}
+			log.info("Checksums are identical");
+			return;
 		}
 		log.warn("No checksum downloaded for ''{}'', skipping verification.", cassandraPackage.getName());
 	}
@@ -350,6 +643,12 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 		}
 	}
 
+	// Cassandra archives keep the Cassandra home in a top-level directory, which is not known until extracted.
+	private static boolean isExcluded(DistributionProfile profile, Path path) {
+		return profile.isExcluded(path) || (path.getNameCount() > 1 && profile.isExcluded(
+				path.subpath(1, path.getNameCount())));
+	}
+
 	private Path findCassandraHome(Path directory) throws IOException {
 		try (Stream<Path> stream = Files.find(directory, 5, this::isCassandraHome)) {
 			return stream.findFirst().orElseThrow(() -> new IllegalStateException(
@@ -365,6 +664,19 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 		return false;
 	}
 
+	// The distribution profile is part of the cache identity. Directories without a recorded profile were stored
+	// before profiles existed or by another provider, and are kept as they are.
+	private static boolean isInitialized(Path successFile, Path profileFile, Path cassandraDirectory,
+			DistributionProfile profile) throws IOException {
+		if (!Files.exists(successFile) || !Files.exists(cassandraDirectory)) {
+			return false;
+		}
+		if (!Files.exists(profileFile)) {
+			return true;
+		}
+		return String.join("", Files.readAllLines(profileFile)).equals(profile.toString());
+	}
+
 	private static CassandraPackage createPackage(String name, String uri) {
 		Map<String, URI> checksums = new LinkedHashMap<>();
 		for (String algo : ALGORITHMS) {
@@ -445,4 +757,166 @@ public class WebCassandraDirectoryProvider implements CassandraDirectoryProvider
 
 	}
 
+	/**
+	 * Checksums of a package: the expected ones are fetched concurrently, while the actual ones are computed as the
+	 * archive is downloaded, so the archive is read only once.
+	 */
+	private static final class Checksums implements AutoCloseable {
+
+		private final Map<String, CompletableFuture<String>> expected = new LinkedHashMap<>();
+
+		private final List<CompletableFuture<HttpResponse>> responses = new ArrayList<>();
+
+		private final Map<String, MessageDigest> digests = new LinkedHashMap<>();
+
+		private final ExecutorService executor;
+
+		private Map<String, String> actual;
+
+		private Checksums(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		static Checksums fetch(HttpClient httpClient, CassandraPackage cassandraPackage) {
+			Map<String, URI> uris = cassandraPackage.getChecksums();
+			if (uris.isEmpty()) {
+				return new Checksums(null);
+			}
+			AtomicInteger threadCount = new AtomicInteger();
+			Checksums checksums = new Checksums(Executors.newFixedThreadPool(uris.size(), runnable -> {
+				Thread thread = new Thread(runnable, "checksum-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}));
+			for (Map.Entry<String, URI> entry : uris.entrySet()) {
+				String algo = entry.getKey();
+				try {
+					checksums.digests.put(algo, MessageDigest.getInstance(algo));
+				}
+				catch (NoSuchAlgorithmException ex) {
+					log.warn("Checksum algorithm ''{}'' is not supported, skipping it.", algo);
+					continue;
+				}
+				CompletableFuture<HttpResponse> response = CompletableFuture.completedFuture(
+						new HttpRequest(entry.getValue())).thenComposeAsync(httpClient::sendAsync, checksums.executor);
+				checksums.responses.add(response);
+				checksums.expected.put(algo, response.thenApply(Checksums::read));
+			}
+			return checksums;
+		}
+
+		OutputStream digest(OutputStream outputStream) {
+			if (this.digests.isEmpty()) {
+				return outputStream;
+			}
+			Collection<MessageDigest> digests = this.digests.values();
+			return new FilterOutputStream(outputStream) {
+
+				@Override
+				public void write(int b) throws IOException {
+					this.out.write(b);
+					for (MessageDigest digest : digests) {
+						digest.update((byte) b);
+					}
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) throws IOException {
+					this.out.write(b, off, len);
+					for (MessageDigest digest : digests) {
+						digest.update(b, off, len);
+					}
+				}
+
+			};
+		}
+
+		Set<String> getAlgorithms() {
+			return this.expected.keySet();
+		}
+
+		String getExpected(String algo) throws IOException {
+			try {
+				return this.expected.get(algo).get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				InterruptedIOException exception = new InterruptedIOException(
+						"Interrupted while fetching a checksum: " + algo);
+				exception.initCause(ex);
+				throw exception;
+			}
+			catch (ExecutionException ex) {
+				log.debug("Checksum ''{}'' could not be downloaded", algo, ex.getCause());
+				return null;
+			}
+		}
+
+		void compute(Path file) throws IOException, NoSuchAlgorithmException {
+			this.actual = FileUtils.checksums(file, this.digests.keySet().toArray(new String[0]));
+		}
+
+		String getActual(String algo) {
+			if (this.actual != null) {
+				return this.actual.get(algo);
+			}
+			return FileUtils.toHex(this.digests.get(algo).digest());
+		}
+
+		@Override
+		public void close() {
+			this.expected.values().forEach(future -> future.cancel(true));
+			// responses that are still being read or have not arrived yet are closed as soon as they are available
+			this.responses.forEach(future -> future.thenAccept(Checksums::close));
+			if (this.executor != null) {
+				this.executor.shutdownNow();
+			}
+		}
+
+		private static void close(HttpResponse response) {
+			try {
+				response.close();
+			}
+			catch (IOException ex) {
+				log.debug("HTTP response ''{}'' could not be closed", response.getUri(), ex);
+			}
+		}
+
+		private static String read(HttpResponse response) {
+			try (response) {
+				if (response.getStatus() != 200) {
+					return null;
+				}
+				try (InputStream stream = response.getInputStream()) {
+					return StreamUtils.toString(stream, Charset.defaultCharset()).trim();
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+	private static final class DirectorySize {
+
+		private long bytes;
+
+		private long files;
+
+		static DirectorySize of(Path directory) throws IOException {
+			DirectorySize size = new DirectorySize();
+			try (Stream<Path> stream = Files.walk(directory)) {
+				for (Path path : (Iterable<Path>) stream::iterator) {
+					if (Files.isRegularFile(path)) {
+						size.bytes += Files.size(path);
+						size.files++;
+					}
+				}
+			}
+			return size;
+		}
+
+	}
+
 }
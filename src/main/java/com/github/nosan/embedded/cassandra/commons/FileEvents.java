@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.commons;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted by {@link FileUtils}.
+ *
+ * @author Dmytro Nosan
+ */
+final class FileEvents {
+
+	private FileEvents() {
+	}
+
+	/**
+	 * {@link FileUtils#copy(java.nio.file.Path, java.nio.file.Path, java.nio.file.CopyOption...)}.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.FileCopy")
+	@Label("File Copy")
+	@Category({"Embedded Cassandra", "I/O"})
+	@StackTrace(false)
+	static final class Copy extends Event {
+
+		@Label("Source")
+		String source;
+
+		@Label("Destination")
+		String destination;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+		@Label("Files")
+		long fileCount;
+
+	}
+
+	/**
+	 * {@link FileUtils#delete(java.nio.file.Path)}.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.FileDelete")
+	@Label("File Delete")
+	@Category({"Embedded Cassandra", "I/O"})
+	@StackTrace(false)
+	static final class Delete extends Event {
+
+		@Label("Path")
+		String path;
+
+		@Label("Files")
+		long fileCount;
+
+	}
+
+	/**
+	 * {@link FileUtils#checksum(java.nio.file.Path, String)}.
+	 */
+	@Name("com.github.nosan.embedded.cassandra.FileChecksum")
+	@Label("File Checksum")
+	@Category({"Embedded Cassandra", "I/O"})
+	@StackTrace(false)
+	static final class Checksum extends Event {
+
+		@Label("Path")
+		String path;
+
+		@Label("Algorithm")
+		String algorithm;
+
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+	}
+
+}
@@ -20,20 +20,37 @@ import java.io.IOException;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLockInterruptionException;
 import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Utility class for obtaining an exclusive lock on a file.
+ * Utility class for obtaining a shared or an exclusive lock on a file.
  *
  * <p>The {@code FileLock} class simplifies the process of locking files, allowing controlled access
  * to shared resources in a multi-threaded environment. It uses Java NIO's {@link java.nio.channels.FileLock} to handle
  * file locks.</p>
  *
+ * <p>Any number of threads and processes may hold a {@link Mode#SHARED shared} lock at the same time, whereas an
+ * {@link Mode#EXCLUSIVE exclusive} lock excludes all other locks. Within a JVM, all {@link FileLock}s of the same
+ * file share a single channel and queue in FIFO order, so a waiting exclusive lock is not starved by shared locks.
+ * Waiting for a lock held by another process parks on a helper thread rather than polling.</p>
+ *
  * <p><strong>Usage:</strong></p>
  * <p>It is recommended to use {@link FileLock} with a try-with-resources block to ensure that
  * any underlying file resources are properly released:</p>
@@ -56,19 +73,27 @@ import java.util.concurrent.TimeUnit;
  */
 public final class FileLock implements AutoCloseable {
 
-	private final FileChannel fileChannel;
+	private static final ConcurrentMap<Path, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+	private static final long POLL_INTERVAL = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final ExecutorService LOCKERS = Executors.newCachedThreadPool(new LockerThreadFactory());
+
+	private final Entry entry;
+
+	private final Map<Thread, Mode> locks = new ConcurrentHashMap<>();
 
-	private final Map<Thread, java.nio.channels.FileLock> locks = new ConcurrentHashMap<>();
+	private boolean closed;
 
-	private FileLock(FileChannel fileChannel) {
-		this.fileChannel = fileChannel;
+	private FileLock(Entry entry) {
+		this.entry = entry;
 	}
 
 	/**
 	 * Creates a {@link FileLock} instance for the specified file.
 	 *
-	 * <p>The specified file will be opened in write mode with the {@link StandardOpenOption#CREATE}
-	 * option to ensure that the file will be created if it does not already exist.</p>
+	 * <p>The specified file will be created if it does not already exist. It is opened in write mode by the first
+	 * attempt to acquire a lock. This method does not block.</p>
 	 *
 	 * @param file the path to the file to lock
 	 * @return a new {@link FileLock} instance
@@ -77,7 +102,21 @@ public final class FileLock implements AutoCloseable {
 	 */
 	public static FileLock of(Path file) throws IOException {
 		Objects.requireNonNull(file, "File must not be null");
-		return new FileLock(FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE));
+		Path path = file.toAbsolutePath().normalize();
+		// The channel itself is opened by the first acquisition: it is shared by all FileLocks of the file, and
+		// another thread of this JVM may be holding the entry while it waits for a lock of another process.
+		try {
+			Files.createFile(path);
+		}
+		catch (FileAlreadyExistsException ex) {
+			// already created
+		}
+		Entry entry = ENTRIES.compute(path, (key, value) -> {
+			Entry result = (value != null) ? value : new Entry(key);
+			result.references++;
+			return result;
+		});
+		return new FileLock(entry);
 	}
 
 	/**
@@ -95,58 +134,361 @@ public final class FileLock implements AutoCloseable {
 	 * @throws IOException if an I/O error occurs while trying to acquire the lock
 	 * @throws NullPointerException if {@code timeUnit} is {@code null}
 	 */
-	public synchronized boolean tryLock(long timeout, TimeUnit timeUnit)
+	public boolean tryLock(long timeout, TimeUnit timeUnit) throws FileLockInterruptionException, IOException {
+		return tryLock(Mode.EXCLUSIVE, timeout, timeUnit);
+	}
+
+	/**
+	 * Attempts to acquire a lock on the file in the given mode within the given timeout period. A thread that
+	 * already holds the lock gets {@code true} right away, unless it holds a shared lock and asks for an exclusive
+	 * one.
+	 *
+	 * @param mode the lock mode
+	 * @param timeout the maximum amount of time to wait for the lock
+	 * @param timeUnit the unit of time for the {@code timeout} parameter
+	 * @return {@code true} if the lock was successfully acquired, otherwise {@code false}
+	 * @throws IllegalArgumentException if the {@code timeout} is negative
+	 * @throws IllegalStateException if the current thread holds a shared lock and asks for an exclusive one
+	 * @throws FileLockInterruptionException if the thread is interrupted while waiting for the lock
+	 * @throws IOException if an I/O error occurs while trying to acquire the lock
+	 * @throws NullPointerException if {@code mode} or {@code timeUnit} is {@code null}
+	 * @since 5.1.0
+	 */
+	public boolean tryLock(Mode mode, long timeout, TimeUnit timeUnit)
 			throws FileLockInterruptionException, IOException {
+		Objects.requireNonNull(mode, "Mode must not be null");
 		Objects.requireNonNull(timeUnit, "TimeUnit must not be null");
 		if (timeout < 0) {
 			throw new IllegalArgumentException("Timeout must not be negative");
 		}
-		java.nio.channels.FileLock fileLock = this.locks.get(Thread.currentThread());
-		if (fileLock != null && fileLock.isValid()) {
+		Mode held = this.locks.get(Thread.currentThread());
+		if (held != null) {
+			if (held == Mode.SHARED && mode == Mode.EXCLUSIVE) {
+				throw new IllegalStateException("A shared lock cannot be upgraded to an exclusive lock");
+			}
+			return true;
+		}
+		if (this.entry.acquire(mode, timeUnit.toNanos(timeout))) {
+			this.locks.put(Thread.currentThread(), mode);
 			return true;
 		}
-		long startTime = System.nanoTime();
-		long rem = timeUnit.toNanos(timeout);
-		do {
-			fileLock = lock(this.fileChannel);
-			if (fileLock != null) {
-				this.locks.put(Thread.currentThread(), fileLock);
-				return true;
-			}
-			if (rem > 0) {
-				try {
-					Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(rem) + 1, 100));
-				}
-				catch (InterruptedException ex) {
-					throw new FileLockInterruptionException();
-				}
-			}
-			rem = timeUnit.toNanos(timeout) - (System.nanoTime() - startTime);
-		} while (rem > 0);
 		return false;
 	}
 
+	/**
+	 * Acquires a lock on the file in the given mode, waiting as long as necessary.
+	 *
+	 * @param mode the lock mode
+	 * @throws IllegalStateException if the current thread holds a shared lock and asks for an exclusive one
+	 * @throws FileLockInterruptionException if the thread is interrupted while waiting for the lock
+	 * @throws IOException if an I/O error occurs while trying to acquire the lock
+	 * @throws NullPointerException if {@code mode} is {@code null}
+	 * @since 5.1.0
+	 */
+	public void lock(Mode mode) throws FileLockInterruptionException, IOException {
+		tryLock(mode, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Releases the lock held by the current thread, if any.
+	 *
+	 * @throws IOException if an I/O error occurs while releasing the lock
+	 * @since 5.1.0
+	 */
+	public void unlock() throws IOException {
+		Mode mode = this.locks.remove(Thread.currentThread());
+		if (mode != null) {
+			this.entry.release(mode);
+		}
+	}
+
 	/**
 	 * Releases all locks and closes the underlying {@link FileChannel}.
 	 *
 	 * <p>After this method is called, the file associated with this {@link FileLock} will
-	 * no longer be locked, and its {@link FileChannel} will be closed.</p>
+	 * no longer be locked, and its {@link FileChannel} will be closed once no other {@link FileLock} of the same
+	 * file is open.</p>
 	 *
 	 * @throws IOException if an I/O error occurs while closing the {@link FileChannel}
 	 */
 	@Override
 	public synchronized void close() throws IOException {
-		this.fileChannel.close();
-		this.locks.clear();
+		IOException failure = null;
+		for (Thread thread : this.locks.keySet()) {
+			Mode mode = this.locks.remove(thread);
+			if (mode != null) {
+				try {
+					this.entry.release(mode);
+				}
+				catch (IOException ex) {
+					failure = ex;
+				}
+			}
+		}
+		if (!this.closed) {
+			this.closed = true;
+			release(this.entry);
+		}
+		if (failure != null) {
+			throw failure;
+		}
 	}
 
-	private static java.nio.channels.FileLock lock(FileChannel fileChannel) throws IOException {
-		try {
-			return fileChannel.tryLock();
+	private static void release(Entry entry) {
+		ENTRIES.computeIfPresent(entry.file, (key, value) -> {
+			if (value != entry || --value.references > 0) {
+				return value;
+			}
+			value.closeChannel();
+			return null;
+		});
+	}
+
+	/**
+	 * The mode of a lock.
+	 *
+	 * @since 5.1.0
+	 */
+	public enum Mode {
+
+		/**
+		 * A lock that may be held by any number of threads and processes at the same time.
+		 */
+		SHARED,
+
+		/**
+		 * A lock that excludes all other locks.
+		 */
+		EXCLUSIVE
+
+	}
+
+	private static final class Entry {
+
+		private final Path file;
+
+		private final Semaphore permits = new Semaphore(Integer.MAX_VALUE, true);
+
+		private final ReentrantLock mutex = new ReentrantLock(true);
+
+		private int references;
+
+		private volatile FileChannel channel;
+
+		private java.nio.channels.FileLock lock;
+
+		private int sharedHolders;
+
+		Entry(Path file) {
+			this.file = file;
+		}
+
+		boolean acquire(Mode mode, long timeoutNanos) throws IOException {
+			long deadline = System.nanoTime() + timeoutNanos;
+			int permits = getPermits(mode);
+			try {
+				if (!this.permits.tryAcquire(permits, timeoutNanos, TimeUnit.NANOSECONDS)) {
+					return false;
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new FileLockInterruptionException();
+			}
+			boolean acquired = false;
+			try {
+				acquired = lock(mode, deadline);
+				return acquired;
+			}
+			finally {
+				if (!acquired) {
+					this.permits.release(permits);
+				}
+			}
+		}
+
+		void release(Mode mode) throws IOException {
+			this.mutex.lock();
+			try {
+				if (mode == Mode.EXCLUSIVE || --this.sharedHolders == 0) {
+					java.nio.channels.FileLock lock = this.lock;
+					this.lock = null;
+					if (lock != null && lock.isValid()) {
+						lock.release();
+					}
+				}
+			}
+			finally {
+				this.mutex.unlock();
+				this.permits.release(getPermits(mode));
+			}
+		}
+
+		private boolean lock(Mode mode, long deadline) throws IOException {
+			try {
+				if (!this.mutex.tryLock(remaining(deadline), TimeUnit.NANOSECONDS)) {
+					return false;
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new FileLockInterruptionException();
+			}
+			try {
+				if (mode == Mode.SHARED && this.sharedHolders > 0) {
+					this.sharedHolders++;
+					return true;
+				}
+				java.nio.channels.FileLock lock = lockChannel(mode == Mode.SHARED, deadline);
+				if (lock == null) {
+					return false;
+				}
+				this.lock = lock;
+				if (mode == Mode.SHARED) {
+					this.sharedHolders = 1;
+				}
+				return true;
+			}
+			finally {
+				this.mutex.unlock();
+			}
+		}
+
+		// Called with the mutex held and without any lock of this JVM on the file, so the channel may be closed.
+		private java.nio.channels.FileLock lockChannel(boolean shared, long deadline) throws IOException {
+			FileChannel channel = getChannel();
+			while (true) {
+				try {
+					java.nio.channels.FileLock lock = channel.tryLock(0, Long.MAX_VALUE, shared);
+					if (lock != null) {
+						return lock;
+					}
+				}
+				catch (OverlappingFileLockException ex) {
+					// the lock of another channel of this JVM, e.g. one not opened through this class, which a
+					// blocking lock cannot wait for
+					if (!pause(deadline)) {
+						return null;
+					}
+					continue;
+				}
+				long remaining = remaining(deadline);
+				if (remaining <= 0) {
+					return null;
+				}
+				java.nio.channels.FileLock lock = lockChannel(channel, shared, remaining);
+				if (lock != null || !pause(deadline)) {
+					return lock;
+				}
+			}
+		}
+
+		// Returns null if another channel of this JVM has locked the file meanwhile.
+		private java.nio.channels.FileLock lockChannel(FileChannel channel, boolean shared, long remaining)
+				throws IOException {
+			Future<java.nio.channels.FileLock> future = LOCKERS.submit(() -> channel.lock(0, Long.MAX_VALUE, shared));
+			try {
+				return future.get(remaining, TimeUnit.NANOSECONDS);
+			}
+			catch (TimeoutException ex) {
+				return cancel(future);
+			}
+			catch (InterruptedException ex) {
+				java.nio.channels.FileLock lock = cancel(future);
+				if (lock != null) {
+					lock.release();
+				}
+				Thread.currentThread().interrupt();
+				throw new FileLockInterruptionException();
+			}
+			catch (ExecutionException ex) {
+				if (ex.getCause() instanceof OverlappingFileLockException) {
+					return null;
+				}
+				if (ex.getCause() instanceof IOException) {
+					throw (IOException) ex.getCause();
+				}
+				throw new IOException(ex.getCause());
+			}
+		}
+
+		// Interrupting the helper thread closes the channel; it is reopened by the next acquisition.
+		private java.nio.channels.FileLock cancel(Future<java.nio.channels.FileLock> future) {
+			if (future.cancel(true)) {
+				return null;
+			}
+			try {
+				return future.get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			catch (ExecutionException ex) {
+				return null;
+			}
 		}
-		catch (OverlappingFileLockException ex) {
-			return null; // Another thread or process already owns the lock
+
+		private FileChannel getChannel() throws IOException {
+			FileChannel channel = this.channel;
+			if (channel == null || !channel.isOpen()) {
+				channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+						StandardOpenOption.CREATE);
+				this.channel = channel;
+			}
+			return channel;
+		}
+
+		private void closeChannel() {
+			FileChannel channel = this.channel;
+			this.channel = null;
+			if (channel != null) {
+				try {
+					channel.close();
+				}
+				catch (IOException ex) {
+					//ignore
+				}
+			}
 		}
+
+		private static int getPermits(Mode mode) {
+			return (mode == Mode.SHARED) ? 1 : Integer.MAX_VALUE;
+		}
+
+		private static long remaining(long deadline) {
+			return Math.max(0, deadline - System.nanoTime());
+		}
+
+		// Waits a little for a lock of this JVM that no blocking call is notified about; false once timed out.
+		private static boolean pause(long deadline) throws IOException {
+			long remaining = remaining(deadline);
+			if (remaining <= 0) {
+				return false;
+			}
+			try {
+				TimeUnit.NANOSECONDS.sleep(Math.min(remaining, POLL_INTERVAL));
+				return true;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new FileLockInterruptionException();
+			}
+		}
+
+	}
+
+	private static final class LockerThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "file-lock-" + this.count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
 	}
 
 }
@@ -17,15 +17,22 @@
 package com.github.nosan.embedded.cassandra.commons;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.CopyOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiPredicate;
 
@@ -39,7 +46,7 @@ public final class FileUtils {
 
 	private static final char[] HEX_CODE = "0123456789abcdef".toCharArray();
 
-	private static final int BUFFER_SIZE = 8192;
+	private static final int BUFFER_SIZE = 64 * 1024;
 
 	private FileUtils() {
 	}
@@ -61,11 +68,14 @@ public final class FileUtils {
 		if (!Files.exists(path)) {
 			return false;
 		}
+		FileEvents.Delete event = new FileEvents.Delete();
+		event.begin();
 		Files.walkFileTree(path, new SimpleFileVisitor<>() {
 
 			@Override
 			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
 				Files.deleteIfExists(file);
+				event.fileCount++;
 				return FileVisitResult.CONTINUE;
 			}
 
@@ -79,7 +89,10 @@ public final class FileUtils {
 			}
 
 		});
-
+		if (event.shouldCommit()) {
+			event.path = path.toString();
+			event.commit();
+		}
 		return true;
 	}
 
@@ -113,7 +126,8 @@ public final class FileUtils {
 		Objects.requireNonNull(src, "Source Path must not be null");
 		Objects.requireNonNull(dest, "Destination Path must not be null");
 		Objects.requireNonNull(options, "Copy Options must not be null");
-
+		FileEvents.Copy event = new FileEvents.Copy();
+		event.begin();
 		Files.walkFileTree(src, new SimpleFileVisitor<>() {
 
 			@Override
@@ -129,11 +143,18 @@ public final class FileUtils {
 			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
 				if (filter == null || filter.test(file, attrs)) {
 					Files.copy(file, dest.resolve(src.relativize(file)), options);
+					event.bytes += attrs.size();
+					event.fileCount++;
 				}
 				return FileVisitResult.CONTINUE;
 			}
 
 		});
+		if (event.shouldCommit()) {
+			event.source = src.toString();
+			event.destination = dest.toString();
+			event.commit();
+		}
 	}
 
 	/**
@@ -149,27 +170,109 @@ public final class FileUtils {
 	 * @throws IOException if an I/O error occurs while reading the file
 	 * @throws NoSuchAlgorithmException if the specified algorithm is not available
 	 * @throws NullPointerException if the file or algorithm is {@code null}
+	 * @see #checksums(Path, String...)
 	 */
 	public static String checksum(Path file, String algorithm) throws NoSuchAlgorithmException, IOException {
 		Objects.requireNonNull(file, "File must not be null");
 		Objects.requireNonNull(algorithm, "Algorithm must not be null");
-		MessageDigest md = MessageDigest.getInstance(algorithm);
-		byte[] buffer = new byte[BUFFER_SIZE];
+		return checksums(file, algorithm).get(algorithm);
+	}
 
-		try (InputStream is = Files.newInputStream(file)) {
-			int read;
-			while ((read = is.read(buffer)) != -1) {
-				md.update(buffer, 0, read);
+	/**
+	 * Computes the checksums of the specified file using all the given algorithms in a single pass over the file.
+	 *
+	 * <p>The file is read through a direct buffer, so the content is never copied onto the heap. It is not
+	 * memory-mapped, so it can be deleted right away, even on Windows. The results are returned as lowercase
+	 * hexadecimal strings, in the order of the given algorithms.</p>
+	 *
+	 * @param file the file for which the checksums are computed
+	 * @param algorithms the names of the algorithms to use for the hash computation
+	 * @return the computed checksums keyed by algorithm
+	 * @throws IOException if an I/O error occurs while reading the file
+	 * @throws NoSuchAlgorithmException if any of the specified algorithms is not available
+	 * @throws NullPointerException if the file or any algorithm is {@code null}
+	 * @since 5.1.0
+	 */
+	public static Map<String, String> checksums(Path file, String... algorithms)
+			throws NoSuchAlgorithmException, IOException {
+		Objects.requireNonNull(file, "File must not be null");
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return checksums(channel, file.toString(), algorithms);
+		}
+	}
+
+	/**
+	 * Computes the checksums of the remaining content of the specified channel, from its current position to its end,
+	 * using all the given algorithms in a single pass. The channel is left open and positioned at its end, so a
+	 * caller that has just written a file can verify it through the same channel.
+	 *
+	 * <p>The channel is read through a direct buffer. The results are returned as lowercase hexadecimal strings, in
+	 * the order of the given algorithms.</p>
+	 *
+	 * @param channel the channel to read
+	 * @param algorithms the names of the algorithms to use for the hash computation
+	 * @return the computed checksums keyed by algorithm
+	 * @throws IOException if an I/O error occurs while reading the channel
+	 * @throws NoSuchAlgorithmException if any of the specified algorithms is not available
+	 * @throws NullPointerException if the channel or any algorithm is {@code null}
+	 * @since 5.1.0
+	 */
+	public static Map<String, String> checksums(ReadableByteChannel channel, String... algorithms)
+			throws NoSuchAlgorithmException, IOException {
+		Objects.requireNonNull(channel, "Channel must not be null");
+		return checksums(channel, null, algorithms);
+	}
+
+	private static Map<String, String> checksums(ReadableByteChannel channel, String path, String... algorithms)
+			throws NoSuchAlgorithmException, IOException {
+		Objects.requireNonNull(algorithms, "Algorithms must not be null");
+		Map<String, MessageDigest> digests = new LinkedHashMap<>();
+		for (String algorithm : algorithms) {
+			Objects.requireNonNull(algorithm, "Algorithm must not be null");
+			digests.put(algorithm, MessageDigest.getInstance(algorithm));
+		}
+		FileEvents.Checksum event = new FileEvents.Checksum();
+		event.begin();
+		event.bytes = update(digests.values(), channel);
+		if (event.shouldCommit()) {
+			event.path = path;
+			event.algorithm = String.join(",", digests.keySet());
+			event.commit();
+		}
+		Map<String, String> checksums = new LinkedHashMap<>();
+		digests.forEach((algorithm, digest) -> checksums.put(algorithm, toHex(digest.digest())));
+		return Collections.unmodifiableMap(checksums);
+	}
+
+	private static long update(Collection<MessageDigest> digests, ReadableByteChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		long count = 0;
+		while (channel.read(buffer) != -1) {
+			buffer.flip();
+			count += buffer.remaining();
+			for (MessageDigest digest : digests) {
+				digest.update(buffer.duplicate());
 			}
+			buffer.clear();
 		}
+		return count;
+	}
 
-		byte[] hash = md.digest();
-		StringBuilder hex = new StringBuilder(hash.length * 2);
-		for (byte b : hash) {
+	/**
+	 * Encodes the given bytes, e.g. a computed digest, as a lowercase hexadecimal string.
+	 *
+	 * @param bytes the bytes to encode
+	 * @return the lowercase hexadecimal string
+	 * @throws NullPointerException if the bytes are {@code null}
+	 * @since 5.1.0
+	 */
+	public static String toHex(byte[] bytes) {
+		Objects.requireNonNull(bytes, "Bytes must not be null");
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
 			hex.append(HEX_CODE[(b >> 4) & 0xF]);
 			hex.append(HEX_CODE[b & 0xF]);
 		}
-
 		return hex.toString();
 	}
 
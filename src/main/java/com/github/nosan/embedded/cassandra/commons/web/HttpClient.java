@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import com.github.nosan.embedded.cassandra.commons.function.IOSupplier;
 
@@ -33,6 +34,7 @@ import com.github.nosan.embedded.cassandra.commons.function.IOSupplier;
  *
  * @author Dmytro Nosan
  * @see JdkHttpClient
+ * @see JavaNetHttpClient
  * @since 4.0.0
  */
 public interface HttpClient {
@@ -60,6 +62,25 @@ public interface HttpClient {
 	HttpResponse send(HttpRequest httpRequest, IOSupplier<? extends InputStream> bodySupplier)
 			throws IOException;
 
+	/**
+	 * Sends an HTTP request without a body asynchronously.
+	 *
+	 * <p>The default implementation sends the request on the calling thread and returns a completed future.
+	 * Implementations with a non-blocking transport, such as {@link JavaNetHttpClient}, should override it.</p>
+	 *
+	 * @param httpRequest The request to be sent
+	 * @return a future of the HTTP response, completed exceptionally if the request could not be sent
+	 * @since 5.1.0
+	 */
+	default CompletableFuture<HttpResponse> sendAsync(HttpRequest httpRequest) {
+		try {
+			return CompletableFuture.completedFuture(send(httpRequest));
+		}
+		catch (Exception ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
 	/**
 	 * A utility class for creating different kinds of body suppliers.
 	 *
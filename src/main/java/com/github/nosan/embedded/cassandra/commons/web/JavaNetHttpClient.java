@@ -0,0 +1,244 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.commons.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+import com.github.nosan.embedded.cassandra.commons.function.IOSupplier;
+
+/**
+ * A {@link HttpClient} implementation based on {@link java.net.http.HttpClient}.
+ *
+ * <p>Unlike {@link JdkHttpClient}, all requests sent by one instance share the connection pool of the underlying
+ * client, HTTP/2 is negotiated where the server supports it, and {@link #sendAsync(HttpRequest)} does not block the
+ * calling thread. Response bodies are streamed rather than buffered.</p>
+ *
+ * <p>The read timeout limits the time to wait for the response headers; once they have arrived, the body is read
+ * without a timeout.</p>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public class JavaNetHttpClient implements HttpClient {
+
+	private static final String COOKIE = "Cookie";
+
+	private static final Set<String> RESTRICTED_HEADERS = Collections.unmodifiableSet(
+			new TreeSet<>(Arrays.asList("connection", "content-length", "date", "expect", "from", "host", "upgrade",
+					"via", "warning")));
+
+	private final java.net.http.HttpClient httpClient;
+
+	private final Duration readTimeout;
+
+	/**
+	 * Creates a {@link JavaNetHttpClient} with no connection or read timeouts and the default proxy selector.
+	 */
+	public JavaNetHttpClient() {
+		this((Duration) null, null);
+	}
+
+	/**
+	 * Creates a {@link JavaNetHttpClient} with specified connection and read timeouts and the default proxy
+	 * selector.
+	 *
+	 * @param connectTimeout the duration to wait for establishing a connection (can be {@code null})
+	 * @param readTimeout the duration to wait for the response headers (can be {@code null})
+	 */
+	public JavaNetHttpClient(Duration connectTimeout, Duration readTimeout) {
+		this(connectTimeout, readTimeout, null);
+	}
+
+	/**
+	 * Creates a {@link JavaNetHttpClient} with specified connection and read timeouts and a proxy selector.
+	 *
+	 * @param connectTimeout the duration to wait for establishing a connection (can be {@code null})
+	 * @param readTimeout the duration to wait for the response headers (can be {@code null})
+	 * @param proxySelector the proxy selector to use for HTTP requests (can be {@code null})
+	 */
+	public JavaNetHttpClient(Duration connectTimeout, Duration readTimeout, ProxySelector proxySelector) {
+		this(createHttpClient(connectTimeout, proxySelector), readTimeout);
+	}
+
+	/**
+	 * Creates a {@link JavaNetHttpClient} which sends requests with the given client.
+	 *
+	 * @param httpClient the client to use (must not be {@code null})
+	 * @param readTimeout the duration to wait for the response headers (can be {@code null})
+	 */
+	public JavaNetHttpClient(java.net.http.HttpClient httpClient, Duration readTimeout) {
+		Objects.requireNonNull(httpClient, "HTTP Client must not be null");
+		this.httpClient = httpClient;
+		this.readTimeout = readTimeout;
+	}
+
+	@Override
+	public final HttpResponse send(HttpRequest httpRequest, IOSupplier<? extends InputStream> bodySupplier)
+			throws IOException {
+		try {
+			return new JavaNetHttpResponse(this.httpClient.send(createRequest(httpRequest, bodySupplier),
+					BodyHandlers.ofInputStream()));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			InterruptedIOException exception = new InterruptedIOException(
+					"Interrupted while sending: " + httpRequest);
+			exception.initCause(ex);
+			throw exception;
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	@Override
+	public final CompletableFuture<HttpResponse> sendAsync(HttpRequest httpRequest) {
+		java.net.http.HttpRequest request;
+		try {
+			request = createRequest(httpRequest, null);
+		}
+		catch (Exception ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+		return this.httpClient.sendAsync(request, BodyHandlers.ofInputStream()).thenApply(JavaNetHttpResponse::new);
+	}
+
+	@Override
+	public String toString() {
+		return "JavaNetHttpClient{" + "version=" + this.httpClient.version() + ", readTimeout=" + this.readTimeout
+				+ '}';
+	}
+
+	private java.net.http.HttpRequest createRequest(HttpRequest httpRequest,
+			IOSupplier<? extends InputStream> bodySupplier) {
+		String method = httpRequest.getMethod();
+		java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(httpRequest.getUri());
+		if (this.readTimeout != null) {
+			builder.timeout(this.readTimeout);
+		}
+		builder.method(method, createBodyPublisher(method, bodySupplier));
+		httpRequest.getHeaders().forEach((name, values) -> {
+			if (RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+				return;
+			}
+			if (COOKIE.equalsIgnoreCase(name)) {
+				builder.setHeader(name, (values != null) ? String.join("; ", values) : "");
+			}
+			else if (values != null) {
+				for (String value : values) {
+					builder.header(name, Objects.toString(value, ""));
+				}
+			}
+			else {
+				builder.header(name, "");
+			}
+		});
+		return builder.build();
+	}
+
+	private static BodyPublisher createBodyPublisher(String method, IOSupplier<? extends InputStream> bodySupplier) {
+		if (bodySupplier == null || !("POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method))) {
+			return BodyPublishers.noBody();
+		}
+		return BodyPublishers.ofInputStream(() -> {
+			try {
+				return bodySupplier.get();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+	}
+
+	private static java.net.http.HttpClient createHttpClient(Duration connectTimeout, ProxySelector proxySelector) {
+		java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder().version(Version.HTTP_2)
+				.followRedirects(Redirect.NORMAL);
+		if (connectTimeout != null) {
+			builder.connectTimeout(connectTimeout);
+		}
+		if (proxySelector != null) {
+			builder.proxy(proxySelector);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Represents an HTTP response based on {@link java.net.http.HttpResponse}.
+	 */
+	private static final class JavaNetHttpResponse implements HttpResponse {
+
+		private final java.net.http.HttpResponse<InputStream> response;
+
+		private final HttpHeaders headers;
+
+		JavaNetHttpResponse(java.net.http.HttpResponse<InputStream> response) {
+			this.response = response;
+			this.headers = HttpHeaders.readOnly(response.headers().map());
+		}
+
+		@Override
+		public URI getUri() {
+			return this.response.uri();
+		}
+
+		@Override
+		public int getStatus() {
+			return this.response.statusCode();
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return this.response.body();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.response.body().close();
+		}
+
+		@Override
+		public String toString() {
+			return "JavaNetHttpResponse{" + "uri='" + getUri() + "', status='" + getStatus() + "', version='"
+					+ this.response.version() + "'}";
+		}
+
+	}
+
+}
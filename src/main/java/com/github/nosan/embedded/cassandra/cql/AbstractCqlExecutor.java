@@ -0,0 +1,351 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * An abstract implementation of the {@link CqlExecutor} interface that executes schema statements sequentially and
+ * pipelines data statements with bounded in-flight concurrency.
+ *
+ * <p>Schema statements (e.g. {@code CREATE}, {@code ALTER}, {@code DROP}, {@code USE}) act as barriers: all
+ * previously submitted data statements are awaited before a schema statement is executed, and the next statement is
+ * not submitted until the schema statement has completed. Data statements ({@code INSERT}, {@code UPDATE},
+ * {@code DELETE}, {@code SELECT} and batches) are submitted asynchronously, with at most
+ * {@code maxInFlightStatements} outstanding at any time.</p>
+ *
+ * <p>Optionally, consecutive plain {@code INSERT} statements into the same partition (as determined by
+ * {@link CqlStatementClassifier}) are coalesced into {@code UNLOGGED BATCH}es of at most {@code maxBatchSize}
+ * statements; batches of different partitions are still executed concurrently. Each batch is executed, and counted
+ * in the {@link CqlExecutionResult}, as a single statement.</p>
+ *
+ * <p>Statements are consumed from {@link CqlScript#stream()}, so large scripts are executed as they are parsed.</p>
+ *
+ * <p>Subclasses need only to provide the actual execution by implementing the
+ * {@link #executeSchemaStatement(String)} and {@link #executeDataStatement(String)} methods.</p>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public abstract class AbstractCqlExecutor implements CqlExecutor {
+
+	private static final Set<String> DATA_KEYWORDS = Set.of("INSERT", "UPDATE", "DELETE", "SELECT", "BEGIN");
+
+	private final int maxInFlightStatements;
+
+	private final int maxBatchSize;
+
+	/**
+	 * Creates a new instance of {@link AbstractCqlExecutor} without batching.
+	 *
+	 * @param maxInFlightStatements the maximum number of data statements that may be executed concurrently
+	 * @throws IllegalArgumentException if {@code maxInFlightStatements} is less than {@code 1}
+	 */
+	protected AbstractCqlExecutor(int maxInFlightStatements) {
+		this(maxInFlightStatements, 1);
+	}
+
+	/**
+	 * Creates a new instance of {@link AbstractCqlExecutor}.
+	 *
+	 * @param maxInFlightStatements the maximum number of data statements that may be executed concurrently
+	 * @param maxBatchSize the maximum number of consecutive same-partition {@code INSERT} statements coalesced into
+	 * a single {@code UNLOGGED BATCH}; {@code 1} disables batching
+	 * @throws IllegalArgumentException if {@code maxInFlightStatements} or {@code maxBatchSize} is less than
+	 * {@code 1}
+	 * @since 5.1.0
+	 */
+	protected AbstractCqlExecutor(int maxInFlightStatements, int maxBatchSize) {
+		if (maxInFlightStatements < 1) {
+			throw new IllegalArgumentException("Max In-Flight Statements must be positive");
+		}
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("Max Batch Size must be positive");
+		}
+		this.maxInFlightStatements = maxInFlightStatements;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	@Override
+	public final CqlExecutionResult execute(CqlScript script) throws CqlExecutionException {
+		Objects.requireNonNull(script, "Script must not be null");
+		Execution execution = new Execution(this.maxInFlightStatements);
+		long start = System.nanoTime();
+		CqlStatementClassifier classifier = (this.maxBatchSize > 1) ? new CqlStatementClassifier() : null;
+		Batch batch = new Batch(this.maxBatchSize);
+		try (Stream<String> statements = script.stream()) {
+			statements.forEachOrdered(statement -> {
+				if (classifier != null) {
+					CqlStatement cqlStatement = classifier.classify(statement);
+					if (isBatchable(cqlStatement)) {
+						if (!batch.add(cqlStatement)) {
+							execution.executeData(batch.flush());
+							batch.add(cqlStatement);
+						}
+						return;
+					}
+					if (!batch.isEmpty()) {
+						execution.executeData(batch.flush());
+					}
+				}
+				if (isSchemaStatement(statement)) {
+					execution.executeSchema(statement);
+				}
+				else {
+					execution.executeData(statement);
+				}
+			});
+		}
+		if (!batch.isEmpty()) {
+			execution.executeData(batch.flush());
+		}
+		execution.await(null);
+		return new CqlExecutionResult(execution.getLatencies(), execution.schemaStatementCount,
+				Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	/**
+	 * Returns the maximum number of data statements that may be executed concurrently.
+	 *
+	 * @return the maximum number of in-flight statements
+	 */
+	public final int getMaxInFlightStatements() {
+		return this.maxInFlightStatements;
+	}
+
+	/**
+	 * Returns the maximum number of {@code INSERT} statements coalesced into a single batch.
+	 *
+	 * @return the maximum batch size, {@code 1} if batching is disabled
+	 * @since 5.1.0
+	 */
+	public final int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Determines whether the given statement must be executed sequentially.
+	 *
+	 * <p>By default, every statement except {@code INSERT}, {@code UPDATE}, {@code DELETE}, {@code SELECT} and
+	 * {@code BEGIN ... BATCH} is treated as a schema statement.</p>
+	 *
+	 * @param statement the statement to check
+	 * @return {@code true} if the statement must be executed sequentially
+	 */
+	protected boolean isSchemaStatement(String statement) {
+		int start = 0;
+		while (start < statement.length() && Character.isWhitespace(statement.charAt(start))) {
+			start++;
+		}
+		int end = start;
+		while (end < statement.length() && Character.isLetter(statement.charAt(end))) {
+			end++;
+		}
+		return !DATA_KEYWORDS.contains(statement.substring(start, end).toUpperCase(Locale.ENGLISH));
+	}
+
+	/**
+	 * Executes a schema statement and blocks until it has been applied, including waiting for schema agreement if
+	 * applicable.
+	 *
+	 * @param statement the statement to execute
+	 * @throws Exception if the statement could not be executed
+	 */
+	protected abstract void executeSchemaStatement(String statement) throws Exception;
+
+	/**
+	 * Submits a data statement for asynchronous execution.
+	 *
+	 * @param statement the statement to execute
+	 * @return a stage that completes when the statement has been executed
+	 * @throws Exception if the statement could not be submitted
+	 */
+	protected abstract CompletionStage<?> executeDataStatement(String statement) throws Exception;
+
+	private static boolean isBatchable(CqlStatement statement) {
+		return statement.getKind() == CqlStatement.Kind.INSERT && !statement.isConditional()
+				&& statement.getTable().isPresent() && !statement.getPartitionKey().isEmpty();
+	}
+
+	private static Throwable unwrap(Throwable ex) {
+		if ((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null) {
+			return ex.getCause();
+		}
+		return ex;
+	}
+
+	private static final class Batch {
+
+		private final int maxSize;
+
+		private final List<String> statements = new ArrayList<>();
+
+		private List<Object> partition;
+
+		Batch(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		boolean isEmpty() {
+			return this.statements.isEmpty();
+		}
+
+		boolean add(CqlStatement statement) {
+			List<Object> partition = Arrays.asList(statement.getKeyspace().orElse(null),
+					statement.getTable().orElse(null), statement.getPartitionKey());
+			if (this.statements.isEmpty()) {
+				this.partition = partition;
+			}
+			else if (this.statements.size() >= this.maxSize || !this.partition.equals(partition)) {
+				return false;
+			}
+			this.statements.add(statement.getStatement());
+			return true;
+		}
+
+		String flush() {
+			String statement;
+			if (this.statements.size() == 1) {
+				statement = this.statements.get(0);
+			}
+			else {
+				StringBuilder batch = new StringBuilder("BEGIN UNLOGGED BATCH\n");
+				for (String insert : this.statements) {
+					batch.append(insert).append(";\n");
+				}
+				statement = batch.append("APPLY BATCH").toString();
+			}
+			this.statements.clear();
+			this.partition = null;
+			return statement;
+		}
+
+	}
+
+	private final class Execution {
+
+		private final Semaphore permits;
+
+		private final int maxPermits;
+
+		private final AtomicReference<CqlExecutionException> failure = new AtomicReference<>();
+
+		private long[] latencies = new long[64];
+
+		private int statementCount;
+
+		private int schemaStatementCount;
+
+		Execution(int maxPermits) {
+			this.permits = new Semaphore(maxPermits);
+			this.maxPermits = maxPermits;
+		}
+
+		void executeSchema(String statement) {
+			await(statement);
+			int index = nextIndex();
+			long start = System.nanoTime();
+			try {
+				executeSchemaStatement(statement);
+			}
+			catch (Exception ex) {
+				if (ex instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				throw new CqlExecutionException(statement, unwrap(ex));
+			}
+			setLatency(index, System.nanoTime() - start);
+			this.schemaStatementCount++;
+		}
+
+		void executeData(String statement) {
+			if (this.failure.get() != null) {
+				await(statement);
+			}
+			try {
+				this.permits.acquire();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new CqlExecutionException(statement, ex);
+			}
+			int index = nextIndex();
+			long start = System.nanoTime();
+			CompletionStage<?> stage;
+			try {
+				stage = executeDataStatement(statement);
+			}
+			catch (Exception ex) {
+				this.permits.release();
+				this.failure.compareAndSet(null, new CqlExecutionException(statement, ex));
+				await(statement);
+				return;
+			}
+			stage.whenComplete((result, ex) -> {
+				setLatency(index, System.nanoTime() - start);
+				if (ex != null) {
+					this.failure.compareAndSet(null, new CqlExecutionException(statement, unwrap(ex)));
+				}
+				this.permits.release();
+			});
+		}
+
+		void await(String statement) {
+			try {
+				this.permits.acquire(this.maxPermits);
+				this.permits.release(this.maxPermits);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new CqlExecutionException(statement, ex);
+			}
+			CqlExecutionException failure = this.failure.get();
+			if (failure != null) {
+				throw failure;
+			}
+		}
+
+		synchronized long[] getLatencies() {
+			return Arrays.copyOf(this.latencies, this.statementCount);
+		}
+
+		private synchronized int nextIndex() {
+			if (this.statementCount == this.latencies.length) {
+				this.latencies = Arrays.copyOf(this.latencies, this.latencies.length * 2);
+			}
+			return this.statementCount++;
+		}
+
+		private synchronized void setLatency(int index, long latency) {
+			this.latencies[index] = latency;
+		}
+
+	}
+
+}
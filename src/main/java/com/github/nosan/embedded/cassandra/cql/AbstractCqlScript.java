@@ -16,8 +16,17 @@
 
 package com.github.nosan.embedded.cassandra.cql;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.github.nosan.embedded.cassandra.commons.StringUtils;
 
@@ -29,7 +38,8 @@ import com.github.nosan.embedded.cassandra.commons.StringUtils;
  * The actual script content is determined by the implementation of the {@link #getScript()} method in subclasses.</p>
  *
  * <p>Subclasses need only to provide the actual CQL script content by implementing the {@link #getScript()}
- * method.</p>
+ * method. Subclasses backed by large sources may additionally override {@link #openReader()} so that
+ * {@link #stream()} parses the script incrementally instead of loading it into memory.</p>
  *
  * @author Dmytro Nosan
  * @since 4.0.0
@@ -49,7 +59,103 @@ public abstract class AbstractCqlScript implements CqlScript {
 	 */
 	@Override
 	public final List<String> getStatements() {
+		return loadStatements();
+	}
+
+	/**
+	 * Returns a lazily parsed stream of statements. The script is read through {@link #openReader()} in chunks, so
+	 * only the statement currently being parsed is held in memory. The underlying reader is closed once the stream
+	 * is exhausted or {@link Stream#close() closed}. Built-in scripts small enough for the shared parse cache stream
+	 * the cached statements instead.
+	 *
+	 * @return a stream of parsed CQL statements (never {@code null})
+	 * @throws UncheckedIOException if the script cannot be opened or read
+	 * @since 5.1.0
+	 */
+	@Override
+	public final Stream<String> stream() {
+		if (isCacheable()) {
+			return loadStatements().stream();
+		}
+		Reader reader;
+		try {
+			reader = openReader();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Could not open a CQL script " + this, ex);
+		}
+		Runnable close = () -> {
+			try {
+				reader.close();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Could not close a CQL script " + this, ex);
+			}
+		};
+		Iterator<String> statements = new Parser(reader).iterator();
+		Iterator<String> iterator = new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				if (statements.hasNext()) {
+					return true;
+				}
+				close.run();
+				return false;
+			}
+
+			@Override
+			public String next() {
+				return statements.next();
+			}
+
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(close);
+	}
+
+	/**
+	 * Opens a {@link Reader} over the CQL script used by {@link #stream()}.
+	 *
+	 * <p>The default implementation wraps the result of {@link #getScript()}. Subclasses may override this method to
+	 * read the script from its source directly.</p>
+	 *
+	 * @return a new reader over the CQL script (never {@code null})
+	 * @throws IOException if the reader cannot be opened
+	 * @since 5.1.0
+	 */
+	protected Reader openReader() throws IOException {
 		String script = getScript();
+		return new StringReader((script != null) ? script : "");
+	}
+
+	/**
+	 * Loads the statements returned by {@link #getStatements()}. Built-in scripts override this method to serve
+	 * statements from a shared parse cache.
+	 *
+	 * @return the list of parsed CQL statements
+	 */
+	List<String> loadStatements() {
+		return parse(getScript());
+	}
+
+	/**
+	 * Tells whether {@link #stream()} should be served from {@link #loadStatements()} rather than parsed
+	 * incrementally. Built-in scripts override this method when their statements are held by the shared parse cache.
+	 *
+	 * @return {@code true} if the statements are cacheable
+	 */
+	boolean isCacheable() {
+		return false;
+	}
+
+	/**
+	 * Parses the given CQL script into an unmodifiable list of statements.
+	 *
+	 * @param script the script to parse, may be {@code null}
+	 * @return the list of parsed CQL statements, or an empty list if the script is null, empty, or whitespace-only
+	 */
+	static List<String> parse(String script) {
 		if (!StringUtils.hasText(script)) {
 			return Collections.emptyList();
 		}
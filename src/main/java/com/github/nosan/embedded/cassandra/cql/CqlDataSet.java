@@ -22,8 +22,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
 import com.github.nosan.embedded.cassandra.commons.Resource;
@@ -170,6 +172,19 @@ public interface CqlDataSet extends CqlScript {
 		return Collections.unmodifiableList(statements);
 	}
 
+	/**
+	 * Returns a sequential {@link Stream} of all the CQL statements from every script in the {@link CqlDataSet}.
+	 *
+	 * <p>Scripts are streamed one after another, so only the script currently being consumed is open.</p>
+	 *
+	 * @return a stream of all CQL statements (never {@code null})
+	 * @since 5.1.0
+	 */
+	@Override
+	default Stream<String> stream() {
+		return getScripts().stream().flatMap(CqlScript::stream);
+	}
+
 	/**
 	 * Retrieves all the {@link CqlScript} instances contained within this {@link CqlDataSet}.
 	 *
@@ -241,6 +256,37 @@ public interface CqlDataSet extends CqlScript {
 		 */
 		Builder addStatements(List<? extends String> statements);
 
+		/**
+		 * Reads and parses the scripts of the built {@link CqlDataSet} concurrently on the
+		 * {@link ForkJoinPool#commonPool() common pool}. The order of statements is the same as in sequential mode.
+		 *
+		 * <p>The default implementation delegates to {@link #parallel(ForkJoinPool)}.</p>
+		 *
+		 * @return this builder
+		 * @throws UnsupportedOperationException if this builder does not support parallel parsing
+		 * @since 5.1.0
+		 */
+		default Builder parallel() {
+			return parallel(ForkJoinPool.commonPool());
+		}
+
+		/**
+		 * Reads and parses the scripts of the built {@link CqlDataSet} concurrently on the given pool. The order of
+		 * statements is the same as in sequential mode.
+		 *
+		 * <p>The default implementation throws an {@link UnsupportedOperationException}.</p>
+		 *
+		 * @param pool the pool to parse scripts on (must not be {@code null})
+		 * @return this builder
+		 * @throws NullPointerException if {@code pool} is {@code null}
+		 * @throws UnsupportedOperationException if this builder does not support parallel parsing
+		 * @since 5.1.0
+		 */
+		default Builder parallel(ForkJoinPool pool) {
+			Objects.requireNonNull(pool, "Pool must not be null");
+			throw new UnsupportedOperationException(getClass().getName() + " does not support parallel parsing");
+		}
+
 		/**
 		 * Builds and returns a {@link CqlDataSet} instance.
 		 *
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+/**
+ * An exception thrown by a {@link CqlExecutor} when a statement could not be executed.
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public class CqlExecutionException extends RuntimeException {
+
+	private final String statement;
+
+	/**
+	 * Constructs a new {@link CqlExecutionException} with the specified statement and cause.
+	 *
+	 * @param statement the statement that failed (may be {@code null})
+	 * @param cause the cause of the exception
+	 */
+	public CqlExecutionException(String statement, Throwable cause) {
+		super(String.format("Unable to execute statement: '%s'. Caused by: %s", statement, cause), cause);
+		this.statement = statement;
+	}
+
+	/**
+	 * Returns the statement that failed.
+	 *
+	 * @return the statement, or {@code null} if unknown
+	 */
+	public String getStatement() {
+		return this.statement;
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The result of a {@link CqlExecutor#execute(CqlScript)} call, providing the throughput and per-statement latencies.
+ *
+ * <p>Latencies are kept in the order in which statements were submitted, so {@code getLatency(0)} is the latency of
+ * the first statement of the script.</p>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public final class CqlExecutionResult {
+
+	private final long[] latencies;
+
+	private final int schemaStatementCount;
+
+	private final Duration elapsed;
+
+	private volatile long[] sortedLatencies;
+
+	/**
+	 * Creates a new {@link CqlExecutionResult}.
+	 *
+	 * @param latencies the per-statement latencies in nanoseconds, in submission order (must not be {@code null})
+	 * @param schemaStatementCount the number of statements which have been executed sequentially
+	 * @param elapsed the total execution time (must not be {@code null})
+	 * @throws NullPointerException if {@code latencies} or {@code elapsed} is {@code null}
+	 */
+	public CqlExecutionResult(long[] latencies, int schemaStatementCount, Duration elapsed) {
+		Objects.requireNonNull(latencies, "Latencies must not be null");
+		Objects.requireNonNull(elapsed, "Elapsed must not be null");
+		this.latencies = latencies.clone();
+		this.schemaStatementCount = schemaStatementCount;
+		this.elapsed = elapsed;
+	}
+
+	/**
+	 * Returns the total number of executed statements.
+	 *
+	 * @return the number of statements
+	 */
+	public int getStatementCount() {
+		return this.latencies.length;
+	}
+
+	/**
+	 * Returns the number of statements which have been executed sequentially, such as {@code CREATE}, {@code ALTER}
+	 * or {@code DROP}.
+	 *
+	 * @return the number of schema statements
+	 */
+	public int getSchemaStatementCount() {
+		return this.schemaStatementCount;
+	}
+
+	/**
+	 * Returns the total (wall-clock) execution time.
+	 *
+	 * @return the elapsed time
+	 */
+	public Duration getElapsed() {
+		return this.elapsed;
+	}
+
+	/**
+	 * Returns the throughput in statements per second.
+	 *
+	 * @return the throughput, or {@code 0} if nothing has been executed
+	 */
+	public double getThroughput() {
+		long nanos = this.elapsed.toNanos();
+		if (nanos <= 0) {
+			return 0;
+		}
+		return this.latencies.length / (nanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * Returns the latency of the statement with the given index.
+	 *
+	 * @param index the zero-based statement index, in submission order
+	 * @return the latency of the statement
+	 * @throws IndexOutOfBoundsException if {@code index} is out of range
+	 */
+	public Duration getLatency(int index) {
+		return Duration.ofNanos(this.latencies[index]);
+	}
+
+	/**
+	 * Returns the latency at the given percentile, using the nearest-rank method.
+	 *
+	 * @param percentile the percentile, between {@code 0} (exclusive) and {@code 100} (inclusive)
+	 * @return the latency, or {@link Duration#ZERO} if nothing has been executed
+	 * @throws IllegalArgumentException if {@code percentile} is out of range
+	 */
+	public Duration getLatencyPercentile(double percentile) {
+		if (percentile <= 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be in range (0, 100]");
+		}
+		long[] sorted = getSortedLatencies();
+		if (sorted.length == 0) {
+			return Duration.ZERO;
+		}
+		int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+		return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+	}
+
+	/**
+	 * Returns the maximum statement latency.
+	 *
+	 * @return the maximum latency, or {@link Duration#ZERO} if nothing has been executed
+	 */
+	public Duration getMaxLatency() {
+		long[] sorted = getSortedLatencies();
+		return (sorted.length != 0) ? Duration.ofNanos(sorted[sorted.length - 1]) : Duration.ZERO;
+	}
+
+	@Override
+	public String toString() {
+		return "CqlExecutionResult{" + "statements=" + getStatementCount() + ", schemaStatements="
+				+ this.schemaStatementCount + ", elapsed=" + this.elapsed + ", throughput="
+				+ String.format("%.2f/s", getThroughput()) + ", p50=" + getLatencyPercentile(50) + ", p99="
+				+ getLatencyPercentile(99) + ", max=" + getMaxLatency() + '}';
+	}
+
+	private long[] getSortedLatencies() {
+		long[] sorted = this.sortedLatencies;
+		if (sorted == null) {
+			sorted = this.latencies.clone();
+			Arrays.sort(sorted);
+			this.sortedLatencies = sorted;
+		}
+		return sorted;
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+/**
+ * Strategy interface for executing the statements of a {@link CqlScript} (or a {@link CqlDataSet}) against a running
+ * Cassandra instance.
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * CqlExecutor executor = new CqlSessionExecutor(session);
+ * CqlExecutionResult result = executor.execute(CqlDataSet.ofClassPaths("schema.cql", "data.cql"));
+ * System.out.println(result.getThroughput() + " statements/s");
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @see AbstractCqlExecutor
+ * @see com.github.nosan.embedded.cassandra.cql.driver.CqlSessionExecutor
+ * @since 5.1.0
+ */
+@FunctionalInterface
+public interface CqlExecutor {
+
+	/**
+	 * Executes all statements of the given {@link CqlScript}.
+	 *
+	 * @param script the script to execute (must not be {@code null})
+	 * @return the execution result (never {@code null})
+	 * @throws NullPointerException if {@code script} is {@code null}
+	 * @throws CqlExecutionException if any statement could not be executed
+	 */
+	CqlExecutionResult execute(CqlScript script) throws CqlExecutionException;
+
+}
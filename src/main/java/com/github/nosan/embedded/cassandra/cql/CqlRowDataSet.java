@@ -0,0 +1,340 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
+import com.github.nosan.embedded.cassandra.commons.Resource;
+import com.github.nosan.embedded.cassandra.commons.StringUtils;
+
+/**
+ * A data set of table rows stored in a CSV or NDJSON (newline-delimited JSON) file.
+ *
+ * <p>Unlike {@link CqlDataSet}, rows are not turned into literal {@code INSERT} statements. Each row is converted to a
+ * JSON document and inserted with the single prepared statement returned by {@link #getInsertStatement()}
+ * ({@code INSERT INTO TABLE JSON ? DEFAULT UNSET}), so Cassandra itself converts the values to the column
+ * types. Rows are read lazily by {@link #stream()}, so files of any size can be loaded with bounded memory.</p>
+ *
+ * <p>CSV files must start with a header record naming the columns. Values are sent as JSON strings, or
+ * {@code null} for unquoted empty fields; Cassandra accepts the string form of all primitive types.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * CqlRowDataSet users = CqlRowDataSet.ofCsv(new ClassPathResource("users.csv"), "test.users");
+ * CqlRowDataSet events = CqlRowDataSet.ofNdjson(new ClassPathResource("events.ndjson"), "test.events");
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @see com.github.nosan.embedded.cassandra.cql.driver.CqlSessionRowLoader
+ * @since 5.1.0
+ */
+public final class CqlRowDataSet {
+
+	private final Resource resource;
+
+	private final Charset charset;
+
+	private final String table;
+
+	private final Format format;
+
+	private final char delimiter;
+
+	private CqlRowDataSet(Resource resource, Charset charset, String table, Format format, char delimiter) {
+		Objects.requireNonNull(resource, "Resource must not be null");
+		Objects.requireNonNull(charset, "Charset must not be null");
+		Objects.requireNonNull(table, "Table must not be null");
+		if (!StringUtils.hasText(table)) {
+			throw new IllegalArgumentException("Table must not be empty");
+		}
+		this.resource = resource;
+		this.charset = charset;
+		this.table = table;
+		this.format = format;
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * Creates a {@link CqlRowDataSet} from a UTF-8, comma-separated CSV file with a header record.
+	 *
+	 * @param resource the CSV file (must not be {@code null})
+	 * @param table the target table, e.g. {@code keyspace.table} (must not be {@code null})
+	 * @return a new {@link CqlRowDataSet}
+	 * @throws NullPointerException if {@code resource} or {@code table} is {@code null}
+	 */
+	public static CqlRowDataSet ofCsv(Resource resource, String table) {
+		return ofCsv(resource, StandardCharsets.UTF_8, ',', table);
+	}
+
+	/**
+	 * Creates a {@link CqlRowDataSet} from a CSV file with a header record.
+	 *
+	 * @param resource the CSV file (must not be {@code null})
+	 * @param charset the encoding of the file (must not be {@code null})
+	 * @param delimiter the field delimiter
+	 * @param table the target table, e.g. {@code keyspace.table} (must not be {@code null})
+	 * @return a new {@link CqlRowDataSet}
+	 * @throws NullPointerException if {@code resource}, {@code charset} or {@code table} is {@code null}
+	 * @throws IllegalArgumentException if {@code delimiter} is a quote or line break
+	 */
+	public static CqlRowDataSet ofCsv(Resource resource, Charset charset, char delimiter, String table) {
+		if (delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+			throw new IllegalArgumentException("Delimiter: '" + delimiter + "' is not supported");
+		}
+		return new CqlRowDataSet(resource, charset, table, Format.CSV, delimiter);
+	}
+
+	/**
+	 * Creates a {@link CqlRowDataSet} from a UTF-8 NDJSON file: one JSON object per line; blank lines are ignored.
+	 *
+	 * @param resource the NDJSON file (must not be {@code null})
+	 * @param table the target table, e.g. {@code keyspace.table} (must not be {@code null})
+	 * @return a new {@link CqlRowDataSet}
+	 * @throws NullPointerException if {@code resource} or {@code table} is {@code null}
+	 */
+	public static CqlRowDataSet ofNdjson(Resource resource, String table) {
+		return ofNdjson(resource, StandardCharsets.UTF_8, table);
+	}
+
+	/**
+	 * Creates a {@link CqlRowDataSet} from an NDJSON file: one JSON object per line; blank lines are ignored.
+	 *
+	 * @param resource the NDJSON file (must not be {@code null})
+	 * @param charset the encoding of the file (must not be {@code null})
+	 * @param table the target table, e.g. {@code keyspace.table} (must not be {@code null})
+	 * @return a new {@link CqlRowDataSet}
+	 * @throws NullPointerException if any argument is {@code null}
+	 */
+	public static CqlRowDataSet ofNdjson(Resource resource, Charset charset, String table) {
+		return new CqlRowDataSet(resource, charset, table, Format.NDJSON, ',');
+	}
+
+	/**
+	 * Creates a {@link CqlRowDataSet} from a UTF-8 classpath resource. The format is chosen by the file extension:
+	 * {@code .csv} or {@code .ndjson}/{@code .jsonl}.
+	 *
+	 * @param name the resource name (must not be {@code null})
+	 * @param table the target table, e.g. {@code keyspace.table} (must not be {@code null})
+	 * @return a new {@link CqlRowDataSet}
+	 * @throws NullPointerException if {@code name} or {@code table} is {@code null}
+	 * @throws IllegalArgumentException if the extension is not supported
+	 */
+	public static CqlRowDataSet ofClassPath(String name, String table) {
+		Objects.requireNonNull(name, "Name must not be null");
+		ClassPathResource resource = new ClassPathResource(name);
+		if (name.endsWith(".csv")) {
+			return ofCsv(resource, table);
+		}
+		if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+			return ofNdjson(resource, table);
+		}
+		throw new IllegalArgumentException("Resource: '" + name + "' is neither a CSV nor an NDJSON file");
+	}
+
+	/**
+	 * Returns the target table.
+	 *
+	 * @return the table
+	 */
+	public String getTable() {
+		return this.table;
+	}
+
+	/**
+	 * Returns the statement used to insert each row, bound with the JSON document of the row.
+	 *
+	 * @return the insert statement
+	 */
+	public String getInsertStatement() {
+		return "INSERT INTO " + this.table + " JSON ? DEFAULT UNSET";
+	}
+
+	/**
+	 * Returns a lazily read stream of rows, each converted to a JSON document. The stream holds the underlying
+	 * resource open and should be closed after use, for example with a {@code try-with-resources} statement.
+	 *
+	 * @return a stream of JSON documents, one per row
+	 * @throws UncheckedIOException if the resource cannot be opened or read
+	 */
+	public Stream<String> stream() {
+		BufferedReader reader;
+		try {
+			reader = new BufferedReader(new InputStreamReader(this.resource.getInputStream(), this.charset));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Could not open a stream for " + this.resource, ex);
+		}
+		Iterator<String> rows = (this.format == Format.CSV) ? new CsvRows(new CsvReader(reader, this.delimiter))
+				: new NdjsonRows(reader);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows,
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> {
+					try {
+						reader.close();
+					}
+					catch (IOException ex) {
+						throw new UncheckedIOException("Could not close a stream for " + this.resource, ex);
+					}
+				});
+	}
+
+	@Override
+	public String toString() {
+		return "CqlRowDataSet{" + "resource=" + this.resource + ", table='" + this.table + '\'' + ", format="
+				+ this.format + '}';
+	}
+
+	static void appendJsonString(StringBuilder json, String value) {
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			}
+			else if (c < 0x20) {
+				json.append(String.format("\\u%04x", (int) c));
+			}
+			else {
+				json.append(c);
+			}
+		}
+		json.append('"');
+	}
+
+	private enum Format {
+
+		CSV,
+
+		NDJSON
+
+	}
+
+	private abstract class Rows implements Iterator<String> {
+
+		private String next;
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null) {
+				try {
+					this.next = read();
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException("Could not read " + CqlRowDataSet.this.resource, ex);
+				}
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public String next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			String next = this.next;
+			this.next = null;
+			return next;
+		}
+
+		abstract String read() throws IOException;
+
+	}
+
+	private final class NdjsonRows extends Rows {
+
+		private final BufferedReader reader;
+
+		NdjsonRows(BufferedReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		String read() throws IOException {
+			String line;
+			while ((line = this.reader.readLine()) != null) {
+				if (StringUtils.hasText(line)) {
+					return line.strip();
+				}
+			}
+			return null;
+		}
+
+	}
+
+	private final class CsvRows extends Rows {
+
+		private final CsvReader reader;
+
+		private List<String> header;
+
+		CsvRows(CsvReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		String read() throws IOException {
+			if (this.header == null) {
+				this.header = this.reader.readRecord();
+				if (this.header == null) {
+					return null;
+				}
+			}
+			List<String> record;
+			while ((record = this.reader.readRecord()) != null) {
+				if (record.size() == 1 && record.get(0) == null) {
+					continue;
+				}
+				if (record.size() != this.header.size()) {
+					throw new IllegalStateException(String.format("Record %s of %s has %d fields, but the header"
+							+ " has %d", record, CqlRowDataSet.this.resource, record.size(), this.header.size()));
+				}
+				StringBuilder json = new StringBuilder("{");
+				for (int i = 0; i < record.size(); i++) {
+					if (i > 0) {
+						json.append(',');
+					}
+					appendJsonString(json, this.header.get(i).strip());
+					json.append(':');
+					String value = record.get(i);
+					if (value != null) {
+						appendJsonString(json, value);
+					}
+					else {
+						json.append("null");
+					}
+				}
+				return json.append('}').toString();
+			}
+			return null;
+		}
+
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A snapshot of the progress of loading a {@link CqlRowDataSet}.
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public final class CqlRowLoadProgress {
+
+	private final String table;
+
+	private final long rowCount;
+
+	private final Duration elapsed;
+
+	private final boolean completed;
+
+	/**
+	 * Creates a new {@link CqlRowLoadProgress}.
+	 *
+	 * @param table the target table (must not be {@code null})
+	 * @param rowCount the number of rows which have been inserted so far
+	 * @param elapsed the time elapsed since loading started (must not be {@code null})
+	 * @param completed whether all rows have been inserted
+	 * @throws NullPointerException if {@code table} or {@code elapsed} is {@code null}
+	 */
+	public CqlRowLoadProgress(String table, long rowCount, Duration elapsed, boolean completed) {
+		Objects.requireNonNull(table, "Table must not be null");
+		Objects.requireNonNull(elapsed, "Elapsed must not be null");
+		this.table = table;
+		this.rowCount = rowCount;
+		this.elapsed = elapsed;
+		this.completed = completed;
+	}
+
+	/**
+	 * Returns the target table.
+	 *
+	 * @return the table
+	 */
+	public String getTable() {
+		return this.table;
+	}
+
+	/**
+	 * Returns the number of rows which have been inserted so far.
+	 *
+	 * @return the number of rows
+	 */
+	public long getRowCount() {
+		return this.rowCount;
+	}
+
+	/**
+	 * Returns the time elapsed since loading started.
+	 *
+	 * @return the elapsed time
+	 */
+	public Duration getElapsed() {
+		return this.elapsed;
+	}
+
+	/**
+	 * Returns the throughput in rows per second.
+	 *
+	 * @return the throughput, or {@code 0} if no time has elapsed
+	 */
+	public double getThroughput() {
+		long nanos = this.elapsed.toNanos();
+		if (nanos <= 0) {
+			return 0;
+		}
+		return this.rowCount / (nanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * Returns whether all rows have been inserted.
+	 *
+	 * @return {@code true} if loading has completed
+	 */
+	public boolean isCompleted() {
+		return this.completed;
+	}
+
+	@Override
+	public String toString() {
+		return "CqlRowLoadProgress{" + "table='" + this.table + '\'' + ", rows=" + this.rowCount + ", elapsed="
+				+ this.elapsed + ", throughput=" + String.format("%.2f/s", getThroughput()) + ", completed="
+				+ this.completed + '}';
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
 import com.github.nosan.embedded.cassandra.commons.Resource;
@@ -139,7 +140,23 @@ public interface CqlScript {
 	 */
 	default void forEachStatement(Consumer<? super String> callback) {
 		Objects.requireNonNull(callback, "Callback must not be null");
-		getStatements().forEach(callback);
+		try (Stream<String> statements = stream()) {
+			statements.forEachOrdered(callback);
+		}
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of the CQL statements encapsulated within this {@link CqlScript}.
+	 *
+	 * <p>Implementations may produce statements lazily, in which case the script is read and parsed only as the
+	 * stream is consumed. The returned stream may hold an open resource and should be closed after use, for example
+	 * with a {@code try-with-resources} statement.</p>
+	 *
+	 * @return a stream of CQL statements (never {@code null})
+	 * @since 5.1.0
+	 */
+	default Stream<String> stream() {
+		return getStatements().stream();
 	}
 
 	/**
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * A classified CQL statement, produced by {@link CqlStatementClassifier}.
+ *
+ * <p>Besides the {@link Kind kind} of the statement, the keyspace, table and partition key are extracted where the
+ * syntax allows. The keyspace of an unqualified table is resolved from the preceding {@code USE} statement, and the
+ * partition key is only known for tables whose {@code CREATE TABLE} statement has been classified before and whose
+ * partition key columns are bound to literal values.</p>
+ *
+ * @author Dmytro Nosan
+ * @see CqlStatementClassifier
+ * @since 5.1.0
+ */
+public final class CqlStatement {
+
+	private final String statement;
+
+	private final Kind kind;
+
+	private final String keyspace;
+
+	private final String table;
+
+	private final List<String> partitionKey;
+
+	private final boolean conditional;
+
+	CqlStatement(String statement, Kind kind, String keyspace, String table, List<String> partitionKey,
+			boolean conditional) {
+		this.statement = statement;
+		this.kind = kind;
+		this.keyspace = keyspace;
+		this.table = table;
+		this.partitionKey = List.copyOf(partitionKey);
+		this.conditional = conditional;
+	}
+
+	/**
+	 * Returns the statement text.
+	 *
+	 * @return the statement
+	 */
+	public String getStatement() {
+		return this.statement;
+	}
+
+	/**
+	 * Returns the kind of the statement.
+	 *
+	 * @return the kind
+	 */
+	public Kind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * Returns the keyspace the statement refers to. Unquoted names are lower-cased.
+	 *
+	 * @return the keyspace, or empty if it is not known
+	 */
+	public Optional<String> getKeyspace() {
+		return Optional.ofNullable(this.keyspace);
+	}
+
+	/**
+	 * Returns the table the statement refers to. Unquoted names are lower-cased.
+	 *
+	 * @return the table, or empty if it is not known
+	 */
+	public Optional<String> getTable() {
+		return Optional.ofNullable(this.table);
+	}
+
+	/**
+	 * Returns the literal values of the partition key columns, in the order of the table's partition key.
+	 *
+	 * @return the partition key values, or an empty list if the partition key is not known
+	 */
+	public List<String> getPartitionKey() {
+		return this.partitionKey;
+	}
+
+	/**
+	 * Returns whether the statement is a lightweight transaction, i.e. has an {@code IF} condition.
+	 *
+	 * @return {@code true} if the statement is conditional
+	 */
+	public boolean isConditional() {
+		return this.conditional;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (other == null || getClass() != other.getClass()) {
+			return false;
+		}
+		CqlStatement that = (CqlStatement) other;
+		return this.conditional == that.conditional && this.statement.equals(that.statement)
+				&& this.kind == that.kind && Objects.equals(this.keyspace, that.keyspace)
+				&& Objects.equals(this.table, that.table) && this.partitionKey.equals(that.partitionKey);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.statement, this.kind, this.keyspace, this.table, this.partitionKey,
+				this.conditional);
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner(", ", CqlStatement.class.getSimpleName() + "[", "]")
+				.add("statement='" + this.statement + "'")
+				.add("kind=" + this.kind)
+				.add("keyspace='" + this.keyspace + "'")
+				.add("table='" + this.table + "'")
+				.add("partitionKey=" + this.partitionKey)
+				.add("conditional=" + this.conditional)
+				.toString();
+	}
+
+	/**
+	 * Kinds of CQL statements.
+	 */
+	public enum Kind {
+
+		/**
+		 * A schema statement: {@code CREATE}, {@code ALTER} or {@code DROP}.
+		 */
+		DDL,
+
+		/**
+		 * An {@code INSERT} statement.
+		 */
+		INSERT,
+
+		/**
+		 * An {@code UPDATE} statement.
+		 */
+		UPDATE,
+
+		/**
+		 * Any other statement.
+		 */
+		OTHER
+
+	}
+
+}
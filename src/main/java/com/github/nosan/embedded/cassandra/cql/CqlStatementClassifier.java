@@ -0,0 +1,402 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.github.nosan.embedded.cassandra.cql.CqlStatement.Kind;
+import com.github.nosan.embedded.cassandra.cql.Tokenizer.Token;
+import com.github.nosan.embedded.cassandra.cql.Tokenizer.Type;
+
+/**
+ * Classifies CQL statements of a script, one after another.
+ *
+ * <p>A classifier is stateful: it remembers the current keyspace set by {@code USE} and the partition key columns
+ * declared by {@code CREATE TABLE}, so statements must be classified in script order. Instances are not
+ * thread-safe.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * CqlStatementClassifier classifier = new CqlStatementClassifier();
+ * CqlDataSet.ofClassPaths("schema.cql", "data.cql").forEachStatement(statement -> {
+ *     CqlStatement cqlStatement = classifier.classify(statement);
+ *     ...
+ * });
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @see CqlStatement
+ * @since 5.1.0
+ */
+public class CqlStatementClassifier {
+
+	private final Map<String, List<String>> partitionKeys = new HashMap<>();
+
+	private String keyspace;
+
+	/**
+	 * Creates a new {@link CqlStatementClassifier}.
+	 */
+	public CqlStatementClassifier() {
+	}
+
+	/**
+	 * Classifies the given statement and updates the schema known to this classifier.
+	 *
+	 * @param statement the statement to classify (must not be {@code null})
+	 * @return the classified statement
+	 * @throws NullPointerException if {@code statement} is {@code null}
+	 */
+	public CqlStatement classify(String statement) {
+		Objects.requireNonNull(statement, "Statement must not be null");
+		Cursor cursor = new Cursor(Tokenizer.tokenize(statement));
+		Token first = cursor.next();
+		if (first == null) {
+			return new CqlStatement(statement, Kind.OTHER, null, null, Collections.emptyList(), false);
+		}
+		if (first.is("USE") && cursor.peekName()) {
+			this.keyspace = cursor.next().getName();
+			return new CqlStatement(statement, Kind.OTHER, this.keyspace, null, Collections.emptyList(), false);
+		}
+		if (first.is("CREATE") || first.is("ALTER") || first.is("DROP")) {
+			return classifyDdl(statement, first, cursor);
+		}
+		if (first.is("INSERT") && cursor.accept("INTO")) {
+			return classifyInsert(statement, cursor);
+		}
+		if (first.is("UPDATE")) {
+			return classifyUpdate(statement, cursor);
+		}
+		return new CqlStatement(statement, Kind.OTHER, null, null, Collections.emptyList(), false);
+	}
+
+	private CqlStatement classifyDdl(String statement, Token command, Cursor cursor) {
+		if (cursor.accept("OR")) {
+			cursor.accept("REPLACE");
+		}
+		Token object = cursor.next();
+		if (object != null && (object.is("TABLE") || object.is("COLUMNFAMILY"))) {
+			skipIfExists(cursor);
+			Name name = readName(cursor);
+			if (name != null) {
+				if (command.is("CREATE") && cursor.accept('(')) {
+					List<String> partitionKey = readPartitionKey(cursor.split(')'));
+					if (!partitionKey.isEmpty()) {
+						this.partitionKeys.put(name.getKey(), partitionKey);
+					}
+				}
+				else if (command.is("DROP")) {
+					this.partitionKeys.remove(name.getKey());
+				}
+				return new CqlStatement(statement, Kind.DDL, name.keyspace, name.table, Collections.emptyList(),
+						false);
+			}
+		}
+		else if (object != null && (object.is("KEYSPACE") || object.is("SCHEMA"))) {
+			skipIfExists(cursor);
+			if (cursor.peekName()) {
+				String keyspace = cursor.next().getName();
+				if (command.is("DROP")) {
+					this.partitionKeys.keySet().removeIf(key -> key.startsWith(keyspace + "."));
+				}
+				return new CqlStatement(statement, Kind.DDL, keyspace, null, Collections.emptyList(), false);
+			}
+		}
+		return new CqlStatement(statement, Kind.DDL, null, null, Collections.emptyList(), false);
+	}
+
+	private CqlStatement classifyInsert(String statement, Cursor cursor) {
+		Name name = readName(cursor);
+		if (name == null) {
+			return new CqlStatement(statement, Kind.INSERT, null, null, Collections.emptyList(), false);
+		}
+		Map<String, List<Token>> values = new LinkedHashMap<>();
+		if (cursor.accept('(')) {
+			List<List<Token>> columns = cursor.split(')');
+			if (cursor.accept("VALUES") && cursor.accept('(')) {
+				List<List<Token>> terms = cursor.split(')');
+				for (int i = 0; i < Math.min(columns.size(), terms.size()); i++) {
+					List<Token> column = columns.get(i);
+					if (column.size() == 1 && column.get(0).isName()) {
+						values.put(column.get(0).getName(), terms.get(i));
+					}
+				}
+			}
+		}
+		boolean conditional = cursor.skipTo("IF");
+		return new CqlStatement(statement, Kind.INSERT, name.keyspace, name.table, getPartitionKey(name, values),
+				conditional);
+	}
+
+	private CqlStatement classifyUpdate(String statement, Cursor cursor) {
+		Name name = readName(cursor);
+		if (name == null) {
+			return new CqlStatement(statement, Kind.UPDATE, null, null, Collections.emptyList(), false);
+		}
+		Map<String, List<Token>> values = new LinkedHashMap<>();
+		boolean conditional = false;
+		if (cursor.skipTo("WHERE")) {
+			while (cursor.peekName()) {
+				String column = cursor.next().getName();
+				boolean equality = cursor.accept('=');
+				List<Token> term = new ArrayList<>();
+				Token token;
+				Nesting nesting = new Nesting();
+				while ((token = cursor.peek()) != null
+						&& (!nesting.isTopLevel() || !(token.is("AND") || token.is("IF")))) {
+					nesting.add(token);
+					term.add(cursor.next());
+				}
+				if (equality) {
+					values.put(column, term);
+				}
+				if (!cursor.accept("AND")) {
+					break;
+				}
+			}
+			conditional = cursor.accept("IF");
+		}
+		return new CqlStatement(statement, Kind.UPDATE, name.keyspace, name.table, getPartitionKey(name, values),
+				conditional);
+	}
+
+	private List<String> getPartitionKey(Name name, Map<String, List<Token>> values) {
+		List<String> columns = this.partitionKeys.get(name.getKey());
+		if (columns == null) {
+			return Collections.emptyList();
+		}
+		List<String> partitionKey = new ArrayList<>(columns.size());
+		for (String column : columns) {
+			List<Token> term = values.get(column);
+			if (term == null || !isLiteral(term)) {
+				return Collections.emptyList();
+			}
+			partitionKey.add(term.get(0).getText());
+		}
+		return partitionKey;
+	}
+
+	private Name readName(Cursor cursor) {
+		if (!cursor.peekName()) {
+			return null;
+		}
+		String first = cursor.next().getName();
+		if (cursor.accept('.')) {
+			if (!cursor.peekName()) {
+				return null;
+			}
+			return new Name(first, cursor.next().getName());
+		}
+		return new Name(this.keyspace, first);
+	}
+
+	private static List<String> readPartitionKey(List<List<Token>> definitions) {
+		for (List<Token> definition : definitions) {
+			if (definition.size() > 3 && definition.get(0).is("PRIMARY") && definition.get(1).is("KEY")
+					&& definition.get(2).is('(')) {
+				List<String> partitionKey = new ArrayList<>();
+				if (definition.get(3).is('(')) {
+					for (int i = 4; i < definition.size() && !definition.get(i).is(')'); i++) {
+						if (definition.get(i).isName()) {
+							partitionKey.add(definition.get(i).getName());
+						}
+					}
+				}
+				else if (definition.get(3).isName()) {
+					partitionKey.add(definition.get(3).getName());
+				}
+				return partitionKey;
+			}
+		}
+		for (List<Token> definition : definitions) {
+			for (int i = 1; i < definition.size() - 1; i++) {
+				if (definition.get(i).is("PRIMARY") && definition.get(i + 1).is("KEY")
+						&& definition.get(0).isName()) {
+					return List.of(definition.get(0).getName());
+				}
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	private static boolean isLiteral(List<Token> term) {
+		if (term.size() != 1) {
+			return false;
+		}
+		Token token = term.get(0);
+		return token.getType() == Type.STRING || token.getType() == Type.NUMBER || token.is("TRUE")
+				|| token.is("FALSE");
+	}
+
+	private static void skipIfExists(Cursor cursor) {
+		if (cursor.accept("IF")) {
+			cursor.accept("NOT");
+			cursor.accept("EXISTS");
+		}
+	}
+
+	private static final class Name {
+
+		private final String keyspace;
+
+		private final String table;
+
+		Name(String keyspace, String table) {
+			this.keyspace = keyspace;
+			this.table = table;
+		}
+
+		String getKey() {
+			return ((this.keyspace != null) ? this.keyspace : "") + "." + this.table;
+		}
+
+	}
+
+	private static final class Cursor {
+
+		private final List<Token> tokens;
+
+		private int position;
+
+		Cursor(List<Token> tokens) {
+			this.tokens = tokens;
+		}
+
+		Token peek() {
+			return (this.position < this.tokens.size()) ? this.tokens.get(this.position) : null;
+		}
+
+		Token next() {
+			Token token = peek();
+			if (token != null) {
+				this.position++;
+			}
+			return token;
+		}
+
+		boolean peekName() {
+			Token token = peek();
+			return token != null && token.isName();
+		}
+
+		boolean accept(String keyword) {
+			Token token = peek();
+			if (token != null && token.is(keyword)) {
+				this.position++;
+				return true;
+			}
+			return false;
+		}
+
+		boolean accept(char symbol) {
+			Token token = peek();
+			if (token != null && token.is(symbol)) {
+				this.position++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Advances past the next top-level occurrence of the given keyword.
+		 */
+		boolean skipTo(String keyword) {
+			Nesting nesting = new Nesting();
+			Token token;
+			while ((token = next()) != null) {
+				if (nesting.isTopLevel() && token.is(keyword)) {
+					return true;
+				}
+				nesting.add(token);
+			}
+			return false;
+		}
+
+		/**
+		 * Reads comma-separated items up to and including the given closing symbol at the current nesting level.
+		 */
+		List<List<Token>> split(char close) {
+			List<List<Token>> items = new ArrayList<>();
+			List<Token> item = new ArrayList<>();
+			Nesting nesting = new Nesting();
+			Token token;
+			while ((token = next()) != null) {
+				if (nesting.isTopLevel() && token.is(close)) {
+					break;
+				}
+				if (nesting.isTopLevel() && token.is(',')) {
+					items.add(item);
+					item = new ArrayList<>();
+					continue;
+				}
+				nesting.add(token);
+				item.add(token);
+			}
+			if (!item.isEmpty()) {
+				items.add(item);
+			}
+			return items;
+		}
+
+	}
+
+	/**
+	 * Tracks the nesting of brackets. Angle brackets only count after a parameterized type such as {@code frozen} or
+	 * {@code map}, so that comparisons like {@code ck < 5} are not taken for brackets.
+	 */
+	private static final class Nesting {
+
+		private static final Set<String> PARAMETERIZED_TYPES = Set.of("frozen", "map", "set", "list", "tuple",
+				"vector");
+
+		private int depth;
+
+		private int angles;
+
+		private Token previous;
+
+		boolean isTopLevel() {
+			return this.depth == 0 && this.angles == 0;
+		}
+
+		void add(Token token) {
+			if (token.is('(') || token.is('[') || token.is('{')) {
+				this.depth++;
+			}
+			else if (token.is(')') || token.is(']') || token.is('}')) {
+				this.depth--;
+			}
+			else if (token.is('<') && this.previous != null && this.previous.getType() == Type.IDENTIFIER
+					&& PARAMETERIZED_TYPES.contains(this.previous.getName())) {
+				this.angles++;
+			}
+			else if (token.is('>') && this.angles > 0) {
+				this.angles--;
+			}
+			this.previous = token;
+		}
+
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A minimal RFC 4180 CSV reader which reads one record at a time.
+ *
+ * <p>Fields may be quoted with {@code "}; quotes inside quoted fields are escaped by doubling them, and quoted fields
+ * may span several lines. An unquoted empty field is read as {@code null}, a quoted empty field as an empty
+ * string. Records are terminated by {@code LF} or {@code CRLF}.</p>
+ *
+ * @author Dmytro Nosan
+ */
+final class CsvReader {
+
+	private static final int EOF = -1;
+
+	private final Reader reader;
+
+	private final char delimiter;
+
+	private final StringBuilder field = new StringBuilder();
+
+	private int peeked = -2;
+
+	CsvReader(Reader reader, char delimiter) {
+		this.reader = reader;
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * Reads the next record.
+	 *
+	 * @return the fields of the next record, or {@code null} if the end of the input has been reached
+	 * @throws IOException if an I/O error occurs
+	 */
+	List<String> readRecord() throws IOException {
+		int c = read();
+		if (c == EOF) {
+			return null;
+		}
+		List<String> record = new ArrayList<>();
+		while (true) {
+			boolean quoted = false;
+			this.field.setLength(0);
+			if (c == '"') {
+				quoted = true;
+				while (true) {
+					c = read();
+					if (c == EOF) {
+						break;
+					}
+					if (c == '"') {
+						if (peek() != '"') {
+							c = read();
+							break;
+						}
+						read();
+					}
+					this.field.append((char) c);
+				}
+			}
+			while (c != EOF && c != this.delimiter && c != '\n' && c != '\r') {
+				this.field.append((char) c);
+				c = read();
+			}
+			record.add((quoted || this.field.length() > 0) ? this.field.toString() : null);
+			if (c == this.delimiter) {
+				c = read();
+				continue;
+			}
+			if (c == '\r' && peek() == '\n') {
+				read();
+			}
+			return record;
+		}
+	}
+
+	private int read() throws IOException {
+		if (this.peeked != -2) {
+			int c = this.peeked;
+			this.peeked = -2;
+			return c;
+		}
+		return this.reader.read();
+	}
+
+	private int peek() throws IOException {
+		if (this.peeked == -2) {
+			this.peeked = this.reader.read();
+		}
+		return this.peeked;
+	}
+
+}
@@ -19,14 +19,22 @@ package com.github.nosan.embedded.cassandra.cql;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
 
 import com.github.nosan.embedded.cassandra.commons.Resource;
 
 /**
  * Default implementation of the {@link CqlDataSet} interface.
  *
+ * <p>A data set created with a {@link ForkJoinPool} reads and parses its scripts concurrently on that pool, which
+ * pays off for data sets made of many resources. Statements are still returned script by script, in the order the
+ * scripts were added.</p>
+ *
  * @author Dmytro Nosan
  * @see CqlDataSet
  * @see Builder
@@ -36,6 +44,8 @@ public class DefaultCqlDataSet implements CqlDataSet {
 
 	private final List<CqlScript> scripts;
 
+	private final ForkJoinPool pool;
+
 	/**
 	 * Creates a new immutable {@link DefaultCqlDataSet} with the specified CQL scripts.
 	 *
@@ -46,6 +56,24 @@ public class DefaultCqlDataSet implements CqlDataSet {
 	public DefaultCqlDataSet(Collection<? extends CqlScript> scripts) {
 		Objects.requireNonNull(scripts, "Scripts must not be null");
 		this.scripts = List.copyOf(scripts);
+		this.pool = null;
+	}
+
+	/**
+	 * Creates a new immutable {@link DefaultCqlDataSet} with the specified CQL scripts, which are read and parsed
+	 * concurrently on the given pool.
+	 *
+	 * @param scripts the collection of {@link CqlScript} instances to include in this dataset (must not be
+	 * {@code null})
+	 * @param pool the pool to parse scripts on (must not be {@code null})
+	 * @throws NullPointerException if {@code scripts} or {@code pool} is {@code null}
+	 * @since 5.1.0
+	 */
+	public DefaultCqlDataSet(Collection<? extends CqlScript> scripts, ForkJoinPool pool) {
+		Objects.requireNonNull(scripts, "Scripts must not be null");
+		Objects.requireNonNull(pool, "Pool must not be null");
+		this.scripts = List.copyOf(scripts);
+		this.pool = pool;
 	}
 
 	/**
@@ -60,6 +88,59 @@ public class DefaultCqlDataSet implements CqlDataSet {
 		return this.scripts;
 	}
 
+	/**
+	 * Returns whether the scripts of this dataset are parsed concurrently.
+	 *
+	 * @return {@code true} if scripts are parsed concurrently
+	 * @since 5.1.0
+	 */
+	public boolean isParallel() {
+		return this.pool != null;
+	}
+
+	/**
+	 * Retrieves all the CQL statements from every script in this dataset. In parallel mode, every script is read and
+	 * parsed in its own task; the results are concatenated in script order. The first failure cancels the remaining
+	 * tasks and is rethrown.
+	 *
+	 * @return an unmodifiable list of all CQL statements (never {@code null})
+	 */
+	@Override
+	public List<String> getStatements() {
+		if (this.pool == null || this.scripts.size() < 2) {
+			return CqlDataSet.super.getStatements();
+		}
+		List<ForkJoinTask<List<String>>> tasks = new ArrayList<>(this.scripts.size());
+		for (CqlScript script : this.scripts) {
+			tasks.add(this.pool.submit(script::getStatements));
+		}
+		List<String> statements = new ArrayList<>();
+		try {
+			for (ForkJoinTask<List<String>> task : tasks) {
+				statements.addAll(task.join());
+			}
+		}
+		catch (RuntimeException | Error ex) {
+			tasks.forEach(task -> task.cancel(false));
+			throw ex;
+		}
+		return Collections.unmodifiableList(statements);
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} of all the CQL statements from every script in this dataset. In parallel
+	 * mode, all scripts are parsed up front by {@link #getStatements()}.
+	 *
+	 * @return a stream of all CQL statements (never {@code null})
+	 */
+	@Override
+	public Stream<String> stream() {
+		if (this.pool == null || this.scripts.size() < 2) {
+			return CqlDataSet.super.stream();
+		}
+		return getStatements().stream();
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if (this == other) {
@@ -69,17 +150,17 @@ public class DefaultCqlDataSet implements CqlDataSet {
 			return false;
 		}
 		DefaultCqlDataSet that = (DefaultCqlDataSet) other;
-		return this.scripts.equals(that.scripts);
+		return this.scripts.equals(that.scripts) && Objects.equals(this.pool, that.pool);
 	}
 
 	@Override
 	public int hashCode() {
-		return this.scripts.hashCode();
+		return Objects.hash(this.scripts, this.pool);
 	}
 
 	@Override
 	public String toString() {
-		return "DefaultCqlDataSet{" + "scripts=" + this.scripts + '}';
+		return "DefaultCqlDataSet{" + "scripts=" + this.scripts + ", parallel=" + isParallel() + '}';
 	}
 
 	/**
@@ -104,6 +185,8 @@ public class DefaultCqlDataSet implements CqlDataSet {
 
 		private final List<CqlScript> scripts = new ArrayList<>();
 
+		private ForkJoinPool pool;
+
 		/**
 		 * Adds a {@link CqlScript} instance to the builder.
 		 *
@@ -198,6 +281,20 @@ public class DefaultCqlDataSet implements CqlDataSet {
 			return this;
 		}
 
+		/**
+		 * Parses the scripts of the built {@link DefaultCqlDataSet} concurrently on the given pool.
+		 *
+		 * @param pool the pool to parse scripts on (must not be {@code null})
+		 * @return this builder
+		 * @throws NullPointerException if {@code pool} is {@code null}
+		 */
+		@Override
+		public Builder parallel(ForkJoinPool pool) {
+			Objects.requireNonNull(pool, "Pool must not be null");
+			this.pool = pool;
+			return this;
+		}
+
 		/**
 		 * Builds and returns a new immutable {@link DefaultCqlDataSet}.
 		 *
@@ -205,6 +302,9 @@ public class DefaultCqlDataSet implements CqlDataSet {
 		 */
 		@Override
 		public CqlDataSet build() {
+			if (this.pool != null) {
+				return new DefaultCqlDataSet(this.scripts, this.pool);
+			}
 			return new DefaultCqlDataSet(this.scripts);
 		}
 
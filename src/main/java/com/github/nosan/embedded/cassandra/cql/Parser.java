@@ -16,20 +16,58 @@
 
 package com.github.nosan.embedded.cassandra.cql;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import com.github.nosan.embedded.cassandra.commons.StringUtils;
 
 /**
  * A utility class for parsing a CQL script into individual CQL statements.
  *
+ * <p>The script is scanned over a character buffer: runs of ordinary characters, quoted strings and comments are
+ * skipped in bulk, and a statement that is contiguous in the buffer is materialized with a single copy. When the
+ * script is read from a {@link Reader}, it is consumed incrementally in chunks, so statements can be produced lazily
+ * without loading the whole script into memory.</p>
+ *
  * @author Dmytro Nosan
  * @since 4.0.1
  */
 final class Parser {
 
-	private final char[] chars;
+	static final int BUFFER_SIZE = 8192;
+
+	private static final char[] WHITESPACES = {'\n', '\r', '\t', ' '};
+
+	private static final boolean[] SPECIAL = new boolean[128];
+
+	static {
+		for (char c : "/-$'\";\n\r\t ".toCharArray()) {
+			SPECIAL[c] = true;
+		}
+	}
+
+	private final Reader reader;
+
+	private final StringBuilder statement = new StringBuilder();
+
+	private char[] buffer;
+
+	private int position;
+
+	private int limit;
+
+	private boolean eof;
+
+	private int segmentStart = -1;
+
+	private int segmentEnd = -1;
+
+	private Context context = Context.NONE;
 
 	/**
 	 * Constructs a new {@link Parser} for the given CQL script.
@@ -38,7 +76,22 @@ final class Parser {
 	 * @throws NullPointerException if {@code script} is {@code null}
 	 */
 	Parser(String script) {
-		this.chars = script.toCharArray();
+		this.reader = null;
+		this.buffer = script.toCharArray();
+		this.limit = this.buffer.length;
+		this.eof = true;
+	}
+
+	/**
+	 * Constructs a new {@link Parser} that reads a CQL script from the given {@link Reader}.
+	 *
+	 * <p>The reader is not closed by this parser.</p>
+	 *
+	 * @param reader the reader to consume (must not be {@code null})
+	 */
+	Parser(Reader reader) {
+		this.reader = reader;
+		this.buffer = new char[BUFFER_SIZE];
 	}
 
 	/**
@@ -48,115 +101,352 @@ final class Parser {
 	 * into statements based on the semicolon {@code ;} delimiter.</p>
 	 *
 	 * @return a list of CQL statements (never {@code null}, but may be empty)
+	 * @throws UncheckedIOException if the script could not be read
 	 */
 	List<String> getStatements() {
 		List<String> statements = new ArrayList<>(8);
-		StringBuilder statement = new StringBuilder();
-		Context context = Context.NONE;
-		for (int i = 0; i < this.chars.length; i++) {
-			char c = this.chars[i];
-			if (context == Context.NONE) {
-				if (c == '/' && next(i, '/')) {
-					context = Context.COMMENT;
-					i++;
-				}
-				else if (c == '-' && next(i, '-')) {
-					context = Context.COMMENT;
-					i++;
-				}
-				else if (c == '/' && next(i, '*')) {
-					context = Context.MULTI_COMMENT;
-					i++;
+		String statement;
+		while ((statement = nextStatement()) != null) {
+			statements.add(statement);
+		}
+		return statements;
+	}
+
+	/**
+	 * Returns an iterator which parses statements lazily, one at a time.
+	 *
+	 * @return an iterator over the remaining CQL statements
+	 */
+	Iterator<String> iterator() {
+		return new Iterator<>() {
+
+			private String next;
+
+			@Override
+			public boolean hasNext() {
+				if (this.next == null) {
+					this.next = nextStatement();
 				}
-				else if (c == '\n' || c == '\r' || c == '\t' || c == ' ') {
-					int start = i;
-					while (next(i, '\n')) {
-						i++;
-					}
-					while (next(i, '\r')) {
-						i++;
-					}
-					while (next(i, '\t')) {
-						i++;
-					}
-					while (next(i, ' ')) {
-						i++;
-					}
-					int end = i;
-					if (statement.length() > 0 && i != this.chars.length - 1) {
-						statement.append(this.chars, start, end - start + 1);
-					}
+				return this.next != null;
+			}
+
+			@Override
+			public String next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
 				}
-				else {
-					if (c == '"') {
-						statement.append(c);
-						context = Context.DOUBLE_QUOTE;
-					}
-					else if (c == '\'') {
-						statement.append(c);
-						context = Context.QUOTE;
-					}
-					else if (c == '$' && next(i, '$')) {
-						statement.append(c).append('$');
-						i++;
-						context = Context.DOUBLE_DOLLAR;
-					}
-					else if (c == ';') {
-						statements.add(statement.toString());
-						statement.delete(0, statement.length());
-					}
-					else {
-						statement.append(c);
+				String next = this.next;
+				this.next = null;
+				return next;
+			}
+
+		};
+	}
+
+	/**
+	 * Parses the next CQL statement.
+	 *
+	 * @return the next statement, or {@code null} if the end of the script has been reached
+	 * @throws UncheckedIOException if the script could not be read
+	 */
+	String nextStatement() {
+		while (ensure(1)) {
+			switch (this.context) {
+				case NONE:
+					if (scan()) {
+						return materialize();
 					}
-				}
+					break;
+				case COMMENT:
+					skipComment();
+					break;
+				case MULTI_COMMENT:
+					skipMultiComment();
+					break;
+				case QUOTE:
+					scanQuote();
+					break;
+				case DOUBLE_QUOTE:
+					scanDoubleQuote();
+					break;
+				case DOUBLE_DOLLAR:
+					scanDoubleDollar();
+					break;
+				default:
+					throw new IllegalStateException("Unknown context: " + this.context);
 			}
-			else if (context == Context.MULTI_COMMENT && c == '*' && next(i, '/')) {
-				context = Context.NONE;
-				i++;
+		}
+		String statement = materialize();
+		return StringUtils.hasText(statement) ? statement : null;
+	}
+
+	/**
+	 * Scans characters outside any quote or comment.
+	 *
+	 * @return {@code true} if the end of a statement has been reached
+	 */
+	private boolean scan() {
+		char[] buffer = this.buffer;
+		char c = buffer[this.position];
+		if (c < SPECIAL.length && SPECIAL[c]) {
+			if (c == ';') {
+				this.position++;
+				return true;
 			}
-			else if (context == Context.COMMENT && c == '\n') {
-				context = Context.NONE;
+			if (c == '\n' || c == '\r' || c == '\t' || c == ' ') {
+				scanWhitespaces();
 			}
-			else if (context == Context.QUOTE) {
-				statement.append(c);
-				if (c == '\'' && next(i, '\'')) {
-					statement.append('\'');
-					i++;
-				}
-				else if (c == '\'') {
-					context = Context.NONE;
-				}
+			else if (c == '"') {
+				consume(1);
+				this.context = Context.DOUBLE_QUOTE;
 			}
-			else if (context == Context.DOUBLE_QUOTE) {
-				statement.append(c);
-				if (c == '"') {
-					context = Context.NONE;
-				}
+			else if (c == '\'') {
+				consume(1);
+				this.context = Context.QUOTE;
+			}
+			else if ((c == '/' && next('/')) || (c == '-' && next('-'))) {
+				this.position += 2;
+				this.context = Context.COMMENT;
+			}
+			else if (c == '/' && next('*')) {
+				this.position += 2;
+				this.context = Context.MULTI_COMMENT;
+			}
+			else if (c == '$' && next('$')) {
+				consume(2);
+				this.context = Context.DOUBLE_DOLLAR;
 			}
-			else if (context == Context.DOUBLE_DOLLAR) {
-				statement.append(c);
-				if (c == '$' && next(i, '$')) {
-					statement.append('$');
-					context = Context.NONE;
-					i++;
+			else {
+				consume(1);
+			}
+			return false;
+		}
+		int start = this.position;
+		int end = start + 1;
+		int limit = this.limit;
+		while (end < limit) {
+			char ch = buffer[end];
+			if (ch < SPECIAL.length && SPECIAL[ch]) {
+				break;
+			}
+			end++;
+		}
+		this.position = end;
+		append(start, end);
+		return false;
+	}
+
+	/**
+	 * Scans a whitespace run. The run is kept unless it is leading or ends at the end of the script.
+	 */
+	private void scanWhitespaces() {
+		int length = length();
+		boolean keep = length > 0;
+		int start = this.position++;
+		if (keep) {
+			append(start, this.position);
+		}
+		for (char whitespace : WHITESPACES) {
+			while (ensure(1) && this.buffer[this.position] == whitespace) {
+				int from = this.position;
+				int to = from;
+				while (to < this.limit && this.buffer[to] == whitespace) {
+					to++;
+				}
+				this.position = to;
+				if (keep) {
+					append(from, to);
 				}
 			}
 		}
-		if (StringUtils.hasText(statement)) {
-			statements.add(statement.toString());
+		if (keep && !ensure(1)) {
+			truncate(length);
+		}
+	}
+
+	private void skipComment() {
+		int index = indexOf('\n');
+		if (index == -1) {
+			this.position = this.limit;
+		}
+		else {
+			this.position = index + 1;
+			this.context = Context.NONE;
+		}
+	}
+
+	private void skipMultiComment() {
+		int index = indexOf('*');
+		if (index == -1) {
+			this.position = this.limit;
+			return;
+		}
+		this.position = index;
+		if (next('/')) {
+			this.position += 2;
+			this.context = Context.NONE;
+		}
+		else {
+			this.position++;
+		}
+	}
+
+	private void scanQuote() {
+		int index = indexOf('\'');
+		if (index == -1) {
+			consume(this.limit - this.position);
+			return;
+		}
+		consume(index - this.position);
+		if (next('\'')) {
+			consume(2);
+		}
+		else {
+			consume(1);
+			this.context = Context.NONE;
+		}
+	}
+
+	private void scanDoubleQuote() {
+		int index = indexOf('"');
+		if (index == -1) {
+			consume(this.limit - this.position);
+			return;
+		}
+		consume(index + 1 - this.position);
+		this.context = Context.NONE;
+	}
+
+	private void scanDoubleDollar() {
+		int index = indexOf('$');
+		if (index == -1) {
+			consume(this.limit - this.position);
+			return;
+		}
+		consume(index - this.position);
+		if (next('$')) {
+			consume(2);
+			this.context = Context.NONE;
+		}
+		else {
+			consume(1);
 		}
-		return statements;
 	}
 
 	/**
-	 * Checks if the next character in the script matches the expected value.
+	 * Checks if the character after the current one matches the expected value.
 	 *
-	 * @param index the current index
 	 * @param expected the expected character
 	 * @return {@code true} if the next character matches the expected value; otherwise {@code false}
 	 */
-	private boolean next(int index, char expected) {
-		return index + 1 < this.chars.length && this.chars[index + 1] == expected;
+	private boolean next(char expected) {
+		return ensure(2) && this.buffer[this.position + 1] == expected;
+	}
+
+	/**
+	 * Appends the next {@code count} characters to the current statement and advances the position.
+	 */
+	private void consume(int count) {
+		int start = this.position;
+		this.position += count;
+		append(start, this.position);
+	}
+
+	/**
+	 * Appends the buffer region {@code [from, to)} to the current statement. Adjacent regions are merged into a
+	 * single pending segment which is copied only when the statement is materialized or the buffer is refilled.
+	 */
+	private void append(int from, int to) {
+		if (from == to) {
+			return;
+		}
+		if (this.segmentStart != -1 && this.segmentEnd == from) {
+			this.segmentEnd = to;
+			return;
+		}
+		flush();
+		this.segmentStart = from;
+		this.segmentEnd = to;
+	}
+
+	private void flush() {
+		if (this.segmentStart != -1) {
+			this.statement.append(this.buffer, this.segmentStart, this.segmentEnd - this.segmentStart);
+			this.segmentStart = -1;
+			this.segmentEnd = -1;
+		}
+	}
+
+	private int length() {
+		int length = this.statement.length();
+		if (this.segmentStart != -1) {
+			length += this.segmentEnd - this.segmentStart;
+		}
+		return length;
+	}
+
+	private void truncate(int length) {
+		flush();
+		this.statement.setLength(length);
+	}
+
+	private String materialize() {
+		String result;
+		if (this.statement.length() == 0) {
+			result = (this.segmentStart != -1) ? new String(this.buffer, this.segmentStart,
+					this.segmentEnd - this.segmentStart) : "";
+		}
+		else {
+			flush();
+			result = this.statement.toString();
+			this.statement.setLength(0);
+		}
+		this.segmentStart = -1;
+		this.segmentEnd = -1;
+		return result;
+	}
+
+	/**
+	 * Ensures that at least {@code count} characters are available from the current position, reading the next
+	 * chunk if necessary.
+	 *
+	 * @param count the number of characters required
+	 * @return {@code true} if the characters are available, {@code false} if the end of the script has been reached
+	 */
+	private boolean ensure(int count) {
+		while (this.limit - this.position < count) {
+			if (this.eof) {
+				return false;
+			}
+			flush();
+			int remaining = this.limit - this.position;
+			System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+			this.position = 0;
+			this.limit = remaining;
+			try {
+				int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+				if (read == -1) {
+					this.eof = true;
+				}
+				else {
+					this.limit += read;
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Could not read a CQL script", ex);
+			}
+		}
+		return true;
+	}
+
+	private int indexOf(char c) {
+		char[] buffer = this.buffer;
+		for (int i = this.position; i < this.limit; i++) {
+			if (buffer[i] == c) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	/**
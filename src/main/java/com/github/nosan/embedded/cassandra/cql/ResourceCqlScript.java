@@ -18,10 +18,19 @@ package com.github.nosan.embedded.cassandra.cql;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
 import java.util.Objects;
 
+import com.github.nosan.embedded.cassandra.commons.FileSystemResource;
 import com.github.nosan.embedded.cassandra.commons.Resource;
 import com.github.nosan.embedded.cassandra.commons.StreamUtils;
 
@@ -87,6 +96,72 @@ public class ResourceCqlScript extends AbstractCqlScript {
 		}
 	}
 
+	/**
+	 * Loads parsed statements from the shared parse cache. File system resources are keyed by their last-modified
+	 * time and size; any other resource is read and keyed by a digest of its content.
+	 *
+	 * @return the list of parsed CQL statements
+	 */
+	@Override
+	List<String> loadStatements() {
+		if (getClass() != ResourceCqlScript.class) {
+			return super.loadStatements();
+		}
+		StatementsCache cache = StatementsCache.getInstance();
+		try {
+			if (this.resource instanceof FileSystemResource) {
+				Path file = ((FileSystemResource) this.resource).getFile();
+				List<Object> key = List.of(this.resource, this.charset, Files.getLastModifiedTime(file),
+						Files.size(file));
+				return cache.get(key, () -> parse(getScript()));
+			}
+			byte[] content;
+			try (InputStream is = this.resource.getInputStream()) {
+				content = StreamUtils.toByteArray(is);
+			}
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+			List<Object> key = List.of(this.resource, this.charset, ByteBuffer.wrap(digest));
+			return cache.get(key, () -> parse(new String(content, this.charset)));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Could not open a stream for " + this.resource, ex);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * File system resources that fit into the shared parse cache are streamed from the cache; any other resource is
+	 * parsed incrementally, as its content would have to be read in full just to compute the cache key.
+	 *
+	 * @return {@code true} if the resource is a file small enough to be cached
+	 */
+	@Override
+	boolean isCacheable() {
+		if (getClass() != ResourceCqlScript.class || !(this.resource instanceof FileSystemResource)) {
+			return false;
+		}
+		try {
+			return Files.size(((FileSystemResource) this.resource).getFile()) <= StatementsCache.MAX_CHARACTERS;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Opens a {@link Reader} over the resource's input stream, decoding it with the specified character encoding,
+	 * so that the resource is parsed incrementally by {@link #stream()}.
+	 *
+	 * @return a new reader over the resource
+	 * @throws IOException if a stream for the resource cannot be opened
+	 */
+	@Override
+	protected Reader openReader() throws IOException {
+		return new InputStreamReader(this.resource.getInputStream(), this.charset);
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if (this == other) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, thread-safe LRU cache of parsed CQL statements.
+ *
+ * <p>The cache is bounded both by the number of entries and by the total number of characters held by the cached
+ * statements. Cached lists are unmodifiable and can be shared safely across threads. Loading happens outside the
+ * lock, so two threads requesting the same missing key may both parse the script; the first result wins.</p>
+ *
+ * @author Dmytro Nosan
+ */
+final class StatementsCache {
+
+	/**
+	 * The maximum number of cached scripts.
+	 */
+	static final int MAX_ENTRIES = 256;
+
+	/**
+	 * The maximum number of characters held by all cached statements.
+	 */
+	static final long MAX_CHARACTERS = 16L * 1024 * 1024;
+
+	private static final StatementsCache INSTANCE = new StatementsCache(MAX_ENTRIES, MAX_CHARACTERS);
+
+	private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final int maxEntries;
+
+	private final long maxCharacters;
+
+	private long characters;
+
+	StatementsCache(int maxEntries, long maxCharacters) {
+		this.maxEntries = maxEntries;
+		this.maxCharacters = maxCharacters;
+	}
+
+	/**
+	 * Returns the shared cache instance.
+	 *
+	 * @return the shared cache
+	 */
+	static StatementsCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the cached statements for the given key, loading and caching them if absent.
+	 *
+	 * @param key the cache key, must implement {@code equals} and {@code hashCode} by content
+	 * @param loader the loader to use if the key is not cached
+	 * @return an unmodifiable list of statements
+	 */
+	List<String> get(Object key, Supplier<? extends List<String>> loader) {
+		synchronized (this.entries) {
+			Entry entry = this.entries.get(key);
+			if (entry != null) {
+				return entry.statements;
+			}
+		}
+		List<String> statements = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+		long weight = getWeight(key, statements);
+		if (weight > this.maxCharacters) {
+			return statements;
+		}
+		synchronized (this.entries) {
+			Entry existing = this.entries.get(key);
+			if (existing != null) {
+				return existing.statements;
+			}
+			this.entries.put(key, new Entry(statements, weight));
+			this.characters += weight;
+			evict();
+		}
+		return statements;
+	}
+
+	/**
+	 * Removes all cached entries.
+	 */
+	void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+			this.characters = 0;
+		}
+	}
+
+	/**
+	 * Returns the number of cached entries.
+	 *
+	 * @return the number of entries
+	 */
+	int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	private void evict() {
+		Iterator<Entry> iterator = this.entries.values().iterator();
+		while (iterator.hasNext() && (this.entries.size() > this.maxEntries || this.characters > this.maxCharacters)) {
+			this.characters -= iterator.next().weight;
+			iterator.remove();
+		}
+	}
+
+	private static long getWeight(Object key, List<String> statements) {
+		long weight = (key instanceof CharSequence) ? ((CharSequence) key).length() : 0;
+		for (String statement : statements) {
+			weight += statement.length();
+		}
+		return weight;
+	}
+
+	private static final class Entry {
+
+		private final List<String> statements;
+
+		private final long weight;
+
+		Entry(List<String> statements, long weight) {
+			this.statements = statements;
+			this.weight = weight;
+		}
+
+	}
+
+}
@@ -16,11 +16,14 @@
 
 package com.github.nosan.embedded.cassandra.cql;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
  * A {@link CqlScript} implementation that encapsulates a CQL script as a plain string.
  *
+ * <p>Parsed statements are cached by script content, so equal scripts are parsed only once.</p>
+ *
  * @author Dmytro Nosan
  * @since 4.0.0
  */
@@ -49,6 +52,19 @@ public class StringCqlScript extends AbstractCqlScript {
 		return this.script;
 	}
 
+	@Override
+	List<String> loadStatements() {
+		if (!isCacheable()) {
+			return super.loadStatements();
+		}
+		return StatementsCache.getInstance().get(this.script, () -> parse(this.script));
+	}
+
+	@Override
+	boolean isCacheable() {
+		return getClass() == StringCqlScript.class;
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if (this == other) {
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A minimal lexer which splits a single CQL statement into tokens. It recognizes identifiers, quoted identifiers,
+ * string and numeric literals and single-character symbols; it does not validate the statement.
+ *
+ * @author Dmytro Nosan
+ */
+final class Tokenizer {
+
+	private Tokenizer() {
+	}
+
+	/**
+	 * Splits the given statement into tokens.
+	 *
+	 * @param statement the statement to tokenize
+	 * @return the tokens
+	 */
+	static List<Token> tokenize(String statement) {
+		List<Token> tokens = new ArrayList<>();
+		int length = statement.length();
+		int i = 0;
+		while (i < length) {
+			char c = statement.charAt(i);
+			if (Character.isWhitespace(c)) {
+				i++;
+			}
+			else if (c == '\'') {
+				int end = skipQuoted(statement, i, '\'');
+				tokens.add(new Token(Type.STRING, statement.substring(i, end)));
+				i = end;
+			}
+			else if (c == '"') {
+				int end = skipQuoted(statement, i, '"');
+				String name = statement.substring(i + 1, Math.max(i + 1, end - 1)).replace("\"\"", "\"");
+				tokens.add(new Token(Type.QUOTED_IDENTIFIER, name));
+				i = end;
+			}
+			else if (c == '$' && statement.startsWith("$", i + 1)) {
+				int end = statement.indexOf("$$", i + 2);
+				end = (end != -1) ? end + 2 : length;
+				tokens.add(new Token(Type.STRING, statement.substring(i, end)));
+				i = end;
+			}
+			else if (Character.isLetter(c) || c == '_') {
+				int end = i + 1;
+				while (end < length && (Character.isLetterOrDigit(statement.charAt(end))
+						|| statement.charAt(end) == '_')) {
+					end++;
+				}
+				tokens.add(new Token(Type.IDENTIFIER, statement.substring(i, end)));
+				i = end;
+			}
+			else if (Character.isDigit(c)
+					|| (c == '-' && i + 1 < length && Character.isDigit(statement.charAt(i + 1)))) {
+				int end = i + 1;
+				while (end < length && isNumberPart(statement.charAt(end))) {
+					end++;
+				}
+				tokens.add(new Token(Type.NUMBER, statement.substring(i, end)));
+				i = end;
+			}
+			else {
+				tokens.add(new Token(Type.SYMBOL, String.valueOf(c)));
+				i++;
+			}
+		}
+		return tokens;
+	}
+
+	private static int skipQuoted(String statement, int start, char quote) {
+		int i = start + 1;
+		while (i < statement.length()) {
+			if (statement.charAt(i) == quote) {
+				if (i + 1 < statement.length() && statement.charAt(i + 1) == quote) {
+					i += 2;
+					continue;
+				}
+				return i + 1;
+			}
+			i++;
+		}
+		return statement.length();
+	}
+
+	private static boolean isNumberPart(char c) {
+		return Character.isLetterOrDigit(c) || c == '.' || c == '-' || c == '+';
+	}
+
+	/**
+	 * Token types.
+	 */
+	enum Type {
+
+		/**
+		 * An unquoted identifier or keyword.
+		 */
+		IDENTIFIER,
+
+		/**
+		 * A double-quoted, case-sensitive identifier. The token text is unquoted.
+		 */
+		QUOTED_IDENTIFIER,
+
+		/**
+		 * A single-quoted or {@code $$} string literal. The token text includes the quotes.
+		 */
+		STRING,
+
+		/**
+		 * A numeric, UUID or blob literal.
+		 */
+		NUMBER,
+
+		/**
+		 * Any other single character.
+		 */
+		SYMBOL
+
+	}
+
+	/**
+	 * A single token.
+	 */
+	static final class Token {
+
+		private final Type type;
+
+		private final String text;
+
+		Token(Type type, String text) {
+			this.type = type;
+			this.text = text;
+		}
+
+		Type getType() {
+			return this.type;
+		}
+
+		String getText() {
+			return this.text;
+		}
+
+		/**
+		 * Checks whether this token is the given case-insensitive keyword.
+		 *
+		 * @param keyword the keyword
+		 * @return {@code true} if this token is the keyword
+		 */
+		boolean is(String keyword) {
+			return this.type == Type.IDENTIFIER && this.text.equalsIgnoreCase(keyword);
+		}
+
+		/**
+		 * Checks whether this token is the given symbol.
+		 *
+		 * @param symbol the symbol
+		 * @return {@code true} if this token is the symbol
+		 */
+		boolean is(char symbol) {
+			return this.type == Type.SYMBOL && this.text.charAt(0) == symbol;
+		}
+
+		/**
+		 * Checks whether this token may name a keyspace, table or column.
+		 *
+		 * @return {@code true} if this token is an identifier
+		 */
+		boolean isName() {
+			return this.type == Type.IDENTIFIER || this.type == Type.QUOTED_IDENTIFIER;
+		}
+
+		/**
+		 * Returns the name this token refers to: unquoted identifiers are case-insensitive and therefore lower-cased.
+		 *
+		 * @return the normalized name
+		 */
+		String getName() {
+			return (this.type == Type.IDENTIFIER) ? this.text.toLowerCase(Locale.ENGLISH) : this.text;
+		}
+
+		@Override
+		public String toString() {
+			return this.text;
+		}
+
+	}
+
+}
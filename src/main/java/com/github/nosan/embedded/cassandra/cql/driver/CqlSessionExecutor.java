@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql.driver;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.cql.AbstractCqlExecutor;
+import com.github.nosan.embedded.cassandra.cql.CqlExecutor;
+
+/**
+ * A {@link CqlExecutor} implementation based on the asynchronous API of the DataStax Java Driver {@link CqlSession}.
+ *
+ * <p>Schema statements are executed synchronously, relying on the driver's own schema agreement wait
+ * ({@code advanced.control-connection.schema-agreement}). If the agreement has not been reached by the time the
+ * response arrives, it is checked once more and a warning is logged if the schema is still not in agreement; the
+ * execution is not failed. Data statements are submitted via {@link CqlSession#executeAsync(String)}.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * try (CqlSession session = CqlSession.builder().build()) {
+ *     CqlExecutionResult result = new CqlSessionExecutor(session).execute(CqlDataSet.ofClassPaths("schema.cql"));
+ * }
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public class CqlSessionExecutor extends AbstractCqlExecutor {
+
+	/**
+	 * The default maximum number of in-flight data statements.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT_STATEMENTS = 256;
+
+	private static final Logger log = LoggerFactory.getLogger(CqlSessionExecutor.class);
+
+	private final CqlSession session;
+
+	/**
+	 * Creates a new {@link CqlSessionExecutor} with {@link #DEFAULT_MAX_IN_FLIGHT_STATEMENTS}.
+	 *
+	 * @param session the session to use (must not be {@code null})
+	 * @throws NullPointerException if {@code session} is {@code null}
+	 */
+	public CqlSessionExecutor(CqlSession session) {
+		this(session, DEFAULT_MAX_IN_FLIGHT_STATEMENTS);
+	}
+
+	/**
+	 * Creates a new {@link CqlSessionExecutor}.
+	 *
+	 * @param session the session to use (must not be {@code null})
+	 * @param maxInFlightStatements the maximum number of data statements that may be executed concurrently
+	 * @throws NullPointerException if {@code session} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlightStatements} is less than {@code 1}
+	 */
+	public CqlSessionExecutor(CqlSession session, int maxInFlightStatements) {
+		this(session, maxInFlightStatements, 1);
+	}
+
+	/**
+	 * Creates a new {@link CqlSessionExecutor} which coalesces consecutive same-partition {@code INSERT} statements
+	 * into {@code UNLOGGED BATCH}es.
+	 *
+	 * @param session the session to use (must not be {@code null})
+	 * @param maxInFlightStatements the maximum number of data statements that may be executed concurrently
+	 * @param maxBatchSize the maximum number of statements per batch; {@code 1} disables batching
+	 * @throws NullPointerException if {@code session} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlightStatements} or {@code maxBatchSize} is less than
+	 * {@code 1}
+	 */
+	public CqlSessionExecutor(CqlSession session, int maxInFlightStatements, int maxBatchSize) {
+		super(maxInFlightStatements, maxBatchSize);
+		Objects.requireNonNull(session, "Session must not be null");
+		this.session = session;
+	}
+
+	@Override
+	protected void executeSchemaStatement(String statement) {
+		ResultSet resultSet = this.session.execute(statement);
+		if (!resultSet.getExecutionInfo().isSchemaInAgreement() && !this.session.checkSchemaAgreement()) {
+			log.warn("Schema agreement has not been reached after executing: ''{}''", statement);
+		}
+	}
+
+	@Override
+	protected CompletionStage<?> executeDataStatement(String statement) {
+		return this.session.executeAsync(statement);
+	}
+
+}
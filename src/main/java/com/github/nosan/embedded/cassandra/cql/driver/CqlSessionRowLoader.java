@@ -0,0 +1,261 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql.driver;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+
+import com.github.nosan.embedded.cassandra.cql.CqlExecutionException;
+import com.github.nosan.embedded.cassandra.cql.CqlRowDataSet;
+import com.github.nosan.embedded.cassandra.cql.CqlRowLoadProgress;
+
+/**
+ * Loads {@link CqlRowDataSet}s into Cassandra with the DataStax Java Driver {@link CqlSession}.
+ *
+ * <p>The insert statement is prepared once per data set, and rows are bound and submitted via
+ * {@link CqlSession#executeAsync(com.datastax.oss.driver.api.core.cql.Statement)} as they are read. At most
+ * {@code maxInFlightRows} rows are outstanding at any time; once the limit is reached, reading blocks until a row
+ * has been inserted, so memory use does not depend on the size of the data set.</p>
+ *
+ * <p>The first failed row stops the load: no further rows are submitted, outstanding rows are awaited and a
+ * {@link CqlExecutionException} is thrown.</p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>{@code
+ * try (CqlSession session = CqlSession.builder().build()) {
+ *     new CqlSessionRowLoader(session).load(CqlRowDataSet.ofClassPath("users.csv", "test.users"),
+ *             progress -> log.info("{}", progress));
+ * }
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public class CqlSessionRowLoader {
+
+	/**
+	 * The default maximum number of in-flight rows.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT_ROWS = 256;
+
+	/**
+	 * The default interval between progress reports.
+	 */
+	public static final Duration DEFAULT_PROGRESS_INTERVAL = Duration.ofSeconds(1);
+
+	private final CqlSession session;
+
+	private final int maxInFlightRows;
+
+	private final Duration progressInterval;
+
+	/**
+	 * Creates a new {@link CqlSessionRowLoader} with {@link #DEFAULT_MAX_IN_FLIGHT_ROWS}.
+	 *
+	 * @param session the session to use (must not be {@code null})
+	 * @throws NullPointerException if {@code session} is {@code null}
+	 */
+	public CqlSessionRowLoader(CqlSession session) {
+		this(session, DEFAULT_MAX_IN_FLIGHT_ROWS);
+	}
+
+	/**
+	 * Creates a new {@link CqlSessionRowLoader} with {@link #DEFAULT_PROGRESS_INTERVAL}.
+	 *
+	 * @param session the session to use (must not be {@code null})
+	 * @param maxInFlightRows the maximum number of rows that may be inserted concurrently
+	 * @throws NullPointerException if {@code session} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlightRows} is less than {@code 1}
+	 */
+	public CqlSessionRowLoader(CqlSession session, int maxInFlightRows) {
+		this(session, maxInFlightRows, DEFAULT_PROGRESS_INTERVAL);
+	}
+
+	/**
+	 * Creates a new {@link CqlSessionRowLoader}.
+	 *
+	 * @param session the session to use (must not be {@code null})
+	 * @param maxInFlightRows the maximum number of rows that may be inserted concurrently
+	 * @param progressInterval the minimum interval between two progress reports (must not be {@code null})
+	 * @throws NullPointerException if {@code session} or {@code progressInterval} is {@code null}
+	 * @throws IllegalArgumentException if {@code maxInFlightRows} is less than {@code 1} or
+	 * {@code progressInterval} is negative
+	 */
+	public CqlSessionRowLoader(CqlSession session, int maxInFlightRows, Duration progressInterval) {
+		Objects.requireNonNull(session, "Session must not be null");
+		Objects.requireNonNull(progressInterval, "Progress Interval must not be null");
+		if (maxInFlightRows < 1) {
+			throw new IllegalArgumentException("Max In-Flight Rows must be positive");
+		}
+		if (progressInterval.isNegative()) {
+			throw new IllegalArgumentException("Progress Interval must not be negative");
+		}
+		this.session = session;
+		this.maxInFlightRows = maxInFlightRows;
+		this.progressInterval = progressInterval;
+	}
+
+	/**
+	 * Returns the maximum number of rows that may be inserted concurrently.
+	 *
+	 * @return the maximum number of in-flight rows
+	 */
+	public final int getMaxInFlightRows() {
+		return this.maxInFlightRows;
+	}
+
+	/**
+	 * Loads all rows of the given data set.
+	 *
+	 * @param dataSet the data set to load (must not be {@code null})
+	 * @return the final progress
+	 * @throws NullPointerException if {@code dataSet} is {@code null}
+	 * @throws CqlExecutionException if a row could not be inserted
+	 */
+	public CqlRowLoadProgress load(CqlRowDataSet dataSet) throws CqlExecutionException {
+		return load(dataSet, progress -> {
+		});
+	}
+
+	/**
+	 * Loads all rows of the given data set, reporting the progress to the given listener. The listener is called on
+	 * the loading thread, at most once per progress interval and once more when all rows have been inserted.
+	 *
+	 * @param dataSet the data set to load (must not be {@code null})
+	 * @param listener the progress listener (must not be {@code null})
+	 * @return the final progress
+	 * @throws NullPointerException if {@code dataSet} or {@code listener} is {@code null}
+	 * @throws CqlExecutionException if a row could not be inserted
+	 */
+	public CqlRowLoadProgress load(CqlRowDataSet dataSet, Consumer<? super CqlRowLoadProgress> listener)
+			throws CqlExecutionException {
+		Objects.requireNonNull(dataSet, "DataSet must not be null");
+		Objects.requireNonNull(listener, "Listener must not be null");
+		long start = System.nanoTime();
+		PreparedStatement insert;
+		try {
+			insert = this.session.prepare(dataSet.getInsertStatement());
+		}
+		catch (Exception ex) {
+			throw new CqlExecutionException(dataSet.getInsertStatement(), ex);
+		}
+		Load load = new Load(dataSet, insert);
+		long interval = this.progressInterval.toNanos();
+		long nextReport = start + interval;
+		try (Stream<String> rows = dataSet.stream()) {
+			Iterator<String> iterator = rows.iterator();
+			while (iterator.hasNext() && load.failure.get() == null) {
+				load.insert(iterator.next());
+				long now = System.nanoTime();
+				if (now - nextReport >= 0) {
+					listener.accept(new CqlRowLoadProgress(dataSet.getTable(), load.rowCount.get(),
+							Duration.ofNanos(now - start), false));
+					nextReport = now + interval;
+				}
+			}
+		}
+		finally {
+			load.await();
+		}
+		CqlExecutionException failure = load.failure.get();
+		if (failure != null) {
+			throw failure;
+		}
+		CqlRowLoadProgress progress = new CqlRowLoadProgress(dataSet.getTable(), load.rowCount.get(),
+				Duration.ofNanos(System.nanoTime() - start), true);
+		listener.accept(progress);
+		return progress;
+	}
+
+	private static Throwable unwrap(Throwable ex) {
+		if ((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null) {
+			return ex.getCause();
+		}
+		return ex;
+	}
+
+	private static String toStatement(CqlRowDataSet dataSet, String row) {
+		return "INSERT INTO " + dataSet.getTable() + " JSON '" + row.replace("'", "''") + "' DEFAULT UNSET";
+	}
+
+	private final class Load {
+
+		private final CqlRowDataSet dataSet;
+
+		private final PreparedStatement insert;
+
+		private final Semaphore permits = new Semaphore(CqlSessionRowLoader.this.maxInFlightRows);
+
+		private final AtomicLong rowCount = new AtomicLong();
+
+		private final AtomicReference<CqlExecutionException> failure = new AtomicReference<>();
+
+		Load(CqlRowDataSet dataSet, PreparedStatement insert) {
+			this.dataSet = dataSet;
+			this.insert = insert;
+		}
+
+		void insert(String row) {
+			try {
+				this.permits.acquire();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new CqlExecutionException(toStatement(this.dataSet, row), ex);
+			}
+			CompletionStage<?> stage;
+			try {
+				stage = CqlSessionRowLoader.this.session.executeAsync(this.insert.bind(row));
+			}
+			catch (Exception ex) {
+				this.permits.release();
+				this.failure.compareAndSet(null, new CqlExecutionException(toStatement(this.dataSet, row), ex));
+				return;
+			}
+			stage.whenComplete((result, ex) -> {
+				if (ex != null) {
+					this.failure.compareAndSet(null,
+							new CqlExecutionException(toStatement(this.dataSet, row), unwrap(ex)));
+				}
+				else {
+					this.rowCount.incrementAndGet();
+				}
+				this.permits.release();
+			});
+		}
+
+		void await() {
+			int maxPermits = CqlSessionRowLoader.this.maxInFlightRows;
+			this.permits.acquireUninterruptibly(maxPermits);
+			this.permits.release(maxPermits);
+		}
+
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.junit;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.nosan.embedded.cassandra.CassandraReleaseIndex;
+import com.github.nosan.embedded.cassandra.PrefetchingCassandraDirectoryProvider;
+import com.github.nosan.embedded.cassandra.Version;
+import com.github.nosan.embedded.cassandra.VersionRange;
+import com.github.nosan.embedded.cassandra.WebCassandraDirectoryProvider;
+import com.github.nosan.embedded.cassandra.commons.StringUtils;
+import com.github.nosan.embedded.cassandra.commons.web.JdkHttpClient;
+
+/**
+ * A {@link LauncherSessionListener} that starts prefetching Cassandra versions as soon as a JUnit Platform session
+ * opens, before any test runs. It is registered through {@link java.util.ServiceLoader} and does nothing unless the
+ * {@value #VERSIONS_PROPERTY} system property is set.
+ *
+ * <p>The {@value #VERSIONS_PROPERTY} property is a comma-separated list of versions or
+ * {@link VersionRange version ranges}, e.g. {@code 4.1.x,5.0.6}. The versions are acquired by a
+ * {@link WebCassandraDirectoryProvider} with the download directory of the {@value #DIRECTORY_PROPERTY} property,
+ * {@code user.home} by default. The prefetching provider is shared through {@link #getDirectoryProvider()}, so a
+ * test which uses it joins an in-flight download. Tests whose {@link WebCassandraDirectoryProvider} uses the same
+ * download directory wait for the lock of an in-flight version and then find it extracted, instead of downloading it
+ * again.</p>
+ *
+ * <pre>{@code
+ * mvn test -Dembedded.cassandra.prefetch=4.1.x
+ *
+ * CassandraBuilder builder = new CassandraBuilder();
+ * PrefetchLauncherSessionListener.getDirectoryProvider().ifPresent(directoryProvider -> builder
+ *         .workingDirectoryInitializer(new DefaultWorkingDirectoryInitializer(directoryProvider)));
+ * }</pre>
+ *
+ * @author Dmytro Nosan
+ * @since 5.1.0
+ */
+public class PrefetchLauncherSessionListener implements LauncherSessionListener {
+
+	/**
+	 * The system property with the versions to prefetch.
+	 */
+	public static final String VERSIONS_PROPERTY = "embedded.cassandra.prefetch";
+
+	/**
+	 * The system property with the download directory.
+	 */
+	public static final String DIRECTORY_PROPERTY = "embedded.cassandra.prefetch.directory";
+
+	private static final Logger log = LoggerFactory.getLogger(PrefetchLauncherSessionListener.class);
+
+	private static final AtomicReference<PrefetchingCassandraDirectoryProvider> DIRECTORY_PROVIDER =
+			new AtomicReference<>();
+
+	/**
+	 * Gets the provider which prefetches the versions of the {@value #VERSIONS_PROPERTY} property into the download
+	 * directory of the {@value #DIRECTORY_PROPERTY} property. Its {@code getDirectory} joins an in-flight prefetch
+	 * of the same version.
+	 *
+	 * @return the prefetching provider, or empty if no prefetch has been started by the current session
+	 */
+	public static Optional<PrefetchingCassandraDirectoryProvider> getDirectoryProvider() {
+		return Optional.ofNullable(DIRECTORY_PROVIDER.get());
+	}
+
+	@Override
+	public void launcherSessionOpened(LauncherSession session) {
+		String versions = System.getProperty(VERSIONS_PROPERTY);
+		if (!StringUtils.hasText(versions) || DIRECTORY_PROVIDER.get() != null) {
+			return;
+		}
+		Path downloadDirectory = Paths.get(System.getProperty(DIRECTORY_PROPERTY, System.getProperty("user.home")));
+		PrefetchingCassandraDirectoryProvider directoryProvider = new PrefetchingCassandraDirectoryProvider(
+				new WebCassandraDirectoryProvider(downloadDirectory));
+		if (!DIRECTORY_PROVIDER.compareAndSet(null, directoryProvider)) {
+			return;
+		}
+		CassandraReleaseIndex releaseIndex = new CassandraReleaseIndex(new JdkHttpClient(), downloadDirectory);
+		for (String version : versions.split(",")) {
+			if (StringUtils.hasText(version)) {
+				prefetch(directoryProvider, releaseIndex, version.trim());
+			}
+		}
+	}
+
+	@Override
+	public void launcherSessionClosed(LauncherSession session) {
+		DIRECTORY_PROVIDER.set(null);
+	}
+
+	private static void prefetch(PrefetchingCassandraDirectoryProvider directoryProvider,
+			CassandraReleaseIndex releaseIndex, String version) {
+		if (!VersionRange.isRange(version)) {
+			try {
+				directoryProvider.prefetch(Version.parse(version));
+			}
+			catch (IllegalArgumentException ex) {
+				log.warn("Could not prefetch Cassandra ''{}''", version, ex);
+			}
+			return;
+		}
+		Thread thread = new Thread(() -> {
+			try {
+				directoryProvider.prefetch(releaseIndex.resolve(version));
+			}
+			catch (Exception ex) {
+				log.warn("Could not resolve Cassandra version range ''{}'' to prefetch", version, ex);
+			}
+		}, "cassandra-version-resolver");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+}
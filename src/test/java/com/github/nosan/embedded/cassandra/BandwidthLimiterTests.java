@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link BandwidthLimiter}.
+ *
+ * @author Dmytro Nosan
+ */
+class BandwidthLimiterTests {
+
+	@Test
+	void burstDoesNotWait() throws InterruptedException {
+		BandwidthLimiter limiter = BandwidthLimiter.of(1024, 64 * 1024);
+		long start = System.nanoTime();
+		limiter.acquire(64 * 1024);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+	}
+
+	@Test
+	void limitsRate() throws InterruptedException {
+		BandwidthLimiter limiter = BandwidthLimiter.of(100 * 1024, 10 * 1024);
+		long start = System.nanoTime();
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire(8 * 1024);
+		}
+		// 80 KB minus a 10 KB burst at 100 KB/s
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(650));
+	}
+
+	@Test
+	void sharedBetweenThreads() throws InterruptedException {
+		BandwidthLimiter limiter = BandwidthLimiter.of(100 * 1024, 1024);
+		List<Thread> threads = new ArrayList<>();
+		long start = System.nanoTime();
+		for (int i = 0; i < 4; i++) {
+			Thread thread = new Thread(() -> {
+				try {
+					for (int j = 0; j < 5; j++) {
+						limiter.acquire(4 * 1024);
+					}
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		// 80 KB minus a 1 KB burst at 100 KB/s, however the bytes are split between threads
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(750));
+	}
+
+	@Test
+	void unlimited() throws InterruptedException {
+		long start = System.nanoTime();
+		BandwidthLimiter.unlimited().acquire(Long.MAX_VALUE);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThatThrownBy(() -> BandwidthLimiter.of(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> BandwidthLimiter.of(1, 0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.commons.FileLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CassandraCacheManager}.
+ *
+ * @author Dmytro Nosan
+ */
+class CassandraCacheManagerTests {
+
+	private Path downloadDirectory;
+
+	@BeforeEach
+	void setUp(@TempDir Path downloadDirectory) {
+		this.downloadDirectory = downloadDirectory;
+	}
+
+	@Test
+	void evictLeastRecentlyUsedByCount() throws IOException {
+		createVersion("3.11.12", 100, 3);
+		createVersion("4.0.1", 100, 1);
+		createVersion("4.1.0", 100, 2);
+		CassandraCacheManager manager = new CassandraCacheManager(this.downloadDirectory,
+				CacheEvictionPolicy.ofMaxVersions(1));
+		assertThat(manager.evict()).containsExactly(Version.parse("4.0.1"), Version.parse("4.1.0"));
+		assertThat(getVersionDirectory("4.0.1")).isDirectoryNotContaining("glob:**/{.success,apache-cassandra-*}");
+		assertThat(getVersionDirectory("4.1.0")).isDirectoryNotContaining("glob:**/{.success,apache-cassandra-*}");
+		assertThat(getVersionDirectory("4.1.0").resolve(".lock")).exists();
+		assertThat(getVersionDirectory("3.11.12")).exists();
+	}
+
+	@Test
+	void evictLeastRecentlyUsedBySize() throws IOException {
+		createVersion("3.11.12", 300, 1);
+		createVersion("4.0.1", 100, 2);
+		createVersion("4.1.0", 100, 3);
+		CassandraCacheManager manager = new CassandraCacheManager(this.downloadDirectory,
+				CacheEvictionPolicy.ofMaxBytes(250));
+		assertThat(manager.evict()).containsExactly(Version.parse("3.11.12"));
+		assertThat(manager.evict()).isEmpty();
+	}
+
+	@Test
+	void keepVersions() throws IOException {
+		createVersion("4.0.1", 100, 1);
+		createVersion("4.1.0", 100, 2);
+		CassandraCacheManager manager = new CassandraCacheManager(this.downloadDirectory,
+				CacheEvictionPolicy.ofMaxVersions(1));
+		assertThat(manager.evict(Version.parse("4.0.1"))).containsExactly(Version.parse("4.1.0"));
+	}
+
+	@Test
+	void touchMakesVersionMostRecentlyUsed() throws IOException {
+		createVersion("4.0.1", 100, 1);
+		createVersion("4.1.0", 100, 2);
+		CassandraCacheManager manager = new CassandraCacheManager(this.downloadDirectory,
+				CacheEvictionPolicy.ofMaxVersions(1));
+		manager.touch(Version.parse("4.0.1"));
+		assertThat(manager.evict()).containsExactly(Version.parse("4.1.0"));
+	}
+
+	@Test
+	void lockedVersionIsNotEvicted() throws IOException {
+		createVersion("4.0.1", 100, 1);
+		createVersion("4.1.0", 100, 2);
+		CassandraCacheManager manager = new CassandraCacheManager(this.downloadDirectory,
+				CacheEvictionPolicy.ofMaxVersions(1));
+		try (FileLock fileLock = FileLock.of(getVersionDirectory("4.0.1").resolve(".lock"))) {
+			assertThat(fileLock.tryLock(1, TimeUnit.SECONDS)).isTrue();
+			assertThat(manager.evict()).containsExactly(Version.parse("4.1.0"));
+		}
+		assertThat(getVersionDirectory("4.0.1").resolve("apache-cassandra-4.0.1")).exists();
+	}
+
+	@Test
+	void sharedLockedVersionIsNotEvicted() throws IOException {
+		createVersion("4.0.1", 100, 1);
+		createVersion("4.1.0", 100, 2);
+		CassandraCacheManager manager = new CassandraCacheManager(this.downloadDirectory,
+				CacheEvictionPolicy.ofMaxBytes(1));
+		try (FileLock fileLock = FileLock.of(getVersionDirectory("4.0.1").resolve(".lock"))) {
+			assertThat(fileLock.tryLock(FileLock.Mode.SHARED, 1, TimeUnit.SECONDS)).isTrue();
+			assertThat(manager.evict()).containsExactly(Version.parse("4.1.0"));
+		}
+		assertThat(getVersionDirectory("4.0.1").resolve("apache-cassandra-4.0.1")).exists();
+		assertThat(manager.evict()).containsExactly(Version.parse("4.0.1"));
+	}
+
+	@Test
+	void incompleteVersionIsIgnored() throws IOException {
+		createVersion("4.0.1", 100, 1);
+		createVersion("4.1.0", 100, 2);
+		Files.delete(getVersionDirectory("4.0.1").resolve(".success"));
+		CassandraCacheManager manager = new CassandraCacheManager(this.downloadDirectory,
+				CacheEvictionPolicy.ofMaxVersions(1));
+		assertThat(manager.evict()).isEmpty();
+		assertThat(getVersionDirectory("4.0.1")).exists();
+	}
+
+	@Test
+	void unlimitedNeverEvicts() throws IOException {
+		createVersion("4.0.1", 100, 1);
+		createVersion("4.1.0", 100, 2);
+		CassandraCacheManager manager = new CassandraCacheManager(this.downloadDirectory,
+				CacheEvictionPolicy.unlimited());
+		assertThat(manager.evict()).isEmpty();
+	}
+
+	private void createVersion(String version, int bytes, int lastUsedSecond) throws IOException {
+		Path versionDirectory = Files.createDirectories(getVersionDirectory(version));
+		Path lib = Files.createDirectories(versionDirectory.resolve("apache-cassandra-" + version).resolve("lib"));
+		Files.write(lib.resolve("cassandra.jar"), new byte[bytes]);
+		Files.createFile(versionDirectory.resolve(".success"));
+		Path lastUsedFile = Files.createFile(versionDirectory.resolve(".last-used"));
+		Files.setLastModifiedTime(lastUsedFile, FileTime.from(Instant.ofEpochSecond(1_000_000 + lastUsedSecond)));
+	}
+
+	private Path getVersionDirectory(String version) {
+		return this.downloadDirectory.resolve(".embedded-cassandra").resolve(version);
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.commons.web.JdkHttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CassandraReleaseIndex}.
+ *
+ * @author Dmytro Nosan
+ */
+class CassandraReleaseIndexTests {
+
+	private static final String LISTING = "<html><body><h1>Index of /dist/cassandra</h1><pre>"
+			+ "<a href=\"/dist/\">Parent Directory</a>\n"
+			+ "<a href=\"3.11.17/\">3.11.17/</a>\n"
+			+ "<a href=\"4.0.13/\">4.0.13/</a>\n"
+			+ "<a href=\"4.1.4/\">4.1.4/</a>\n"
+			+ "<a href=\"4.1.5/\">4.1.5/</a>\n"
+			+ "<a href=\"5.0-beta1/\">5.0-beta1/</a>\n"
+			+ "<a href=\"KEYS\">KEYS</a>\n"
+			+ "<a href=\"redhat/\">redhat/</a>\n"
+			+ "</pre></body></html>";
+
+	private final JdkHttpClient httpClient = new JdkHttpClient(Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+	private final List<String> requests = new CopyOnWriteArrayList<>();
+
+	private HttpServer httpServer;
+
+	private Path cacheFile;
+
+	@BeforeEach
+	void setUp(@TempDir Path temporaryFolder) throws IOException {
+		this.cacheFile = temporaryFolder.resolve("releases.properties");
+		this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.httpServer.createContext("/", exchange -> {
+			String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+			this.requests.add(String.valueOf(etag));
+			try {
+				if ("\"v1\"".equals(etag)) {
+					exchange.sendResponseHeaders(304, -1);
+					return;
+				}
+				byte[] body = LISTING.getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set("ETag", "\"v1\"");
+				exchange.sendResponseHeaders(200, body.length);
+				try (OutputStream os = exchange.getResponseBody()) {
+					os.write(body);
+				}
+			}
+			finally {
+				exchange.close();
+			}
+		});
+		this.httpServer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.httpServer.stop(0);
+	}
+
+	@Test
+	void resolve() throws IOException {
+		CassandraReleaseIndex releaseIndex = createReleaseIndex(Duration.ofHours(1));
+		assertThat(releaseIndex.getVersions()).extracting(Version::toString)
+				.containsExactly("3.11.17", "4.0.13", "4.1.4", "4.1.5", "5.0-beta1");
+		assertThat(releaseIndex.resolve("4.1.x")).isEqualTo(Version.parse("4.1.5"));
+		assertThat(releaseIndex.resolve("[4.0,4.1)")).isEqualTo(Version.parse("4.0.13"));
+		assertThat(releaseIndex.resolve("latest")).isEqualTo(Version.parse("4.1.5"));
+		assertThatThrownBy(() -> releaseIndex.resolve("5.x")).isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("5.x");
+		assertThat(this.requests).hasSize(1);
+	}
+
+	@Test
+	void concreteVersionIsNotResolved() throws IOException {
+		assertThat(createReleaseIndex(Duration.ZERO).resolve("4.1.2")).isEqualTo(Version.parse("4.1.2"));
+		assertThat(this.requests).isEmpty();
+	}
+
+	@Test
+	void cachedIndexIsUsedWithinTtl() throws IOException {
+		assertThat(createReleaseIndex(Duration.ofHours(1)).resolve("4.1.x")).isEqualTo(Version.parse("4.1.5"));
+		assertThat(createReleaseIndex(Duration.ofHours(1)).resolve("4.0.x")).isEqualTo(Version.parse("4.0.13"));
+		assertThat(this.requests).hasSize(1);
+		assertThat(this.cacheFile).exists();
+	}
+
+	@Test
+	void expiredIndexIsRevalidated() throws IOException {
+		CassandraReleaseIndex releaseIndex = createReleaseIndex(Duration.ZERO);
+		assertThat(releaseIndex.resolve("4.1.x")).isEqualTo(Version.parse("4.1.5"));
+		assertThat(releaseIndex.resolve("4.1.x")).isEqualTo(Version.parse("4.1.5"));
+		assertThat(this.requests).containsExactly("null", "\"v1\"");
+	}
+
+	@Test
+	void staleIndexIsUsedOffline() throws IOException {
+		createReleaseIndex(Duration.ZERO).getVersions();
+		this.httpServer.stop(0);
+		assertThat(createReleaseIndex(Duration.ZERO).resolve("4.1.x")).isEqualTo(Version.parse("4.1.5"));
+	}
+
+	@Test
+	void failOfflineWithoutCache() {
+		this.httpServer.stop(0);
+		assertThatThrownBy(() -> createReleaseIndex(Duration.ZERO).resolve("4.1.x")).isInstanceOf(IOException.class);
+		assertThat(this.cacheFile).doesNotExist();
+	}
+
+	@Test
+	void corruptCacheIsRefetched() throws IOException {
+		Files.write(this.cacheFile, "versions=a,b\nfetched-at=x".getBytes(StandardCharsets.UTF_8));
+		assertThat(createReleaseIndex(Duration.ofHours(1)).resolve("4.1.x")).isEqualTo(Version.parse("4.1.5"));
+		assertThat(this.requests).hasSize(1);
+	}
+
+	private CassandraReleaseIndex createReleaseIndex(Duration ttl) {
+		InetSocketAddress address = this.httpServer.getAddress();
+		URI uri = URI.create(String.format("http://%s:%d/dist/cassandra/", address.getHostString(),
+				address.getPort()));
+		return new CassandraReleaseIndex(this.httpClient, this.cacheFile, uri, ttl);
+	}
+
+}
@@ -22,7 +22,9 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -300,6 +302,34 @@ class DefaultCassandraIntegrationTests {
 		});
 	}
 
+	@Test
+	void testSuccessWhenSSTablesWritten() throws Throwable {
+		List<List<?>> rows = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			rows.add(List.of(i, "user" + i));
+		}
+		SSTableWorkingDirectoryCustomizer users = new SSTableWorkingDirectoryCustomizer(
+				"CREATE TABLE test.users (id int PRIMARY KEY, name text)",
+				"INSERT INTO test.users (id, name) VALUES (?, ?)", rows)
+				.withJavaHome(Paths.get(System.getProperty("java.home")));
+		this.builder.addWorkingDirectoryCustomizers(users);
+		this.runner.run((cassandra, throwable) -> {
+			assertThat(throwable).doesNotThrowAnyException();
+			Settings settings = cassandra.getSettings();
+			SessionFactory sessionFactory = new SessionFactory();
+			sessionFactory.address = settings.getAddress();
+			sessionFactory.port = settings.getPort();
+			try (CqlSession session = sessionFactory.createSession()) {
+				session.execute("CREATE KEYSPACE test WITH replication = {'class':'SimpleStrategy',"
+						+ " 'replication_factor':1}");
+				session.execute(users.getSchema());
+				assertThat(session.execute("SELECT COUNT(*) FROM test.users").one().getLong(0)).isEqualTo(100);
+				assertThat(session.execute("SELECT name FROM test.users WHERE id = 42").one().getString(0))
+						.isEqualTo("user42");
+			}
+		});
+	}
+
 	private static void runScripts(SessionFactory sessionFactory) {
 		try (CqlSession session = sessionFactory.createSession()) {
 			CqlScript.ofClassPath("statements.cql").forEachStatement(session::execute);
@@ -42,6 +42,21 @@ class DefaultCassandraTests {
 		assertThatThrownBy(() -> this.builder.build().start()).hasStackTraceContaining("Unable to initialize");
 	}
 
+	@Test
+	void unableToInitializeRecordsMetrics() {
+		InMemoryCassandraMetrics metrics = new InMemoryCassandraMetrics();
+		this.builder.metrics(metrics).workingDirectoryInitializer((workingDirectory, version) -> {
+			assertThat(MetricsContext.get()).isSameAs(metrics);
+			throw new IOException("Fail");
+		});
+		assertThatThrownBy(() -> this.builder.build().start()).hasStackTraceContaining("Unable to initialize");
+		assertThat(MetricsContext.get()).isSameAs(CassandraMetrics.noop());
+		assertThat(metrics.getCount(CassandraMetrics.Phase.INIT)).isEqualTo(1);
+		assertThat(metrics.getCount(CassandraMetrics.Phase.DESTROY)).isEqualTo(1);
+		assertThat(metrics.getCount(CassandraMetrics.Phase.CUSTOMIZE)).isZero();
+		assertThat(metrics.getCount(CassandraMetrics.Phase.START)).isZero();
+	}
+
 	@Test
 	void getName() {
 		Cassandra cassandra = this.builder.name("test").build();
@@ -19,7 +19,9 @@ package com.github.nosan.embedded.cassandra;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -58,7 +60,7 @@ class DefaultWorkingDirectoryInitializerTests {
 
 	@Test
 	void initializeWorkingDirReplaceExisting(@TempDir Path tempDir) throws IOException {
-		CassandraDirectoryProvider directoryProvider = Mockito.mock(CassandraDirectoryProvider.class);
+		CassandraDirectoryProvider directoryProvider = mockDirectoryProvider();
 		WorkingDirectoryInitializer initializer = new DefaultWorkingDirectoryInitializer(
 				directoryProvider, DefaultWorkingDirectoryInitializer.CopyStrategy.REPLACE_EXISTING);
 		Path cassandraDirectory = Files.createDirectory(tempDir.resolve("cassandraDirectory"));
@@ -76,7 +78,7 @@ class DefaultWorkingDirectoryInitializerTests {
 
 	@Test
 	void initializeWorkingDirectorySkipExisting(@TempDir Path tempDir) throws IOException {
-		CassandraDirectoryProvider directoryProvider = Mockito.mock(CassandraDirectoryProvider.class);
+		CassandraDirectoryProvider directoryProvider = mockDirectoryProvider();
 		WorkingDirectoryInitializer initializer = new DefaultWorkingDirectoryInitializer(
 				directoryProvider, DefaultWorkingDirectoryInitializer.CopyStrategy.SKIP_EXISTING);
 		Path cassandraDirectory = Files.createDirectory(tempDir.resolve("cassandraDirectory"));
@@ -92,6 +94,26 @@ class DefaultWorkingDirectoryInitializerTests {
 		assertThat(workingDirectory.resolve("conf/cassandra.yaml")).hasContent("Hello World");
 	}
 
+	@Test
+	void initializeWorkingDirectoryServerProfile(@TempDir Path tempDir) throws IOException {
+		CassandraDirectoryProvider directoryProvider = mockDirectoryProvider();
+		WorkingDirectoryInitializer initializer = new DefaultWorkingDirectoryInitializer(directoryProvider,
+				DefaultWorkingDirectoryInitializer.CopyStrategy.skipExisting(DistributionProfile.server()));
+		Path cassandraDirectory = Files.createDirectory(tempDir.resolve("cassandraDirectory"));
+		Path workingDirectory = Files.createDirectory(tempDir.resolve("workingDirectory"));
+		Mockito.when(directoryProvider.getDirectory(CassandraBuilder.DEFAULT_VERSION))
+				.thenReturn(cassandraDirectory);
+		prepare(cassandraDirectory);
+		Files.createFile(cassandraDirectory.resolve("bin/cqlsh"));
+		initializer.init(workingDirectory, CassandraBuilder.DEFAULT_VERSION);
+		assertThat(workingDirectory.resolve("bin/cassandra")).isRegularFile();
+		assertThat(workingDirectory.resolve("conf/cassandra.yaml")).isRegularFile();
+		assertThat(workingDirectory.resolve("lib/apache-cassandra-4.0.1.jar")).isRegularFile();
+		assertThat(workingDirectory.resolve("bin/cqlsh")).doesNotExist();
+		assertThat(workingDirectory.resolve("tools")).doesNotExist();
+		assertThat(workingDirectory.resolve("doc")).doesNotExist();
+	}
+
 	private void assertWorkingDirectory(Path workingDirectory) {
 		assertThat(workingDirectory.resolve("bin")).isDirectory().exists();
 		assertThat(workingDirectory.resolve("tools")).isDirectory().exists();
@@ -105,6 +127,57 @@ class DefaultWorkingDirectoryInitializerTests {
 		assertThat(workingDirectory.resolve("doc")).doesNotExist();
 	}
 
+	@Test
+	void initializeWorkingDirectoryRecordsMetrics(@TempDir Path tempDir) throws IOException {
+		CassandraDirectoryProvider directoryProvider = mockDirectoryProvider();
+		WorkingDirectoryInitializer initializer = new DefaultWorkingDirectoryInitializer(directoryProvider);
+		Path cassandraDirectory = Files.createDirectory(tempDir.resolve("cassandraDirectory"));
+		Path workingDirectory = Files.createDirectory(tempDir.resolve("workingDirectory"));
+		Mockito.when(directoryProvider.getDirectory(CassandraBuilder.DEFAULT_VERSION))
+				.thenReturn(cassandraDirectory);
+		prepare(cassandraDirectory);
+		Files.write(cassandraDirectory.resolve("conf/cassandra.yaml"), new byte[100]);
+		Files.write(cassandraDirectory.resolve("licenses/LICENSE.txt"), new byte[1000]);
+		InMemoryCassandraMetrics metrics = new InMemoryCassandraMetrics();
+		CassandraMetrics previous = MetricsContext.set(metrics);
+		try {
+			initializer.init(workingDirectory, CassandraBuilder.DEFAULT_VERSION);
+		}
+		finally {
+			MetricsContext.restore(previous);
+		}
+		assertThat(metrics.getCount(CassandraMetrics.Phase.COPY)).isEqualTo(1);
+		assertThat(metrics.getBytes(CassandraMetrics.Phase.COPY)).isEqualTo(100);
+	}
+
+	@Test
+	void initializeWorkingDirectoryHoldsLease(@TempDir Path tempDir) throws IOException {
+		CassandraDirectoryProvider directoryProvider = Mockito.mock(CassandraDirectoryProvider.class);
+		List<String> events = new ArrayList<>();
+		WorkingDirectoryInitializer initializer = new DefaultWorkingDirectoryInitializer(directoryProvider,
+				(cassandraDirectory, workingDirectory) -> {
+					events.add("copy");
+					DefaultWorkingDirectoryInitializer.CopyStrategy.REPLACE_EXISTING.copy(cassandraDirectory,
+							workingDirectory);
+				});
+		Path cassandraDirectory = Files.createDirectory(tempDir.resolve("cassandraDirectory"));
+		Path workingDirectory = Files.createDirectory(tempDir.resolve("workingDirectory"));
+		Mockito.when(directoryProvider.acquire(CassandraBuilder.DEFAULT_VERSION))
+				.thenReturn(new CassandraDirectoryProvider.Lease(cassandraDirectory, () -> events.add("close")));
+		prepare(cassandraDirectory);
+		initializer.init(workingDirectory, CassandraBuilder.DEFAULT_VERSION);
+		assertWorkingDirectory(workingDirectory);
+		assertThat(events).containsExactly("copy", "close");
+	}
+
+	private static CassandraDirectoryProvider mockDirectoryProvider() throws IOException {
+		CassandraDirectoryProvider directoryProvider = Mockito.mock(CassandraDirectoryProvider.class);
+		Mockito.when(directoryProvider.acquire(Mockito.any())).thenAnswer(invocation -> new CassandraDirectoryProvider
+				.Lease(directoryProvider.getDirectory((Version) invocation.getArguments()[0]), () -> {
+				}));
+		return directoryProvider;
+	}
+
 	private void prepare(Path cassandraDirectory) throws IOException {
 		Files.createDirectories(cassandraDirectory.resolve("bin"));
 		Files.createDirectories(cassandraDirectory.resolve("tools"));
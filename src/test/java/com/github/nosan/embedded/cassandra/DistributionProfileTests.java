@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link DistributionProfile}.
+ *
+ * @author Dmytro Nosan
+ */
+class DistributionProfileTests {
+
+	@Test
+	void full() {
+		DistributionProfile profile = DistributionProfile.full();
+		assertThat(profile.isIncluded(Paths.get("doc"), true)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("pylib/cqlshlib/cqlshmain.py"), false)).isTrue();
+	}
+
+	@Test
+	void defaults() {
+		DistributionProfile profile = DistributionProfile.defaults();
+		assertThat(profile.isIncluded(Paths.get("doc"), true)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("javadoc/index.html"), false)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("lib/licenses/netty.txt"), false)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("tools/bin/sstabledump"), false)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("bin/cqlsh"), false)).isTrue();
+	}
+
+	@Test
+	void server() {
+		DistributionProfile profile = DistributionProfile.server();
+		assertThat(profile.isIncluded(Paths.get("bin/cassandra"), false)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("bin/nodetool"), false)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("lib/apache-cassandra-4.0.1.jar"), false)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("conf/cassandra.yaml"), false)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("bin/cqlsh.py"), false)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("bin/cassandra.bat"), false)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("lib/cassandra-driver-internal-only-3.25.0.zip"), false)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("pylib"), true)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("tools/bin/sstabledump"), false)).isFalse();
+		assertThat(profile.getExcludes()).containsAll(DistributionProfile.defaults().getExcludes());
+	}
+
+	@Test
+	void patternsWithSlashAreRelativeToHome() {
+		DistributionProfile profile = DistributionProfile.full().exclude("bin/cqlsh*");
+		assertThat(profile.isIncluded(Paths.get("bin/cqlsh"), false)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("tools/bin/cqlsh"), false)).isTrue();
+	}
+
+	@Test
+	void includes() {
+		DistributionProfile profile = DistributionProfile.of(Arrays.asList("bin", "conf", "lib/*.jar"),
+				Collections.singletonList("bin/*.bat"));
+		assertThat(profile.isIncluded(Paths.get("bin/cassandra"), false)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("bin/cassandra.bat"), false)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("lib/jna.jar"), false)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("lib/sigar-bin"), true)).isTrue();
+		assertThat(profile.isIncluded(Paths.get("lib/sigar-bin/libsigar.so"), false)).isFalse();
+		assertThat(profile.isIncluded(Paths.get("NEWS.txt"), false)).isFalse();
+	}
+
+	@Test
+	void equalsAndHashCode() {
+		assertThat(DistributionProfile.full().exclude("javadoc", "doc", "licenses"))
+				.isEqualTo(DistributionProfile.defaults())
+				.hasSameHashCodeAs(DistributionProfile.defaults());
+		assertThat(DistributionProfile.full().include("bin")).isNotEqualTo(DistributionProfile.full());
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThatThrownBy(() -> DistributionProfile.of(null, Collections.emptyList()))
+				.isInstanceOf(NullPointerException.class);
+		assertThatThrownBy(() -> DistributionProfile.full().exclude("[a")).isInstanceOf(
+				IllegalArgumentException.class);
+		assertThatThrownBy(() -> DistributionProfile.full().isIncluded(null, false))
+				.isInstanceOf(NullPointerException.class);
+	}
+
+}
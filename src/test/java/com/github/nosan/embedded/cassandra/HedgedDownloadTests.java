@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.commons.web.JdkHttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link HedgedDownload}.
+ *
+ * @author Dmytro Nosan
+ */
+class HedgedDownloadTests {
+
+	private static final HedgingPolicy POLICY = HedgingPolicy.of(1024 * 1024, Duration.ofMillis(500));
+
+	private final byte[] content = new byte[256 * 1024];
+
+	private final CountDownLatch stall = new CountDownLatch(1);
+
+	private final List<String> requests = new CopyOnWriteArrayList<>();
+
+	private final JdkHttpClient httpClient = new JdkHttpClient(Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+	private final Version version = Version.parse("4.0.1");
+
+	private HttpServer httpServer;
+
+	private Path primaryFile;
+
+	private WebCassandraDirectoryProvider provider;
+
+	@BeforeEach
+	void setUp(@TempDir Path temporaryFolder) throws IOException {
+		new Random(7).nextBytes(this.content);
+		this.primaryFile = Files.createFile(temporaryFolder.resolve("primary.tar.gz"));
+		this.provider = new WebCassandraDirectoryProvider(this.httpClient, temporaryFolder);
+		this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.httpServer.createContext("/", this::handle);
+		this.httpServer.setExecutor(Executors.newCachedThreadPool());
+		this.httpServer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.stall.countDown();
+		this.httpServer.stop(0);
+		((ExecutorService) this.httpServer.getExecutor()).shutdownNow();
+	}
+
+	@Test
+	void fastPrimaryIsNotHedged() throws IOException {
+		try (HedgedDownload download = new HedgedDownload(this.provider, this.httpClient, this.version, POLICY);
+				OutputStream os = Files.newOutputStream(this.primaryFile, StandardOpenOption.WRITE)) {
+			Path archive = download.download(uri("/range"), this.primaryFile, os, uri("/no-range"));
+			os.flush();
+			assertThat(archive).isEqualTo(this.primaryFile).hasBinaryContent(this.content);
+			assertThat(download.getWinner()).isEqualTo(uri("/range"));
+		}
+		assertThat(this.requests).containsExactly("/range null");
+	}
+
+	@Test
+	void slowPrimaryIsHedgedWithRange() throws IOException {
+		try (HedgedDownload download = new HedgedDownload(this.provider, this.httpClient, this.version, POLICY);
+				OutputStream os = Files.newOutputStream(this.primaryFile, StandardOpenOption.WRITE)) {
+			Path archive = download.download(uri("/slow"), this.primaryFile, os, uri("/range"));
+			assertThat(archive).hasBinaryContent(this.content);
+			assertThat(download.getWinner()).isEqualTo(uri("/range"));
+		}
+		assertThat(this.requests).containsExactly("/slow null", "/range bytes=1024-");
+	}
+
+	@Test
+	void slowPrimaryIsHedgedWithoutRange() throws IOException {
+		try (HedgedDownload download = new HedgedDownload(this.provider, this.httpClient, this.version, POLICY);
+				OutputStream os = Files.newOutputStream(this.primaryFile, StandardOpenOption.WRITE)) {
+			Path archive = download.download(uri("/slow"), this.primaryFile, os, uri("/no-range"));
+			assertThat(archive).isNotEqualTo(this.primaryFile).hasBinaryContent(this.content);
+			assertThat(download.getWinner()).isEqualTo(uri("/no-range"));
+		}
+	}
+
+	@Test
+	void failsIfBothFail() throws IOException {
+		try (HedgedDownload download = new HedgedDownload(this.provider, this.httpClient, this.version, POLICY);
+				OutputStream os = Files.newOutputStream(this.primaryFile, StandardOpenOption.WRITE)) {
+			assertThatThrownBy(() -> download.download(uri("/missing"), this.primaryFile, os, uri("/missing")))
+					.isInstanceOf(IOException.class).hasMessageContaining("Could not download a file");
+		}
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		String range = exchange.getRequestHeaders().getFirst("Range");
+		this.requests.add(path + " " + range);
+		try {
+			if (path.equals("/slow")) {
+				exchange.sendResponseHeaders(200, this.content.length);
+				exchange.getResponseBody().write(this.content, 0, 1024);
+				exchange.getResponseBody().flush();
+				this.stall.await();
+				exchange.getResponseBody().write(this.content, 1024, this.content.length - 1024);
+			}
+			else if (path.equals("/range") && range != null) {
+				int offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+				exchange.getResponseHeaders().set("Content-Range",
+						String.format("bytes %d-%d/%d", offset, this.content.length - 1, this.content.length));
+				exchange.sendResponseHeaders(206, this.content.length - offset);
+				exchange.getResponseBody().write(this.content, offset, this.content.length - offset);
+			}
+			else if (path.equals("/range") || path.equals("/no-range")) {
+				exchange.sendResponseHeaders(200, this.content.length);
+				exchange.getResponseBody().write(this.content);
+			}
+			else {
+				exchange.sendResponseHeaders(404, -1);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	private URI uri(String path) {
+		InetSocketAddress address = this.httpServer.getAddress();
+		return URI.create(String.format("http://%s:%d%s", address.getAddress().getHostAddress(), address.getPort(),
+				path));
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.CassandraMetrics.Phase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link InMemoryCassandraMetrics}.
+ *
+ * @author Dmytro Nosan
+ */
+class InMemoryCassandraMetricsTests {
+
+	private final InMemoryCassandraMetrics metrics = new InMemoryCassandraMetrics();
+
+	@Test
+	void empty() {
+		assertThat(this.metrics.getCount(Phase.DOWNLOAD)).isZero();
+		assertThat(this.metrics.getTotalTime(Phase.DOWNLOAD)).isEqualTo(Duration.ZERO);
+		assertThat(this.metrics.getMaxTime(Phase.DOWNLOAD)).isEqualTo(Duration.ZERO);
+		assertThat(this.metrics.getBytes(Phase.DOWNLOAD)).isZero();
+		assertThat(this.metrics).hasToString("InMemoryCassandraMetrics{}");
+	}
+
+	@Test
+	void recordTime() {
+		for (int i = 1; i <= 100; i++) {
+			this.metrics.recordTime(Phase.START, Duration.ofMillis(i));
+		}
+		assertThat(this.metrics.getCount(Phase.START)).isEqualTo(100);
+		assertThat(this.metrics.getTotalTime(Phase.START)).isEqualTo(Duration.ofMillis(5050));
+		assertThat(this.metrics.getPercentile(Phase.START, 50)).isEqualTo(Duration.ofMillis(50));
+		assertThat(this.metrics.getPercentile(Phase.START, 99)).isEqualTo(Duration.ofMillis(99));
+		assertThat(this.metrics.getMaxTime(Phase.START)).isEqualTo(Duration.ofMillis(100));
+		assertThat(this.metrics.getCount(Phase.STOP)).isZero();
+	}
+
+	@Test
+	void recordBytes() {
+		this.metrics.recordBytes(Phase.COPY, 10);
+		this.metrics.recordBytes(Phase.COPY, 20);
+		assertThat(this.metrics.getBytes(Phase.COPY)).isEqualTo(30);
+		assertThat(this.metrics.toString()).contains("COPY=[count=0").contains("bytes=30");
+	}
+
+	@Test
+	void reset() {
+		this.metrics.recordTime(Phase.STOP, Duration.ofSeconds(1));
+		this.metrics.recordBytes(Phase.STOP, 1);
+		this.metrics.reset();
+		assertThat(this.metrics.getCount(Phase.STOP)).isZero();
+		assertThat(this.metrics.getBytes(Phase.STOP)).isZero();
+	}
+
+	@Test
+	void invalidPercentile() {
+		assertThatThrownBy(() -> this.metrics.getPercentile(Phase.START, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> this.metrics.getPercentile(Phase.START, 101))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link LayeredCassandraDirectoryProvider}.
+ *
+ * @author Dmytro Nosan
+ */
+class LayeredCassandraDirectoryProviderTests {
+
+	private final Version version = Version.parse("4.0.1");
+
+	private final CassandraDirectoryProvider web = mock(CassandraDirectoryProvider.class);
+
+	private LocalCassandraDirectoryProvider cache;
+
+	private LocalCassandraDirectoryProvider shared;
+
+	private Path cassandraHome;
+
+	@BeforeEach
+	void setUp(@TempDir Path temporaryFolder) throws IOException {
+		this.cassandraHome = Files.createDirectories(temporaryFolder.resolve("home"));
+		Files.createDirectories(this.cassandraHome.resolve("bin"));
+		Files.createDirectories(this.cassandraHome.resolve("conf"));
+		Files.createDirectories(this.cassandraHome.resolve("lib"));
+		this.cache = new LocalCassandraDirectoryProvider(temporaryFolder.resolve("cache"));
+		this.shared = new LocalCassandraDirectoryProvider(temporaryFolder.resolve("shared"), true);
+	}
+
+	@Test
+	void sharedTierPopulatesCache(@TempDir Path shared) throws IOException {
+		new LocalCassandraDirectoryProvider(shared).store(this.version, this.cassandraHome);
+		this.shared = new LocalCassandraDirectoryProvider(shared, true);
+		LayeredCassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(
+				Arrays.asList(this.cache, this.shared, this.web), Runnable::run);
+		assertThat(provider.getDirectory(this.version)).isEqualTo(this.shared.getDirectory(this.version));
+		assertThat(this.cache.isPresent(this.version)).isTrue();
+		assertThat(provider.getDirectory(this.version)).isEqualTo(this.cache.getDirectory(this.version));
+		verify(this.web, never()).getDirectory(this.version);
+	}
+
+	@Test
+	void webTierPopulatesCache() throws IOException {
+		when(this.web.getDirectory(this.version)).thenReturn(this.cassandraHome);
+		when(this.web.acquire(this.version)).thenReturn(new CassandraDirectoryProvider.Lease(this.cassandraHome, () -> {
+		}));
+		LayeredCassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(
+				Arrays.asList(this.cache, this.shared, this.web), Runnable::run);
+		assertThat(provider.getDirectory(this.version)).isEqualTo(this.cassandraHome);
+		assertThat(this.cache.isPresent(this.version)).isTrue();
+		assertThat(this.shared.isPresent(this.version)).isFalse();
+	}
+
+	@Test
+	void acquireFromFirstTierThatProvidesVersion(@TempDir Path shared) throws IOException {
+		new LocalCassandraDirectoryProvider(shared).store(this.version, this.cassandraHome);
+		this.shared = new LocalCassandraDirectoryProvider(shared, true);
+		LayeredCassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(
+				Arrays.asList(this.cache, this.shared, this.web), Runnable::run);
+		try (CassandraDirectoryProvider.Lease lease = provider.acquire(this.version)) {
+			assertThat(lease.getDirectory()).isEqualTo(this.shared.getDirectory(this.version));
+		}
+		assertThat(this.cache.isPresent(this.version)).isTrue();
+		try (CassandraDirectoryProvider.Lease lease = provider.acquire(this.version)) {
+			assertThat(lease.getDirectory()).isEqualTo(this.cache.getDirectory(this.version));
+		}
+		verify(this.web, never()).acquire(this.version);
+	}
+
+	@Test
+	void populateKeepsSourceWhileCopying(@TempDir Path shared) throws IOException {
+		CassandraCacheManager cacheManager = new CassandraCacheManager(shared, CacheEvictionPolicy.ofMaxBytes(1));
+		List<List<Version>> evictions = new ArrayList<>();
+		LocalCassandraDirectoryProvider source = new LocalCassandraDirectoryProvider(shared) {
+
+			@Override
+			public Lease acquire(Version version) throws IOException {
+				Lease lease = super.acquire(version);
+				evictions.add(cacheManager.evict());
+				return lease;
+			}
+
+		};
+		source.store(this.version, this.cassandraHome);
+		LayeredCassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(
+				Arrays.asList(this.cache, source), Runnable::run);
+		assertThat(provider.getDirectory(this.version)).isEqualTo(source.getDirectory(this.version));
+		assertThat(evictions).containsExactly(Collections.emptyList());
+		assertThat(this.cache.isPresent(this.version)).isTrue();
+	}
+
+	@Test
+	void populateSkipsEvictedSource(@TempDir Path shared) throws IOException {
+		CassandraCacheManager cacheManager = new CassandraCacheManager(shared, CacheEvictionPolicy.ofMaxBytes(1));
+		LocalCassandraDirectoryProvider source = new LocalCassandraDirectoryProvider(shared);
+		source.store(this.version, this.cassandraHome);
+		LayeredCassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(
+				Arrays.asList(this.cache, source), runnable -> {
+					try {
+						assertThat(cacheManager.evict()).containsExactly(this.version);
+					}
+					catch (IOException ex) {
+						throw new IllegalStateException(ex);
+					}
+					runnable.run();
+				});
+		provider.getDirectory(this.version);
+		assertThat(this.cache.isPresent(this.version)).isFalse();
+	}
+
+	@Test
+	void tierOfAnotherProfileDoesNotPopulateCache(@TempDir Path downloadDirectory) throws IOException {
+		Path versionDirectory = downloadDirectory.resolve(".embedded-cassandra").resolve(this.version.toString());
+		Path cassandraDirectory = Files.createDirectories(versionDirectory.resolve("apache-cassandra-4.0.1/lib"))
+				.getParent();
+		Files.write(versionDirectory.resolve(".profile"),
+				Collections.singleton(DistributionProfile.server().toString()));
+		Files.createFile(versionDirectory.resolve(".success"));
+		WebCassandraDirectoryProvider web = new WebCassandraDirectoryProvider(downloadDirectory) {
+
+			@Override
+			protected DistributionProfile getDistributionProfile() {
+				return DistributionProfile.server();
+			}
+
+		};
+		LayeredCassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(
+				Arrays.asList(this.cache, web), Runnable::run);
+		assertThat(provider.getDirectory(this.version)).isEqualTo(cassandraDirectory.toAbsolutePath());
+		assertThat(this.cache.isPresent(this.version)).isFalse();
+	}
+
+	@Test
+	void populatesInBackground() throws Exception {
+		when(this.web.getDirectory(this.version)).thenReturn(this.cassandraHome);
+		when(this.web.acquire(this.version)).thenReturn(new CassandraDirectoryProvider.Lease(this.cassandraHome, () -> {
+		}));
+		LayeredCassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(this.cache, this.web);
+		assertThat(provider.getDirectory(this.version)).isEqualTo(this.cassandraHome);
+		long deadline = System.nanoTime() + 10_000_000_000L;
+		while (!this.cache.isPresent(this.version) && System.nanoTime() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(this.cache.isPresent(this.version)).isTrue();
+	}
+
+	@Test
+	void noTierProvidesVersion() throws IOException {
+		when(this.web.getDirectory(this.version)).thenThrow(new FileNotFoundException("Not found"));
+		LayeredCassandraDirectoryProvider provider = new LayeredCassandraDirectoryProvider(
+				Arrays.asList(this.cache, this.shared, this.web), Runnable::run);
+		assertThatThrownBy(() -> provider.getDirectory(this.version)).isInstanceOf(IOException.class)
+				.hasMessageContaining("Unable to provide Cassandra Directory for a version: '4.0.1'")
+				.satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(3));
+	}
+
+	@Test
+	void noTiers() {
+		assertThatThrownBy(() -> new LayeredCassandraDirectoryProvider(Collections.emptyList()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
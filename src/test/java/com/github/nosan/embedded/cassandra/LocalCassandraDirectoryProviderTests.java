@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link LocalCassandraDirectoryProvider}.
+ *
+ * @author Dmytro Nosan
+ */
+class LocalCassandraDirectoryProviderTests {
+
+	private final Version version = Version.parse("4.0.1");
+
+	private Path temporaryFolder;
+
+	private Path cassandraHome;
+
+	@BeforeEach
+	void setUp(@TempDir Path temporaryFolder) throws IOException {
+		this.temporaryFolder = temporaryFolder;
+		this.cassandraHome = Files.createDirectories(temporaryFolder.resolve("home"));
+		Files.createDirectories(this.cassandraHome.resolve("bin"));
+		Files.createDirectories(this.cassandraHome.resolve("conf"));
+		Files.write(Files.createDirectories(this.cassandraHome.resolve("lib")).resolve("cassandra.jar"),
+				new byte[]{1, 2, 3});
+	}
+
+	@Test
+	void notPresent() {
+		LocalCassandraDirectoryProvider provider = new LocalCassandraDirectoryProvider(
+				this.temporaryFolder.resolve("cache"));
+		assertThat(provider.isPresent(this.version)).isFalse();
+		assertThatThrownBy(() -> provider.getDirectory(this.version)).isInstanceOf(FileNotFoundException.class);
+	}
+
+	@Test
+	void storeAndGet() throws IOException {
+		Path cache = this.temporaryFolder.resolve("cache");
+		LocalCassandraDirectoryProvider provider = new LocalCassandraDirectoryProvider(cache);
+		assertThat(provider.store(this.version, this.cassandraHome)).isTrue();
+		assertThat(provider.store(this.version, this.cassandraHome)).isFalse();
+		Path directory = provider.getDirectory(this.version);
+		assertThat(directory).isEqualTo(cache.resolve(".embedded-cassandra/4.0.1/apache-cassandra-4.0.1")
+				.toAbsolutePath());
+		assertThat(directory.resolve("lib/cassandra.jar")).hasBinaryContent(new byte[]{1, 2, 3});
+		assertThat(directory.getParent()).isDirectoryNotContaining("glob:**/apache-cassandra-4.0.1-*");
+	}
+
+	@Test
+	void sameLayoutAsWebCassandraDirectoryProvider() throws IOException {
+		Path cache = this.temporaryFolder.resolve("cache");
+		Path versionDirectory = Files.createDirectories(cache.resolve(".embedded-cassandra/4.0.1"));
+		Files.createDirectories(versionDirectory.resolve("apache-cassandra-4.0.1"));
+		LocalCassandraDirectoryProvider provider = new LocalCassandraDirectoryProvider(cache, true);
+		assertThat(provider.isPresent(this.version)).isFalse();
+		Files.createFile(versionDirectory.resolve(".success"));
+		assertThat(provider.getDirectory(this.version))
+				.isEqualTo(versionDirectory.resolve("apache-cassandra-4.0.1").toAbsolutePath());
+	}
+
+	@Test
+	void acquireKeepsVersionUntilClosed() throws IOException {
+		Path cache = this.temporaryFolder.resolve("cache");
+		LocalCassandraDirectoryProvider provider = new LocalCassandraDirectoryProvider(cache);
+		assertThatThrownBy(() -> provider.acquire(this.version)).isInstanceOf(FileNotFoundException.class);
+		provider.store(this.version, this.cassandraHome);
+		CassandraCacheManager cacheManager = new CassandraCacheManager(cache, CacheEvictionPolicy.ofMaxBytes(1));
+		try (CassandraDirectoryProvider.Lease lease = provider.acquire(this.version)) {
+			assertThat(lease.getDirectory()).isEqualTo(provider.getDirectory(this.version));
+			assertThat(cacheManager.evict()).isEmpty();
+		}
+		assertThat(cacheManager.evict()).containsExactly(this.version);
+		assertThat(provider.isPresent(this.version)).isFalse();
+	}
+
+	@Test
+	void storeRecordsProfile() throws IOException {
+		Path cache = this.temporaryFolder.resolve("cache");
+		Files.createFile(this.cassandraHome.resolve("bin/cqlsh"));
+		LocalCassandraDirectoryProvider server = new LocalCassandraDirectoryProvider(cache) {
+
+			@Override
+			protected DistributionProfile getDistributionProfile() {
+				return DistributionProfile.server();
+			}
+
+		};
+		assertThat(server.store(this.version, this.cassandraHome)).isTrue();
+		Path directory = server.getDirectory(this.version);
+		assertThat(directory.resolve("lib/cassandra.jar")).exists();
+		assertThat(directory.resolve("bin/cqlsh")).doesNotExist();
+		assertThat(directory.resolveSibling(".profile")).hasContent(DistributionProfile.server().toString());
+		LocalCassandraDirectoryProvider defaults = new LocalCassandraDirectoryProvider(cache);
+		assertThat(defaults.isPresent(this.version)).isFalse();
+		assertThatThrownBy(() -> defaults.getDirectory(this.version)).isInstanceOf(FileNotFoundException.class);
+		assertThat(defaults.store(this.version, this.cassandraHome)).isTrue();
+		assertThat(defaults.getDirectory(this.version).resolve("bin/cqlsh")).exists();
+		assertThat(server.isPresent(this.version)).isFalse();
+	}
+
+	@Test
+	void storeRejectsDirectoryOfAnotherProfile() throws IOException {
+		LocalCassandraDirectoryProvider provider = new LocalCassandraDirectoryProvider(
+				this.temporaryFolder.resolve("cache"));
+		assertThat(provider.store(this.version, this.cassandraHome, DistributionProfile.server())).isFalse();
+		assertThat(provider.isPresent(this.version)).isFalse();
+		assertThat(provider.store(this.version, this.cassandraHome, DistributionProfile.defaults())).isTrue();
+		assertThat(provider.isPresent(this.version)).isTrue();
+	}
+
+	@Test
+	void readOnlyCannotBeStored() {
+		LocalCassandraDirectoryProvider provider = new LocalCassandraDirectoryProvider(
+				this.temporaryFolder.resolve("cache"), true);
+		assertThat(provider.isReadOnly()).isTrue();
+		assertThatThrownBy(() -> provider.store(this.version, this.cassandraHome))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+}
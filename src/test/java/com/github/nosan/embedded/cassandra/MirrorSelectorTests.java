@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.commons.web.JdkHttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MirrorSelector}.
+ *
+ * @author Dmytro Nosan
+ */
+class MirrorSelectorTests {
+
+	private final JdkHttpClient httpClient = new JdkHttpClient(Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+	private HttpServer httpServer;
+
+	private Path statsFile;
+
+	@BeforeEach
+	void setUp(@TempDir Path temporaryFolder) throws IOException {
+		this.statsFile = temporaryFolder.resolve("mirrors.properties");
+		this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.httpServer.setExecutor(Executors.newCachedThreadPool());
+		this.httpServer.createContext("/", exchange -> {
+			if (exchange.getRequestURI().getPath().startsWith("/slow")) {
+				try {
+					Thread.sleep(3000);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			int status = exchange.getRequestURI().getPath().startsWith("/missing") ? 404 : 200;
+			exchange.sendResponseHeaders(status, -1);
+			exchange.close();
+		});
+		this.httpServer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.httpServer.stop(0);
+		((ExecutorService) this.httpServer.getExecutor()).shutdownNow();
+	}
+
+	@Test
+	void unavailableCandidatesAreLast() {
+		MirrorSelector selector = new MirrorSelector(this.httpClient, this.statsFile);
+		URI missing = uri("missing/4.0.1/apache-cassandra-4.0.1-bin.tar.gz");
+		URI unreachable = URI.create("http://localhost:1/4.0.1/apache-cassandra-4.0.1-bin.tar.gz");
+		URI available = uri("archive/4.0.1/apache-cassandra-4.0.1-bin.tar.gz");
+		assertThat(selector.select(Arrays.asList(missing, unreachable, available)))
+				.containsExactly(available, missing, unreachable);
+	}
+
+	@Test
+	void historyOrdersCandidates() {
+		URI slow = URI.create("http://localhost:1/cassandra/4.0.1/apache-cassandra-4.0.1-bin.tar.gz");
+		URI fast = URI.create("http://localhost:2/cassandra/4.0.1/apache-cassandra-4.0.1-bin.tar.gz");
+		URI failing = URI.create("http://localhost:3/cassandra/4.0.1/apache-cassandra-4.0.1-bin.tar.gz");
+		MirrorSelector selector = new MirrorSelector(this.httpClient, this.statsFile);
+		selector.recordSuccess(slow, 1000, Duration.ofSeconds(10));
+		selector.recordSuccess(fast, 1000, Duration.ofSeconds(1));
+		selector.recordSuccess(failing, 1000, Duration.ofMillis(1));
+		selector.recordFailure(failing);
+		assertThat(this.statsFile).exists();
+		MirrorSelector other = new MirrorSelector(this.httpClient, this.statsFile);
+		assertThat(other.select(Arrays.asList(failing, slow, fast))).containsExactly(fast, slow, failing);
+	}
+
+	@Test
+	void successResetsFailures() {
+		URI first = URI.create("http://localhost:1/apache-cassandra-4.0.1-bin.tar.gz");
+		URI second = URI.create("http://localhost:2/apache-cassandra-4.0.1-bin.tar.gz");
+		MirrorSelector selector = new MirrorSelector(this.httpClient, this.statsFile);
+		selector.recordFailure(first);
+		assertThat(selector.select(Arrays.asList(first, second))).containsExactly(second, first);
+		selector.recordSuccess(first, 0, Duration.ZERO);
+		assertThat(selector.select(Arrays.asList(first, second))).containsExactly(first, second);
+	}
+
+	@Test
+	void slowCandidatesAreUnavailable() {
+		MirrorSelector selector = new MirrorSelector(this.httpClient, this.statsFile, Duration.ofMillis(500));
+		URI slow = uri("slow/4.0.1/apache-cassandra-4.0.1-bin.tar.gz");
+		URI available = uri("archive/4.0.1/apache-cassandra-4.0.1-bin.tar.gz");
+		long start = System.nanoTime();
+		assertThat(selector.select(Arrays.asList(slow, available))).containsExactly(available, slow);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void candidatesAreProbedConcurrently() {
+		MirrorSelector selector = new MirrorSelector(this.httpClient, this.statsFile, Duration.ofSeconds(30));
+		URI first = uri("slow/first/apache-cassandra-4.0.1-bin.tar.gz");
+		URI second = uri("slow/second/apache-cassandra-4.0.1-bin.tar.gz");
+		URI third = uri("slow/third/apache-cassandra-4.0.1-bin.tar.gz");
+		long start = System.nanoTime();
+		assertThat(selector.select(Arrays.asList(first, second, third))).containsExactly(first, second, third);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(6));
+	}
+
+	@Test
+	void singleCandidateIsNotProbed() {
+		URI unreachable = URI.create("http://localhost:1/apache-cassandra-4.0.1-bin.tar.gz");
+		MirrorSelector selector = new MirrorSelector(this.httpClient, this.statsFile);
+		assertThat(selector.select(Collections.singletonList(unreachable))).containsExactly(unreachable);
+		assertThat(this.statsFile).doesNotExist();
+	}
+
+	private URI uri(String path) {
+		InetSocketAddress address = this.httpServer.getAddress();
+		return URI.create(String.format("http://%s:%d/%s", address.getAddress().getHostAddress(),
+				address.getPort(), path));
+	}
+
+}
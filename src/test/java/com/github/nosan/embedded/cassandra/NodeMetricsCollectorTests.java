@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+import java.rmi.server.UnicastRemoteObject;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnectorServer;
+import javax.management.remote.JMXConnectorServerFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link NodeMetricsCollector}.
+ *
+ * @author Dmytro Nosan
+ */
+class NodeMetricsCollectorTests {
+
+	private static final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+	private static int port;
+
+	private static Registry registry;
+
+	private static JMXConnectorServer connectorServer;
+
+	private final Map<ObjectName, FakeMBean> mbeans = new LinkedHashMap<>();
+
+	@BeforeAll
+	static void startJmx() throws IOException {
+		try (ServerSocket ss = new ServerSocket(0)) {
+			port = ss.getLocalPort();
+		}
+		registry = LocateRegistry.createRegistry(port);
+		connectorServer = JMXConnectorServerFactory.newJMXConnectorServer(new JMXServiceURL(
+				String.format("service:jmx:rmi:///jndi/rmi://127.0.0.1:%d/jmxrmi", port)), null, server);
+		connectorServer.start();
+	}
+
+	@AfterAll
+	static void stopJmx() throws IOException {
+		connectorServer.stop();
+		UnicastRemoteObject.unexportObject(registry, true);
+	}
+
+	@AfterEach
+	void unregister() throws JMException {
+		for (ObjectName name : this.mbeans.keySet()) {
+			server.unregisterMBean(name);
+		}
+	}
+
+	@Test
+	void poll() throws Exception {
+		Map<String, Object> latency = new LinkedHashMap<>();
+		latency.put("Count", 42L);
+		latency.put("Mean", 1500.0);
+		latency.put("50thPercentile", 1000.0);
+		latency.put("95thPercentile", 2500.5);
+		latency.put("99thPercentile", 4000.0);
+		latency.put("Max", 10000.0);
+		latency.put("DurationUnit", "microseconds");
+		register("org.apache.cassandra.metrics:type=ClientRequest,scope=Write,name=Latency", latency);
+		register("org.apache.cassandra.metrics:type=Compaction,name=PendingTasks",
+				Collections.singletonMap("Value", 3));
+		register("org.apache.cassandra.metrics:type=ThreadPools,path=request,scope=MutationStage,name=PendingTasks",
+				Collections.singletonMap("Value", 7));
+		register("org.apache.cassandra.metrics:type=ThreadPools,path=request,scope=MutationStage,name=ActiveTasks",
+				Collections.singletonMap("Value", 2));
+		try (NodeMetricsCollector collector = new NodeMetricsCollector(InetAddress.getLoopbackAddress(), port)) {
+			NodeMetrics metrics = collector.poll();
+			NodeMetrics.Latency write = metrics.getWriteLatency();
+			assertThat(write.getCount()).isEqualTo(42);
+			assertThat(write.getMean()).isEqualTo(Duration.ofNanos(1_500_000));
+			assertThat(write.getP50()).isEqualTo(Duration.ofMillis(1));
+			assertThat(write.getP95()).isEqualTo(Duration.ofNanos(2_500_500));
+			assertThat(write.getP99()).isEqualTo(Duration.ofMillis(4));
+			assertThat(write.getMax()).isEqualTo(Duration.ofMillis(10));
+			assertThat(metrics.getReadLatency().getCount()).isZero();
+			assertThat(metrics.getReadLatency().getP99()).isEqualTo(Duration.ZERO);
+			assertThat(metrics.getPendingCompactions()).isEqualTo(3);
+			assertThat(metrics.getThreadPools()).containsOnlyKeys("MutationStage");
+			assertThat(metrics.getThreadPools().get("MutationStage").getActiveTasks()).isEqualTo(2);
+			assertThat(metrics.getPendingTasks()).isEqualTo(7);
+			assertThat(metrics.getHeap()).isNotNull();
+			assertThat(metrics.getHeap().getUsed()).isPositive();
+			assertThat(metrics.getGarbageCollectors()).isNotEmpty();
+			assertThat(metrics.getGcCount()).isNotNegative();
+			latency.put("Count", 43L);
+			assertThat(collector.poll().getWriteLatency().getCount()).isEqualTo(43);
+		}
+	}
+
+	@Test
+	void pollAfterClose() throws Exception {
+		register("org.apache.cassandra.metrics:type=Compaction,name=PendingTasks",
+				Collections.singletonMap("Value", 1));
+		NodeMetricsCollector collector = new NodeMetricsCollector(InetAddress.getLoopbackAddress(), port);
+		assertThat(collector.poll().getPendingCompactions()).isEqualTo(1);
+		collector.close();
+		assertThat(collector.poll().getPendingCompactions()).isEqualTo(1);
+		collector.close();
+	}
+
+	@Test
+	void pollUnreachable() throws IOException {
+		int port;
+		try (ServerSocket ss = new ServerSocket(0)) {
+			port = ss.getLocalPort();
+		}
+		try (NodeMetricsCollector collector = new NodeMetricsCollector(InetAddress.getLoopbackAddress(), port)) {
+			assertThatThrownBy(collector::poll).isInstanceOf(IOException.class);
+		}
+	}
+
+	@Test
+	void ofSettings() {
+		Settings settings = Mockito.mock(Settings.class);
+		Mockito.when(settings.getSystemProperties()).thenReturn(Collections.singletonMap("cassandra.jmx.local.port",
+				"7299"));
+		assertThat(NodeMetricsCollector.of(settings).toString()).contains("127.0.0.1:7299");
+		Mockito.when(settings.getSystemProperties()).thenReturn(Collections.emptyMap());
+		assertThat(NodeMetricsCollector.of(settings).toString()).contains("127.0.0.1:7199");
+	}
+
+	@Test
+	void invalidPort() {
+		assertThatThrownBy(() -> new NodeMetricsCollector(InetAddress.getLoopbackAddress(), 0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void register(String name, Map<String, Object> attributes) throws JMException {
+		ObjectName objectName = new ObjectName(name);
+		FakeMBean mbean = new FakeMBean(attributes);
+		server.registerMBean(mbean, objectName);
+		this.mbeans.put(objectName, mbean);
+	}
+
+	private static final class FakeMBean implements DynamicMBean {
+
+		private final Map<String, Object> attributes;
+
+		FakeMBean(Map<String, Object> attributes) {
+			this.attributes = attributes;
+		}
+
+		@Override
+		public Object getAttribute(String attribute) throws AttributeNotFoundException {
+			if (!this.attributes.containsKey(attribute)) {
+				throw new AttributeNotFoundException(attribute);
+			}
+			return this.attributes.get(attribute);
+		}
+
+		@Override
+		public void setAttribute(Attribute attribute) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public AttributeList getAttributes(String[] attributes) {
+			AttributeList list = new AttributeList();
+			for (String attribute : attributes) {
+				if (this.attributes.containsKey(attribute)) {
+					list.add(new Attribute(attribute, this.attributes.get(attribute)));
+				}
+			}
+			return list;
+		}
+
+		@Override
+		public AttributeList setAttributes(AttributeList attributes) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Object invoke(String actionName, Object[] params, String[] signature) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public MBeanInfo getMBeanInfo() {
+			MBeanAttributeInfo[] attributes = this.attributes.entrySet().stream()
+					.map(entry -> new MBeanAttributeInfo(entry.getKey(), entry.getValue().getClass().getName(), "",
+							true, false, false))
+					.toArray(MBeanAttributeInfo[]::new);
+			return new MBeanInfo(FakeMBean.class.getName(), "", attributes, null, null, null);
+		}
+
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link PrefetchingCassandraDirectoryProvider}.
+ *
+ * @author Dmytro Nosan
+ */
+class PrefetchingCassandraDirectoryProviderTests {
+
+	private static final Version VERSION = Version.parse("4.1.5");
+
+	private static final Path DIRECTORY = Paths.get("apache-cassandra-4.1.5");
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@Test
+	void getDirectoryJoinsPrefetch() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PrefetchingCassandraDirectoryProvider directoryProvider = new PrefetchingCassandraDirectoryProvider(
+				version -> {
+					this.calls.incrementAndGet();
+					started.countDown();
+					await(release);
+					return DIRECTORY;
+				});
+		CompletableFuture<Path> prefetch = directoryProvider.prefetch(VERSION);
+		assertThat(directoryProvider.prefetch(VERSION)).isSameAs(prefetch);
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Path> directory = CompletableFuture.supplyAsync(() -> {
+			try {
+				return directoryProvider.getDirectory(VERSION);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		Thread.sleep(100);
+		assertThat(directory).isNotDone();
+		release.countDown();
+		assertThat(directory.get(5, TimeUnit.SECONDS)).isEqualTo(DIRECTORY);
+		assertThat(prefetch.get(5, TimeUnit.SECONDS)).isEqualTo(DIRECTORY);
+		assertThat(this.calls).hasValue(1);
+	}
+
+	@Test
+	void getDirectoryWithoutPrefetch() throws IOException {
+		PrefetchingCassandraDirectoryProvider directoryProvider = new PrefetchingCassandraDirectoryProvider(
+				version -> {
+					this.calls.incrementAndGet();
+					return DIRECTORY;
+				}, Runnable::run);
+		assertThat(directoryProvider.getDirectory(VERSION)).isEqualTo(DIRECTORY);
+		assertThat(directoryProvider.prefetch(VERSION)).isCompletedWithValue(DIRECTORY);
+		assertThat(directoryProvider.getDirectory(VERSION)).isEqualTo(DIRECTORY);
+		assertThat(this.calls).hasValue(3);
+	}
+
+	@Test
+	void failedPrefetchIsRetried() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		PrefetchingCassandraDirectoryProvider directoryProvider = new PrefetchingCassandraDirectoryProvider(
+				version -> {
+					if (this.calls.incrementAndGet() == 1) {
+						await(release);
+						throw new IOException("Connection reset");
+					}
+					return DIRECTORY;
+				});
+		CompletableFuture<Path> prefetch = directoryProvider.prefetch(VERSION);
+		CompletableFuture<Path> directory = CompletableFuture.supplyAsync(() -> {
+			try {
+				return directoryProvider.getDirectory(VERSION);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		release.countDown();
+		assertThatThrownBy(() -> prefetch.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+				.hasRootCauseMessage("Connection reset");
+		assertThat(directory.get(5, TimeUnit.SECONDS)).isEqualTo(DIRECTORY);
+		assertThat(this.calls).hasValue(2);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
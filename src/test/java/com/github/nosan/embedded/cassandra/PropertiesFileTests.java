@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PropertiesFile}.
+ *
+ * @author Dmytro Nosan
+ */
+class PropertiesFileTests {
+
+	@Test
+	void saveAndLoad(@TempDir Path directory) throws Exception {
+		PropertiesFile file = new PropertiesFile(directory.resolve("nested/test.properties"), "test");
+		assertThat(file.load()).isEmpty();
+		Properties properties = new Properties();
+		properties.setProperty("count", "10");
+		properties.setProperty("rate", "1.5");
+		file.save(properties);
+		Properties loaded = file.load();
+		assertThat(loaded).isEqualTo(properties);
+		assertThat(PropertiesFile.getLong(loaded, "count")).isEqualTo(10);
+		assertThat(PropertiesFile.getDouble(loaded, "rate")).isEqualTo(1.5);
+		try (Stream<Path> files = Files.list(directory.resolve("nested"))) {
+			assertThat(files).containsExactly(directory.resolve("nested/test.properties"));
+		}
+	}
+
+	@Test
+	void malformedValues(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("test.properties");
+		Files.writeString(path, "count=abc\nrate=\\u00");
+		PropertiesFile file = new PropertiesFile(path, "test");
+		Properties properties = file.load();
+		assertThat(properties).doesNotContainKey("rate");
+		assertThat(PropertiesFile.getLong(properties, "count")).isZero();
+		assertThat(PropertiesFile.getDouble(properties, "count")).isZero();
+		assertThat(PropertiesFile.getLong(properties, "missing")).isZero();
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.commons.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SSTableWorkingDirectoryCustomizer}.
+ *
+ * @author Dmytro Nosan
+ */
+class SSTableWorkingDirectoryCustomizerTests {
+
+	private static final String INSERT = "INSERT INTO test.users (id, name) VALUES (?, ?)";
+
+	private final List<List<?>> rows = List.of(List.of(1, "a"), List.of(2, "b"));
+
+	@Test
+	void getSchema() {
+		UUID id = UUID.fromString("7c698c39-2c4e-310f-b64c-ea56eda4c1eb");
+		assertThat(new SSTableWorkingDirectoryCustomizer("CREATE TABLE test.users (id int PRIMARY KEY, name text);",
+				INSERT, this.rows, id).getSchema())
+				.isEqualTo("CREATE TABLE test.users (id int PRIMARY KEY, name text) WITH ID = " + id);
+		assertThat(new SSTableWorkingDirectoryCustomizer("CREATE TABLE test.users (id int, \"with\" text, "
+				+ "PRIMARY KEY (id)) WITH comment = 'with'", INSERT, this.rows, id).getSchema())
+				.endsWith("WITH comment = 'with' AND ID = " + id);
+	}
+
+	@Test
+	void getTableId() throws Exception {
+		SSTableWorkingDirectoryCustomizer customizer = new SSTableWorkingDirectoryCustomizer(
+				"CREATE TABLE Test.Users (id int PRIMARY KEY)", INSERT, this.rows);
+		assertThat(customizer.getTableId()).isEqualTo(new SSTableWorkingDirectoryCustomizer(
+				"CREATE TABLE test.users (id int PRIMARY KEY)", INSERT, this.rows).getTableId());
+		assertThat(customizer.getTableDirectory(Path.of("wd"))).isEqualTo(Path.of("wd", "data", "data", "test",
+				"users-" + customizer.getTableId().toString().replace("-", "")));
+	}
+
+	@Test
+	void tableDirectoryResolvedFromDataFileDirectories(@TempDir Path workingDirectory) throws Exception {
+		SSTableWorkingDirectoryCustomizer customizer = new SSTableWorkingDirectoryCustomizer(
+				"CREATE TABLE test.users (id int PRIMARY KEY)", INSERT, this.rows);
+		String table = "users-" + customizer.getTableId().toString().replace("-", "");
+		Files.createDirectories(workingDirectory.resolve("conf"));
+		Files.writeString(workingDirectory.resolve("conf/cassandra.yaml"),
+				"data_file_directories:\n    - storage/first\n    - storage/second\n");
+		assertThat(customizer.getTableDirectory(workingDirectory))
+				.isEqualTo(workingDirectory.resolve("storage/first/test").resolve(table));
+		Path configFile = workingDirectory.resolve("custom.yaml");
+		Path absolute = workingDirectory.resolve("absolute").toAbsolutePath();
+		Files.writeString(configFile, "data_file_directories:\n    - " + absolute + "\n");
+		assertThat(customizer.withConfigFile(new FileSystemResource(configFile)).getTableDirectory(workingDirectory))
+				.isEqualTo(absolute.resolve("test").resolve(table));
+		Files.writeString(workingDirectory.resolve("conf/cassandra.yaml"), "cluster_name: test\n");
+		assertThat(customizer.getTableDirectory(workingDirectory))
+				.isEqualTo(workingDirectory.resolve("data/data/test").resolve(table));
+	}
+
+	@Test
+	void writerUsesJavaHome(@TempDir Path workingDirectory) throws Exception {
+		Files.createDirectories(workingDirectory.resolve("lib"));
+		Path javaHome = workingDirectory.resolve("jdk");
+		SSTableWorkingDirectoryCustomizer customizer = new SSTableWorkingDirectoryCustomizer(
+				"CREATE TABLE test.users (id int PRIMARY KEY, name text)", INSERT, this.rows).withJavaHome(javaHome);
+		assertThatThrownBy(() -> customizer.customize(workingDirectory, CassandraBuilder.DEFAULT_VERSION))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining(javaHome.resolve("bin").resolve("java").toString());
+	}
+
+	@Test
+	void invalidSchema() {
+		assertThatThrownBy(() -> new SSTableWorkingDirectoryCustomizer("CREATE TABLE users (id int PRIMARY KEY)",
+				INSERT, this.rows)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new SSTableWorkingDirectoryCustomizer("SELECT * FROM test.users",
+				INSERT, this.rows)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void libDirectoryDoesNotExist(@TempDir Path workingDirectory) {
+		SSTableWorkingDirectoryCustomizer customizer = new SSTableWorkingDirectoryCustomizer(
+				"CREATE TABLE test.users (id int PRIMARY KEY, name text)", INSERT, this.rows);
+		assertThatThrownBy(() -> customizer.customize(workingDirectory, CassandraBuilder.DEFAULT_VERSION))
+				.isInstanceOf(IllegalStateException.class).hasMessageContaining("does not exist");
+	}
+
+	@Test
+	void writerIsNotAvailable(@TempDir Path workingDirectory) throws Exception {
+		Files.createDirectories(workingDirectory.resolve("lib"));
+		SSTableWorkingDirectoryCustomizer customizer = new SSTableWorkingDirectoryCustomizer(
+				"CREATE TABLE test.users (id int PRIMARY KEY, name text)", INSERT, this.rows);
+		assertThatThrownBy(() -> customizer.customize(workingDirectory, CassandraBuilder.DEFAULT_VERSION))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("Unable to write SSTables for 'test.users'")
+				.hasMessageContaining("ClassNotFoundException");
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link VersionRange}.
+ *
+ * @author Dmytro Nosan
+ */
+class VersionRangeTests {
+
+	private static final List<Version> VERSIONS = Arrays.asList(Version.parse("3.11.17"), Version.parse("4.0.13"),
+			Version.parse("4.1.4"), Version.parse("4.1.5"), Version.parse("5.0-beta1"), Version.parse("5.0.2"));
+
+	@Test
+	void latest() {
+		assertThat(VersionRange.parse("latest").select(VERSIONS)).hasValue(Version.parse("5.0.2"));
+		assertThat(VersionRange.parse("*").select(VERSIONS)).hasValue(Version.parse("5.0.2"));
+	}
+
+	@Test
+	void wildcard() {
+		assertThat(VersionRange.parse("4.1.x").select(VERSIONS)).hasValue(Version.parse("4.1.5"));
+		assertThat(VersionRange.parse("4.*").select(VERSIONS)).hasValue(Version.parse("4.1.5"));
+		assertThat(VersionRange.parse("3.x").select(VERSIONS)).hasValue(Version.parse("3.11.17"));
+		assertThat(VersionRange.parse("4.2.x").select(VERSIONS)).isEmpty();
+	}
+
+	@Test
+	void interval() {
+		assertThat(VersionRange.parse("[4.0,4.1)").select(VERSIONS)).hasValue(Version.parse("4.0.13"));
+		assertThat(VersionRange.parse("[4.1.4,4.1.5)").select(VERSIONS)).hasValue(Version.parse("4.1.4"));
+		assertThat(VersionRange.parse("[4.1.4,4.1.5]").select(VERSIONS)).hasValue(Version.parse("4.1.5"));
+		assertThat(VersionRange.parse("(4.1.5,]").select(VERSIONS)).hasValue(Version.parse("5.0.2"));
+		assertThat(VersionRange.parse("(,4.0)").select(VERSIONS)).hasValue(Version.parse("3.11.17"));
+	}
+
+	@Test
+	void labelledVersionsAreNotContained() {
+		assertThat(VersionRange.parse("5.0.x").contains(Version.parse("5.0-beta1"))).isFalse();
+		assertThat(VersionRange.parse("5.0.x").contains(Version.parse("5.0.2"))).isTrue();
+	}
+
+	@Test
+	void invalid() {
+		for (String range : Arrays.asList("4.1.5", "4.1", "4.x.1", "[4.1,4.0]", "[4.1;4.2]", "[a,4.2]", "  ")) {
+			assertThat(VersionRange.isRange(range)).isFalse();
+			assertThatThrownBy(() -> VersionRange.parse(range)).hasStackTraceContaining("Version Range")
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	void equalsAndToString() {
+		assertThat(VersionRange.parse(" 4.1.x ")).isEqualTo(VersionRange.parse("4.1.x")).hasToString("4.1.x");
+	}
+
+}
@@ -29,17 +29,24 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -51,13 +58,20 @@ import org.junit.jupiter.api.io.TempDir;
 import com.github.nosan.embedded.cassandra.WebCassandraDirectoryProvider.CassandraPackage;
 import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
 import com.github.nosan.embedded.cassandra.commons.StreamUtils;
+import com.github.nosan.embedded.cassandra.commons.function.IOSupplier;
+import com.github.nosan.embedded.cassandra.commons.web.HttpClient;
+import com.github.nosan.embedded.cassandra.commons.web.HttpRequest;
+import com.github.nosan.embedded.cassandra.commons.web.HttpResponse;
+import com.github.nosan.embedded.cassandra.commons.web.JavaNetHttpClient;
 import com.github.nosan.embedded.cassandra.commons.web.JdkHttpClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link WebCassandraDirectoryProvider}.
@@ -276,6 +290,180 @@ class WebCassandraDirectoryProviderTests {
 		assertThat(this.out.toString()).contains("100%");
 	}
 
+	@Test
+	void downloadAndExtractJavaNetHttpClient(@TempDir Path root) throws IOException {
+		Version version = Version.parse("4.0.1");
+		this.directoryProvider = spy(new WebCassandraDirectoryProvider(
+				new JavaNetHttpClient(Duration.ofSeconds(5), Duration.ofSeconds(5)), root));
+		List<CassandraPackage> packages = new ArrayList<>();
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), Collections.singletonMap("SHA-512",
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz.sha512", getBaseUri(),
+						version)))));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+		Path directory = this.directoryProvider.getDirectory(version);
+		assertDirectory(directory);
+		assertThat(this.out.toString()).contains("Checksums are identical");
+		assertThat(this.out.toString()).contains("100%");
+	}
+
+	@Test
+	void downloadAndExtractFromMirrors(@TempDir Path root) throws IOException {
+		Version version = Version.parse("4.0.1");
+		URI unreachable = URI.create("http://localhost:1/cassandra");
+		URI mirror = URI.create(getBaseUri() + "/cassandra/");
+		this.directoryProvider = new WebCassandraDirectoryProvider(httpClient, root,
+				Arrays.asList(unreachable, mirror));
+		Path directory = this.directoryProvider.getDirectory(version);
+		assertDirectory(directory);
+		assertThat(this.out.toString()).contains(String.format("from URI: ''%1$s/cassandra/%2$s/apache-cassandra"
+				+ "-%2$s-bin.tar.gz''", getBaseUri(), version)).doesNotContain("localhost:1");
+		assertThat(root.resolve(".embedded-cassandra").resolve("mirrors.properties")).exists();
+	}
+
+	@Test
+	void downloadAndExtractReportsProgress() throws IOException {
+		Version version = Version.parse("4.0.1");
+		List<DownloadProgress> progress = new CopyOnWriteArrayList<>();
+		doReturn((DownloadProgressListener) progress::add).when(this.directoryProvider).getProgressListener();
+		doReturn(BandwidthLimiter.of(1024 * 1024, 64 * 1024)).when(this.directoryProvider).getBandwidthLimiter();
+		List<CassandraPackage> packages = new ArrayList<>();
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), Collections.emptyMap()));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+		long start = System.nanoTime();
+		assertDirectory(this.directoryProvider.getDirectory(version));
+		// the archive is larger than the burst, so the remaining bytes are limited to 1 MB/s
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+		assertThat(progress).isNotEmpty();
+		DownloadProgress last = progress.get(progress.size() - 1);
+		assertThat(last.isCompleted()).isTrue();
+		assertThat(last.getBytesRead()).isEqualTo(last.getTotalBytes()).isPositive();
+		assertThat(last.getEta()).hasValue(Duration.ZERO);
+		assertThat(last.getRate()).isPositive();
+		assertThat(progress.subList(0, progress.size() - 1)).allMatch(p -> !p.isCompleted());
+	}
+
+	@Test
+	void downloadAndExtractEvictsLeastRecentlyUsed(@TempDir Path root) throws IOException {
+		Version version = Version.parse("4.0.1");
+		this.directoryProvider = spy(new WebCassandraDirectoryProvider(httpClient, root));
+		Path oldVersion = Files.createDirectories(root.resolve(".embedded-cassandra/3.11.12/apache-cassandra-3.11.12"));
+		Files.createFile(oldVersion.resolveSibling(".success"));
+		doReturn(CacheEvictionPolicy.ofMaxVersions(1)).when(this.directoryProvider).getCacheEvictionPolicy();
+		List<CassandraPackage> packages = new ArrayList<>();
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), Collections.emptyMap()));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+		Path directory = this.directoryProvider.getDirectory(version);
+		assertDirectory(directory);
+		assertThat(directory.resolveSibling(".last-used")).exists();
+		assertThat(oldVersion).doesNotExist();
+		assertThat(this.out.toString()).contains("Evicted Cassandra ''3.11.12''");
+	}
+
+	@Test
+	void downloadAndExtractServerProfile() throws IOException {
+		Version version = Version.parse("4.0.1");
+		doReturn(DistributionProfile.server()).when(this.directoryProvider).getDistributionProfile();
+		List<CassandraPackage> packages = new ArrayList<>();
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), Collections.emptyMap()));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+		Path directory = this.directoryProvider.getDirectory(version);
+		assertDirectory(directory);
+		assertThat(directory.resolve("bin/cassandra")).isRegularFile();
+		assertThat(directory.resolve("bin/cqlsh")).doesNotExist();
+		assertThat(directory.resolve("bin/cassandra.bat")).doesNotExist();
+		assertThat(directory.resolve("tools")).doesNotExist();
+		assertThat(directory.resolve("pylib")).doesNotExist();
+	}
+
+	@Test
+	void downloadAndExtractAgainWhenProfileChanged() throws IOException {
+		Version version = Version.parse("4.0.1");
+		List<CassandraPackage> packages = new ArrayList<>();
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), Collections.emptyMap()));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+		Path directory = this.directoryProvider.getDirectory(version);
+		assertThat(directory.resolve("bin/cqlsh")).isRegularFile();
+		assertThat(directory.resolveSibling(".profile")).hasContent(DistributionProfile.defaults().toString());
+		this.directoryProvider.getDirectory(version);
+		assertThat(this.out.toString()).containsOnlyOnce("Extracting");
+
+		doReturn(DistributionProfile.server()).when(this.directoryProvider).getDistributionProfile();
+		assertThat(this.directoryProvider.getDirectory(version)).isEqualTo(directory);
+		assertDirectory(directory);
+		assertThat(directory.resolve("bin/cqlsh")).doesNotExist();
+		assertThat(directory.resolveSibling(".profile")).hasContent(DistributionProfile.server().toString());
+		assertThat(this.out.toString()).contains("was not extracted with");
+	}
+
+	@Test
+	void downloadAndExtractRecordsMetrics() throws IOException {
+		Version version = Version.parse("4.0.1");
+		List<CassandraPackage> packages = new ArrayList<>();
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), Collections.singletonMap("SHA-512",
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz.sha512", getBaseUri(),
+						version)))));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+		InMemoryCassandraMetrics metrics = new InMemoryCassandraMetrics();
+		CassandraMetrics previous = MetricsContext.set(metrics);
+		try {
+			this.directoryProvider.getDirectory(version);
+		}
+		finally {
+			MetricsContext.restore(previous);
+		}
+		assertThat(metrics.getCount(CassandraMetrics.Phase.DOWNLOAD)).isEqualTo(1);
+		assertThat(metrics.getCount(CassandraMetrics.Phase.VERIFY)).isEqualTo(1);
+		assertThat(metrics.getCount(CassandraMetrics.Phase.EXTRACT)).isEqualTo(1);
+		assertThat(metrics.getBytes(CassandraMetrics.Phase.DOWNLOAD)).isEqualTo(
+				Files.size(Paths.get(new ClassPathResource("apache-cassandra-4.0.1-bin.tar.gz").toURI())));
+		assertThat(metrics.getBytes(CassandraMetrics.Phase.EXTRACT)).isPositive();
+	}
+
+	@Test
+	void downloadAndExtractEmitsEvents(@TempDir Path temporaryFolder) throws IOException {
+		Version version = Version.parse("4.0.1");
+		List<CassandraPackage> packages = new ArrayList<>();
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), Collections.singletonMap("SHA-512",
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz.sha512", getBaseUri(),
+						version)))));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+		Path recordingFile = temporaryFolder.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("com.github.nosan.embedded.cassandra.Download").withoutThreshold();
+			recording.enable("com.github.nosan.embedded.cassandra.Verify").withoutThreshold();
+			recording.enable("com.github.nosan.embedded.cassandra.Extract").withoutThreshold();
+			recording.start();
+			this.directoryProvider.getDirectory(version);
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+		Map<String, RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+				.collect(Collectors.toMap((event) -> event.getEventType().getName(), (event) -> event,
+						(first, second) -> first));
+		long size = Files.size(Paths.get(new ClassPathResource("apache-cassandra-4.0.1-bin.tar.gz").toURI()));
+		RecordedEvent download = events.get("com.github.nosan.embedded.cassandra.Download");
+		assertThat(download.getString("version")).isEqualTo("4.0.1");
+		assertThat(download.getLong("bytes")).isEqualTo(size);
+		assertThat(events.get("com.github.nosan.embedded.cassandra.Verify").getLong("bytes")).isEqualTo(size);
+		RecordedEvent extract = events.get("com.github.nosan.embedded.cassandra.Extract");
+		assertThat(extract.getLong("bytes")).isPositive();
+		assertThat(extract.getLong("fileCount")).isPositive();
+	}
+
 	@Test
 	void downloadAndExtractChecksumsAreNotPresent() throws IOException {
 		Version version = Version.parse("4.0.1");
@@ -317,6 +505,81 @@ class WebCassandraDirectoryProviderTests {
 		assertThat(this.out.toString()).doesNotContain("Checksums are identical");
 	}
 
+	@Test
+	void downloadAndExtractStrongestChecksumWins() {
+		Version version = Version.parse("4.0.1");
+
+		List<CassandraPackage> packages = new ArrayList<>();
+		Map<String, URI> checksums = new LinkedHashMap<>();
+		checksums.put("SHA-512", URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz.sha1",
+				getBaseUri(), version)));
+		checksums.put("SHA-1", URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz.sha1",
+				getBaseUri(), version)));
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), checksums));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+
+		assertThatThrownBy(() -> this.directoryProvider.getDirectory(version))
+				.hasStackTraceContaining("Checksum mismatch");
+		assertThat(this.out.toString()).doesNotContain("Checksums are identical");
+	}
+
+	@Test
+	void downloadAndExtractSkipsUnsupportedChecksum() throws IOException {
+		Version version = Version.parse("4.0.1");
+
+		List<CassandraPackage> packages = new ArrayList<>();
+		Map<String, URI> checksums = new LinkedHashMap<>();
+		checksums.put("SHA-999", URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz.sha512",
+				getBaseUri(), version)));
+		checksums.put("SHA-512", URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz.sha512",
+				getBaseUri(), version)));
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s-bin.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz", getBaseUri(),
+						version)), checksums));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+
+		assertDirectory(this.directoryProvider.getDirectory(version));
+		assertThat(this.out.toString()).contains("Checksum algorithm ''SHA-999'' is not supported");
+		assertThat(this.out.toString()).contains("Checksums are identical");
+	}
+
+	@Test
+	void failDownloadClosesChecksumResponsesInFlight(@TempDir Path root) throws IOException {
+		CompletableFuture<HttpResponse> checksum = new CompletableFuture<>();
+		HttpClient client = new HttpClient() {
+
+			@Override
+			public HttpResponse send(HttpRequest httpRequest, IOSupplier<? extends InputStream> bodySupplier)
+					throws IOException {
+				return httpClient.send(httpRequest, bodySupplier);
+			}
+
+			@Override
+			public CompletableFuture<HttpResponse> sendAsync(HttpRequest httpRequest) {
+				if (httpRequest.getUri().getPath().endsWith(".sha512")) {
+					return checksum;
+				}
+				return HttpClient.super.sendAsync(httpRequest);
+			}
+
+		};
+		this.directoryProvider = spy(new WebCassandraDirectoryProvider(client, root));
+		Version version = Version.parse("4.0.1");
+		List<CassandraPackage> packages = new ArrayList<>();
+		packages.add(new CassandraPackage(String.format("apache-cassandra-%1$s.tar.gz", version),
+				URI.create(String.format("%1$s/%2$s/apache-cassandra-%2$s.tgz", getBaseUri(), version)),
+				Collections.singletonMap("SHA-512", URI.create(String.format(
+						"%1$s/%2$s/apache-cassandra-%2$s-bin.tar.gz.sha512", getBaseUri(), version)))));
+		doReturn(packages).when(this.directoryProvider).getCassandraPackages(version);
+		assertThatThrownBy(() -> this.directoryProvider.getDirectory(version))
+				.hasStackTraceContaining("Could not download a file");
+		HttpResponse response = mock(HttpResponse.class);
+		checksum.complete(response);
+		verify(response).close();
+	}
+
 	@Test
 	void downloadAndExtractCouldNotDownloadChecksum() throws IOException {
 		Version version = Version.parse("4.0.1");
@@ -360,6 +623,23 @@ class WebCassandraDirectoryProviderTests {
 		assertThat(this.out.toString()).doesNotContain("Checksums are identical");
 	}
 
+	@Test
+	void acquireKeepsVersionUntilClosed(@TempDir Path root) throws IOException {
+		this.directoryProvider = spy(new WebCassandraDirectoryProvider(httpClient, root));
+		Version version = Version.parse("4.0.1");
+		Path versionDirectory = root.resolve(".embedded-cassandra").resolve(version.toString());
+		Path expected = Files.createDirectories(versionDirectory.resolve(String.format("apache-cassandra-%s",
+				version)));
+		Files.write(versionDirectory.resolve(".success"), new byte[10]);
+		CassandraCacheManager cacheManager = new CassandraCacheManager(root, CacheEvictionPolicy.ofMaxBytes(1));
+		try (CassandraDirectoryProvider.Lease lease = this.directoryProvider.acquire(version)) {
+			assertThat(lease.getDirectory()).isEqualTo(expected);
+			assertThat(cacheManager.evict()).isEmpty();
+		}
+		assertThat(cacheManager.evict()).containsExactly(version);
+		assertThat(expected).doesNotExist();
+	}
+
 	@Test
 	void failToLock() throws IOException {
 		doReturn(false).when(this.directoryProvider).tryLock(any());
@@ -368,6 +648,13 @@ class WebCassandraDirectoryProviderTests {
 				.hasStackTraceContaining(" File lock could not be acquire");
 	}
 
+	@Test
+	void hedgingIsDisabledWhenBandwidthIsLimited() {
+		assertThat(this.directoryProvider.getEffectiveHedgingPolicy().isEnabled()).isTrue();
+		doReturn(BandwidthLimiter.of(1024 * 1024)).when(this.directoryProvider).getBandwidthLimiter();
+		assertThat(this.directoryProvider.getEffectiveHedgingPolicy().isEnabled()).isFalse();
+	}
+
 	@Test
 	void construct1() {
 		WebCassandraDirectoryProvider wcdp = new WebCassandraDirectoryProvider();
@@ -22,12 +22,15 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -145,6 +148,123 @@ class FileLockTests {
 		}
 	}
 
+	@Test
+	void sharedLocksAreHeldConcurrently(@TempDir Path folder) throws IOException, InterruptedException {
+		try (FileLock fl1 = FileLock.of(folder.resolve(LOCK_FILE))) {
+			assertThat(fl1.tryLock(FileLock.Mode.SHARED, 0, TimeUnit.SECONDS)).isTrue();
+			AtomicBoolean shared = new AtomicBoolean(false);
+			AtomicBoolean exclusive = new AtomicBoolean(true);
+			Thread thread = new Thread(() -> {
+				try (FileLock fl2 = FileLock.of(folder.resolve(LOCK_FILE))) {
+					shared.set(fl2.tryLock(FileLock.Mode.SHARED, 100, TimeUnit.MILLISECONDS));
+					fl2.unlock();
+					exclusive.set(fl2.tryLock(FileLock.Mode.EXCLUSIVE, 100, TimeUnit.MILLISECONDS));
+				}
+				catch (IOException ex) {
+					throw new RuntimeException(ex);
+				}
+			});
+			thread.start();
+			thread.join();
+			assertThat(shared).isTrue();
+			assertThat(exclusive).isFalse();
+		}
+	}
+
+	@Test
+	void exclusiveLockAcquiredOnceSharedLockReleased(@TempDir Path folder) throws Exception {
+		try (FileLock fl1 = FileLock.of(folder.resolve(LOCK_FILE))) {
+			fl1.lock(FileLock.Mode.SHARED);
+			AtomicBoolean success = new AtomicBoolean(false);
+			Thread thread = new Thread(() -> {
+				try (FileLock fl2 = FileLock.of(folder.resolve(LOCK_FILE))) {
+					success.set(fl2.tryLock(FileLock.Mode.EXCLUSIVE, 5, TimeUnit.SECONDS));
+				}
+				catch (IOException ex) {
+					throw new RuntimeException(ex);
+				}
+			});
+			thread.start();
+			Thread.sleep(100);
+			fl1.unlock();
+			thread.join();
+			assertThat(success).isTrue();
+			assertThat(fl1.tryLock(FileLock.Mode.SHARED, 5, TimeUnit.SECONDS)).isTrue();
+		}
+	}
+
+	@Test
+	void lockOfAnotherChannelIsWaitedFor(@TempDir Path folder) throws Exception {
+		Path file = folder.resolve(LOCK_FILE);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				FileLock fileLock = FileLock.of(file)) {
+			java.nio.channels.FileLock lock = channel.lock();
+			long start = System.nanoTime();
+			assertThat(fileLock.tryLock(200, TimeUnit.MILLISECONDS)).isFalse();
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+			AtomicBoolean success = new AtomicBoolean(false);
+			Thread thread = new Thread(() -> {
+				try {
+					success.set(fileLock.tryLock(5, TimeUnit.SECONDS));
+				}
+				catch (IOException ex) {
+					throw new RuntimeException(ex);
+				}
+			});
+			thread.start();
+			Thread.sleep(100);
+			lock.release();
+			thread.join();
+			assertThat(success).isTrue();
+		}
+	}
+
+	@Test
+	void sharedLockCannotBeUpgraded(@TempDir Path folder) throws IOException {
+		try (FileLock fileLock = FileLock.of(folder.resolve(LOCK_FILE))) {
+			assertThat(fileLock.tryLock(FileLock.Mode.SHARED, 0, TimeUnit.SECONDS)).isTrue();
+			assertThat(fileLock.tryLock(FileLock.Mode.SHARED, 0, TimeUnit.SECONDS)).isTrue();
+			assertThatThrownBy(() -> fileLock.tryLock(0, TimeUnit.SECONDS)).isInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	@Test
+	void ofDoesNotBlockWhileWaitingForAnotherProcess(@TempDir Path folder) throws Exception {
+		Path lockFile = folder.resolve(LOCK_FILE);
+		Process process = startJava(folder, Holder.class, lockFile.toAbsolutePath().toString());
+		try {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+			String line;
+			while ((line = reader.readLine()) != null && !line.equals(Holder.LOCKED)) {
+				// wait until the other process holds the lock
+			}
+			assertThat(line).isEqualTo(Holder.LOCKED);
+			AtomicBoolean waiting = new AtomicBoolean(true);
+			Thread thread = new Thread(() -> {
+				try (FileLock fileLock = FileLock.of(lockFile)) {
+					waiting.set(!fileLock.tryLock(30, TimeUnit.SECONDS));
+				}
+				catch (IOException ex) {
+					throw new RuntimeException(ex);
+				}
+			});
+			thread.start();
+			Thread.sleep(200);
+			long start = System.nanoTime();
+			try (FileLock fileLock = FileLock.of(lockFile)) {
+				assertThat(fileLock.tryLock(0, TimeUnit.SECONDS)).isFalse();
+				assertThat(fileLock.tryLock(FileLock.Mode.SHARED, 0, TimeUnit.SECONDS)).isFalse();
+			}
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+			process.getOutputStream().close();
+			thread.join();
+			assertThat(waiting).isFalse();
+		}
+		finally {
+			process.destroyForcibly().waitFor();
+		}
+	}
+
 	@RepeatedTest(10)
 	void successTryLockWithMultiProcesses(@TempDir Path folder) throws Exception {
 		Path fileLock = folder.resolve(LOCK_FILE);
@@ -177,6 +297,10 @@ class FileLockTests {
 	}
 
 	private static Process start(Path folder, Path lockFile, Path file) throws IOException {
+		return startJava(folder, Suite.class, lockFile.toAbsolutePath().toString(), file.toAbsolutePath().toString());
+	}
+
+	private static Process startJava(Path folder, Class<?> mainClass, String... args) throws IOException {
 		ProcessBuilder builder = new ProcessBuilder();
 		builder.redirectErrorStream(true);
 		builder.directory(folder.toFile());
@@ -189,9 +313,8 @@ class FileLockTests {
 		}
 		builder.command().add("-cp");
 		builder.command().add(System.getProperty("java.class.path"));
-		builder.command().add(Suite.class.getTypeName());
-		builder.command().add(lockFile.toAbsolutePath().toString());
-		builder.command().add(file.toAbsolutePath().toString());
+		builder.command().add(mainClass.getTypeName());
+		builder.command().addAll(Arrays.asList(args));
 		return builder.start();
 	}
 
@@ -240,4 +363,24 @@ class FileLockTests {
 
 	}
 
+	static final class Holder {
+
+		static final String LOCKED = "locked";
+
+		public static void main(String[] args) throws Exception {
+			try (FileLock fileLock = FileLock.of(Paths.get(args[0]))) {
+				if (!fileLock.tryLock(1, TimeUnit.MINUTES)) {
+					throw new IllegalStateException(args[0] + " can not be locked");
+				}
+				System.out.println(LOCKED);
+				System.out.flush();
+				// hold the lock until the parent closes the standard input
+				while (System.in.read() != -1) {
+					// ignore
+				}
+			}
+		}
+
+	}
+
 }
@@ -18,12 +18,23 @@ package com.github.nosan.embedded.cassandra.commons;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -156,6 +167,75 @@ class FileUtilsTests {
 		assertThat(path).hasDigest("MD5", FileUtils.checksum(path, "MD5"));
 	}
 
+	@Test
+	void checksums() throws IOException, NoSuchAlgorithmException {
+		Path path = Paths.get(new ClassPathResource("schema.cql").toURI());
+		Map<String, String> checksums = FileUtils.checksums(path, "SHA-512", "SHA-1", "MD5");
+		assertThat(checksums).containsOnlyKeys("SHA-512", "SHA-1", "MD5");
+		assertThat(path).hasDigest("SHA-512", checksums.get("SHA-512"));
+		assertThat(path).hasDigest("SHA-1", checksums.get("SHA-1"));
+		assertThat(path).hasDigest("MD5", checksums.get("MD5"));
+	}
+
+	@Test
+	void checksumsLargeFile() throws IOException, NoSuchAlgorithmException {
+		Path path = newFile();
+		byte[] content = new byte[3 * 1024 * 1024 + 17];
+		new Random(42).nextBytes(content);
+		Files.write(path, content);
+		Map<String, String> checksums = FileUtils.checksums(path, "SHA-256", "MD5");
+		assertThat(path).hasDigest("SHA-256", checksums.get("SHA-256"));
+		assertThat(path).hasDigest("MD5", checksums.get("MD5"));
+		Files.delete(path);
+		assertThat(path).doesNotExist();
+	}
+
+	@Test
+	void toHex() {
+		assertThat(FileUtils.toHex(new byte[0])).isEmpty();
+		assertThat(FileUtils.toHex(new byte[]{0, 15, 16, (byte) 0xAB, (byte) 0xFF})).isEqualTo("000f10abff");
+	}
+
+	@Test
+	void checksumsOpenChannel() throws IOException, NoSuchAlgorithmException {
+		Path path = newFile();
+		Path expected = newFile();
+		Files.write(expected, new byte[]{4, 5, 6});
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6}));
+			channel.position(3);
+			Map<String, String> checksums = FileUtils.checksums(channel, "SHA-256");
+			assertThat(expected).hasDigest("SHA-256", checksums.get("SHA-256"));
+			assertThat(channel.position()).isEqualTo(6);
+		}
+		try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(new byte[]{4, 5, 6}))) {
+			assertThat(expected).hasDigest("SHA-1", FileUtils.checksums(channel, "SHA-1").get("SHA-1"));
+		}
+	}
+
+	@Test
+	void copyDirEmitsEvent() throws IOException {
+		Path src = newFolder();
+		Path file = newFile(newFolder(src));
+		Files.write(file, new byte[]{1, 2, 3, 4, 5});
+		Path dest = newFolder();
+		Path recordingFile = this.temporaryFolder.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("com.github.nosan.embedded.cassandra.FileCopy").withoutThreshold();
+			recording.start();
+			FileUtils.copy(src, dest, StandardCopyOption.REPLACE_EXISTING);
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+		assertThat(events).hasSize(1);
+		RecordedEvent event = events.get(0);
+		assertThat(event.getString("source")).isEqualTo(src.toString());
+		assertThat(event.getString("destination")).isEqualTo(dest.toString());
+		assertThat(event.getLong("bytes")).isEqualTo(5);
+		assertThat(event.getLong("fileCount")).isEqualTo(1);
+	}
+
 	private Path newFile() throws IOException {
 		return newFile(this.temporaryFolder);
 	}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.commons.web;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.commons.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link JavaNetHttpClient}.
+ *
+ * @author Dmytro Nosan
+ */
+class JavaNetHttpClientTests {
+
+	private static HttpServer httpServer;
+
+	private static JavaNetHttpClient httpClient;
+
+	@BeforeAll
+	static void beforeAll() throws IOException {
+		httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		httpServer.createContext("/api", exchange -> {
+			exchange.getResponseHeaders().putAll(exchange.getRequestHeaders());
+			exchange.getResponseHeaders().add("Http-Method", exchange.getRequestMethod());
+			exchange.getResponseHeaders().add("URI", exchange.getRequestURI().toString());
+			exchange.getResponseHeaders().add("Remote-Port", Integer.toString(exchange.getRemoteAddress().getPort()));
+			try (InputStream requestBody = exchange.getRequestBody();
+					OutputStream responseBody = exchange.getResponseBody()) {
+				byte[] bytes = StreamUtils.toByteArray(requestBody);
+				exchange.sendResponseHeaders(200, (bytes.length > 0) ? bytes.length : -1);
+				StreamUtils.copy(new ByteArrayInputStream(bytes), responseBody);
+			}
+		});
+		httpServer.createContext("/timeout", exchange -> {
+			try {
+				Thread.sleep(3000);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		httpServer.setExecutor(Executors.newCachedThreadPool());
+		httpServer.start();
+		httpClient = new JavaNetHttpClient(Duration.ofSeconds(1), Duration.ofSeconds(1));
+	}
+
+	@AfterAll
+	static void afterAll() {
+		HttpServer httpServer = JavaNetHttpClientTests.httpServer;
+		if (httpServer != null) {
+			httpServer.stop(0);
+			((ExecutorService) httpServer.getExecutor()).shutdown();
+		}
+	}
+
+	@Test
+	void GET() throws IOException {
+		URI uri = getBaseUri().resolve("/api?name=test");
+		HttpHeaders httpHeaders = new HttpHeaders();
+		httpHeaders.add("Content-Type", "application/json");
+		httpHeaders.add("Host", "ignored");
+		try (HttpResponse response = httpClient.send(new HttpRequest(uri, "GET", httpHeaders))) {
+			assertThat(response.getStatus()).isEqualTo(200);
+			assertThat(response.getHeaders())
+					.containsEntry("Content-Type", Collections.singletonList("application/json"));
+			assertThat(response.getHeaders().getFirst("Http-Method")).hasValue("GET");
+			assertThat(response.getHeaders().getFirst("URI")).hasValue("/api?name=test");
+			assertThat(response.getUri()).isEqualTo(uri);
+			assertThat(response.toString()).contains("200");
+		}
+	}
+
+	@Test
+	void POST() throws IOException {
+		assertBody("POST");
+	}
+
+	@Test
+	void PUT() throws IOException {
+		assertBody("PUT");
+	}
+
+	@Test
+	void DELETE() throws IOException {
+		assertBody("DELETE");
+	}
+
+	@Test
+	void NOT_FOUND() throws IOException {
+		URI uri = getBaseUri().resolve("/not_found");
+		try (HttpResponse response = httpClient.send(new HttpRequest(uri))) {
+			assertThat(response.getStatus()).isEqualTo(404);
+			assertThat(read(response)).contains("No context found for request");
+		}
+	}
+
+	@Test
+	void READ_TIMEOUT() {
+		URI uri = getBaseUri().resolve("/timeout");
+		assertThatThrownBy(() -> httpClient.send(new HttpRequest(uri))).isInstanceOf(HttpTimeoutException.class);
+	}
+
+	@Test
+	void sendAsync() throws Exception {
+		URI uri = getBaseUri().resolve("/api");
+		CompletableFuture<HttpResponse> first = httpClient.sendAsync(new HttpRequest(uri));
+		CompletableFuture<HttpResponse> second = httpClient.sendAsync(new HttpRequest(uri));
+		try (HttpResponse response = first.get()) {
+			assertThat(response.getStatus()).isEqualTo(200);
+		}
+		try (HttpResponse response = second.get()) {
+			assertThat(response.getStatus()).isEqualTo(200);
+		}
+	}
+
+	@Test
+	void sendAsyncFailed() {
+		assertThat(httpClient.sendAsync(new HttpRequest(getBaseUri().resolve("/timeout"))))
+				.failsWithin(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void reuseConnection() throws IOException {
+		URI uri = getBaseUri().resolve("/api");
+		String port;
+		try (HttpResponse response = httpClient.send(new HttpRequest(uri))) {
+			read(response);
+			port = response.getHeaders().getFirst("Remote-Port").orElseThrow();
+		}
+		try (HttpResponse response = httpClient.send(new HttpRequest(uri))) {
+			read(response);
+			assertThat(response.getHeaders().getFirst("Remote-Port")).hasValue(port);
+		}
+	}
+
+	private static void assertBody(String httpMethod) throws IOException {
+		String body = "Text";
+		URI uri = getBaseUri().resolve("/api");
+		HttpHeaders httpHeaders = new HttpHeaders();
+		httpHeaders.add("Content-Type", "application/json");
+		try (HttpResponse response = httpClient.send(new HttpRequest(uri, httpMethod, httpHeaders),
+				HttpClient.BodySuppliers.ofString(body))) {
+			assertThat(response.getStatus()).isEqualTo(200);
+			assertThat(response.getHeaders().getFirst("Http-Method")).hasValue(httpMethod);
+			assertThat(read(response)).isEqualTo(body);
+		}
+	}
+
+	private static String read(HttpResponse response) throws IOException {
+		try (InputStream inputStream = response.getInputStream()) {
+			return StreamUtils.toString(inputStream, Charset.defaultCharset());
+		}
+	}
+
+	private static URI getBaseUri() {
+		InetSocketAddress address = httpServer.getAddress();
+		if (address.getAddress() instanceof Inet6Address) {
+			return URI.create(String.format("http://[%s]:%d", address.getHostName(), address.getPort()));
+		}
+		return URI.create(String.format("http://%s:%d", address.getHostName(), address.getPort()));
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link AbstractCqlExecutor}.
+ *
+ * @author Dmytro Nosan
+ */
+class AbstractCqlExecutorTests {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	void invalidMaxInFlightStatements() {
+		assertThatThrownBy(() -> new TestCqlExecutor(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void executeSchemaAndDataStatements() {
+		List<String> statements = new ArrayList<>();
+		statements.add("CREATE KEYSPACE test");
+		for (int i = 0; i < 100; i++) {
+			statements.add("INSERT INTO test.roles (id) VALUES ('" + i + "')");
+		}
+		statements.add("ALTER TABLE test.roles ADD name text");
+		statements.add("SELECT * FROM test.roles");
+		TestCqlExecutor executor = new TestCqlExecutor(4);
+		CqlExecutionResult result = executor.execute(CqlScript.ofStatements(statements));
+		assertThat(result.getStatementCount()).isEqualTo(103);
+		assertThat(result.getSchemaStatementCount()).isEqualTo(2);
+		assertThat(result.getThroughput()).isPositive();
+		assertThat(result.getLatencyPercentile(99)).isPositive();
+		assertThat(executor.maxInFlight.get()).isBetween(1, 4);
+		assertThat(executor.schemaWithInFlight.get()).isZero();
+		assertThat(executor.executed).hasSize(103).startsWith("CREATE KEYSPACE test")
+				.contains("ALTER TABLE test.roles ADD name text");
+		assertThat(executor.executed.indexOf("ALTER TABLE test.roles ADD name text")).isEqualTo(101);
+	}
+
+	@Test
+	void invalidMaxBatchSize() {
+		assertThatThrownBy(() -> new TestCqlExecutor(1, 0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void batchSamePartitionInserts() {
+		TestCqlExecutor executor = new TestCqlExecutor(4, 2);
+		CqlExecutionResult result = executor.execute(CqlScript.ofStatements(
+				"CREATE TABLE test.roles (id text, name text, PRIMARY KEY (id, name))",
+				"INSERT INTO test.roles (id, name) VALUES ('1', 'a')",
+				"INSERT INTO test.roles (id, name) VALUES ('1', 'b')",
+				"INSERT INTO test.roles (id, name) VALUES ('1', 'c')",
+				"INSERT INTO test.roles (id, name) VALUES ('2', 'a')",
+				"INSERT INTO test.roles (id, name) VALUES ('3', 'a') IF NOT EXISTS",
+				"INSERT INTO test.roles (id, name) VALUES ('3', 'b')"));
+		assertThat(executor.getMaxBatchSize()).isEqualTo(2);
+		assertThat(result.getStatementCount()).isEqualTo(6);
+		assertThat(executor.executed).containsExactlyInAnyOrder(
+				"CREATE TABLE test.roles (id text, name text, PRIMARY KEY (id, name))",
+				"BEGIN UNLOGGED BATCH\nINSERT INTO test.roles (id, name) VALUES ('1', 'a');\n"
+						+ "INSERT INTO test.roles (id, name) VALUES ('1', 'b');\nAPPLY BATCH",
+				"INSERT INTO test.roles (id, name) VALUES ('1', 'c')",
+				"INSERT INTO test.roles (id, name) VALUES ('2', 'a')",
+				"INSERT INTO test.roles (id, name) VALUES ('3', 'a') IF NOT EXISTS",
+				"INSERT INTO test.roles (id, name) VALUES ('3', 'b')");
+	}
+
+	@Test
+	void isSchemaStatement() {
+		TestCqlExecutor executor = new TestCqlExecutor(1);
+		assertThat(executor.isSchemaStatement("CREATE TABLE test.roles (id text PRIMARY KEY)")).isTrue();
+		assertThat(executor.isSchemaStatement("use test")).isTrue();
+		assertThat(executor.isSchemaStatement("TRUNCATE test.roles")).isTrue();
+		assertThat(executor.isSchemaStatement("  insert INTO test.roles (id) VALUES ('1')")).isFalse();
+		assertThat(executor.isSchemaStatement("BEGIN UNLOGGED BATCH APPLY BATCH")).isFalse();
+		assertThat(executor.isSchemaStatement("DELETE FROM test.roles WHERE id = '1'")).isFalse();
+	}
+
+	@Test
+	void failDataStatement() {
+		TestCqlExecutor executor = new TestCqlExecutor(2);
+		assertThatThrownBy(() -> executor.execute(CqlScript.ofStatements("INSERT INTO test.roles (id) VALUES ('1')",
+				"INSERT INTO fail", "INSERT INTO test.roles (id) VALUES ('2')", "CREATE TABLE test.users")))
+				.isInstanceOf(CqlExecutionException.class)
+				.hasMessageContaining("INSERT INTO fail")
+				.hasRootCauseMessage("Fail");
+		assertThat(executor.executed).doesNotContain("CREATE TABLE test.users");
+	}
+
+	@Test
+	void failSchemaStatement() {
+		TestCqlExecutor executor = new TestCqlExecutor(2);
+		assertThatThrownBy(() -> executor.execute(CqlScript.ofStatements("CREATE fail",
+				"INSERT INTO test.roles (id) VALUES ('1')")))
+				.isInstanceOf(CqlExecutionException.class)
+				.satisfies(ex -> assertThat(((CqlExecutionException) ex).getStatement()).isEqualTo("CREATE fail"));
+		assertThat(executor.executed).isEmpty();
+	}
+
+	private final class TestCqlExecutor extends AbstractCqlExecutor {
+
+		private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+
+		private final AtomicInteger schemaWithInFlight = new AtomicInteger();
+
+		TestCqlExecutor(int maxInFlightStatements) {
+			super(maxInFlightStatements);
+		}
+
+		TestCqlExecutor(int maxInFlightStatements, int maxBatchSize) {
+			super(maxInFlightStatements, maxBatchSize);
+		}
+
+		@Override
+		protected void executeSchemaStatement(String statement) {
+			if (statement.contains("fail")) {
+				throw new IllegalStateException("Fail");
+			}
+			if (this.inFlight.get() != 0) {
+				this.schemaWithInFlight.incrementAndGet();
+			}
+			this.executed.add(statement);
+		}
+
+		@Override
+		protected CompletionStage<?> executeDataStatement(String statement) {
+			int current = this.inFlight.incrementAndGet();
+			this.maxInFlight.accumulateAndGet(current, Math::max);
+			return CompletableFuture.runAsync(() -> {
+				try {
+					TimeUnit.MILLISECONDS.sleep(1);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				this.inFlight.decrementAndGet();
+				if (statement.contains("fail")) {
+					throw new IllegalStateException("Fail");
+				}
+				this.executed.add(statement);
+			}, AbstractCqlExecutorTests.this.executorService);
+		}
+
+	}
+
+}
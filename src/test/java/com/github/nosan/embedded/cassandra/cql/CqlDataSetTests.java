@@ -18,6 +18,8 @@ package com.github.nosan.embedded.cassandra.cql;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -74,6 +76,15 @@ class CqlDataSetTests {
 		assertThat(statements).hasSize(1);
 	}
 
+	@Test
+	void stream() {
+		CqlDataSet dataSet = CqlDataSet.ofScripts(CqlScript.ofClassPath("schema.cql"),
+				CqlScript.ofStatements("DROP KEYSPACE test"));
+		try (Stream<String> statements = dataSet.stream()) {
+			assertThat(statements.collect(Collectors.toList())).isEqualTo(dataSet.getStatements()).hasSize(2);
+		}
+	}
+
 	private static void assertStatements(CqlDataSet dataSet) {
 		assertThat(dataSet.getStatements()).containsExactly(
 				"CREATE KEYSPACE test WITH REPLICATION = { 'class' : 'SimpleStrategy', 'replication_factor' : 1 }");
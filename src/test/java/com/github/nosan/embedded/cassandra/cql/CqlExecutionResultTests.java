@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CqlExecutionResult}.
+ *
+ * @author Dmytro Nosan
+ */
+class CqlExecutionResultTests {
+
+	private final CqlExecutionResult result = new CqlExecutionResult(new long[]{40, 10, 30, 20}, 1,
+			Duration.ofSeconds(2));
+
+	@Test
+	void getStatementCount() {
+		assertThat(this.result.getStatementCount()).isEqualTo(4);
+		assertThat(this.result.getSchemaStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void getThroughput() {
+		assertThat(this.result.getThroughput()).isEqualTo(2.0);
+		assertThat(new CqlExecutionResult(new long[0], 0, Duration.ZERO).getThroughput()).isZero();
+	}
+
+	@Test
+	void getLatency() {
+		assertThat(this.result.getLatency(0)).isEqualTo(Duration.ofNanos(40));
+		assertThat(this.result.getLatencyPercentile(50)).isEqualTo(Duration.ofNanos(20));
+		assertThat(this.result.getLatencyPercentile(100)).isEqualTo(Duration.ofNanos(40));
+		assertThat(this.result.getLatencyPercentile(1)).isEqualTo(Duration.ofNanos(10));
+		assertThat(this.result.getMaxLatency()).isEqualTo(Duration.ofNanos(40));
+		assertThat(new CqlExecutionResult(new long[0], 0, Duration.ZERO).getMaxLatency()).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	void invalidPercentile() {
+		assertThatThrownBy(() -> this.result.getLatencyPercentile(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> this.result.getLatencyPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void testToString() {
+		assertThat(this.result.toString()).contains("statements=4").contains("throughput=");
+	}
+
+}
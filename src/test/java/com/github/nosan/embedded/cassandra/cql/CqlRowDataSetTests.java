@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
+import com.github.nosan.embedded.cassandra.commons.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CqlRowDataSet}.
+ *
+ * @author Dmytro Nosan
+ */
+class CqlRowDataSetTests {
+
+	@Test
+	void csv() {
+		CqlRowDataSet dataSet = CqlRowDataSet.ofClassPath("users.csv", "test.users");
+		assertThat(dataSet.getTable()).isEqualTo("test.users");
+		assertThat(dataSet.getInsertStatement()).isEqualTo("INSERT INTO test.users JSON ? DEFAULT UNSET");
+		assertThat(rows(dataSet)).containsExactly("{\"id\":\"1\",\"name\":\"Smith, John\",\"age\":\"30\"}",
+				"{\"id\":\"2\",\"name\":\"say \\\"hi\\\"\",\"age\":null}",
+				"{\"id\":\"3\",\"name\":\"multi\\u000aline\",\"age\":\"\"}");
+	}
+
+	@Test
+	void csvDelimiter(@TempDir Path folder) throws IOException {
+		Path file = Files.writeString(folder.resolve("users.csv"), "id;name\n1;a\\b\n", StandardCharsets.UTF_8);
+		CqlRowDataSet dataSet = CqlRowDataSet.ofCsv(new FileSystemResource(file), StandardCharsets.UTF_8, ';',
+				"users");
+		assertThat(rows(dataSet)).containsExactly("{\"id\":\"1\",\"name\":\"a\\\\b\"}");
+	}
+
+	@Test
+	void csvFieldCountMismatch(@TempDir Path folder) throws IOException {
+		Path file = Files.writeString(folder.resolve("users.csv"), "id,name\n1\n", StandardCharsets.UTF_8);
+		CqlRowDataSet dataSet = CqlRowDataSet.ofCsv(new FileSystemResource(file), "users");
+		assertThatThrownBy(() -> rows(dataSet)).isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("has 1 fields, but the header has 2");
+	}
+
+	@Test
+	void csvInvalidDelimiter() {
+		assertThatThrownBy(() -> CqlRowDataSet.ofCsv(new ClassPathResource("users.csv"), StandardCharsets.UTF_8,
+				'"', "users")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void ndjson() {
+		CqlRowDataSet dataSet = CqlRowDataSet.ofClassPath("users.ndjson", "test.users");
+		assertThat(rows(dataSet)).containsExactly("{\"id\":\"1\",\"name\":\"John\"}",
+				"{\"id\":\"2\",\"name\":\"Jane\"}");
+	}
+
+	@Test
+	void unsupportedExtension() {
+		assertThatThrownBy(() -> CqlRowDataSet.ofClassPath("schema.cql", "users"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void emptyTable() {
+		assertThatThrownBy(() -> CqlRowDataSet.ofClassPath("users.csv", " "))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void streamFail() {
+		CqlRowDataSet dataSet = CqlRowDataSet.ofCsv(new ClassPathResource(UUID.randomUUID() + ".csv"), "users");
+		assertThatThrownBy(dataSet::stream).hasStackTraceContaining("Could not open a stream for");
+	}
+
+	private static List<String> rows(CqlRowDataSet dataSet) {
+		try (Stream<String> rows = dataSet.stream()) {
+			return rows.collect(Collectors.toList());
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.cql.CqlStatement.Kind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CqlStatementClassifier}.
+ *
+ * @author Dmytro Nosan
+ */
+class CqlStatementClassifierTests {
+
+	private final CqlStatementClassifier classifier = new CqlStatementClassifier();
+
+	@Test
+	void classifyDdl() {
+		CqlStatement keyspace = this.classifier.classify("CREATE KEYSPACE IF NOT EXISTS Test WITH replication = "
+				+ "{'class':'SimpleStrategy', 'replication_factor':1}");
+		assertThat(keyspace.getKind()).isEqualTo(Kind.DDL);
+		assertThat(keyspace.getKeyspace()).hasValue("test");
+		assertThat(keyspace.getTable()).isEmpty();
+		CqlStatement table = this.classifier.classify("ALTER TABLE \"Test\".users ADD age int");
+		assertThat(table.getKind()).isEqualTo(Kind.DDL);
+		assertThat(table.getKeyspace()).hasValue("Test");
+		assertThat(table.getTable()).hasValue("users");
+		assertThat(this.classifier.classify("DROP INDEX test.idx").getKind()).isEqualTo(Kind.DDL);
+	}
+
+	@Test
+	void classifyInsertWithSinglePartitionKey() {
+		this.classifier.classify("CREATE TABLE test.users (id text PRIMARY KEY, tags map<text, int>, name text)");
+		CqlStatement insert = this.classifier.classify(
+				"INSERT INTO test.users (name, tags, id) VALUES ('John', {'a': 1, 'b': 2}, 'u''1')");
+		assertThat(insert.getKind()).isEqualTo(Kind.INSERT);
+		assertThat(insert.getKeyspace()).hasValue("test");
+		assertThat(insert.getTable()).hasValue("users");
+		assertThat(insert.getPartitionKey()).containsExactly("'u''1'");
+		assertThat(insert.isConditional()).isFalse();
+	}
+
+	@Test
+	void classifyInsertWithCompositePartitionKey() {
+		this.classifier.classify("USE test");
+		this.classifier.classify("CREATE TABLE events (tenant int, day text, ts timeuuid, payload blob, "
+				+ "PRIMARY KEY ((tenant, day), ts)) WITH CLUSTERING ORDER BY (ts DESC)");
+		CqlStatement insert = this.classifier.classify("INSERT INTO events (ts, day, tenant, payload) "
+				+ "VALUES (now(), '2026-01-01', -1, 0xcafe) IF NOT EXISTS");
+		assertThat(insert.getKeyspace()).hasValue("test");
+		assertThat(insert.getTable()).hasValue("events");
+		assertThat(insert.getPartitionKey()).containsExactly("-1", "'2026-01-01'");
+		assertThat(insert.isConditional()).isTrue();
+	}
+
+	@Test
+	void classifyInsertWithoutLiteralPartitionKey() {
+		this.classifier.classify("CREATE TABLE test.users (id uuid PRIMARY KEY, name text)");
+		assertThat(this.classifier.classify("INSERT INTO test.users (id, name) VALUES (uuid(), 'a')")
+				.getPartitionKey()).isEmpty();
+		assertThat(this.classifier.classify("INSERT INTO test.users (id, name) VALUES (?, ?)")
+				.getPartitionKey()).isEmpty();
+		assertThat(this.classifier.classify("INSERT INTO test.users JSON '{\"id\": 1}'")
+				.getPartitionKey()).isEmpty();
+		assertThat(this.classifier.classify("INSERT INTO test.roles (id) VALUES (1)").getPartitionKey()).isEmpty();
+	}
+
+	@Test
+	void classifyUpdate() {
+		this.classifier.classify("CREATE TABLE test.users (id int, bucket int, name text, PRIMARY KEY (id, bucket))");
+		CqlStatement update = this.classifier.classify("UPDATE test.users USING TTL 10 SET name = 'a' "
+				+ "WHERE id = 5 AND bucket IN (1, 2) IF name = 'b'");
+		assertThat(update.getKind()).isEqualTo(Kind.UPDATE);
+		assertThat(update.getTable()).hasValue("users");
+		assertThat(update.getPartitionKey()).containsExactly("5");
+		assertThat(update.isConditional()).isTrue();
+	}
+
+	@Test
+	void classifyUpdateWithComparison() {
+		this.classifier.classify("CREATE TABLE test.users (id int, bucket int, tags frozen<map<text, "
+				+ "frozen<list<int>>>>, name text, PRIMARY KEY (id, bucket))");
+		CqlStatement update = this.classifier.classify("UPDATE test.users SET name = 'a' "
+				+ "WHERE bucket < 5 AND id = 1 IF name > 'b'");
+		assertThat(update.getPartitionKey()).containsExactly("1");
+		assertThat(update.isConditional()).isTrue();
+		assertThat(this.classifier.classify("UPDATE test.users SET name = 'a' WHERE bucket > 5 AND id = 2")
+				.getPartitionKey()).containsExactly("2");
+	}
+
+	@Test
+	void dropTableForgetsPartitionKey() {
+		this.classifier.classify("CREATE TABLE test.users (id int PRIMARY KEY)");
+		this.classifier.classify("DROP TABLE IF EXISTS test.users");
+		assertThat(this.classifier.classify("INSERT INTO test.users (id) VALUES (1)").getPartitionKey()).isEmpty();
+	}
+
+	@Test
+	void classifyOther() {
+		CqlStatement select = this.classifier.classify("SELECT * FROM test.users");
+		assertThat(select.getKind()).isEqualTo(Kind.OTHER);
+		assertThat(select.getKeyspace()).isEmpty();
+		assertThat(this.classifier.classify("").getKind()).isEqualTo(Kind.OTHER);
+	}
+
+}
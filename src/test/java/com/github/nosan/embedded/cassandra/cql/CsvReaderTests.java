@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CsvReader}.
+ *
+ * @author Dmytro Nosan
+ */
+class CsvReaderTests {
+
+	@Test
+	void plainFields() throws IOException {
+		assertThat(read("a,b,c\r\n1,2,3", ',')).containsExactly(List.of("a", "b", "c"), List.of("1", "2", "3"));
+	}
+
+	@Test
+	void quotedFields() throws IOException {
+		assertThat(read("\"a,b\",\"say \"\"hi\"\"\",\"x\ny\"\n", ',')).containsExactly(
+				List.of("a,b", "say \"hi\"", "x\ny"));
+	}
+
+	@Test
+	void emptyFields() throws IOException {
+		assertThat(read(",\"\",\n", ',')).containsExactly(Arrays.asList(null, "", null));
+	}
+
+	@Test
+	void blankLine() throws IOException {
+		assertThat(read("a\n\nb\n", ',')).containsExactly(List.of("a"), Arrays.asList((String) null), List.of("b"));
+	}
+
+	@Test
+	void customDelimiter() throws IOException {
+		assertThat(read("a;b,c", ';')).containsExactly(List.of("a", "b,c"));
+	}
+
+	@Test
+	void empty() throws IOException {
+		assertThat(read("", ',')).isEmpty();
+	}
+
+	private static List<List<String>> read(String csv, char delimiter) throws IOException {
+		CsvReader reader = new CsvReader(new StringReader(csv), delimiter);
+		List<List<String>> records = new ArrayList<>();
+		List<String> record;
+		while ((record = reader.readRecord()) != null) {
+			records.add(record);
+		}
+		return records;
+	}
+
+}
@@ -45,4 +45,13 @@ class DefaultCqlDataSetBuilderTests {
 		assertThat(statements).containsExactly("1", "2", "3", "4", "5", CQL_SCRIPT, CQL_SCRIPT, CQL_SCRIPT, CQL_SCRIPT);
 	}
 
+	@Test
+	void shouldBuildParallelCqlDataSet() {
+		CqlDataSet dataSet = CqlDataSet.builder().addStatements("1", "2").addScript(CQL_SCRIPT)
+				.addResource(new ClassPathResource("schema.cql")).addStatements("3").parallel().build();
+		assertThat(dataSet).isInstanceOfSatisfying(DefaultCqlDataSet.class,
+				parallel -> assertThat(parallel.isParallel()).isTrue());
+		assertThat(dataSet.getStatements()).containsExactly("1", "2", CQL_SCRIPT, CQL_SCRIPT, "3");
+	}
+
 }
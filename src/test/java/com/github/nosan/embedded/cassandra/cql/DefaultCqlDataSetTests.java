@@ -17,14 +17,20 @@
 package com.github.nosan.embedded.cassandra.cql;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
 import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link DefaultCqlDataSet}.
@@ -47,6 +53,10 @@ class DefaultCqlDataSetTests {
 				Collections.singleton(new ResourceCqlScript(this.resource))))).isTrue();
 		assertThat(this.dataSet.equals(new DefaultCqlDataSet(Collections.singleton(new ResourceCqlScript(this.resource,
 				StandardCharsets.UTF_16LE))))).isFalse();
+		assertThat(this.dataSet.equals(new DefaultCqlDataSet(Collections.singleton(this.script),
+				ForkJoinPool.commonPool()))).isFalse();
+		assertThat(new DefaultCqlDataSet(Collections.singleton(this.script), ForkJoinPool.commonPool()))
+				.isEqualTo(new DefaultCqlDataSet(Collections.singleton(this.script), ForkJoinPool.commonPool()));
 	}
 
 	@Test
@@ -67,6 +77,37 @@ class DefaultCqlDataSetTests {
 				"CREATE KEYSPACE test WITH REPLICATION = { 'class' : 'SimpleStrategy', 'replication_factor' : 1 }");
 	}
 
+	@Test
+	void testGetStatementsParallel() {
+		List<CqlScript> scripts = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			scripts.add(CqlScript.ofStatements("s" + i + "a", "s" + i + "b"));
+			scripts.add(new ResourceCqlScript(this.resource));
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			DefaultCqlDataSet parallel = new DefaultCqlDataSet(scripts, pool);
+			DefaultCqlDataSet sequential = new DefaultCqlDataSet(scripts);
+			assertThat(parallel.isParallel()).isTrue();
+			assertThat(sequential.isParallel()).isFalse();
+			assertThat(parallel.getStatements()).isEqualTo(sequential.getStatements());
+			try (Stream<String> statements = parallel.stream()) {
+				assertThat(statements.collect(Collectors.toList())).isEqualTo(sequential.getStatements());
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testGetStatementsParallelFail() {
+		List<CqlScript> scripts = List.of(new ResourceCqlScript(this.resource),
+				new ResourceCqlScript(new ClassPathResource(UUID.randomUUID().toString())));
+		DefaultCqlDataSet dataSet = new DefaultCqlDataSet(scripts, ForkJoinPool.commonPool());
+		assertThatThrownBy(dataSet::getStatements).hasStackTraceContaining("Could not open a stream for");
+	}
+
 	@Test
 	void testGetScripts() {
 		assertThat(this.dataSet.getScripts()).contains(this.script);
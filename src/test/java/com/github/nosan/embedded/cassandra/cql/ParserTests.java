@@ -16,11 +16,21 @@
 
 package com.github.nosan.embedded.cassandra.cql;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import com.github.nosan.embedded.cassandra.commons.StringUtils;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link Parser}.
@@ -156,8 +166,230 @@ class ParserTests {
 		assertThat(statements).isEmpty();
 	}
 
+	@Test
+	void shouldParseStatementsLazily() {
+		Iterator<String> iterator = new Parser(new SingleCharReader("USE test; $$a;b$$; 'c'")).iterator();
+		assertThat(iterator.hasNext()).isTrue();
+		assertThat(iterator.next()).isEqualTo("USE test");
+		assertThat(iterator.next()).isEqualTo("$$a;b$$");
+		assertThat(iterator.next()).isEqualTo("'c'");
+		assertThat(iterator.hasNext()).isFalse();
+		assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+	}
+
+	@Test
+	void shouldParseStatementsAcrossBufferBoundaries() {
+		StringBuilder script = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			script.append("INSERT INTO test.roles (id) VALUES ('").append(i).append("'); -- comment \n");
+		}
+		List<String> statements = parse(script.toString());
+		assertThat(statements).hasSize(2000).endsWith("INSERT INTO test.roles (id) VALUES ('1999')");
+	}
+
+	@Test
+	void shouldParseWhitespaceRuns() {
+		assertThat(parse("SELECT \n\r\t  *   FROM\t\ttest ;  \n\t"))
+				.containsExactly("SELECT \n\r\t  *   FROM\t\ttest ");
+		assertThat(parse("  \n\r\t SELECT 1\n\t ")).containsExactly("SELECT 1");
+		assertThat(parse("SELECT 1 \t \n")).containsExactly("SELECT 1 \t ");
+		assertThat(parse("SELECT 1;\r\n\r\n   ")).containsExactly("SELECT 1");
+	}
+
+	@Test
+	void shouldParseDelimitersAcrossChunkBoundaries() {
+		for (int offset = Parser.BUFFER_SIZE - 4; offset <= Parser.BUFFER_SIZE + 4; offset++) {
+			String padding = "x".repeat(offset);
+			assertThat(parse(padding + "$$a;b$$;c")).containsExactly(padding + "$$a;b$$", "c");
+			assertThat(parse(padding + "/* a;b */;c")).containsExactly(padding, "c");
+			assertThat(parse(padding + "-- a;b\nc")).containsExactly(padding + "c");
+			assertThat(parse(padding + "// a;b\nc;")).containsExactly(padding + "c");
+			assertThat(parse(padding + "'a'';b';c")).containsExactly(padding + "'a'';b'", "c");
+			assertThat(parse(padding + "    \n\t d  ")).containsExactly(padding + "    \n\t d");
+		}
+	}
+
+	@Test
+	void shouldParseRandomScriptsAsReferenceParser() {
+		String[] fragments = {"a", "b", "1", " ", "  ", "\n", "\r\n", "\t", ";", "'", "''", "\"", "$", "$$", "-",
+				"--", "/", "//", "*", "/*", "*/"};
+		Random random = new Random(20261019L);
+		for (int i = 0; i < 20000; i++) {
+			StringBuilder script = new StringBuilder();
+			int length = random.nextInt(24);
+			for (int j = 0; j < length; j++) {
+				script.append(fragments[random.nextInt(fragments.length)]);
+			}
+			String text = script.toString();
+			List<String> expected = new ReferenceParser(text).getStatements();
+			assertThat(new Parser(text).getStatements()).describedAs(text).isEqualTo(expected);
+			assertThat(new Parser(new ChunkReader(text, 1 + random.nextInt(4))).getStatements()).describedAs(text)
+					.isEqualTo(expected);
+		}
+	}
+
 	private static List<String> parse(String script) {
-		return new Parser(script).getStatements();
+		List<String> statements = new Parser(script).getStatements();
+		assertThat(new Parser(new SingleCharReader(script)).getStatements()).isEqualTo(statements);
+		return statements;
+	}
+
+	private static final class ChunkReader extends Reader {
+
+		private final StringReader reader;
+
+		private final int chunk;
+
+		ChunkReader(String script, int chunk) {
+			this.reader = new StringReader(script);
+			this.chunk = chunk;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			return this.reader.read(buffer, offset, Math.min(length, this.chunk));
+		}
+
+		@Override
+		public void close() {
+			this.reader.close();
+		}
+
+	}
+
+	/**
+	 * The original character-by-character parser, used as a reference for the buffer scanning {@link Parser}.
+	 */
+	private static final class ReferenceParser {
+
+		private final char[] chars;
+
+		ReferenceParser(String script) {
+			this.chars = script.toCharArray();
+		}
+
+		List<String> getStatements() {
+			List<String> statements = new ArrayList<>();
+			StringBuilder statement = new StringBuilder();
+			Context context = Context.NONE;
+			for (int i = 0; i < this.chars.length; i++) {
+				char c = this.chars[i];
+				if (context == Context.NONE) {
+					if ((c == '/' && next(i, '/')) || (c == '-' && next(i, '-'))) {
+						context = Context.COMMENT;
+						i++;
+					}
+					else if (c == '/' && next(i, '*')) {
+						context = Context.MULTI_COMMENT;
+						i++;
+					}
+					else if (c == '\n' || c == '\r' || c == '\t' || c == ' ') {
+						int start = i;
+						while (next(i, '\n')) {
+							i++;
+						}
+						while (next(i, '\r')) {
+							i++;
+						}
+						while (next(i, '\t')) {
+							i++;
+						}
+						while (next(i, ' ')) {
+							i++;
+						}
+						if (statement.length() > 0 && i != this.chars.length - 1) {
+							statement.append(this.chars, start, i - start + 1);
+						}
+					}
+					else if (c == '"') {
+						statement.append(c);
+						context = Context.DOUBLE_QUOTE;
+					}
+					else if (c == '\'') {
+						statement.append(c);
+						context = Context.QUOTE;
+					}
+					else if (c == '$' && next(i, '$')) {
+						statement.append("$$");
+						i++;
+						context = Context.DOUBLE_DOLLAR;
+					}
+					else if (c == ';') {
+						statements.add(statement.toString());
+						statement.setLength(0);
+					}
+					else {
+						statement.append(c);
+					}
+				}
+				else if (context == Context.MULTI_COMMENT && c == '*' && next(i, '/')) {
+					context = Context.NONE;
+					i++;
+				}
+				else if (context == Context.COMMENT && c == '\n') {
+					context = Context.NONE;
+				}
+				else if (context == Context.QUOTE) {
+					statement.append(c);
+					if (c == '\'' && next(i, '\'')) {
+						statement.append('\'');
+						i++;
+					}
+					else if (c == '\'') {
+						context = Context.NONE;
+					}
+				}
+				else if (context == Context.DOUBLE_QUOTE) {
+					statement.append(c);
+					if (c == '"') {
+						context = Context.NONE;
+					}
+				}
+				else if (context == Context.DOUBLE_DOLLAR) {
+					statement.append(c);
+					if (c == '$' && next(i, '$')) {
+						statement.append('$');
+						context = Context.NONE;
+						i++;
+					}
+				}
+			}
+			if (StringUtils.hasText(statement)) {
+				statements.add(statement.toString());
+			}
+			return statements;
+		}
+
+		private boolean next(int index, char expected) {
+			return index + 1 < this.chars.length && this.chars[index + 1] == expected;
+		}
+
+		private enum Context {
+
+			NONE, COMMENT, MULTI_COMMENT, QUOTE, DOUBLE_QUOTE, DOUBLE_DOLLAR
+
+		}
+
+	}
+
+	private static final class SingleCharReader extends Reader {
+
+		private final StringReader reader;
+
+		SingleCharReader(String script) {
+			this.reader = new StringReader(script);
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			return this.reader.read(buffer, offset, Math.min(length, 1));
+		}
+
+		@Override
+		public void close() {
+			this.reader.close();
+		}
+
 	}
 
 }
@@ -20,6 +20,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -73,4 +75,18 @@ class ResourceCqlScriptTests {
 				"CREATE KEYSPACE test WITH REPLICATION = { 'class' : 'SimpleStrategy', 'replication_factor' : 1 }");
 	}
 
+	@Test
+	void testStream() {
+		try (Stream<String> statements = this.script.stream()) {
+			assertThat(statements.collect(Collectors.toList())).isEqualTo(this.script.getStatements());
+		}
+	}
+
+	@Test
+	void testStreamFail() {
+		ClassPathResource resource = new ClassPathResource(UUID.randomUUID().toString());
+		assertThatThrownBy(() -> new ResourceCqlScript(resource).stream())
+				.hasStackTraceContaining("Could not open a CQL script");
+	}
+
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
+import com.github.nosan.embedded.cassandra.commons.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link StatementsCache}.
+ *
+ * @author Dmytro Nosan
+ */
+class StatementsCacheTests {
+
+	@Test
+	void getCachesStatements() {
+		StatementsCache cache = new StatementsCache(2, 100);
+		AtomicInteger loads = new AtomicInteger();
+		List<String> first = cache.get("a", () -> load(loads, "A"));
+		List<String> second = cache.get("a", () -> load(loads, "A"));
+		assertThat(first).containsExactly("A").isSameAs(second);
+		assertThat(loads).hasValue(1);
+		assertThatThrownBy(() -> first.add("B")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void evictLeastRecentlyUsedEntry() {
+		StatementsCache cache = new StatementsCache(2, 100);
+		AtomicInteger loads = new AtomicInteger();
+		cache.get("a", () -> load(loads, "A"));
+		cache.get("b", () -> load(loads, "B"));
+		cache.get("a", () -> load(loads, "A"));
+		cache.get("c", () -> load(loads, "C"));
+		assertThat(cache.size()).isEqualTo(2);
+		cache.get("a", () -> load(loads, "A"));
+		assertThat(loads).hasValue(3);
+		cache.get("b", () -> load(loads, "B"));
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	void evictByCharacters() {
+		StatementsCache cache = new StatementsCache(10, 10);
+		AtomicInteger loads = new AtomicInteger();
+		cache.get(1, () -> load(loads, "12345"));
+		cache.get(2, () -> load(loads, "12345"));
+		assertThat(cache.size()).isEqualTo(2);
+		cache.get(3, () -> load(loads, "1"));
+		assertThat(cache.size()).isEqualTo(2);
+		cache.get(4, () -> load(loads, "12345678901"));
+		assertThat(cache.size()).isEqualTo(2);
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void stringScriptStatementsAreShared() {
+		String script = "CREATE TABLE test.cache_" + System.nanoTime() + " (id text PRIMARY KEY)";
+		assertThat(new StringCqlScript(script).getStatements())
+				.isSameAs(new StringCqlScript(script).getStatements());
+	}
+
+	@Test
+	void resourceScriptStatementsAreShared() {
+		ClassPathResource resource = new ClassPathResource("schema.cql");
+		assertThat(new ResourceCqlScript(resource).getStatements())
+				.isSameAs(new ResourceCqlScript(resource).getStatements());
+	}
+
+	@Test
+	void fileScriptStatementsAreReloadedWhenModified(@TempDir Path directory) throws Exception {
+		Path file = directory.resolve("schema.cql");
+		Files.write(file, "DROP KEYSPACE a;".getBytes(StandardCharsets.UTF_8));
+		ResourceCqlScript script = new ResourceCqlScript(new FileSystemResource(file), StandardCharsets.UTF_8);
+		assertThat(script.getStatements()).containsExactly("DROP KEYSPACE a").isSameAs(script.getStatements());
+		Files.write(file, "DROP KEYSPACE bb;".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+		assertThat(script.getStatements()).containsExactly("DROP KEYSPACE bb");
+	}
+
+	@Test
+	void fileScriptIsStreamedFromCache(@TempDir Path directory) throws Exception {
+		Path file = directory.resolve("schema.cql");
+		Files.write(file, "DROP KEYSPACE a;".getBytes(StandardCharsets.UTF_8));
+		ResourceCqlScript script = new ResourceCqlScript(new FileSystemResource(file), StandardCharsets.UTF_8);
+		assertThat(script.getStatements()).containsExactly("DROP KEYSPACE a");
+		FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+		Files.write(file, "DROP KEYSPACE b;".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(file, lastModifiedTime);
+		try (Stream<String> statements = script.stream()) {
+			assertThat(statements).containsExactly("DROP KEYSPACE a");
+		}
+		List<String> forEach = new ArrayList<>();
+		script.forEachStatement(forEach::add);
+		assertThat(forEach).containsExactly("DROP KEYSPACE a");
+	}
+
+	@Test
+	void stringScriptIsStreamedFromCache() {
+		String script = "CREATE TABLE test.stream_" + System.nanoTime() + " (id text PRIMARY KEY)";
+		int size = StatementsCache.getInstance().size();
+		try (Stream<String> statements = new StringCqlScript(script).stream()) {
+			assertThat(statements).containsExactly(script);
+		}
+		assertThat(StatementsCache.getInstance().size()).isGreaterThanOrEqualTo(Math.min(size + 1,
+				StatementsCache.MAX_ENTRIES));
+	}
+
+	private static List<String> load(AtomicInteger loads, String statement) {
+		loads.incrementAndGet();
+		List<String> statements = new ArrayList<>();
+		statements.add(statement);
+		return statements;
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql.driver;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.cql.CqlExecutionResult;
+import com.github.nosan.embedded.cassandra.cql.CqlScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CqlSessionExecutor}.
+ *
+ * @author Dmytro Nosan
+ */
+class CqlSessionExecutorTests {
+
+	private final CqlSession session = mock(CqlSession.class);
+
+	private final ResultSet resultSet = mock(ResultSet.class);
+
+	private final ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+
+	@BeforeEach
+	void setUp() {
+		doReturn(this.executionInfo).when(this.resultSet).getExecutionInfo();
+		doReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class))).when(this.session)
+				.executeAsync("INSERT INTO test.roles (id) VALUES ('1')");
+		doReturn(this.resultSet).when(this.session).execute("CREATE TABLE test.roles (id text PRIMARY KEY)");
+	}
+
+	@Test
+	void execute() {
+		doReturn(true).when(this.executionInfo).isSchemaInAgreement();
+		CqlExecutionResult result = new CqlSessionExecutor(this.session).execute(
+				CqlScript.ofStatements("CREATE TABLE test.roles (id text PRIMARY KEY)",
+						"INSERT INTO test.roles (id) VALUES ('1')"));
+		assertThat(result.getStatementCount()).isEqualTo(2);
+		assertThat(result.getSchemaStatementCount()).isEqualTo(1);
+		verify(this.session).execute("CREATE TABLE test.roles (id text PRIMARY KEY)");
+		verify(this.session).executeAsync("INSERT INTO test.roles (id) VALUES ('1')");
+		verify(this.session, never()).checkSchemaAgreement();
+	}
+
+	@Test
+	void awaitSchemaAgreement() {
+		doReturn(false).when(this.executionInfo).isSchemaInAgreement();
+		doReturn(true).when(this.session).checkSchemaAgreement();
+		new CqlSessionExecutor(this.session, 1).execute(
+				CqlScript.ofStatements("CREATE TABLE test.roles (id text PRIMARY KEY)"));
+		verify(this.session, times(1)).checkSchemaAgreement();
+	}
+
+}
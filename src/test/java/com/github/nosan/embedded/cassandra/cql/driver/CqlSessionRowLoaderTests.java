@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.cql.driver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.nosan.embedded.cassandra.cql.CqlExecutionException;
+import com.github.nosan.embedded.cassandra.cql.CqlRowDataSet;
+import com.github.nosan.embedded.cassandra.cql.CqlRowLoadProgress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CqlSessionRowLoader}.
+ *
+ * @author Dmytro Nosan
+ */
+class CqlSessionRowLoaderTests {
+
+	private final CqlSession session = mock(CqlSession.class);
+
+	private final PreparedStatement prepared = mock(PreparedStatement.class);
+
+	private final BoundStatement bound = mock(BoundStatement.class);
+
+	private final CqlRowDataSet dataSet = CqlRowDataSet.ofClassPath("users.ndjson", "test.users");
+
+	@BeforeEach
+	void setUp() {
+		doReturn(this.prepared).when(this.session).prepare("INSERT INTO test.users JSON ? DEFAULT UNSET");
+		doReturn(this.bound).when(this.prepared).bind(any());
+	}
+
+	@Test
+	void load() {
+		doReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class))).when(this.session)
+				.executeAsync(this.bound);
+		List<CqlRowLoadProgress> reports = new ArrayList<>();
+		CqlRowLoadProgress progress = new CqlSessionRowLoader(this.session, 1, Duration.ZERO).load(this.dataSet,
+				reports::add);
+		assertThat(progress.getRowCount()).isEqualTo(2);
+		assertThat(progress.isCompleted()).isTrue();
+		assertThat(progress.getTable()).isEqualTo("test.users");
+		assertThat(reports).hasSize(3).last().isSameAs(progress);
+		assertThat(reports.get(0).isCompleted()).isFalse();
+		verify(this.session, times(1)).prepare("INSERT INTO test.users JSON ? DEFAULT UNSET");
+		verify(this.prepared).bind("{\"id\":\"1\",\"name\":\"John\"}");
+		verify(this.prepared).bind("{\"id\":\"2\",\"name\":\"Jane\"}");
+		verify(this.session, times(2)).executeAsync(this.bound);
+	}
+
+	@Test
+	void loadFail() {
+		doReturn(CompletableFuture.failedFuture(new IllegalStateException("Invalid"))).when(this.session)
+				.executeAsync(this.bound);
+		assertThatThrownBy(() -> new CqlSessionRowLoader(this.session).load(this.dataSet))
+				.isInstanceOf(CqlExecutionException.class)
+				.hasMessageContaining("INSERT INTO test.users JSON '{\"id\":\"1\",\"name\":\"John\"}' DEFAULT UNSET")
+				.hasCauseInstanceOf(IllegalStateException.class);
+		verify(this.session, times(1)).executeAsync(this.bound);
+	}
+
+	@Test
+	void backpressure() throws InterruptedException {
+		CompletableFuture<AsyncResultSet> pending = new CompletableFuture<>();
+		CountDownLatch submitted = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			submitted.countDown();
+			return pending;
+		}).when(this.session).executeAsync(this.bound);
+		CompletableFuture<CqlRowLoadProgress> load = CompletableFuture.supplyAsync(
+				() -> new CqlSessionRowLoader(this.session, 1).load(this.dataSet));
+		assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(100);
+		assertThat(load).isNotDone();
+		verify(this.session, times(1)).executeAsync(this.bound);
+		pending.complete(mock(AsyncResultSet.class));
+		assertThat(load.join().getRowCount()).isEqualTo(2);
+	}
+
+	@Test
+	void invalidMaxInFlightRows() {
+		assertThatThrownBy(() -> new CqlSessionRowLoader(this.session, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.nosan.embedded.cassandra.junit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.nosan.embedded.cassandra.PrefetchingCassandraDirectoryProvider;
+import com.github.nosan.embedded.cassandra.Version;
+import com.github.nosan.embedded.cassandra.commons.FileLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PrefetchLauncherSessionListener}.
+ *
+ * @author Dmytro Nosan
+ */
+class PrefetchLauncherSessionListenerTests {
+
+	private final PrefetchLauncherSessionListener listener = new PrefetchLauncherSessionListener();
+
+	@AfterEach
+	void tearDown() {
+		this.listener.launcherSessionClosed(null);
+	}
+
+	@Test
+	void prefetchVersions(@TempDir Path downloadDirectory) throws IOException, InterruptedException {
+		Path cassandraDirectory = Files.createDirectories(
+				downloadDirectory.resolve(".embedded-cassandra/4.1.5/apache-cassandra-4.1.5"));
+		Files.createFile(cassandraDirectory.resolveSibling(".success"));
+		System.setProperty(PrefetchLauncherSessionListener.VERSIONS_PROPERTY, "4.1.5, invalid");
+		System.setProperty(PrefetchLauncherSessionListener.DIRECTORY_PROPERTY, downloadDirectory.toString());
+		try {
+			this.listener.launcherSessionOpened(null);
+		}
+		finally {
+			System.clearProperty(PrefetchLauncherSessionListener.VERSIONS_PROPERTY);
+			System.clearProperty(PrefetchLauncherSessionListener.DIRECTORY_PROPERTY);
+		}
+		Path lastUsed = cassandraDirectory.resolveSibling(".last-used");
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!Files.exists(lastUsed) && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(lastUsed).exists();
+	}
+
+	@Test
+	void directoryProviderJoinsInFlightDownload(@TempDir Path downloadDirectory) throws Exception {
+		assertThat(PrefetchLauncherSessionListener.getDirectoryProvider()).isEmpty();
+		Version version = Version.parse("4.1.5");
+		Path versionDirectory = Files.createDirectories(downloadDirectory.resolve(".embedded-cassandra/4.1.5"));
+		Path cassandraDirectory = versionDirectory.resolve("apache-cassandra-4.1.5");
+		CompletableFuture<Path> directory;
+		try (FileLock fileLock = FileLock.of(versionDirectory.resolve(".lock"))) {
+			assertThat(fileLock.tryLock(1, TimeUnit.SECONDS)).isTrue();
+			System.setProperty(PrefetchLauncherSessionListener.VERSIONS_PROPERTY, "4.1.5");
+			System.setProperty(PrefetchLauncherSessionListener.DIRECTORY_PROPERTY, downloadDirectory.toString());
+			try {
+				this.listener.launcherSessionOpened(null);
+			}
+			finally {
+				System.clearProperty(PrefetchLauncherSessionListener.VERSIONS_PROPERTY);
+				System.clearProperty(PrefetchLauncherSessionListener.DIRECTORY_PROPERTY);
+			}
+			PrefetchingCassandraDirectoryProvider directoryProvider = PrefetchLauncherSessionListener
+					.getDirectoryProvider().orElseThrow();
+			CompletableFuture<Path> prefetch = directoryProvider.prefetch(version);
+			assertThat(directoryProvider.prefetch(version)).isSameAs(prefetch);
+			directory = CompletableFuture.supplyAsync(() -> {
+				try {
+					return directoryProvider.getDirectory(version);
+				}
+				catch (IOException ex) {
+					throw new IllegalStateException(ex);
+				}
+			});
+			Thread.sleep(200);
+			assertThat(prefetch).isNotDone();
+			assertThat(directory).isNotDone();
+			Files.createDirectories(cassandraDirectory);
+			Files.createFile(versionDirectory.resolve(".success"));
+		}
+		assertThat(directory.get(5, TimeUnit.SECONDS)).isEqualTo(cassandraDirectory.toAbsolutePath());
+		this.listener.launcherSessionClosed(null);
+		assertThat(PrefetchLauncherSessionListener.getDirectoryProvider()).isEmpty();
+	}
+
+}
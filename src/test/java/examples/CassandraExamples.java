@@ -20,17 +20,31 @@ import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import org.junit.jupiter.api.BeforeAll;
 import org.slf4j.LoggerFactory;
 
+import com.github.nosan.embedded.cassandra.BandwidthLimiter;
 import com.github.nosan.embedded.cassandra.Cassandra;
 import com.github.nosan.embedded.cassandra.CassandraBuilder;
+import com.github.nosan.embedded.cassandra.CassandraMetrics;
+import com.github.nosan.embedded.cassandra.CassandraReleaseIndex;
 import com.github.nosan.embedded.cassandra.DefaultWorkingDirectoryInitializer;
+import com.github.nosan.embedded.cassandra.DownloadProgressListener;
+import com.github.nosan.embedded.cassandra.InMemoryCassandraMetrics;
+import com.github.nosan.embedded.cassandra.LayeredCassandraDirectoryProvider;
+import com.github.nosan.embedded.cassandra.LocalCassandraDirectoryProvider;
+import com.github.nosan.embedded.cassandra.NodeMetrics;
+import com.github.nosan.embedded.cassandra.NodeMetricsCollector;
+import com.github.nosan.embedded.cassandra.PrefetchingCassandraDirectoryProvider;
 import com.github.nosan.embedded.cassandra.Settings;
 import com.github.nosan.embedded.cassandra.SimpleSeedProviderConfigurator;
 import com.github.nosan.embedded.cassandra.Version;
@@ -40,9 +54,12 @@ import com.github.nosan.embedded.cassandra.WorkingDirectoryDestroyer;
 import com.github.nosan.embedded.cassandra.WorkingDirectoryInitializer;
 import com.github.nosan.embedded.cassandra.commons.ClassPathResource;
 import com.github.nosan.embedded.cassandra.commons.FileSystemResource;
+import com.github.nosan.embedded.cassandra.commons.web.JavaNetHttpClient;
 import com.github.nosan.embedded.cassandra.commons.web.JdkHttpClient;
 import com.github.nosan.embedded.cassandra.cql.CqlDataSet;
+import com.github.nosan.embedded.cassandra.cql.CqlExecutionResult;
 import com.github.nosan.embedded.cassandra.cql.CqlScript;
+import com.github.nosan.embedded.cassandra.cql.driver.CqlSessionExecutor;
 
 /**
  * Cassandra examples.
@@ -122,6 +139,16 @@ public class CassandraExamples {
 		//end::version[]
 	}
 
+	private void versionRange() throws IOException {
+		//tag::version-range[]
+		CassandraReleaseIndex releaseIndex = new CassandraReleaseIndex(new JdkHttpClient(),
+				Paths.get(System.getProperty("user.home")));
+		new CassandraBuilder()
+				.version(releaseIndex.resolve("4.1.x"))
+				.build();
+		//end::version-range[]
+	}
+
 	private void configFile() {
 		//tag::config-file[]
 		new CassandraBuilder()
@@ -237,6 +264,76 @@ public class CassandraExamples {
 		//end::proxy[]
 	}
 
+	private void javaNetHttpClient() {
+		//tag::java-net-http-client[]
+		new CassandraBuilder()
+				.workingDirectoryInitializer(
+						new DefaultWorkingDirectoryInitializer(new WebCassandraDirectoryProvider(
+								new JavaNetHttpClient(Duration.ofMinutes(1), Duration.ofMinutes(1)))))
+				.build();
+		//end::java-net-http-client[]
+	}
+
+	private void mirrors() {
+		//tag::mirrors[]
+		List<URI> mirrors = new ArrayList<>();
+		mirrors.add(URI.create("https://repo.example.com/apache/cassandra"));
+		mirrors.addAll(WebCassandraDirectoryProvider.DEFAULT_MIRRORS);
+		new CassandraBuilder()
+				.workingDirectoryInitializer(new DefaultWorkingDirectoryInitializer(new WebCassandraDirectoryProvider(
+						new JdkHttpClient(), Paths.get(System.getProperty("user.home")), mirrors)))
+				.build();
+		//end::mirrors[]
+	}
+
+	private void prefetch() {
+		//tag::prefetch[]
+		PrefetchingCassandraDirectoryProvider directoryProvider = new PrefetchingCassandraDirectoryProvider(
+				new WebCassandraDirectoryProvider());
+		directoryProvider.prefetch(Version.parse("5.0.6")); // e.g. in a static initializer
+		new CassandraBuilder()
+				.version("5.0.6")
+				.workingDirectoryInitializer(new DefaultWorkingDirectoryInitializer(directoryProvider))
+				.build();
+		//end::prefetch[]
+	}
+
+	private void downloadProgress() {
+		//tag::download-progress[]
+		BandwidthLimiter limiter = BandwidthLimiter.of(2 * 1024 * 1024); // share it across the JVM
+		WebCassandraDirectoryProvider directoryProvider = new WebCassandraDirectoryProvider() {
+
+			@Override
+			protected DownloadProgressListener getProgressListener() {
+				return progress -> System.out.printf("%d / %d bytes, %.0f B/s, ETA %s%n", progress.getBytesRead(),
+						progress.getTotalBytes(), progress.getRate(),
+						progress.getEta().map(Duration::toString).orElse("unknown"));
+			}
+
+			@Override
+			protected BandwidthLimiter getBandwidthLimiter() {
+				return limiter;
+			}
+
+		};
+		new CassandraBuilder()
+				.workingDirectoryInitializer(new DefaultWorkingDirectoryInitializer(directoryProvider))
+				.build();
+		//end::download-progress[]
+	}
+
+	private void layeredDirectoryProvider() {
+		//tag::layered-directory-provider[]
+		Path home = Paths.get(System.getProperty("user.home"));
+		new CassandraBuilder()
+				.workingDirectoryInitializer(new DefaultWorkingDirectoryInitializer(
+						new LayeredCassandraDirectoryProvider(new LocalCassandraDirectoryProvider(home),
+								new LocalCassandraDirectoryProvider(Paths.get("/mnt/cassandra"), true),
+								new WebCassandraDirectoryProvider(home))))
+				.build();
+		//end::layered-directory-provider[]
+	}
+
 	private void shutdownHook() {
 		//tag::shutdown-hook[]
 		new CassandraBuilder()
@@ -253,6 +350,35 @@ public class CassandraExamples {
 		//end::logger[]
 	}
 
+	private void metrics() {
+		//tag::metrics[]
+		InMemoryCassandraMetrics metrics = new InMemoryCassandraMetrics();
+		Cassandra cassandra = new CassandraBuilder()
+				.metrics(metrics)
+				.build();
+		cassandra.start();
+		Duration download = metrics.getTotalTime(CassandraMetrics.Phase.DOWNLOAD);
+		Duration startup = metrics.getPercentile(CassandraMetrics.Phase.AWAIT, 50);
+		//end::metrics[]
+	}
+
+	private void nodeMetrics() throws IOException {
+		//tag::node-metrics[]
+		Cassandra cassandra = new CassandraBuilder()
+				.addSystemProperty("cassandra.jmx.local.port", 0)
+				.build();
+		cassandra.start();
+		try (NodeMetricsCollector collector = NodeMetricsCollector.of(cassandra.getSettings())) {
+			NodeMetrics before = collector.poll();
+			//run the workload
+			NodeMetrics after = collector.poll();
+			long writes = after.getWriteLatency().getCount() - before.getWriteLatency().getCount();
+			Duration p99 = after.getWriteLatency().getP99();
+			long pendingCompactions = after.getPendingCompactions();
+		}
+		//end::node-metrics[]
+	}
+
 	private void workingDirectoryCustomizer() {
 		//tag::working-directory-customizer[]
 		new CassandraBuilder()
@@ -316,6 +442,15 @@ public class CassandraExamples {
 		//end::cql[]
 	}
 
+	private void cqlExecutor(CqlSession session) {
+		//tag::cql-executor[]
+		CqlExecutionResult result = new CqlSessionExecutor(session, 128)
+				.execute(CqlDataSet.ofClassPaths("schema.cql", "data.cql"));
+		System.out.printf("%d statements, %.0f/s, p99 %s%n", result.getStatementCount(), result.getThroughput(),
+				result.getLatencyPercentile(99));
+		//end::cql-executor[]
+	}
+
 	private void jdk21SecurityManager() {
 		//tag::security-manager[]
 		new CassandraBuilder()